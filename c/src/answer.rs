@@ -17,10 +17,16 @@
  * under the License.
  */
 
-use std::ffi::c_char;
+use std::{cell::RefCell, ffi::c_char, io::Write, ptr::addr_of_mut, sync::Arc};
 
 use typedb_driver::{
-    answer::{ConceptRow, QueryAnswer, QueryType},
+    answer::{
+        codec::{
+            decode_concept, decode_header, decode_row, encode_concept, encode_document, encode_header, encode_row,
+            ENCODING_VERSION,
+        },
+        ConceptDocument, ConceptRow, QueryAnswer, QueryType,
+    },
     box_stream,
     concept::Concept,
     BoxPromise, Promise, Result,
@@ -28,13 +34,13 @@ use typedb_driver::{
 
 use super::{
     concept::ConceptIterator,
-    iterator::CIterator,
-    memory::{borrow, free, release, release_optional, release_string, string_view},
+    iterator::{iterator_next, CIterator},
+    memory::{borrow, bytes_view, bytes_view_mut, free, release, release_optional, release_string, string_view},
 };
 use crate::{
     common::StringIterator,
-    concept::ConceptRowIterator,
-    error::{try_release, try_release_optional},
+    concept::{ConceptDocumentIterator, ConceptRowIterator},
+    error::{try_release, try_release_optional, try_release_optional_string, unwrap_or_default},
     memory::take_ownership,
 };
 
@@ -62,6 +68,22 @@ pub extern "C" fn query_answer_promise_drop(promise: *mut QueryAnswerPromise) {
     drop(take_ownership(promise))
 }
 
+/// Iterator over the promises of the answers to a batch of queries, in the order of the queries.
+pub struct QueryAnswerPromiseIterator(pub CIterator<QueryAnswerPromise>);
+
+/// Forwards the <code>QueryAnswerPromiseIterator</code> and returns the next <code>QueryAnswerPromise</code> if it exists,
+/// or null if there are no more elements.
+#[no_mangle]
+pub extern "C" fn query_answer_promise_iterator_next(it: *mut QueryAnswerPromiseIterator) -> *mut QueryAnswerPromise {
+    unsafe { iterator_next(addr_of_mut!((*it).0)) }
+}
+
+/// Frees the native rust <code>QueryAnswerPromiseIterator</code> object.
+#[no_mangle]
+pub extern "C" fn query_answer_promise_iterator_drop(it: *mut QueryAnswerPromiseIterator) {
+    free(it);
+}
+
 /// Retrieve the executed query's type of the <code>QueryAnswer</code>.
 #[no_mangle]
 pub extern "C" fn query_answer_get_query_type(query_answer: *const QueryAnswer) -> QueryType {
@@ -89,7 +111,12 @@ pub extern "C" fn query_answer_is_concept_document_stream(query_answer: *const Q
 /// Produces an <code>Iterator</code> over all <code>ConceptRow</code>s in this <code>QueryAnswer</code>.
 #[no_mangle]
 pub extern "C" fn query_answer_into_rows(query_answer: *mut QueryAnswer) -> *mut ConceptRowIterator {
-    release(ConceptRowIterator(CIterator(take_ownership(query_answer).into_rows())))
+    let query_answer = take_ownership(query_answer);
+    let header = match &query_answer {
+        QueryAnswer::ConceptRowStream(header, _) => Some(header.clone()),
+        _ => None,
+    };
+    release(ConceptRowIterator(CIterator(query_answer.into_rows()), header))
 }
 
 /// Produces an <code>Iterator</code> over all JSON <code>ConceptDocument</code>s in this <code>QueryAnswer</code>.
@@ -102,6 +129,13 @@ pub extern "C" fn query_answer_into_documents(query_answer: *mut QueryAnswer) ->
     ))))
 }
 
+/// Produces an <code>Iterator</code> over all <code>ConceptDocument</code>s in this <code>QueryAnswer</code>,
+/// without serializing them to JSON strings.
+#[no_mangle]
+pub extern "C" fn query_answer_into_concept_documents(query_answer: *mut QueryAnswer) -> *mut ConceptDocumentIterator {
+    release(ConceptDocumentIterator(CIterator(take_ownership(query_answer).into_documents())))
+}
+
 /// Frees the native rust <code>QueryAnswer</code> object.
 #[no_mangle]
 pub extern "C" fn query_answer_drop(query_answer: *mut QueryAnswer) {
@@ -146,6 +180,210 @@ pub extern "C" fn concept_row_get_index(concept_row: *const ConceptRow, column_i
     try_release_optional(borrow(concept_row).get_index(column_index).map(|concept| concept.cloned()).transpose())
 }
 
+/// Writes the IID of the instance in a given column into <code>buffer</code> at <code>offset</code>, without producing
+/// a <code>Concept</code> or a string. Returns the length of the IID, or -1 if the column is empty or its concept
+/// is not an <code>Entity</code> or a <code>Relation</code>. Nothing is written if the length exceeds
+/// <code>capacity</code>, the number of bytes available in <code>buffer</code> at <code>offset</code>.
+#[no_mangle]
+pub extern "C" fn concept_row_get_iid_bytes(
+    concept_row: *const ConceptRow,
+    column_name: *const c_char,
+    buffer: *mut u8,
+    offset: i64,
+    capacity: i64,
+) -> i64 {
+    unwrap_or_default(borrow(concept_row).get(string_view(column_name)).map(|concept| {
+        match concept.and_then(Concept::try_get_iid) {
+            Some(iid) => {
+                let iid: &[u8] = iid.as_ref();
+                let length = iid.len() as i64;
+                if length <= capacity {
+                    bytes_view_mut(buffer, offset, length).copy_from_slice(iid);
+                }
+                length
+            }
+            None => -1,
+        }
+    }))
+}
+
+/// Retrieves the <code>string</code> value held by the concept in a given column without producing a <code>Concept</code>.
+/// Returns null if the column is empty or its concept does not hold a <code>string</code> value.
+#[no_mangle]
+pub extern "C" fn concept_row_get_string(concept_row: *const ConceptRow, column_name: *const c_char) -> *mut c_char {
+    try_release_optional_string(
+        borrow(concept_row)
+            .get(string_view(column_name))
+            .map(|concept| concept.and_then(Concept::try_get_string).map(str::to_owned))
+            .transpose(),
+    )
+}
+
+thread_local! {
+    static ENCODED_ANSWER: RefCell<Vec<u8>> = RefCell::new(Vec::new());
+}
+
+/// Encodes the concepts of a <code>ConceptRow</code> into <code>buffer</code> at <code>offset</code>, in the compact
+/// format read by \ref concept_row_decode(const ConceptRow*, const uint8_t*, int64_t, int64_t).
+/// Returns the length of the encoding. Nothing is written if the length exceeds <code>capacity</code>,
+/// the number of bytes available in <code>buffer</code> at <code>offset</code>.
+#[no_mangle]
+pub extern "C" fn concept_row_encode(
+    concept_row: *const ConceptRow,
+    buffer: *mut u8,
+    offset: i64,
+    capacity: i64,
+) -> i64 {
+    ENCODED_ANSWER.with(|encoded| {
+        let mut encoded = encoded.borrow_mut();
+        encoded.clear();
+        encode_row(borrow(concept_row), &mut encoded);
+        let length = encoded.len() as i64;
+        if length <= capacity {
+            bytes_view_mut(buffer, offset, length).copy_from_slice(&encoded);
+        }
+        length
+    })
+}
+
+/// Decodes a <code>ConceptRow</code> of <code>length</code> bytes from <code>buffer</code> at <code>offset</code>,
+/// as written by \ref concept_row_encode(const ConceptRow*, uint8_t*, int64_t, int64_t).
+/// The decoded row shares the header (column names and query type) of <code>header_row</code>.
+#[no_mangle]
+pub extern "C" fn concept_row_decode(
+    header_row: *const ConceptRow,
+    buffer: *const u8,
+    offset: i64,
+    length: i64,
+) -> *mut ConceptRow {
+    try_release(decode_row(borrow(header_row).get_header().clone(), bytes_view(buffer, offset, length)))
+}
+
+/// Returns the version of the compact encoding written by \ref concept_row_encode(const ConceptRow*, uint8_t*, int64_t, int64_t)
+/// and the other <code>_encode</code> functions. Encodings of a different version cannot be decoded.
+#[no_mangle]
+pub extern "C" fn encoding_version() -> i64 {
+    ENCODING_VERSION as i64
+}
+
+/// Encodes the header (query type and column names) of a <code>ConceptRow</code> into <code>buffer</code>
+/// at <code>offset</code>. Returns the length of the encoding. Nothing is written if the length exceeds
+/// <code>capacity</code>, the number of bytes available in <code>buffer</code> at <code>offset</code>.
+#[no_mangle]
+pub extern "C" fn concept_row_encode_header(
+    concept_row: *const ConceptRow,
+    buffer: *mut u8,
+    offset: i64,
+    capacity: i64,
+) -> i64 {
+    ENCODED_ANSWER.with(|encoded| {
+        let mut encoded = encoded.borrow_mut();
+        encoded.clear();
+        encode_header(borrow(concept_row).get_header(), &mut encoded);
+        let length = encoded.len() as i64;
+        if length <= capacity {
+            bytes_view_mut(buffer, offset, length).copy_from_slice(&encoded);
+        }
+        length
+    })
+}
+
+/// Decodes a row header of <code>length</code> bytes from <code>buffer</code> at <code>offset</code>, as written by
+/// \ref concept_row_encode_header(const ConceptRow*, uint8_t*, int64_t, int64_t), and returns a
+/// <code>ConceptRow</code> with that header and all columns empty, to be passed to
+/// \ref concept_row_decode(const ConceptRow*, const uint8_t*, int64_t, int64_t).
+#[no_mangle]
+pub extern "C" fn concept_row_decode_header(buffer: *const u8, offset: i64, length: i64) -> *mut ConceptRow {
+    try_release(decode_header(bytes_view(buffer, offset, length)).map(|header| {
+        let width = header.column_names.len();
+        ConceptRow::new(Arc::new(header), vec![None; width])
+    }))
+}
+
+/// Checks whether the provided <code>ConceptRow</code> objects have equal headers (query type and column names).
+#[no_mangle]
+pub extern "C" fn concept_row_header_equals(lhs: *const ConceptRow, rhs: *const ConceptRow) -> bool {
+    let (lhs, rhs) = (borrow(lhs).get_header(), borrow(rhs).get_header());
+    Arc::ptr_eq(lhs, rhs) || lhs == rhs
+}
+
+/// Encodes a <code>Concept</code> into <code>buffer</code> at <code>offset</code>, in the compact format
+/// read by \ref concept_decode(const uint8_t*, int64_t, int64_t). Returns the length of the encoding.
+/// Nothing is written if the length exceeds <code>capacity</code>, the number of bytes available
+/// in <code>buffer</code> at <code>offset</code>.
+#[no_mangle]
+pub extern "C" fn concept_encode(concept: *const Concept, buffer: *mut u8, offset: i64, capacity: i64) -> i64 {
+    ENCODED_ANSWER.with(|encoded| {
+        let mut encoded = encoded.borrow_mut();
+        encoded.clear();
+        encode_concept(borrow(concept), &mut encoded);
+        let length = encoded.len() as i64;
+        if length <= capacity {
+            bytes_view_mut(buffer, offset, length).copy_from_slice(&encoded);
+        }
+        length
+    })
+}
+
+/// Decodes a <code>Concept</code> of <code>length</code> bytes from <code>buffer</code> at <code>offset</code>,
+/// as written by \ref concept_encode(const Concept*, uint8_t*, int64_t, int64_t).
+#[no_mangle]
+pub extern "C" fn concept_decode(buffer: *const u8, offset: i64, length: i64) -> *mut Concept {
+    let mut bytes = bytes_view(buffer, offset, length);
+    try_release(decode_concept(&mut bytes))
+}
+
+/// Frees the native rust <code>ConceptDocument</code> object.
+#[no_mangle]
+pub extern "C" fn concept_document_drop(concept_document: *mut ConceptDocument) {
+    free(concept_document);
+}
+
+/// Encodes the JSON form of a <code>ConceptDocument</code> into <code>buffer</code> at <code>offset</code>, in the
+/// compact format described in the driver's <code>answer::codec</code> module.
+/// Returns the length of the encoding. Nothing is written if the length exceeds <code>capacity</code>,
+/// the number of bytes available in <code>buffer</code> at <code>offset</code>.
+#[no_mangle]
+pub extern "C" fn concept_document_encode(
+    concept_document: *const ConceptDocument,
+    buffer: *mut u8,
+    offset: i64,
+    capacity: i64,
+) -> i64 {
+    ENCODED_ANSWER.with(|encoded| {
+        let mut encoded = encoded.borrow_mut();
+        encoded.clear();
+        encode_document(borrow(concept_document), &mut encoded);
+        let length = encoded.len() as i64;
+        if length <= capacity {
+            bytes_view_mut(buffer, offset, length).copy_from_slice(&encoded);
+        }
+        length
+    })
+}
+
+/// Writes the JSON form of a <code>ConceptDocument</code> into <code>buffer</code> at <code>offset</code>,
+/// as UTF-8 bytes. Returns the length of the JSON. Nothing is written if the length exceeds <code>capacity</code>,
+/// the number of bytes available in <code>buffer</code> at <code>offset</code>.
+#[no_mangle]
+pub extern "C" fn concept_document_to_json(
+    concept_document: *const ConceptDocument,
+    buffer: *mut u8,
+    offset: i64,
+    capacity: i64,
+) -> i64 {
+    ENCODED_ANSWER.with(|encoded| {
+        let mut encoded = encoded.borrow_mut();
+        encoded.clear();
+        write!(encoded, "{}", borrow(concept_document)).expect("writing to a vector cannot fail");
+        let length = encoded.len() as i64;
+        if length <= capacity {
+            bytes_view_mut(buffer, offset, length).copy_from_slice(&encoded);
+        }
+        length
+    })
+}
+
 /// Checks whether the provided <code>ConceptRow</code> objects are equal
 #[no_mangle]
 pub extern "C" fn concept_row_equals(lhs: *const ConceptRow, rhs: *const ConceptRow) -> bool {
@@ -157,3 +395,68 @@ pub extern "C" fn concept_row_equals(lhs: *const ConceptRow, rhs: *const Concept
 pub extern "C" fn concept_row_to_string(concept_row: *const ConceptRow) -> *mut c_char {
     release_string(format!("{:?}", borrow(concept_row)))
 }
+
+#[cfg(test)]
+mod tests {
+    use std::sync::Arc;
+
+    use typedb_driver::{
+        answer::{
+            concept_document::{ConceptDocumentHeader, Leaf, Node},
+            concept_row::ConceptRowHeader,
+            ConceptDocument, ConceptRow, QueryType,
+        },
+        concept::{Concept, Value},
+    };
+
+    use super::{concept_document_to_json, concept_row_decode, concept_row_encode};
+    use crate::memory::{borrow, free, release, take_ownership};
+
+    #[test]
+    fn test_rows_are_encoded_in_place_and_decoded_with_the_header_row() {
+        let column_names = vec!["x".to_owned(), "y".to_owned()];
+        let header = Arc::new(ConceptRowHeader { column_names, query_type: QueryType::ReadQuery });
+        let header_row = release(ConceptRow::new(header.clone(), vec![Some(Concept::Value(Value::Integer(1))), None]));
+        let row = release(ConceptRow::new(
+            header.clone(),
+            vec![Some(Concept::Value(Value::String("lorem".to_owned()))), Some(Concept::Value(Value::Boolean(true)))],
+        ));
+
+        let mut buffer = vec![0xaa; 64];
+        let length = concept_row_encode(row, buffer.as_mut_ptr(), 8, 0);
+        assert!(length > 0 && length <= 56);
+        assert!(buffer.iter().all(|&byte| byte == 0xaa));
+
+        assert_eq!(concept_row_encode(row, buffer.as_mut_ptr(), 8, 56), length);
+        assert!(buffer[..8].iter().all(|&byte| byte == 0xaa));
+        assert!(buffer[8 + length as usize..].iter().all(|&byte| byte == 0xaa));
+
+        let decoded = take_ownership(concept_row_decode(header_row, buffer.as_ptr(), 8, length));
+        assert!(decoded == *borrow(row));
+        assert!(Arc::ptr_eq(decoded.get_header(), &header));
+        free(header_row);
+        free(row);
+    }
+
+    #[test]
+    fn test_documents_are_written_as_json_in_place() {
+        let header = Arc::new(ConceptDocumentHeader { query_type: QueryType::ReadQuery });
+        let root = Node::List(vec![
+            Node::Leaf(Some(Leaf::Concept(Concept::Value(Value::String("lorem \"ипсум\"".to_owned()))))),
+            Node::Leaf(None),
+        ]);
+        let document = release(ConceptDocument::new(header, Some(root)));
+        let json = borrow(document).to_string();
+
+        let mut buffer = vec![0xaa; 64];
+        let length = concept_document_to_json(document, buffer.as_mut_ptr(), 8, 0);
+        assert_eq!(length, json.len() as i64);
+        assert!(buffer.iter().all(|&byte| byte == 0xaa));
+
+        assert_eq!(concept_document_to_json(document, buffer.as_mut_ptr(), 8, 56), length);
+        assert_eq!(&buffer[8..8 + length as usize], json.as_bytes());
+        assert!(buffer[..8].iter().all(|&byte| byte == 0xaa));
+        assert!(buffer[8 + length as usize..].iter().all(|&byte| byte == 0xaa));
+        free(document);
+    }
+}
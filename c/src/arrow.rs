@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+//! Export of <code>ConceptRow</code>s as Arrow record batches through the Arrow C Data Interface
+//! (https://arrow.apache.org/docs/format/CDataInterface.html). The structures are defined here rather than
+//! taken from an Arrow crate, and are filled in at addresses allocated by the consumer, which takes ownership
+//! of the exported buffers and frees them through the <code>release</code> callbacks.
+
+use std::{
+    ffi::{c_char, c_void, CString},
+    ptr::{null, null_mut},
+};
+
+use typedb_driver::{
+    answer::ConceptRow,
+    concept::{Concept, Value},
+    Error, Result,
+};
+
+use crate::{
+    error::unwrap_void,
+    memory::{array_view, borrow_mut, free, release},
+};
+
+const ARROW_FLAG_NULLABLE: i64 = 2;
+
+const FORMAT_STRUCT: &str = "+s";
+const FORMAT_INT64: &str = "l";
+const FORMAT_FLOAT64: &str = "g";
+const FORMAT_BOOLEAN: &str = "b";
+const FORMAT_UTF8: &str = "u";
+
+#[repr(C)]
+struct ArrowSchema {
+    format: *const c_char,
+    name: *const c_char,
+    metadata: *const c_char,
+    flags: i64,
+    n_children: i64,
+    children: *mut *mut ArrowSchema,
+    dictionary: *mut ArrowSchema,
+    release: Option<unsafe extern "C" fn(*mut ArrowSchema)>,
+    private_data: *mut c_void,
+}
+
+#[repr(C)]
+struct ArrowArray {
+    length: i64,
+    null_count: i64,
+    offset: i64,
+    n_buffers: i64,
+    n_children: i64,
+    buffers: *mut *const c_void,
+    children: *mut *mut ArrowArray,
+    dictionary: *mut ArrowArray,
+    release: Option<unsafe extern "C" fn(*mut ArrowArray)>,
+    private_data: *mut c_void,
+}
+
+struct SchemaData {
+    format: CString,
+    name: CString,
+    children: Vec<*mut ArrowSchema>,
+}
+
+struct ArrayData {
+    _buffers: Vec<Buffer>,
+    pointers: Vec<*const c_void>,
+    children: Vec<*mut ArrowArray>,
+}
+
+enum Buffer {
+    Missing,
+    Bytes(Vec<u8>),
+    Int32(Vec<i32>),
+    Int64(Vec<i64>),
+    Float64(Vec<f64>),
+}
+
+impl Buffer {
+    fn as_ptr(&self) -> *const c_void {
+        match self {
+            Buffer::Missing => null(),
+            Buffer::Bytes(bytes) => bytes.as_ptr() as *const c_void,
+            Buffer::Int32(values) => values.as_ptr() as *const c_void,
+            Buffer::Int64(values) => values.as_ptr() as *const c_void,
+            Buffer::Float64(values) => values.as_ptr() as *const c_void,
+        }
+    }
+}
+
+#[derive(Clone, Copy, PartialEq, Eq)]
+enum ColumnType {
+    Integer,
+    Double,
+    Boolean,
+    Utf8,
+}
+
+/// The Arrow types of the columns of the rows of one query. They are inferred from the first batch exported
+/// with them, and reused for every later batch, so that all batches of the query share one schema.
+pub struct ArrowColumnTypes(Option<Vec<ColumnType>>);
+
+/// Creates an <code>ArrowColumnTypes</code> with no types yet, to pass to every export of the rows of one query.
+#[no_mangle]
+pub extern "C" fn arrow_column_types_new() -> *mut ArrowColumnTypes {
+    release(ArrowColumnTypes(None))
+}
+
+/// Frees the native rust <code>ArrowColumnTypes</code> object.
+#[no_mangle]
+pub extern "C" fn arrow_column_types_drop(column_types: *mut ArrowColumnTypes) {
+    free(column_types);
+}
+
+/// Exports the <code>ConceptRow</code>s, which must share a header, as an Arrow record batch through the
+/// Arrow C Data Interface: a struct array with one child per column, written to the <code>ArrowSchema</code>
+/// at <code>schema_address</code> and the <code>ArrowArray</code> at <code>array_address</code>.
+/// The column types are fixed by the first batch exported with <code>column_types</code>: columns holding only
+/// <code>integer</code>, only <code>double</code> (or <code>integer</code> and <code>double</code>), or only
+/// <code>boolean</code> values are exported as <code>int64</code>, <code>float64</code> and <code>bool</code>
+/// columns; other columns, and columns holding only empty answers, are exported as <code>utf8</code>, holding
+/// values, IIDs of entities and relations, and labels of types. Empty answers are nulls. A later batch fails
+/// if a value does not fit the type of its column.
+/// The caller owns the exported structures, and must release them through their <code>release</code> callbacks.
+#[no_mangle]
+pub extern "C" fn concept_rows_export_arrow(
+    rows: *const *const ConceptRow,
+    column_types: *mut ArrowColumnTypes,
+    schema_address: i64,
+    array_address: i64,
+) {
+    assert!(schema_address != 0 && array_address != 0);
+    let rows: Vec<&ConceptRow> = array_view(rows).collect();
+    unwrap_void(export_batch(&rows, borrow_mut(column_types)).map(|(schema, array)| unsafe {
+        (schema_address as *mut ArrowSchema).write(schema);
+        (array_address as *mut ArrowArray).write(array);
+    }));
+}
+
+fn export_batch(rows: &[&ConceptRow], column_types: &mut ArrowColumnTypes) -> Result<(ArrowSchema, ArrowArray)> {
+    if rows.is_empty() {
+        return Ok((new_schema(FORMAT_STRUCT, "", 0, Vec::new()), new_array(0, 0, vec![Buffer::Missing], Vec::new())));
+    }
+    let column_names = rows[0].get_column_names();
+    let columns: Vec<Vec<Option<&Concept>>> = (0..column_names.len())
+        .map(|column| rows.iter().map(|row| row.get_index(column).ok().flatten()).collect())
+        .collect();
+    let types = column_types.0.get_or_insert_with(|| columns.iter().map(|cells| infer_type(cells)).collect());
+    if types.len() != columns.len() {
+        return Err(Error::Other(format!(
+            "The batch has {} columns, but the first exported batch of the query had {}.",
+            columns.len(),
+            types.len()
+        )));
+    }
+    // all columns are converted before any Arrow structure is allocated, so that a failure leaks nothing
+    let columns = column_names
+        .iter()
+        .zip(&columns)
+        .zip(types.iter())
+        .map(|((name, cells), &column_type)| export_column(name, cells, column_type))
+        .collect::<Result<Vec<_>>>()?;
+    let mut schemas = Vec::with_capacity(columns.len());
+    let mut arrays = Vec::with_capacity(columns.len());
+    for (name, (format, null_count, buffers)) in column_names.iter().zip(columns) {
+        schemas.push(Box::into_raw(Box::new(new_schema(format, name, ARROW_FLAG_NULLABLE, Vec::new()))));
+        arrays.push(Box::into_raw(Box::new(new_array(rows.len(), null_count, buffers, Vec::new()))));
+    }
+    let schema = new_schema(FORMAT_STRUCT, "", 0, schemas);
+    let array = new_array(rows.len(), 0, vec![Buffer::Missing], arrays);
+    Ok((schema, array))
+}
+
+fn export_column(
+    name: &str,
+    cells: &[Option<&Concept>],
+    column_type: ColumnType,
+) -> Result<(&'static str, usize, Vec<Buffer>)> {
+    let null_count = cells.iter().filter(|cell| cell.is_none()).count();
+    let validity = if null_count == 0 {
+        Buffer::Missing
+    } else {
+        Buffer::Bytes(bitmap(cells.iter().map(Option::is_some), cells.len()))
+    };
+    let (format, buffers) = match column_type {
+        ColumnType::Integer => {
+            let values = column_values(name, FORMAT_INT64, cells, 0, Concept::try_get_integer)?;
+            (FORMAT_INT64, vec![validity, Buffer::Int64(values)])
+        }
+        ColumnType::Double => {
+            let values = column_values(name, FORMAT_FLOAT64, cells, 0.0, |concept| {
+                concept.try_get_double().or(concept.try_get_integer().map(|value| value as f64))
+            })?;
+            (FORMAT_FLOAT64, vec![validity, Buffer::Float64(values)])
+        }
+        ColumnType::Boolean => {
+            let values = column_values(name, FORMAT_BOOLEAN, cells, false, Concept::try_get_boolean)?;
+            (FORMAT_BOOLEAN, vec![validity, Buffer::Bytes(bitmap(values.into_iter(), cells.len()))])
+        }
+        ColumnType::Utf8 => {
+            let mut offsets = Vec::with_capacity(cells.len() + 1);
+            let mut data = Vec::new();
+            offsets.push(0);
+            for cell in cells {
+                if let Some(concept) = cell {
+                    data.extend_from_slice(render(concept).as_bytes());
+                }
+                offsets.push(utf8_offset(name, data.len())?);
+            }
+            (FORMAT_UTF8, vec![validity, Buffer::Int32(offsets), Buffer::Bytes(data)])
+        }
+    };
+    Ok((format, null_count, buffers))
+}
+
+fn column_values<T: Copy>(
+    name: &str,
+    format: &str,
+    cells: &[Option<&Concept>],
+    null: T,
+    value: impl Fn(&Concept) -> Option<T>,
+) -> Result<Vec<T>> {
+    cells
+        .iter()
+        .map(|cell| match cell {
+            None => Ok(null),
+            Some(concept) => value(concept).ok_or_else(|| {
+                Error::Other(format!(
+                    "Column '{name}' holds a value that does not fit its Arrow type '{format}', \
+                    which was fixed by the first exported batch of the query."
+                ))
+            }),
+        })
+        .collect()
+}
+
+fn utf8_offset(name: &str, offset: usize) -> Result<i32> {
+    i32::try_from(offset).map_err(|_| {
+        Error::Other(format!(
+            "The utf8 values of column '{name}' exceed the 2 GiB limit of one Arrow batch: export smaller batches."
+        ))
+    })
+}
+
+fn infer_type(cells: &[Option<&Concept>]) -> ColumnType {
+    let mut column_type = None;
+    for concept in cells.iter().flatten() {
+        let cell_type = match concept.try_get_value() {
+            Some(Value::Integer(_)) => ColumnType::Integer,
+            Some(Value::Double(_)) => ColumnType::Double,
+            Some(Value::Boolean(_)) => ColumnType::Boolean,
+            _ => return ColumnType::Utf8,
+        };
+        column_type = match (column_type, cell_type) {
+            (None, cell_type) => Some(cell_type),
+            (Some(column_type), cell_type) if column_type == cell_type => Some(column_type),
+            (Some(ColumnType::Integer), ColumnType::Double) | (Some(ColumnType::Double), ColumnType::Integer) => {
+                Some(ColumnType::Double)
+            }
+            _ => return ColumnType::Utf8,
+        };
+    }
+    column_type.unwrap_or(ColumnType::Utf8)
+}
+
+fn render(concept: &Concept) -> String {
+    if let Some(string) = concept.try_get_string() {
+        string.to_owned()
+    } else if let Some(value) = concept.try_get_value() {
+        value.to_string()
+    } else if let Some(iid) = concept.try_get_iid() {
+        iid.to_string()
+    } else {
+        concept.get_label().to_owned()
+    }
+}
+
+fn bitmap(bits: impl Iterator<Item = bool>, len: usize) -> Vec<u8> {
+    let mut bitmap = vec![0u8; (len + 7) / 8];
+    for (i, bit) in bits.enumerate() {
+        if bit {
+            bitmap[i / 8] |= 1 << (i % 8);
+        }
+    }
+    bitmap
+}
+
+fn new_schema(format: &str, name: &str, flags: i64, children: Vec<*mut ArrowSchema>) -> ArrowSchema {
+    let format = CString::new(format).unwrap();
+    let name = CString::new(name).unwrap_or_default();
+    let mut data = Box::new(SchemaData { format, name, children });
+    ArrowSchema {
+        format: data.format.as_ptr(),
+        name: data.name.as_ptr(),
+        metadata: null(),
+        flags,
+        n_children: data.children.len() as i64,
+        children: if data.children.is_empty() { null_mut() } else { data.children.as_mut_ptr() },
+        dictionary: null_mut(),
+        release: Some(release_schema),
+        private_data: Box::into_raw(data) as *mut c_void,
+    }
+}
+
+fn new_array(length: usize, null_count: usize, buffers: Vec<Buffer>, children: Vec<*mut ArrowArray>) -> ArrowArray {
+    let pointers = buffers.iter().map(Buffer::as_ptr).collect();
+    let mut data = Box::new(ArrayData { _buffers: buffers, pointers, children });
+    ArrowArray {
+        length: length as i64,
+        null_count: null_count as i64,
+        offset: 0,
+        n_buffers: data.pointers.len() as i64,
+        n_children: data.children.len() as i64,
+        buffers: data.pointers.as_mut_ptr(),
+        children: if data.children.is_empty() { null_mut() } else { data.children.as_mut_ptr() },
+        dictionary: null_mut(),
+        release: Some(release_array),
+        private_data: Box::into_raw(data) as *mut c_void,
+    }
+}
+
+unsafe extern "C" fn release_schema(schema: *mut ArrowSchema) {
+    let schema = &mut *schema;
+    let data = Box::from_raw(schema.private_data as *mut SchemaData);
+    for &child in &data.children {
+        if let Some(release) = (*child).release {
+            release(child);
+        }
+        drop(Box::from_raw(child));
+    }
+    schema.release = None;
+}
+
+unsafe extern "C" fn release_array(array: *mut ArrowArray) {
+    let array = &mut *array;
+    let data = Box::from_raw(array.private_data as *mut ArrayData);
+    for &child in &data.children {
+        if let Some(release) = (*child).release {
+            release(child);
+        }
+        drop(Box::from_raw(child));
+    }
+    array.release = None;
+}
+
+#[cfg(test)]
+mod tests {
+    use std::{ffi::CStr, sync::Arc};
+
+    use typedb_driver::{
+        answer::{concept_row::ConceptRowHeader, ConceptRow, QueryType},
+        concept::{Concept, Value},
+        Error, Result,
+    };
+
+    use super::{export_batch, release_array, release_schema, utf8_offset, ArrowArray, ArrowColumnTypes, ArrowSchema};
+
+    fn batch(values: Vec<Option<Value>>) -> Vec<ConceptRow> {
+        let header =
+            Arc::new(ConceptRowHeader { column_names: vec!["x".to_owned()], query_type: QueryType::ReadQuery });
+        values.into_iter().map(|value| ConceptRow::new(header.clone(), vec![value.map(Concept::Value)])).collect()
+    }
+
+    fn export_format(rows: &[ConceptRow], column_types: &mut ArrowColumnTypes) -> Result<String> {
+        let rows: Vec<&ConceptRow> = rows.iter().collect();
+        let (mut schema, mut array) = export_batch(&rows, column_types)?;
+        unsafe {
+            let format = CStr::from_ptr((**schema.children).format).to_str().unwrap().to_owned();
+            release_schema(&mut schema);
+            release_array(&mut array);
+            Ok(format)
+        }
+    }
+
+    /// Exports the rows as one batch, passing the schema and array of its first column to `check`.
+    fn with_first_column(rows: &[ConceptRow], check: impl FnOnce(&ArrowSchema, &ArrowArray)) {
+        let rows: Vec<&ConceptRow> = rows.iter().collect();
+        let (mut schema, mut array) = export_batch(&rows, &mut ArrowColumnTypes(None)).unwrap();
+        unsafe {
+            assert_eq!(array.length, rows.len() as i64);
+            check(&**schema.children, &**array.children);
+            release_schema(&mut schema);
+            release_array(&mut array);
+            assert!(schema.release.is_none() && array.release.is_none());
+        }
+    }
+
+    unsafe fn buffer<T: Copy>(array: &ArrowArray, index: usize, len: usize) -> Vec<T> {
+        std::slice::from_raw_parts(*array.buffers.add(index) as *const T, len).to_vec()
+    }
+
+    #[test]
+    fn test_integer_columns_hold_values_and_validity() {
+        let values = vec![Some(Value::Integer(1)), None, Some(Value::Integer(-3))];
+        with_first_column(&batch(values), |schema, array| unsafe {
+            assert_eq!(CStr::from_ptr(schema.format).to_str().unwrap(), "l");
+            assert_eq!(CStr::from_ptr(schema.name).to_str().unwrap(), "x");
+            assert_eq!((array.length, array.null_count, array.n_buffers), (3, 1, 2));
+            assert_eq!(buffer::<u8>(array, 0, 1), vec![0b101]);
+            assert_eq!(buffer::<i64>(array, 1, 3), vec![1, 0, -3]);
+        });
+    }
+
+    #[test]
+    fn test_columns_without_nulls_have_no_validity_buffer() {
+        with_first_column(&batch(vec![Some(Value::Double(0.5)), Some(Value::Integer(2))]), |schema, array| unsafe {
+            assert_eq!(CStr::from_ptr(schema.format).to_str().unwrap(), "g");
+            assert_eq!(array.null_count, 0);
+            assert!((*array.buffers).is_null());
+            assert_eq!(buffer::<f64>(array, 1, 2), vec![0.5, 2.0]);
+        });
+    }
+
+    #[test]
+    fn test_boolean_columns_are_bitmaps() {
+        let values = (0..10).map(|i| Some(Value::Boolean(i % 3 == 0))).collect();
+        with_first_column(&batch(values), |schema, array| unsafe {
+            assert_eq!(CStr::from_ptr(schema.format).to_str().unwrap(), "b");
+            assert_eq!(buffer::<u8>(array, 1, 2), vec![0b0100_1001, 0b10]);
+        });
+    }
+
+    #[test]
+    fn test_utf8_columns_hold_rendered_values() {
+        let values = vec![
+            Some(Value::String("ab".to_owned())),
+            None,
+            Some(Value::Integer(7)),
+            Some(Value::String("ипсум".to_owned())),
+        ];
+        with_first_column(&batch(values), |schema, array| unsafe {
+            assert_eq!(CStr::from_ptr(schema.format).to_str().unwrap(), "u");
+            assert_eq!((array.null_count, array.n_buffers), (1, 3));
+            assert_eq!(buffer::<i32>(array, 1, 5), vec![0, 2, 2, 3, 13]);
+            assert_eq!(String::from_utf8(buffer::<u8>(array, 2, 13)).unwrap(), "ab7ипсум");
+        });
+    }
+
+    #[test]
+    fn test_empty_batches_have_no_columns() {
+        let (mut schema, mut array) = export_batch(&[], &mut ArrowColumnTypes(None)).unwrap();
+        assert_eq!((schema.n_children, array.n_children, array.length), (0, 0, 0));
+        unsafe {
+            assert_eq!(CStr::from_ptr(schema.format).to_str().unwrap(), "+s");
+            release_schema(&mut schema);
+            release_array(&mut array);
+        }
+    }
+
+    #[test]
+    fn test_types_are_fixed_by_the_first_batch() {
+        let mut column_types = ArrowColumnTypes(None);
+        assert_eq!(export_format(&batch(vec![Some(Value::Integer(1))]), &mut column_types).unwrap(), "l");
+        assert_eq!(export_format(&batch(vec![None, Some(Value::Integer(2))]), &mut column_types).unwrap(), "l");
+        assert_eq!(export_format(&batch(vec![None]), &mut column_types).unwrap(), "l");
+        let result = export_format(&batch(vec![Some(Value::String("a".to_owned()))]), &mut column_types);
+        assert!(matches!(result, Err(Error::Other(_))));
+    }
+
+    #[test]
+    fn test_empty_first_batch_fixes_utf8() {
+        let mut column_types = ArrowColumnTypes(None);
+        assert_eq!(export_format(&batch(vec![None]), &mut column_types).unwrap(), "u");
+        assert_eq!(export_format(&batch(vec![Some(Value::Integer(1))]), &mut column_types).unwrap(), "u");
+    }
+
+    #[test]
+    fn test_double_columns_accept_integers() {
+        let mut column_types = ArrowColumnTypes(None);
+        assert_eq!(export_format(&batch(vec![Some(Value::Double(0.5))]), &mut column_types).unwrap(), "g");
+        assert_eq!(export_format(&batch(vec![Some(Value::Integer(1))]), &mut column_types).unwrap(), "g");
+        let result = export_format(&batch(vec![Some(Value::Boolean(true))]), &mut column_types);
+        assert!(matches!(result, Err(Error::Other(_))));
+    }
+
+    #[test]
+    fn test_utf8_offsets_past_2_gib_are_rejected() {
+        assert_eq!(utf8_offset("x", i32::MAX as usize).unwrap(), i32::MAX);
+        assert!(matches!(utf8_offset("x", i32::MAX as usize + 1), Err(Error::Other(_))));
+    }
+}
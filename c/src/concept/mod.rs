@@ -17,13 +17,23 @@
  * under the License.
  */
 
-use std::ptr::addr_of_mut;
+use std::{ptr::addr_of_mut, sync::Arc};
 
 use itertools::Itertools;
-use typedb_driver::{answer::ConceptRow, concept::Concept, BoxPromise, Promise, Result};
+use typedb_driver::{
+    answer::{concept_row::ConceptRowHeader, ConceptDocument, ConceptRow},
+    box_stream,
+    concept::Concept,
+    BoxPromise, Promise, Result,
+};
 
 use super::{iterator::iterator_try_next, memory::free};
-use crate::{error::try_release_optional, iterator::CIterator, memory::take_ownership};
+use crate::{
+    common::StringIterator,
+    error::try_release_optional,
+    iterator::CIterator,
+    memory::{borrow, release, take_ownership},
+};
 
 mod concept;
 mod instance;
@@ -46,8 +56,9 @@ pub extern "C" fn concept_promise_drop(promise: *mut ConceptPromise) {
     drop(take_ownership(promise))
 }
 
-/// Iterator over the <code>ConceptRow</code>s returned by an API method or query.
-pub struct ConceptRowIterator(pub CIterator<Result<ConceptRow>>);
+/// Iterator over the <code>ConceptRow</code>s returned by an API method or query, with the header of the rows
+/// if it is known before the first row.
+pub struct ConceptRowIterator(pub CIterator<Result<ConceptRow>>, pub Option<Arc<ConceptRowHeader>>);
 
 /// Forwards the <code>ConceptRowIterator</code> and returns the next <code>ConceptRow</code> if it exists,
 /// or null if there are no more elements.
@@ -56,12 +67,36 @@ pub extern "C" fn concept_row_iterator_next(it: *mut ConceptRowIterator) -> *mut
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Produces an <code>Iterator</code> over the column names of the rows of the <code>ConceptRowIterator</code>,
+/// which are known even if there are no rows. The iterator is empty if the header of the rows is unknown.
+#[no_mangle]
+pub extern "C" fn concept_row_iterator_get_column_names(it: *const ConceptRowIterator) -> *mut StringIterator {
+    let column_names = borrow(it).1.as_ref().map(|header| header.column_names.clone()).unwrap_or_default();
+    release(StringIterator(CIterator(box_stream(column_names.into_iter().map(Ok)))))
+}
+
 /// Frees the native rust <code>ConceptRowIterator</code> object
 #[no_mangle]
 pub extern "C" fn concept_row_iterator_drop(it: *mut ConceptRowIterator) {
     free(it);
 }
 
+/// Iterator over the <code>ConceptDocument</code>s returned by a fetch query.
+pub struct ConceptDocumentIterator(pub CIterator<Result<ConceptDocument>>);
+
+/// Forwards the <code>ConceptDocumentIterator</code> and returns the next <code>ConceptDocument</code> if it exists,
+/// or null if there are no more elements.
+#[no_mangle]
+pub extern "C" fn concept_document_iterator_next(it: *mut ConceptDocumentIterator) -> *mut ConceptDocument {
+    unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
+}
+
+/// Frees the native rust <code>ConceptDocumentIterator</code> object
+#[no_mangle]
+pub extern "C" fn concept_document_iterator_drop(it: *mut ConceptDocumentIterator) {
+    free(it);
+}
+
 /// Iterator over the <code>Concepts</code>s returned by an API method or query.
 pub struct ConceptIterator(pub CIterator<Result<Concept>>);
 
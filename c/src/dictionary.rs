@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{collections::HashMap, ffi::c_char};
+
+use typedb_driver::{answer::ConceptRow, concept::Concept};
+
+use super::{
+    error::unwrap_or_default,
+    memory::{borrow, borrow_mut, free, release, release_string, string_view},
+};
+
+const MAX_VALUES: usize = 1 << 16;
+const MAX_VALUE_BYTES: usize = 16 << 20;
+const NOT_INTERNED: i64 = -2;
+
+/// Dictionary of the distinct string values met in a <code>ConceptRow</code> stream.
+/// Every distinct value is assigned a stable index in the order it is first met,
+/// so that a repeated value only needs to be copied out of the driver once.
+/// Once the dictionary holds <code>MAX_VALUES</code> values or <code>MAX_VALUE_BYTES</code> bytes,
+/// values that are not already interned are no longer added to it.
+#[derive(Default)]
+pub struct StringDictionary {
+    indices: HashMap<String, i64>,
+    values: Vec<String>,
+    value_bytes: usize,
+}
+
+impl StringDictionary {
+    fn index_of(&mut self, value: &str) -> i64 {
+        if let Some(index) = self.indices.get(value) {
+            return *index;
+        }
+        if self.values.len() >= MAX_VALUES || self.value_bytes + value.len() > MAX_VALUE_BYTES {
+            return NOT_INTERNED;
+        }
+        let index = self.values.len() as i64;
+        self.values.push(value.to_owned());
+        self.indices.insert(value.to_owned(), index);
+        self.value_bytes += value.len();
+        index
+    }
+}
+
+/// Creates a new, empty <code>StringDictionary</code>.
+#[no_mangle]
+pub extern "C" fn string_dictionary_new() -> *mut StringDictionary {
+    release(StringDictionary::default())
+}
+
+/// Frees the native rust <code>StringDictionary</code> object.
+#[no_mangle]
+pub extern "C" fn string_dictionary_drop(dictionary: *mut StringDictionary) {
+    free(dictionary);
+}
+
+/// Returns the number of distinct values in the <code>StringDictionary</code>.
+#[no_mangle]
+pub extern "C" fn string_dictionary_size(dictionary: *const StringDictionary) -> i64 {
+    borrow(dictionary).values.len() as i64
+}
+
+/// Retrieves the string value with the given index in the <code>StringDictionary</code>.
+#[no_mangle]
+pub extern "C" fn string_dictionary_get(dictionary: *const StringDictionary, index: i64) -> *mut c_char {
+    release_string(borrow(dictionary).values[index as usize].clone())
+}
+
+/// Retrieves the dictionary index of the string value held by the concept in a given column,
+/// adding the value to the dictionary if it has not been met before.
+/// Returns -1 if the column is empty or its concept does not hold a <code>string</code> value,
+/// and -2 if the value is not in the dictionary and the dictionary is full.
+#[no_mangle]
+pub extern "C" fn concept_row_get_string_index(
+    concept_row: *const ConceptRow,
+    column_name: *const c_char,
+    dictionary: *mut StringDictionary,
+) -> i64 {
+    unwrap_or_default(borrow(concept_row).get(string_view(column_name)).map(|concept| {
+        concept.and_then(Concept::try_get_string).map(|value| borrow_mut(dictionary).index_of(value)).unwrap_or(-1)
+    }))
+}
+
+#[cfg(test)]
+mod tests {
+    use super::*;
+
+    #[test]
+    fn test_repeated_values_share_an_index() {
+        let mut dictionary = StringDictionary::default();
+        assert_eq!(dictionary.index_of("a"), 0);
+        assert_eq!(dictionary.index_of("b"), 1);
+        assert_eq!(dictionary.index_of("a"), 0);
+        assert_eq!(dictionary.values.len(), 2);
+    }
+
+    #[test]
+    fn test_full_dictionary_stops_interning() {
+        let mut dictionary = StringDictionary::default();
+        for i in 0..MAX_VALUES {
+            assert_eq!(dictionary.index_of(&i.to_string()), i as i64);
+        }
+        assert_eq!(dictionary.index_of("new"), NOT_INTERNED);
+        assert_eq!(dictionary.index_of("0"), 0);
+        assert_eq!(dictionary.values.len(), MAX_VALUES);
+    }
+
+    #[test]
+    fn test_large_values_stop_interning() {
+        let mut dictionary = StringDictionary::default();
+        let large = "x".repeat(MAX_VALUE_BYTES);
+        assert_eq!(dictionary.index_of(&large), 0);
+        assert_eq!(dictionary.index_of("y"), NOT_INTERNED);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    ffi::c_char,
+    fs::File,
+    io::{BufWriter, Write},
+    sync::Arc,
+};
+
+use typedb_driver::{
+    answer::{
+        codec::{
+            encode_document, encode_header, encode_row, write_record, DOCUMENT_RECORD, ENCODING_VERSION,
+            HEADER_RECORD, ROW_RECORD, STREAM_MAGIC,
+        },
+        concept_row::ConceptRowHeader,
+        ConceptDocument, ConceptRow,
+    },
+    concept::{value::Decimal, Concept, Value},
+    Error, Result,
+};
+
+use crate::{
+    concept::{ConceptDocumentIterator, ConceptRowIterator},
+    error::unwrap_or_default,
+    memory::{borrow, borrow_mut, string_view},
+};
+
+const BUFFER_SIZE: usize = 1 << 20;
+
+/// The format in which answers are written to a file by the <code>_export</code> functions.
+#[repr(C)]
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum ExportFormat {
+    /// One JSON document per line. Only available for documents.
+    NDJSON,
+    /// RFC 4180 CSV with a header line. Only available for rows.
+    CSV,
+    /// The stream of compact binary records read by the driver's answer decoder.
+    Binary,
+}
+
+/// Writes the remaining rows of the <code>ConceptRowIterator</code> to the file at <code>path</code>, which is created
+/// or truncated, without passing the rows to the caller. <code>first</code>, if not null, is a row already taken from
+/// the iterator, which is written before the others. Returns the number of rows written.
+#[no_mangle]
+pub extern "C" fn concept_row_iterator_export(
+    it: *mut ConceptRowIterator,
+    first: *const ConceptRow,
+    path: *const c_char,
+    format: ExportFormat,
+) -> i64 {
+    let first = (!first.is_null()).then(|| Ok(borrow(first).clone()));
+    let header = borrow(it).1.clone();
+    let rows = first.into_iter().chain(&mut borrow_mut(it).0 .0);
+    unwrap_or_default(open(string_view(path)).and_then(|out| match format {
+        ExportFormat::CSV => export_csv(header.as_deref(), rows, out),
+        ExportFormat::Binary => export_rows(rows, out),
+        ExportFormat::NDJSON => Err(unsupported(format, "rows")),
+    }))
+}
+
+/// Writes the remaining documents of the <code>ConceptDocumentIterator</code> to the file at <code>path</code>, which
+/// is created or truncated, without passing the documents to the caller. <code>first</code>, if not null, is
+/// a document already taken from the iterator, which is written before the others.
+/// Returns the number of documents written.
+#[no_mangle]
+pub extern "C" fn concept_document_iterator_export(
+    it: *mut ConceptDocumentIterator,
+    first: *const ConceptDocument,
+    path: *const c_char,
+    format: ExportFormat,
+) -> i64 {
+    let first = (!first.is_null()).then(|| Ok(borrow(first).clone()));
+    let documents = first.into_iter().chain(&mut borrow_mut(it).0 .0);
+    unwrap_or_default(open(string_view(path)).and_then(|out| match format {
+        ExportFormat::NDJSON => export_ndjson(documents, out),
+        ExportFormat::Binary => export_documents(documents, out),
+        ExportFormat::CSV => Err(unsupported(format, "documents")),
+    }))
+}
+
+fn open(path: &str) -> Result<BufWriter<File>> {
+    Ok(BufWriter::with_capacity(BUFFER_SIZE, File::create(path)?))
+}
+
+fn unsupported(format: ExportFormat, answers: &str) -> Error {
+    Error::Other(format!("{answers} cannot be exported as {format:?}"))
+}
+
+fn export_ndjson(documents: impl Iterator<Item = Result<ConceptDocument>>, mut out: impl Write) -> Result<i64> {
+    let mut count = 0;
+    for document in documents {
+        writeln!(out, "{}", document?)?;
+        count += 1;
+    }
+    out.flush()?;
+    Ok(count)
+}
+
+/// Writes the header line from the header of the rows if it is known, so that it is written even if there are no
+/// rows, and otherwise from the first row.
+fn export_csv(
+    header: Option<&ConceptRowHeader>,
+    rows: impl Iterator<Item = Result<ConceptRow>>,
+    mut out: impl Write,
+) -> Result<i64> {
+    let mut count = 0;
+    let mut line = String::new();
+    if let Some(header) = header {
+        write_header(&mut out, &mut line, &header.column_names)?;
+    }
+    for row in rows {
+        let row = row?;
+        if count == 0 && header.is_none() {
+            write_header(&mut out, &mut line, row.get_column_names())?;
+        }
+        for (index, concept) in row.row.iter().enumerate() {
+            match concept {
+                None => append_field(&mut line, index, ""),
+                Some(concept) => append_field(&mut line, index, &format_field(concept)?),
+            }
+        }
+        write_line(&mut out, &mut line)?;
+        count += 1;
+    }
+    out.flush()?;
+    Ok(count)
+}
+
+fn write_header(out: &mut impl Write, line: &mut String, column_names: &[String]) -> Result {
+    for (index, column_name) in column_names.iter().enumerate() {
+        append_field(line, index, column_name);
+    }
+    write_line(out, line)
+}
+
+/// Formats a concept as a CSV field: instances by IID, types by label, and attributes and values by their value.
+/// Decimals are written in plain notation without trailing zeros, and other values as they are displayed: doubles in
+/// plain notation, datetimes with nine fractional digits followed by the offset or the time zone name, and durations
+/// in ISO 8601. The Java driver's CSV export writes values the same way, and is tested against the same cases.
+/// Struct values cannot be written as a field.
+fn format_field(concept: &Concept) -> Result<String> {
+    if let Some(iid) = concept.try_get_iid() {
+        return Ok(iid.to_string());
+    }
+    Ok(match concept.try_get_value() {
+        None => concept.get_label().to_owned(),
+        Some(Value::String(string)) => string.clone(),
+        Some(Value::Decimal(decimal)) => format_decimal(*decimal),
+        Some(Value::Struct(_, name)) => {
+            return Err(Error::Other(format!("values of struct '{name}' cannot be exported as CSV fields")))
+        }
+        Some(value) => value.to_string(),
+    })
+}
+
+/// Formats a decimal in plain notation without trailing zeros, as <code>BigDecimal.stripTrailingZeros()</code>
+/// followed by <code>toPlainString()</code> does in Java.
+fn format_decimal(decimal: Decimal) -> String {
+    const DENOMINATOR: i128 = Decimal::FRACTIONAL_PART_DENOMINATOR as i128;
+    let scaled = decimal.integer_part() as i128 * DENOMINATOR + decimal.fractional_part() as i128;
+    let sign = if scaled < 0 { "-" } else { "" };
+    let integer = scaled.unsigned_abs() / DENOMINATOR as u128;
+    let fractional = scaled.unsigned_abs() % DENOMINATOR as u128;
+    if fractional == 0 {
+        format!("{sign}{integer}")
+    } else {
+        let fractional = format!("{fractional:019}");
+        format!("{sign}{integer}.{}", fractional.trim_end_matches('0'))
+    }
+}
+
+fn append_field(line: &mut String, index: usize, field: &str) {
+    if index > 0 {
+        line.push(',');
+    }
+    if field.contains([',', '"', '\n', '\r']) {
+        line.push('"');
+        line.push_str(&field.replace('"', "\"\""));
+        line.push('"');
+    } else {
+        line.push_str(field);
+    }
+}
+
+fn write_line(out: &mut impl Write, line: &mut String) -> Result {
+    line.push_str("\r\n");
+    out.write_all(line.as_bytes())?;
+    line.clear();
+    Ok(())
+}
+
+fn export_rows(rows: impl Iterator<Item = Result<ConceptRow>>, mut out: impl Write) -> Result<i64> {
+    let mut count = 0;
+    let mut buffer = Vec::new();
+    let mut header: Option<Arc<ConceptRowHeader>> = None;
+    write_stream_header(&mut out)?;
+    for row in rows {
+        let row = row?;
+        buffer.clear();
+        let is_new_header = header
+            .as_ref()
+            .map_or(true, |header| !Arc::ptr_eq(header, row.get_header()) && **header != **row.get_header());
+        if is_new_header {
+            write_record(&mut buffer, HEADER_RECORD, |buffer| encode_header(row.get_header(), buffer));
+            header = Some(row.get_header().clone());
+        }
+        write_record(&mut buffer, ROW_RECORD, |buffer| encode_row(&row, buffer));
+        out.write_all(&buffer)?;
+        count += 1;
+    }
+    out.flush()?;
+    Ok(count)
+}
+
+fn export_documents(documents: impl Iterator<Item = Result<ConceptDocument>>, mut out: impl Write) -> Result<i64> {
+    let mut count = 0;
+    let mut buffer = Vec::new();
+    write_stream_header(&mut out)?;
+    for document in documents {
+        let document = document?;
+        buffer.clear();
+        write_record(&mut buffer, DOCUMENT_RECORD, |buffer| encode_document(&document, buffer));
+        out.write_all(&buffer)?;
+        count += 1;
+    }
+    out.flush()?;
+    Ok(count)
+}
+
+fn write_stream_header(out: &mut impl Write) -> Result {
+    out.write_all(&STREAM_MAGIC)?;
+    out.write_all(&[ENCODING_VERSION])?;
+    Ok(())
+}
+
+#[cfg(test)]
+mod tests {
+    use chrono::{FixedOffset, NaiveDate, TimeZone as ChronoTimeZone};
+    use typedb_driver::concept::{
+        value::{Decimal, Duration, TimeZone},
+        Concept, Value,
+    };
+
+    use super::format_field;
+
+    fn format(value: Value) -> String {
+        format_field(&Concept::Value(value)).unwrap()
+    }
+
+    // The same cases as AnswerExporterTest.valuesAreFormattedAsByTheNativeExport in the Java driver.
+    #[test]
+    fn test_values_are_formatted_as_by_the_java_export() {
+        assert_eq!(format(Value::Double(1.5)), "1.5");
+        assert_eq!(format(Value::Double(1e10)), "10000000000");
+        assert_eq!(format(Value::Double(1.0)), "1");
+        assert_eq!(format(Value::Double(-0.0)), "-0");
+        assert_eq!(format(Value::Double(0.0001)), "0.0001");
+        assert_eq!(format(Value::Double(f64::INFINITY)), "inf");
+        assert_eq!(format(Value::Double(f64::NAN)), "NaN");
+        assert_eq!(format(Value::Decimal(Decimal::new(-2, 5_000_000_000_000_000_000))), "-1.5");
+
+        let datetime = NaiveDate::from_ymd_opt(2024, 2, 29).unwrap().and_hms_nano_opt(13, 45, 10, 123_000_000).unwrap();
+        assert_eq!(format(Value::Date(datetime.date())), "2024-02-29");
+        assert_eq!(format(Value::Datetime(datetime)), "2024-02-29T13:45:10.123000000");
+        let fixed = TimeZone::Fixed(FixedOffset::east_opt(5400).unwrap()).from_utc_datetime(&datetime);
+        assert_eq!(format(Value::DatetimeTZ(fixed)), "2024-02-29T15:15:10.123000000+01:30");
+        let utc = TimeZone::Fixed(FixedOffset::east_opt(0).unwrap()).from_utc_datetime(&datetime);
+        assert_eq!(format(Value::DatetimeTZ(utc)), "2024-02-29T13:45:10.123000000+00:00");
+        let summer = NaiveDate::from_ymd_opt(2024, 7, 29).unwrap().and_hms_nano_opt(13, 45, 10, 123_000_000).unwrap();
+        let iana = TimeZone::IANA(chrono_tz::Europe::London).from_utc_datetime(&summer);
+        assert_eq!(format(Value::DatetimeTZ(iana)), "2024-07-29T14:45:10.123000000 Europe/London");
+
+        assert_eq!(format(Value::Duration(Duration::new(0, 0, 0))), "PT0S");
+        assert_eq!(format(Value::Duration(Duration::new(14, 3, 0))), "P1Y2M3D");
+        assert_eq!(format(Value::Duration(Duration::new(0, 0, 3_723_000_000_000))), "PT1H2M3S");
+        assert_eq!(format(Value::Duration(Duration::new(1, 0, 500_000_000))), "P1MT0.500000000S");
+    }
+}
@@ -18,12 +18,15 @@
  */
 
 mod answer;
+mod arrow;
 mod common;
 mod concept;
 mod connection;
 mod database;
 mod database_manager;
+mod dictionary;
 mod error;
+mod export;
 mod iterator;
 mod memory;
 mod options;
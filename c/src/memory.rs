@@ -113,6 +113,16 @@ pub extern "C" fn string_free(str: *mut c_char) {
     }
 }
 
+pub(super) fn bytes_view(bytes: *const u8, offset: i64, length: i64) -> &'static [u8] {
+    assert!(!bytes.is_null() && offset >= 0 && length >= 0);
+    unsafe { std::slice::from_raw_parts(bytes.add(offset as usize), length as usize) }
+}
+
+pub(super) fn bytes_view_mut(bytes: *mut u8, offset: i64, length: i64) -> &'static mut [u8] {
+    assert!(!bytes.is_null() && offset >= 0 && length >= 0);
+    unsafe { std::slice::from_raw_parts_mut(bytes.add(offset as usize), length as usize) }
+}
+
 pub(super) fn array_view<T: 'static>(ts: *const *const T) -> impl Iterator<Item = &'static T> {
     assert!(!ts.is_null());
     unsafe { (0..).map_while(move |i| (*ts.add(i)).as_ref()) }
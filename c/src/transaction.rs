@@ -19,29 +19,108 @@
 
 use std::{ffi::c_char, ptr::null_mut};
 
-use typedb_driver::{DatabaseManager, Error, Transaction, TransactionType, TypeDBDriver};
+use typedb_driver::{
+    answer::QueryAnswer, box_stream, DatabaseManager, Error, Options, Transaction, TransactionType, TypeDBDriver,
+};
 
 use super::memory::{borrow, borrow_mut, free, release, take_ownership};
-use crate::{answer::QueryAnswerPromise, error::try_release, memory::string_view, promise::VoidPromise};
+use crate::{
+    answer::{QueryAnswerPromise, QueryAnswerPromiseIterator},
+    error::try_release,
+    iterator::CIterator,
+    memory::{string_array_view, string_view},
+    promise::VoidPromise,
+};
 
 /// Opens a transaction to perform read or write queries on the database connected to the session.
 ///
 /// @param databases The <code>DatabaseManager</code> object on this connection.
 /// @param database_name The name of the database with which the transaction connects.
 /// @param type_ The type of transaction to be created (Write / Read / Schema).
+/// @param options Transaction options.
 #[no_mangle]
 pub extern "C" fn transaction_new(
     driver: *mut TypeDBDriver,
     database_name: *const c_char,
     type_: TransactionType,
+    options: *const Options,
 ) -> *mut Transaction {
-    try_release(borrow(driver).transaction(string_view(database_name), type_))
+    try_release(borrow(driver).transaction_with_options(string_view(database_name), type_, *borrow(options)))
+}
+
+/// Opens a transaction without waiting for the server to confirm that it is open.
+/// Queries performed in the transaction are dispatched right behind the open request,
+/// and fail with its error if the transaction cannot be opened.
+///
+/// @param databases The <code>DatabaseManager</code> object on this connection.
+/// @param database_name The name of the database with which the transaction connects.
+/// @param type_ The type of transaction to be created (Write / Read / Schema).
+/// @param options Transaction options.
+#[no_mangle]
+pub extern "C" fn transaction_new_pipelined(
+    driver: *mut TypeDBDriver,
+    database_name: *const c_char,
+    type_: TransactionType,
+    options: *const Options,
+) -> *mut Transaction {
+    try_release(borrow(driver).transaction_pipelined(string_view(database_name), type_, *borrow(options)))
 }
 
 /// Performs a TypeQL query in the transaction.
+///
+/// @param transaction The transaction to perform the query in
+/// @param query The query to perform
+/// @param options Query options
 #[no_mangle]
-pub extern "C" fn transaction_query(transaction: *mut Transaction, query: *const c_char) -> *mut QueryAnswerPromise {
-    release(QueryAnswerPromise::new(Box::new(borrow(transaction).query(string_view(query)))))
+pub extern "C" fn transaction_query(
+    transaction: *mut Transaction,
+    query: *const c_char,
+    options: *const Options,
+) -> *mut QueryAnswerPromise {
+    let promise = borrow(transaction).query_with_options(string_view(query), *borrow(options));
+    release(QueryAnswerPromise::new(Box::new(promise)))
+}
+
+/// Performs a batch of TypeQL queries in the transaction. The queries are sent together,
+/// in a single message unless they exceed the maximum message size, and are executed in order.
+/// Returns an iterator over the promises of the answers, in the order of the queries.
+///
+/// @param transaction The transaction to perform the queries in
+/// @param queries A null-terminated array of the queries to perform
+/// @param options Query options, applied to every query in the batch
+#[no_mangle]
+pub extern "C" fn transaction_query_batch(
+    transaction: *mut Transaction,
+    queries: *const *const c_char,
+    options: *const Options,
+) -> *mut QueryAnswerPromiseIterator {
+    let promises = borrow(transaction).query_batch(string_array_view(queries), *borrow(options));
+    let promises = promises.into_iter().map(|promise| QueryAnswerPromise::new(Box::new(promise)));
+    release(QueryAnswerPromiseIterator(CIterator(box_stream(promises))))
+}
+
+/// Performs a TypeQL query in the transaction without waiting for its answer.
+/// Once the answer header arrives, <code>callback</code> is called on the driver's callback handler thread
+/// with <code>callback_id</code> and either the answer or the error: exactly one of them is non-null,
+/// and ownership of it passes to the callback.
+///
+/// @param transaction The transaction to perform the query in
+/// @param query The query to perform
+/// @param options Query options
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_query_async(
+    transaction: *const Transaction,
+    query: *const c_char,
+    options: *const Options,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut QueryAnswer, *mut Error),
+) {
+    borrow(transaction).query_with_callback(string_view(query), *borrow(options), move |result| match result {
+        Ok(answer) => callback(callback_id, release(answer), null_mut()),
+        Err(err) => callback(callback_id, null_mut(), release(err)),
+    });
 }
 
 /// Closes the transaction and frees the native rust object.
@@ -64,12 +143,48 @@ pub extern "C" fn transaction_commit(txn: *mut Transaction) -> *mut VoidPromise
     release(VoidPromise(Box::new(take_ownership(txn).commit())))
 }
 
+/// Commits the changes made via this transaction to the TypeDB database without waiting for the outcome.
+/// The callback is called with the error, or with null on success, once the server responds.
+/// Whether or not the transaction is commited successfully, the transaction is closed after
+/// the commit call and the native rust object is freed.
+///
+/// @param txn The transaction to commit
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_commit_async(
+    txn: *mut Transaction,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut Error),
+) {
+    take_ownership(txn).commit_with_callback(move |result| {
+        callback(callback_id, result.err().map(release).unwrap_or(null_mut()))
+    });
+}
+
 /// Rolls back the uncommitted changes made via this transaction.
 #[no_mangle]
 pub extern "C" fn transaction_rollback(txn: *const Transaction) -> *mut VoidPromise {
     release(VoidPromise(Box::new(borrow(txn).rollback())))
 }
 
+/// Rolls back the uncommitted changes made via this transaction without waiting for the outcome.
+/// The callback is called with the error, or with null on success, once the server responds.
+///
+/// @param txn The transaction to roll back
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_rollback_async(
+    txn: *const Transaction,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut Error),
+) {
+    borrow(txn).rollback_with_callback(move |result| {
+        callback(callback_id, result.err().map(release).unwrap_or(null_mut()))
+    });
+}
+
 /// Checks whether this transaction is open.
 #[no_mangle]
 pub extern "C" fn transaction_is_open(txn: *const Transaction) -> bool {
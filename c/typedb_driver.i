@@ -56,7 +56,7 @@ struct Type {};
 
 %dropproxy(DriverOptions, driver_options)
 %dropproxy(Credentials, credentials)
-//%dropproxy(Options, options)
+%dropproxy(Options, options)
 
 #define typedb_driver_drop driver_close
 #define transaction_drop transaction_close
@@ -78,6 +78,10 @@ struct Type {};
 
 %dropproxy(ConceptRow, concept_row)
 %dropproxy(ConceptRowIterator, concept_row_iterator)
+%dropproxy(ArrowColumnTypes, arrow_column_types)
+
+%dropproxy(ConceptDocument, concept_document)
+%dropproxy(ConceptDocumentIterator, concept_document_iterator)
 
 %dropproxydefined(DatetimeAndTimeZone, datetime_and_time_zone)
 %dropproxydefined(StringAndOptValue, string_and_opt_value)
@@ -87,6 +91,8 @@ struct Type {};
 
 %dropproxy(QueryAnswer, query_answer)
 
+%dropproxy(StringDictionary, string_dictionary)
+
 %define %promiseproxy(Type, function_prefix)
 struct Type {};
 %newobject function_prefix ## _resolve;
@@ -99,6 +105,7 @@ struct Type {};
 %promiseproxy(ConceptPromise, concept_promise)
 %promiseproxy(StringPromise, string_promise)
 %promiseproxy(QueryAnswerPromise, query_answer_promise)
+%dropproxy(QueryAnswerPromiseIterator, query_answer_promise_iterator)
 %promiseproxy(VoidPromise, void_promise)
 
 %feature("director") TransactionCallbackDirector;
@@ -137,6 +144,69 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 }
 %}
 
+%feature("director") QueryAnswerCallbackDirector;
+%inline %{
+struct QueryAnswerCallbackDirector {
+    QueryAnswerCallbackDirector() {}
+    virtual ~QueryAnswerCallbackDirector() {}
+    virtual void callback(QueryAnswer* answer, Error* error) = 0;
+};
+%}
+
+%{
+static void query_answer_callback_execute(size_t ID, QueryAnswer* answer, Error* error) {
+    try {
+        reinterpret_cast<QueryAnswerCallbackDirector*>(ID)->callback(answer, error);
+    } catch (std::exception const& e) {
+        std::cerr << "[ERROR] " << e.what() << std::endl;
+    }
+}
+%}
+
+%rename(transaction_query_async) transaction_query_async_register;
+%ignore transaction_query_async;
+%inline %{
+void transaction_query_async_register(const Transaction* transaction, const char* query, const Options* options, QueryAnswerCallbackDirector* handler) {
+    transaction_query_async(transaction, query, options, reinterpret_cast<size_t>(handler), &query_answer_callback_execute);
+}
+%}
+
+%feature("director") VoidCallbackDirector;
+%inline %{
+struct VoidCallbackDirector {
+    VoidCallbackDirector() {}
+    virtual ~VoidCallbackDirector() {}
+    virtual void callback(Error* error) = 0;
+};
+%}
+
+%{
+static void void_callback_execute(size_t ID, Error* error) {
+    try {
+        reinterpret_cast<VoidCallbackDirector*>(ID)->callback(error);
+    } catch (std::exception const& e) {
+        std::cerr << "[ERROR] " << e.what() << std::endl;
+    }
+}
+%}
+
+%rename(transaction_commit_async) transaction_commit_async_register;
+%ignore transaction_commit_async;
+%delobject transaction_commit_async_register;
+%inline %{
+void transaction_commit_async_register(Transaction* transaction, VoidCallbackDirector* handler) {
+    transaction_commit_async(transaction, reinterpret_cast<size_t>(handler), &void_callback_execute);
+}
+%}
+
+%rename(transaction_rollback_async) transaction_rollback_async_register;
+%ignore transaction_rollback_async;
+%inline %{
+void transaction_rollback_async_register(const Transaction* transaction, VoidCallbackDirector* handler) {
+    transaction_rollback_async(transaction, reinterpret_cast<size_t>(handler), &void_callback_execute);
+}
+%}
+
 %delobject database_delete;
 
 %delobject transaction_commit;
@@ -146,10 +216,19 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 
 %newobject concept_row_get;
 %newobject concept_row_get_column_names;
+%newobject concept_row_iterator_get_column_names;
+%newobject arrow_column_types_new;
 %newobject concept_row_get_query_type;
 %newobject query_answer_get_query_type;
 %newobject concept_row_get_concepts;
 %newobject concept_row_get_index;
+%newobject concept_row_get_string;
+%newobject concept_row_decode;
+%newobject concept_row_decode_header;
+%newobject concept_decode;
+
+%newobject string_dictionary_new;
+%newobject string_dictionary_get;
 %newobject concept_row_to_string;
 
 %newobject value_get_string;
@@ -157,8 +236,10 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 
 %newobject query_answer_into_rows;
 %newobject query_answer_into_documents;
+%newobject query_answer_into_concept_documents;
 %delobject query_answer_into_rows;
 %delobject query_answer_into_documents;
+%delobject query_answer_into_concept_documents;
 
 %newobject concept_to_string;
 
@@ -197,16 +278,20 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject error_code;
 %newobject error_message;
 
-//%newobject options_new;
+%newobject options_new;
 
 %newobject concept_iterator_next;
 %newobject concept_row_iterator_next;
+%newobject concept_document_iterator_next;
 %newobject database_iterator_next;
 %newobject string_iterator_next;
 %newobject string_and_opt_value_iterator_next;
 %newobject user_iterator_next;
+%newobject query_answer_promise_iterator_next;
 
 %newobject transaction_new;
+%newobject transaction_new_pipelined;
+%newobject transaction_query_batch;
 %newobject transaction_query;
 
 %newobject users_all;
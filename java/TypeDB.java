@@ -22,8 +22,16 @@ package com.typedb.driver;
 import com.typedb.driver.api.DriverOptions;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.answer.AnswerDecoder;
+import com.typedb.driver.api.answer.AnswerEncoder;
+import com.typedb.driver.concept.answer.AnswerDecoderImpl;
+import com.typedb.driver.concept.answer.AnswerEncoderImpl;
 import com.typedb.driver.connection.DriverImpl;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.Set;
 
@@ -100,4 +108,64 @@ public class TypeDB {
     public static Driver cloudDriver(Map<String, String> addressTranslation, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
         return new DriverImpl(addressTranslation, credentials, driverOptions);
     }
+
+    /**
+     * Creates an <code>AnswerEncoder</code> writing the driver's binary encoding of answers to the given output
+     * stream, and writes the stream header.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.answerEncoder(Files.newOutputStream(path));
+     * </pre>
+     *
+     * @param output The output stream to write the encoded answers to
+     */
+    public static AnswerEncoder answerEncoder(OutputStream output) throws TypeDBDriverException {
+        return new AnswerEncoderImpl(output);
+    }
+
+    /**
+     * Creates an <code>AnswerEncoder</code> writing the driver's binary encoding of answers to the given channel,
+     * and writes the stream header.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.answerEncoder(FileChannel.open(path, CREATE, WRITE));
+     * </pre>
+     *
+     * @param channel The channel to write the encoded answers to
+     */
+    public static AnswerEncoder answerEncoder(WritableByteChannel channel) throws TypeDBDriverException {
+        return new AnswerEncoderImpl(channel);
+    }
+
+    /**
+     * Creates an <code>AnswerDecoder</code> reading answers written by an <code>AnswerEncoder</code> from the given
+     * input stream, and reads the stream header.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.answerDecoder(Files.newInputStream(path));
+     * </pre>
+     *
+     * @param input The input stream to read the encoded answers from
+     */
+    public static AnswerDecoder answerDecoder(InputStream input) throws TypeDBDriverException {
+        return new AnswerDecoderImpl(input);
+    }
+
+    /**
+     * Creates an <code>AnswerDecoder</code> reading answers written by an <code>AnswerEncoder</code> from the given
+     * channel, and reads the stream header.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.answerDecoder(FileChannel.open(path, READ));
+     * </pre>
+     *
+     * @param channel The channel to read the encoded answers from
+     */
+    public static AnswerDecoder answerDecoder(ReadableByteChannel channel) throws TypeDBDriverException {
+        return new AnswerDecoderImpl(channel);
+    }
 }
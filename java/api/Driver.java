@@ -60,8 +60,54 @@ public interface Driver extends AutoCloseable {
     @CheckReturnValue
     Transaction transaction(String database, Transaction.Type type) throws TypeDBDriverException;
 
-//    @CheckReturnValue
-//    Transaction transaction(String database, Transaction.Type type, Options options);
+    /**
+     * Opens a transaction to the given database without waiting for the server to confirm that it is open.
+     * Queries performed in the returned transaction are sent right behind the open request, in the same network message,
+     * saving a round trip for short-lived transactions. If the transaction fails to open, the error is reported
+     * by the queries performed in it, and by <code>commit</code> or <code>rollback</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionPipelined(database, Transaction.Type.READ).queryAsync(query);
+     * </pre>
+     *
+     * @param database The name of the database with which the transaction connects
+     * @param type     The type of transaction to be created (READ, WRITE, or SCHEMA)
+     */
+    @CheckReturnValue
+    Transaction transactionPipelined(String database, Transaction.Type type) throws TypeDBDriverException;
+
+    /**
+     * Opens a communication tunnel (transaction) to the given database on the running TypeDB server,
+     * with the given transaction options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transaction(database, sessionType, new Options().transactionTimeoutMillis(60_000));
+     * </pre>
+     *
+     * @param database The name of the database with which the transaction connects
+     * @param type     The type of transaction to be created (READ, WRITE, or SCHEMA)
+     * @param options  <code>Options</code> to configure the transaction
+     */
+    @CheckReturnValue
+    Transaction transaction(String database, Transaction.Type type, Options options) throws TypeDBDriverException;
+
+    /**
+     * Opens a transaction to the given database with the given transaction options, without waiting
+     * for the server to confirm that it is open. See <code>transactionPipelined(String, Transaction.Type)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionPipelined(database, Transaction.Type.READ, new Options().transactionTimeoutMillis(60_000));
+     * </pre>
+     *
+     * @param database The name of the database with which the transaction connects
+     * @param type     The type of transaction to be created (READ, WRITE, or SCHEMA)
+     * @param options  <code>Options</code> to configure the transaction
+     */
+    @CheckReturnValue
+    Transaction transactionPipelined(String database, Transaction.Type type, Options options) throws TypeDBDriverException;
 
     /**
      * Closes the driver. Before instantiating a new driver, the driver that’s currently open should first be closed.
@@ -23,8 +23,20 @@ import com.typedb.driver.api.answer.QueryAnswer;
 import com.typedb.driver.common.Promise;
 
 import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
+/**
+ * A transaction with a TypeDB database.
+ *
+ * <p>Transactions are thread-safe. Queries may be performed concurrently from multiple threads and are answered
+ * independently; in a read transaction, all of them read the same snapshot of the database.
+ * Each answer must only be consumed by one thread at a time.
+ * Committing waits for queries that are being submitted concurrently, and any query submitted after the commit fails
+ * because the transaction is closed.</p>
+ */
 public interface Transaction extends AutoCloseable {
     /**
      * Checks whether this transaction is open.
@@ -48,11 +60,16 @@ public interface Transaction extends AutoCloseable {
     @CheckReturnValue
     Type getType();
 
-//    /**
-//     * The options for the transaction
-//     */
-//    @CheckReturnValue
-//    Options options();
+    /**
+     * The options for the transaction
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.options();
+     * </pre>
+     */
+    @CheckReturnValue
+    Options options();
 
     /**
      * Execute a TypeQL query in this transaction.
@@ -67,6 +84,115 @@ public interface Transaction extends AutoCloseable {
     @CheckReturnValue
     Promise<? extends QueryAnswer> query(String query) throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Execute a TypeQL query in this transaction, with the given query options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query("match $x isa person;", new Options().prefetchSize(64));
+     * </pre>
+     *
+     * @param query   The query to execute.
+     * @param options <code>Options</code> to configure the query.
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(String query, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a parameterised TypeQL query in this transaction. Each <code>${name}</code> placeholder in the template
+     * is replaced with its value, written as an escaped TypeQL literal. Templates are parsed once and cached,
+     * so the same template may be reused with different parameters at little cost.
+     * See <code>QueryTemplate</code> for the supported parameter types.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query("insert $p isa person, has name ${name}, has age ${age};", Map.of("name", "Alice", "age", 25));
+     * </pre>
+     *
+     * @param template   The query to execute, with <code>${name}</code> placeholders for its parameters.
+     * @param parameters The value of each parameter, by name.
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(String template, Map<String, ?> parameters) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a parameterised TypeQL query in this transaction, with the given query options.
+     * See <code>query(String, Map)</code> for how parameters are written.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query("match $p isa person, has age ${age};", Map.of("age", 25), new Options().prefetchSize(64));
+     * </pre>
+     *
+     * @param template   The query to execute, with <code>${name}</code> placeholders for its parameters.
+     * @param parameters The value of each parameter, by name.
+     * @param options    <code>Options</code> to configure the query.
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(String template, Map<String, ?> parameters, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a batch of TypeQL queries in this transaction. The queries are submitted together and sent
+     * in a single network message, unless they exceed the maximum message size, and are executed in order.
+     * Returns a promise of the answer to each query, in the order of the queries.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryBatch(List.of("insert $x isa person;", "insert $y isa person;"));
+     * </pre>
+     *
+     * @param queries The queries to execute.
+     */
+    @CheckReturnValue
+    List<Promise<? extends QueryAnswer>> queryBatch(List<String> queries) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a batch of TypeQL queries in this transaction, with the given query options applied to every query.
+     * See <code>queryBatch(List)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryBatch(List.of("insert $x isa person;", "insert $y isa person;"), new Options().prefetch(false));
+     * </pre>
+     *
+     * @param queries The queries to execute.
+     * @param options <code>Options</code> to configure the queries.
+     */
+    @CheckReturnValue
+    List<Promise<? extends QueryAnswer>> queryBatch(List<String> queries, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query in this transaction without waiting for its answer. The returned future is completed
+     * by the native driver when the answer arrives, so no thread is blocked while the query is in flight. If the
+     * driver is closed first, the future is completed exceptionally. The future is completed on the driver's
+     * callback thread: dependent actions that block or take long should be attached with the <code>...Async</code>
+     * methods of <code>CompletableFuture</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync("match $x isa person;").thenAccept(answer -&gt; ...);
+     * </pre>
+     *
+     * @param query The query to execute.
+     */
+    @CheckReturnValue
+    CompletableFuture<QueryAnswer> queryAsync(String query) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query in this transaction, with the given query options, without waiting for its answer.
+     * See <code>queryAsync(String)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync("match $x isa person;", new Options().prefetchSize(64)).thenAccept(answer -&gt; ...);
+     * </pre>
+     *
+     * @param query   The query to execute.
+     * @param options <code>Options</code> to configure the query.
+     */
+    @CheckReturnValue
+    CompletableFuture<QueryAnswer> queryAsync(String query, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Registers a callback function which will be executed when this transaction is closed.
      *
@@ -89,6 +215,18 @@ public interface Transaction extends AutoCloseable {
      */
     void commit() throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Commits the changes made via this transaction to the TypeDB database without waiting for the outcome.
+     * The returned future is completed by the native driver once the server responds, on the driver's callback thread.
+     * Whether or not the transaction is commited successfully, it gets closed after the commit call.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.commitAsync().thenRun(() -&gt; ...);
+     * </pre>
+     */
+    CompletableFuture<Void> commitAsync() throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Rolls back the uncommitted changes made via this transaction.
      *
@@ -99,6 +237,17 @@ public interface Transaction extends AutoCloseable {
      */
     void rollback() throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Rolls back the uncommitted changes made via this transaction without waiting for the outcome.
+     * The returned future is completed by the native driver once the server responds, on the driver's callback thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.rollbackAsync().join();
+     * </pre>
+     */
+    CompletableFuture<Void> rollbackAsync() throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Closes the transaction.
      *
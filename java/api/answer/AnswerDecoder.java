@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.stream.Stream;
+
+/**
+ * Reads <code>ConceptRow</code>s, <code>Concept</code>s and <code>JSON</code> documents from a byte stream written
+ * by an <code>AnswerEncoder</code>. Records are read one at a time, so a stream of any length is decoded in bounded
+ * memory. Decoded rows and concepts are independent of the decoder, and remain valid after it is closed.
+ * Not thread-safe.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * try (AnswerDecoder decoder = TypeDB.answerDecoder(Files.newInputStream(path))) {
+ *     decoder.rows().forEach(row -&gt; ...);
+ * }
+ * </pre>
+ */
+public interface AnswerDecoder extends AutoCloseable {
+    /**
+     * Checks whether the stream has another row, concept or document.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.hasNext();
+     * </pre>
+     */
+    boolean hasNext() throws TypeDBDriverException;
+
+    /**
+     * Returns the kind of the next record, without reading it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.peek();
+     * </pre>
+     */
+    Kind peek() throws TypeDBDriverException;
+
+    /**
+     * Reads the next record, which must be a <code>ConceptRow</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.nextRow();
+     * </pre>
+     */
+    ConceptRow nextRow() throws TypeDBDriverException;
+
+    /**
+     * Reads the next record, which must be a <code>Concept</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.nextConcept();
+     * </pre>
+     */
+    Concept nextConcept() throws TypeDBDriverException;
+
+    /**
+     * Reads the next record, which must be a <code>JSON</code> document.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.nextDocument();
+     * </pre>
+     */
+    JSON nextDocument() throws TypeDBDriverException;
+
+    /**
+     * Reads the remaining records of the stream, which must all be <code>ConceptRow</code>s.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.rows().forEach(row -&gt; ...);
+     * </pre>
+     */
+    Stream<ConceptRow> rows();
+
+    /**
+     * Reads the remaining records of the stream, which must all be <code>JSON</code> documents.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.documents().forEach(document -&gt; ...);
+     * </pre>
+     */
+    Stream<JSON> documents();
+
+    /**
+     * Closes the underlying channel.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * decoder.close();
+     * </pre>
+     */
+    @Override
+    void close() throws TypeDBDriverException;
+
+    /**
+     * The kind of a record in an encoded answer stream.
+     */
+    enum Kind {
+        ROW,
+        CONCEPT,
+        DOCUMENT
+    }
+}
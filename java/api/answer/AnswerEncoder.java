@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+/**
+ * Writes <code>ConceptRow</code>s, <code>Concept</code>s and <code>JSON</code> documents to a byte stream in the
+ * driver's compact binary encoding, to be read back by an <code>AnswerDecoder</code>. Values keep their exact types:
+ * decimals, datetimes and durations are not converted through strings or doubles.
+ *
+ * <p>The stream starts with the magic bytes <code>TDBA</code> and the encoding version, followed by records.
+ * Every record is a one-byte kind and a little-endian <code>u32</code> payload length, followed by the payload.
+ * The column names and query type of rows are written once, in a header record, whenever they change.
+ * Writes are buffered until the encoder is flushed or closed. Not thread-safe.</p>
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * try (AnswerEncoder encoder = TypeDB.answerEncoder(Files.newOutputStream(path))) {
+ *     encoder.writeAll(transaction.query(query).resolve().asConceptRows());
+ * }
+ * </pre>
+ */
+public interface AnswerEncoder extends AutoCloseable {
+    /**
+     * Writes a <code>ConceptRow</code>, preceded by its header if the previous row had different column names.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.write(row);
+     * </pre>
+     *
+     * @param row The row to write
+     */
+    void write(ConceptRow row) throws TypeDBDriverException;
+
+    /**
+     * Writes a snapshot of a <code>Concept</code>: its type, label, IID and value, as the driver holds them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.write(concept);
+     * </pre>
+     *
+     * @param concept The concept to write
+     */
+    void write(Concept concept) throws TypeDBDriverException;
+
+    /**
+     * Writes a <code>JSON</code> document.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.write(document);
+     * </pre>
+     *
+     * @param document The document to write
+     */
+    void write(JSON document) throws TypeDBDriverException;
+
+    /**
+     * Writes all remaining rows of the iterator, consuming it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.writeAll(answer.asConceptRows());
+     * </pre>
+     *
+     * @param rows The rows to write
+     * @return The number of rows written
+     */
+    long writeAll(ConceptRowIterator rows) throws TypeDBDriverException;
+
+    /**
+     * Writes all remaining documents of the iterator, consuming it. The documents are encoded natively,
+     * without building their <code>JSON</code> representation.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.writeAll(answer.asConceptDocuments());
+     * </pre>
+     *
+     * @param documents The documents to write
+     * @return The number of documents written
+     */
+    long writeAll(ConceptDocumentIterator documents) throws TypeDBDriverException;
+
+    /**
+     * Writes all buffered records to the underlying channel.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.flush();
+     * </pre>
+     */
+    void flush() throws TypeDBDriverException;
+
+    /**
+     * Flushes the encoder and closes the underlying channel.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * encoder.close();
+     * </pre>
+     */
+    @Override
+    void close() throws TypeDBDriverException;
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_CSV_DELIMITER;
+
+/**
+ * Describes how rows are written by <code>ConceptRowIterator.exportCSV</code>. Attributes and values are written
+ * as their values, entities and relations as their IIDs, and types as their labels. Fields are quoted when they
+ * contain the delimiter, a quote or a line break, as in RFC 4180.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * CSVFormat.defaults().withDelimiter('\t').withColumns("name", "age").withColumnFormat("age", age -&gt; age + " years");
+ * </pre>
+ */
+public final class CSVFormat {
+    private static final CSVFormat DEFAULTS = new CSVFormat(',', "", true, null, Collections.emptyMap());
+
+    private final char delimiter;
+    private final String nullValue;
+    private final boolean hasHeader;
+    private final List<String> columns;
+    private final Map<String, Function<Object, String>> columnFormats;
+
+    private CSVFormat(char delimiter, String nullValue, boolean hasHeader, @Nullable List<String> columns,
+                      Map<String, Function<Object, String>> columnFormats) {
+        this.delimiter = delimiter;
+        this.nullValue = nullValue;
+        this.hasHeader = hasHeader;
+        this.columns = columns;
+        this.columnFormats = columnFormats;
+    }
+
+    /**
+     * The default format: comma-separated, with a header line, all columns in answer order, and empty answers
+     * written as empty fields.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * CSVFormat.defaults();
+     * </pre>
+     */
+    public static CSVFormat defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Separates fields with the given character, which must not be a quote, a line break, or a character of
+     * the null value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * format.withDelimiter(';');
+     * </pre>
+     *
+     * @param delimiter the field delimiter
+     */
+    public CSVFormat withDelimiter(char delimiter) {
+        validateDelimiter(delimiter, nullValue);
+        return new CSVFormat(delimiter, nullValue, hasHeader, columns, columnFormats);
+    }
+
+    /**
+     * Writes empty answers as the given string, which must not contain the delimiter.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * format.withNullValue("NULL");
+     * </pre>
+     *
+     * @param nullValue the string to write for empty answers
+     */
+    public CSVFormat withNullValue(String nullValue) {
+        Validator.requireNonNull(nullValue, "nullValue");
+        validateDelimiter(delimiter, nullValue);
+        return new CSVFormat(delimiter, nullValue, hasHeader, columns, columnFormats);
+    }
+
+    /**
+     * Omits the header line of column names.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * format.withoutHeader();
+     * </pre>
+     */
+    public CSVFormat withoutHeader() {
+        return new CSVFormat(delimiter, nullValue, false, columns, columnFormats);
+    }
+
+    /**
+     * Writes only the given columns, in the given order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * format.withColumns("name", "age");
+     * </pre>
+     *
+     * @param columns the columns (variables) to write
+     */
+    public CSVFormat withColumns(String... columns) {
+        Validator.requireNonNull(columns, "columns");
+        for (String column : columns) Validator.requireNonNull(column, "column");
+        return new CSVFormat(delimiter, nullValue, hasHeader, Collections.unmodifiableList(Arrays.asList(columns.clone())), columnFormats);
+    }
+
+    /**
+     * Formats the non-empty answers of a column with the given function. The function receives the value of an
+     * attribute or value (as a <code>Boolean</code>, <code>Long</code>, <code>Double</code>,
+     * <code>BigDecimal</code>, <code>String</code>, <code>LocalDate</code>, <code>LocalDateTime</code>,
+     * <code>ZonedDateTime</code> or <code>Duration</code>), the IID of an entity or relation, or the label of a type.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * format.withColumnFormat("joined", date -&gt; ((LocalDate) date).format(DateTimeFormatter.BASIC_ISO_DATE));
+     * </pre>
+     *
+     * @param column the column (variable) to format
+     * @param format the function formatting the column's values
+     */
+    public CSVFormat withColumnFormat(String column, Function<Object, String> format) {
+        Validator.requireNonNull(column, "column");
+        Validator.requireNonNull(format, "format");
+        Map<String, Function<Object, String>> columnFormats = new HashMap<>(this.columnFormats);
+        columnFormats.put(column, format);
+        return new CSVFormat(delimiter, nullValue, hasHeader, columns, Collections.unmodifiableMap(columnFormats));
+    }
+
+    /**
+     * A field could not be told apart from its neighbours, or from an empty answer, if the delimiter appeared
+     * in the quoting or line syntax of CSV, or in the null value.
+     */
+    private static void validateDelimiter(char delimiter, String nullValue) {
+        if (delimiter == '"' || delimiter == '\n' || delimiter == '\r' || nullValue.indexOf(delimiter) >= 0) {
+            throw new TypeDBDriverException(INVALID_CSV_DELIMITER, delimiter, nullValue);
+        }
+    }
+
+    /**
+     * @hidden
+     */
+    public char delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * @hidden
+     */
+    public String nullValue() {
+        return nullValue;
+    }
+
+    /**
+     * @hidden
+     */
+    public boolean hasHeader() {
+        return hasHeader;
+    }
+
+    /**
+     * @hidden
+     */
+    @Nullable
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * @hidden
+     */
+    @Nullable
+    public Function<Object, String> columnFormat(String column) {
+        return columnFormats.get(column);
+    }
+}
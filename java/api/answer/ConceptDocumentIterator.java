@@ -19,7 +19,12 @@
 
 package com.typedb.driver.api.answer;
 
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
 import javax.annotation.CheckReturnValue;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
@@ -46,4 +51,111 @@ public interface ConceptDocumentIterator extends QueryAnswer, Iterator<JSON> {
 
     @CheckReturnValue
     Stream<JSON> stream();
+
+    /**
+     * Returns the next document as the UTF-8 bytes of its JSON form, between the position and the limit of a
+     * direct <code>ByteBuffer</code>, without creating a <code>String</code> or a <code>JSON</code> tree.
+     * The buffer is reused: its contents are only valid until the next call on this iterator.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * while (documents.hasNext()) channel.write(documents.nextRaw());
+     * </pre>
+     */
+    ByteBuffer nextRaw() throws TypeDBDriverException;
+
+    /**
+     * Returns the documents after this call as lazy views: each document keeps its compact encoding, and the
+     * members of an object, or the elements of an array, are decoded only when they are accessed.
+     * Best suited to deep documents of which only a few paths are read. The views are not thread-safe.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptDocuments().lazily().stream().map(document -&gt; document.asObject().get("name"));
+     * </pre>
+     */
+    ConceptDocumentIterator lazily();
+
+    /**
+     * Decodes only the parts of the documents after this call that are selected by the given JSON paths, skipping
+     * everything else. Paths start at the root, <code>$</code>, followed by member segments (<code>.key</code>,
+     * <code>['key']</code> or <code>.*</code>) and element segments (<code>[2]</code> or <code>[*]</code>).
+     * Each document keeps its structure along the selected paths: objects and arrays with nothing selected are
+     * omitted, and selected array elements keep their relative order. Takes precedence over <code>lazily()</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptDocuments().project("$.person.name", "$.friends[*].email").stream();
+     * </pre>
+     *
+     * @param paths the JSON paths to select
+     */
+    ConceptDocumentIterator project(String... paths) throws TypeDBDriverException;
+
+    /**
+     * Binds the remaining documents of this iterator onto instances of <code>type</code>, matching object keys to
+     * record components, or fields, by name. <code>type</code> must be a record, or a class with a no-argument
+     * constructor. Supported field types are <code>String</code>, <code>long</code>, <code>int</code>,
+     * <code>double</code>, <code>boolean</code> (and their boxed types), <code>JSON</code>, other records and
+     * classes bound in the same way, and <code>Optional</code>s, <code>List</code>s and <code>Map</code>s with
+     * <code>String</code> keys of these. Keys without a matching field are ignored, and fields without a matching key
+     * are left empty. The binding is resolved once per class, and documents are bound without building
+     * <code>JSON</code> trees.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * record Person(String name, List&lt;String&gt; emails) {}
+     * answer.asConceptDocuments().as(Person.class).forEach(person -&gt; ...);
+     * </pre>
+     *
+     * @param type the class to bind documents onto
+     */
+    @CheckReturnValue
+    <R> Stream<R> as(Class<R> type) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining documents of this iterator, writing them to <code>channel</code> as newline-delimited
+     * JSON, and returns the number of documents written. Documents are written by the native driver straight into
+     * a direct buffer, without creating <code>String</code>s or <code>JSON</code> trees.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (FileChannel file = FileChannel.open(path, CREATE, WRITE)) {
+     *     answer.asConceptDocuments().exportNDJSON(file);
+     * }
+     * </pre>
+     *
+     * @param channel the channel to write to, which is not closed
+     */
+    long exportNDJSON(WritableByteChannel channel) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining documents of this iterator, writing them to the file at <code>path</code>, which is
+     * created or truncated, and returns the number of documents written. The documents are formatted and written
+     * by the native driver, and are never passed to Java. Only the <code>NDJSON</code> and <code>BINARY</code>
+     * formats are supported.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptDocuments().exportTo(Paths.get("/data/extract.ndjson"), ExportFormat.NDJSON);
+     * </pre>
+     *
+     * @param path   the file to write to
+     * @param format the format to write
+     */
+    long exportTo(Path path, ExportFormat format) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining documents of this iterator, passing their contents to <code>visitor</code> as
+     * events, in document order, without building any <code>JSON</code> trees. Best suited to converting
+     * documents to other formats.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptDocuments().visit(writer);
+     * </pre>
+     *
+     * @param visitor the visitor to receive the events
+     */
+    void visit(JSONVisitor visitor) throws TypeDBDriverException;
 }
@@ -85,6 +85,23 @@ public interface ConceptRow {
     @CheckReturnValue
     Optional<Concept> getIndex(long columnIndex) throws TypeDBDriverException;
 
+    /**
+     * Retrieves the <code>string</code> value of the attribute or value in the given column (variable),
+     * without constructing a <code>Concept</code>.
+     * Returns an empty <code>Optional</code> if the variable has an empty answer or its concept does not hold
+     * a <code>string</code> value. Throws an exception if the variable is not present.
+     * See <code>ConceptRowIterator.withStringDictionary()</code> to share repeated values.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getString(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    Optional<String> getString(String columnName) throws TypeDBDriverException;
+
     /**
      * Produces a stream over all concepts in this `ConceptRow`, skipping empty results.
      *
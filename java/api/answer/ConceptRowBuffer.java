@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.api.QueryType;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.util.stream.Stream;
+
+/**
+ * Represents the <code>ConceptRow</code>s of an answer, held by the driver in a compact off-heap encoding.
+ * Unlike a <code>ConceptRowIterator</code>, a <code>ConceptRowBuffer</code> can be iterated any number of times
+ * and accessed by row index, without re-running the query.
+ * Rows are decoded on access, so the returned <code>ConceptRow</code>s are not retained by the buffer.
+ */
+public interface ConceptRowBuffer extends Iterable<ConceptRow>, AutoCloseable {
+    /**
+     * Retrieves the executed query's type.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * buffer.getQueryType();
+     * </pre>
+     */
+    @CheckReturnValue
+    QueryType getQueryType();
+
+    /**
+     * Retrieves the number of rows in this buffer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * buffer.size();
+     * </pre>
+     */
+    @CheckReturnValue
+    long size();
+
+    /**
+     * Retrieves the row at the given index.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * buffer.get(index);
+     * </pre>
+     *
+     * @param index the index of the row, from <code>0</code> to <code>size() - 1</code>
+     */
+    @CheckReturnValue
+    ConceptRow get(long index) throws TypeDBDriverException;
+
+    /**
+     * Creates a new <code>ConceptRowIterator</code> over all rows in this buffer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * buffer.iterator();
+     * </pre>
+     */
+    @Override
+    @CheckReturnValue
+    ConceptRowIterator iterator();
+
+    /**
+     * Creates a stream over all rows in this buffer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * buffer.stream();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<ConceptRow> stream();
+
+    /**
+     * Releases the rows held by this buffer. Rows can no longer be read once the buffer is closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * buffer.close();
+     * </pre>
+     */
+    @Override
+    void close();
+}
@@ -19,7 +19,13 @@
 
 package com.typedb.driver.api.answer;
 
+import com.typedb.driver.common.collection.IIDMap;
+import com.typedb.driver.common.collection.IIDSet;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
 import javax.annotation.CheckReturnValue;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
@@ -54,4 +60,198 @@ public interface ConceptRowIterator extends QueryAnswer, Iterator<ConceptRow> {
      */
     @CheckReturnValue
     Stream<ConceptRow> stream();
+
+    /**
+     * Enables dictionary encoding of <code>string</code> values for the rows returned after this call.
+     * Each distinct value is interned by the driver and copied into a Java <code>String</code> only once,
+     * and <code>ConceptRow.getString</code> returns the same <code>String</code> for repeated values.
+     * Best suited to low-cardinality values, such as status codes or categories. The dictionary is bounded:
+     * once it holds 65536 distinct values or 16 MiB of text, further distinct values are returned as new strings.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().withStringDictionary().stream().map(row -&gt; row.getString("status"));
+     * </pre>
+     */
+    ConceptRowIterator withStringDictionary();
+
+    /**
+     * Consumes the remaining rows of this iterator into a <code>ConceptRowBuffer</code>, which holds them in a compact
+     * off-heap encoding and can be iterated many times or accessed by row index.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * ConceptRowBuffer rows = answer.asConceptRows().materialize();
+     * </pre>
+     */
+    @CheckReturnValue
+    ConceptRowBuffer materialize() throws TypeDBDriverException;
+
+    /**
+     * Drains the remaining rows of this iterator into a memory-mapped temporary file in the given directory,
+     * and returns a <code>ConceptRowBuffer</code> over them straight away. Rows are drained in the background
+     * as they arrive from the server, so a slow consumer does not hold up the answer stream, and the rows
+     * can be read many times or accessed by index. Reading a row that has not arrived yet waits for it.
+     * The file is deleted when the buffer is closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (ConceptRowBuffer rows = answer.asConceptRows().spillToDisk(Paths.get("/tmp"))) {
+     *     rows.stream().forEach(row -&gt; ...);
+     * }
+     * </pre>
+     *
+     * @param directory the directory to create the temporary file in
+     */
+    @CheckReturnValue
+    ConceptRowBuffer spillToDisk(Path directory) throws TypeDBDriverException;
+
+    /**
+     * Maps the remaining rows of this iterator onto instances of <code>recordType</code>, matching columns to
+     * record components, or fields, by name. <code>recordType</code> must be a record, or a class with a
+     * no-argument constructor. Supported component types are <code>String</code>, <code>long</code>,
+     * <code>int</code>, <code>double</code>, <code>boolean</code> (and their boxed types), <code>BigDecimal</code>,
+     * <code>LocalDate</code>, <code>LocalDateTime</code>, <code>ZonedDateTime</code>, <code>Duration</code>,
+     * <code>Concept</code> and its subtypes, and <code>Optional</code>s of these.
+     * Values are read from attributes and values; empty answers map to <code>null</code> or an empty
+     * <code>Optional</code>. The mapping is resolved once per answer, and values are read without creating
+     * <code>Concept</code>s unless a component is typed as a <code>Concept</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * record Person(String name, long age) {}
+     * answer.asConceptRows().as(Person.class).forEach(person -&gt; ...);
+     * </pre>
+     *
+     * @param recordType the class to map rows onto
+     */
+    @CheckReturnValue
+    <R> Stream<R> as(Class<R> recordType) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining rows of this iterator, computing the given aggregation on the client.
+     * Rows are aggregated in batches, in parallel on the common <code>ForkJoinPool</code>, reading values
+     * without creating <code>Concept</code>s.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * long count = answer.asConceptRows().aggregate(RowAggregate.count());
+     * Map&lt;Object, long[]&gt; ages = answer.asConceptRows().aggregate(RowAggregate.groupBy("city", RowAggregate.histogram("age", 0, 100, 10)));
+     * </pre>
+     *
+     * @param aggregate the aggregation to compute
+     */
+    <R> R aggregate(RowAggregate<R> aggregate) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining rows of this iterator and returns an iterator over them in the given order,
+     * using at most about <code>memoryLimit</code> bytes for buffered rows. Sorted runs that do not fit are
+     * written to temporary files in <code>spillDirectory</code> and merged as the sorted rows are read.
+     * Sort keys are read from the rows without creating <code>Concept</code>s. The sort is stable. The temporary
+     * files are deleted once the sorted rows have all been read, or once the sorted iterator is garbage collected.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().sort(RowOrder.descending("age"), 64 * 1024 * 1024, Paths.get("/tmp"));
+     * </pre>
+     *
+     * @param order          the columns to sort by
+     * @param memoryLimit    the number of bytes of rows to buffer in memory before spilling to disk
+     * @param spillDirectory the directory to create temporary files in
+     */
+    @CheckReturnValue
+    ConceptRowIterator sort(RowOrder order, long memoryLimit, Path spillDirectory) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining rows of this iterator, writing them to <code>channel</code> as CSV lines in the given
+     * format, and returns the number of rows written. Rows are formatted without creating <code>Concept</code>s,
+     * and written through a direct buffer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (FileChannel file = FileChannel.open(path, CREATE, WRITE)) {
+     *     answer.asConceptRows().exportCSV(file, CSVFormat.defaults());
+     * }
+     * </pre>
+     *
+     * @param channel the channel to write to, which is not closed
+     * @param format  the CSV format to write
+     */
+    long exportCSV(WritableByteChannel channel, CSVFormat format) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining rows of this iterator, writing them to the file at <code>path</code>, which is created
+     * or truncated, and returns the number of rows written. The rows are formatted and written by the native driver,
+     * and are never passed to Java. Only the <code>CSV</code> and <code>BINARY</code> formats are supported.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().exportTo(Paths.get("/data/extract.csv"), ExportFormat.CSV);
+     * </pre>
+     *
+     * @param path   the file to write to
+     * @param format the format to write
+     */
+    long exportTo(Path path, ExportFormat format) throws TypeDBDriverException;
+
+    /**
+     * Exports up to <code>maxRows</code> of the remaining rows of this iterator as an Arrow record batch through
+     * the Arrow C Data Interface, and returns the number of rows exported, or <code>0</code>, without writing the
+     * structures, once the iterator is exhausted. The batch is a struct array with one child per column, built
+     * natively: columns of <code>integer</code>, <code>double</code> or <code>boolean</code> values become
+     * <code>int64</code>, <code>float64</code> or <code>bool</code> columns, and other columns become
+     * <code>utf8</code> columns of values, IIDs and labels. The column types are fixed by the first batch, so that
+     * every batch of the iterator has the same schema: a column holding only empty answers in the first batch is a
+     * <code>utf8</code> column, and a later batch fails if a value does not fit the type of its column. The caller
+     * allocates the <code>ArrowSchema</code> and <code>ArrowArray</code> structures, and takes ownership of the
+     * exported batch, which is imported without copying and freed through its release callbacks.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (ArrowSchema schema = ArrowSchema.allocateNew(allocator); ArrowArray array = ArrowArray.allocateNew(allocator)) {
+     *     while (rows.exportArrowBatch(65536, schema.memoryAddress(), array.memoryAddress()) &gt; 0) {
+     *         try (VectorSchemaRoot batch = Data.importVectorSchemaRoot(allocator, array, schema, null)) { ... }
+     *     }
+     * }
+     * </pre>
+     *
+     * @param maxRows       the maximum number of rows in the batch
+     * @param schemaAddress the address of the <code>ArrowSchema</code> to export the schema to
+     * @param arrayAddress  the address of the <code>ArrowArray</code> to export the batch to
+     */
+    int exportArrowBatch(int maxRows, long schemaAddress, long arrayAddress) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining rows of this iterator, adding the IIDs of the instances in the given column to
+     * <code>iids</code>. IIDs are read directly from the native rows, without constructing <code>Concept</code>s.
+     * Empty cells and concepts other than entities and relations are skipped.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * IIDSet visited = new IIDSet();
+     * answer.asConceptRows().collectIIDs("x", visited);
+     * </pre>
+     *
+     * @param columnName the variable (column name) holding the instances
+     * @param iids       the set to add the IIDs to
+     */
+    void collectIIDs(String columnName, IIDSet iids) throws TypeDBDriverException;
+
+    /**
+     * Consumes the remaining rows of this iterator, associating the IIDs of the instances in the given column
+     * with <code>value</code> in <code>iids</code>, unless they are already present. IIDs are read directly from the
+     * native rows, without constructing <code>Concept</code>s. Empty cells and concepts other than entities
+     * and relations are skipped.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * IIDMap&lt;Integer&gt; depths = new IIDMap&lt;&gt;();
+     * answer.asConceptRows().collectIIDs("x", depths, 1);
+     * </pre>
+     *
+     * @param columnName the variable (column name) holding the instances
+     * @param iids       the map to add the IIDs to
+     * @param value      the value to associate with newly added IIDs
+     */
+    <V> void collectIIDs(String columnName, IIDMap<V> iids, V value) throws TypeDBDriverException;
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+/**
+ * The file format in which answers are exported by the native driver.
+ * Rows can be exported as <code>CSV</code> or <code>BINARY</code>, and documents as <code>NDJSON</code>
+ * or <code>BINARY</code>.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * answer.asConceptRows().exportTo(path, ExportFormat.CSV);
+ * </pre>
+ */
+public enum ExportFormat {
+    /**
+     * One JSON document per line.
+     */
+    NDJSON(com.typedb.driver.jni.ExportFormat.NDJSON),
+    /**
+     * RFC 4180 CSV, with a header line of column names. Instances are written as IIDs, types as labels,
+     * and attributes and values as their values.
+     */
+    CSV(com.typedb.driver.jni.ExportFormat.CSV),
+    /**
+     * The versioned binary encoding read by <code>AnswerDecoder</code>.
+     */
+    BINARY(com.typedb.driver.jni.ExportFormat.Binary);
+
+    public final com.typedb.driver.jni.ExportFormat nativeObject;
+
+    ExportFormat(com.typedb.driver.jni.ExportFormat nativeObject) {
+        this.nativeObject = nativeObject;
+    }
+}
@@ -59,6 +59,48 @@ public abstract class JSON {
         }
     }
 
+    /**
+     * @hidden
+     */
+    public static JSON object(Map<java.lang.String, JSON> object) {
+        return new JSON.Object(object);
+    }
+
+    /**
+     * @hidden
+     */
+    public static JSON array(List<JSON> array) {
+        return new JSON.Array(array);
+    }
+
+    /**
+     * @hidden
+     */
+    public static JSON string(java.lang.String string) {
+        return new JSON.String(string);
+    }
+
+    /**
+     * @hidden
+     */
+    public static JSON number(double number) {
+        return new JSON.Number(number);
+    }
+
+    /**
+     * @hidden
+     */
+    public static JSON bool(boolean aBoolean) {
+        return new JSON.Boolean(aBoolean);
+    }
+
+    /**
+     * @hidden
+     */
+    public static JSON nullValue() {
+        return new JSON.Null();
+    }
+
     private static java.lang.String indent(java.lang.String string) {
         return Arrays.stream(string.split("\n")).map(s -> "    " + s).collect(joining("\n"));
     }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+/**
+ * Receives the contents of concept documents as a stream of events, in document order, from
+ * <code>ConceptDocumentIterator.visit</code>, without a <code>JSON</code> tree being built.
+ * Every event has an empty default implementation, so a visitor only overrides the events it needs.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * answer.asConceptDocuments().visit(new JSONVisitor() {
+ *     public void key(String key) { ... }
+ *     public void value(String value) { ... }
+ * });
+ * </pre>
+ */
+public interface JSONVisitor {
+    /**
+     * Called at the start of an object, before its members.
+     *
+     * @param size the number of members of the object
+     */
+    default void beginObject(int size) {
+    }
+
+    /**
+     * Called with the key of an object member, before its value.
+     *
+     * @param key the key of the member
+     */
+    default void key(String key) {
+    }
+
+    /**
+     * Called at the end of an object, after its members.
+     */
+    default void endObject() {
+    }
+
+    /**
+     * Called at the start of an array, before its elements.
+     *
+     * @param size the number of elements of the array
+     */
+    default void beginArray(int size) {
+    }
+
+    /**
+     * Called at the end of an array, after its elements.
+     */
+    default void endArray() {
+    }
+
+    /**
+     * Called with a string value.
+     *
+     * @param value the string
+     */
+    default void value(String value) {
+    }
+
+    /**
+     * Called with a number value.
+     *
+     * @param value the number
+     */
+    default void value(double value) {
+    }
+
+    /**
+     * Called with a boolean value.
+     *
+     * @param value the boolean
+     */
+    default void value(boolean value) {
+    }
+
+    /**
+     * Called with a <code>null</code> value.
+     */
+    default void nullValue() {
+    }
+
+    /**
+     * Called at the end of every document.
+     */
+    default void endDocument() {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_HISTOGRAM_BOUNDS;
+
+/**
+ * Describes a client-side aggregation over the rows of an answer, to be computed by
+ * <code>ConceptRowIterator.aggregate</code>. Aggregations over a column read the values of the attributes
+ * and values in the column; numeric aggregations accept <code>integer</code>, <code>double</code> and
+ * <code>decimal</code> values, and skip empty answers.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * Map&lt;Object, Number&gt; totals = answer.asConceptRows().aggregate(RowAggregate.groupBy("city", RowAggregate.sum("amount")));
+ * </pre>
+ *
+ * @param <R> the type of the result of the aggregation
+ */
+public final class RowAggregate<R> {
+    /**
+     * @hidden
+     */
+    public enum Operation {
+        COUNT,
+        COUNT_COLUMN,
+        SUM,
+        MIN,
+        MAX,
+        HISTOGRAM,
+        GROUP_BY
+    }
+
+    private final Operation operation;
+    private final String column;
+    private final double lowerBound;
+    private final double upperBound;
+    private final int buckets;
+    private final RowAggregate<?> downstream;
+
+    private RowAggregate(Operation operation, @Nullable String column, double lowerBound, double upperBound, int buckets,
+                         @Nullable RowAggregate<?> downstream) {
+        this.operation = operation;
+        this.column = column;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.buckets = buckets;
+        this.downstream = downstream;
+    }
+
+    private static <R> RowAggregate<R> of(Operation operation, String column) {
+        Validator.requireNonNull(column, "column");
+        return new RowAggregate<>(operation, column, 0, 0, 0, null);
+    }
+
+    /**
+     * Counts the rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.count();
+     * </pre>
+     */
+    public static RowAggregate<Long> count() {
+        return new RowAggregate<>(Operation.COUNT, null, 0, 0, 0, null);
+    }
+
+    /**
+     * Counts the rows with a non-empty answer in the given column.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.count("email");
+     * </pre>
+     *
+     * @param column the column (variable) to count
+     */
+    public static RowAggregate<Long> count(String column) {
+        return of(Operation.COUNT_COLUMN, column);
+    }
+
+    /**
+     * Sums the numeric values in the given column. If the column only holds <code>integer</code> values, they
+     * are summed exactly into a <code>Long</code>, failing if the sum overflows. Otherwise, the sum is
+     * a <code>Double</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.sum("amount");
+     * </pre>
+     *
+     * @param column the column (variable) to sum
+     */
+    public static RowAggregate<Number> sum(String column) {
+        return of(Operation.SUM, column);
+    }
+
+    /**
+     * Finds the minimum numeric value in the given column, or an empty <code>Optional</code> if there is none.
+     * Values are compared exactly, and the result keeps its value type: a <code>Long</code> for an
+     * <code>integer</code>, a <code>Double</code> for a <code>double</code> and a <code>BigDecimal</code> for a
+     * <code>decimal</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.min("age");
+     * </pre>
+     *
+     * @param column the column (variable) to aggregate
+     */
+    public static RowAggregate<Optional<Number>> min(String column) {
+        return of(Operation.MIN, column);
+    }
+
+    /**
+     * Finds the maximum numeric value in the given column, or an empty <code>Optional</code> if there is none.
+     * Values are compared exactly, and the result keeps its value type: a <code>Long</code> for an
+     * <code>integer</code>, a <code>Double</code> for a <code>double</code> and a <code>BigDecimal</code> for a
+     * <code>decimal</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.max("age");
+     * </pre>
+     *
+     * @param column the column (variable) to aggregate
+     */
+    public static RowAggregate<Optional<Number>> max(String column) {
+        return of(Operation.MAX, column);
+    }
+
+    /**
+     * Counts the numeric values in the given column in <code>buckets</code> equal-width buckets spanning
+     * <code>[lowerBound, upperBound)</code>. Values outside of the bounds are counted in the first or last bucket.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.histogram("age", 0, 100, 10);
+     * </pre>
+     *
+     * @param column     the column (variable) to aggregate
+     * @param lowerBound the lower bound of the first bucket
+     * @param upperBound the upper bound of the last bucket
+     * @param buckets    the number of buckets
+     */
+    public static RowAggregate<long[]> histogram(String column, double lowerBound, double upperBound, int buckets) {
+        Validator.requireNonNull(column, "column");
+        Validator.requirePositive(buckets, "buckets");
+        if (!(lowerBound < upperBound)) throw new TypeDBDriverException(INVALID_HISTOGRAM_BOUNDS, lowerBound, upperBound);
+        return new RowAggregate<>(Operation.HISTOGRAM, column, lowerBound, upperBound, buckets, null);
+    }
+
+    /**
+     * Groups the rows by the concept in the given column, and aggregates every group with <code>downstream</code>.
+     * Attributes and values are grouped by value, entities and relations by IID, and types by label.
+     * Rows with an empty answer in the column are grouped under the <code>null</code> key.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowAggregate.groupBy("city", RowAggregate.count());
+     * </pre>
+     *
+     * @param column     the column (variable) to group by
+     * @param downstream the aggregation to compute for every group
+     */
+    public static <R> RowAggregate<Map<Object, R>> groupBy(String column, RowAggregate<R> downstream) {
+        Validator.requireNonNull(column, "column");
+        Validator.requireNonNull(downstream, "downstream");
+        return new RowAggregate<>(Operation.GROUP_BY, column, 0, 0, 0, downstream);
+    }
+
+    /**
+     * @hidden
+     */
+    public Operation operation() {
+        return operation;
+    }
+
+    /**
+     * @hidden
+     */
+    @Nullable
+    public String column() {
+        return column;
+    }
+
+    /**
+     * @hidden
+     */
+    public double lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * @hidden
+     */
+    public double upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * @hidden
+     */
+    public int buckets() {
+        return buckets;
+    }
+
+    /**
+     * @hidden
+     */
+    @Nullable
+    public RowAggregate<?> downstream() {
+        return downstream;
+    }
+}
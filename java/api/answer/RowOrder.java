@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.Validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes an ordering of the rows of an answer by one or more columns, to be applied by
+ * <code>ConceptRowIterator.sort</code>. Attributes and values are ordered by value, entities and relations by IID,
+ * and types by label. Rows with an empty answer in a column come first in ascending order.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * RowOrder.ascending("surname").thenDescending("age");
+ * </pre>
+ */
+public final class RowOrder {
+    private final List<String> columns;
+    private final List<Boolean> descending;
+
+    private RowOrder(List<String> columns, List<Boolean> descending) {
+        this.columns = columns;
+        this.descending = descending;
+    }
+
+    /**
+     * Orders rows by the given column, in ascending order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowOrder.ascending("age");
+     * </pre>
+     *
+     * @param column the column (variable) to order by
+     */
+    public static RowOrder ascending(String column) {
+        return new RowOrder(Collections.emptyList(), Collections.emptyList()).then(column, false);
+    }
+
+    /**
+     * Orders rows by the given column, in descending order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RowOrder.descending("age");
+     * </pre>
+     *
+     * @param column the column (variable) to order by
+     */
+    public static RowOrder descending(String column) {
+        return new RowOrder(Collections.emptyList(), Collections.emptyList()).then(column, true);
+    }
+
+    /**
+     * Orders rows that are equal under this ordering by the given column, in ascending order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * order.thenAscending("name");
+     * </pre>
+     *
+     * @param column the column (variable) to order by
+     */
+    public RowOrder thenAscending(String column) {
+        return then(column, false);
+    }
+
+    /**
+     * Orders rows that are equal under this ordering by the given column, in descending order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * order.thenDescending("name");
+     * </pre>
+     *
+     * @param column the column (variable) to order by
+     */
+    public RowOrder thenDescending(String column) {
+        return then(column, true);
+    }
+
+    private RowOrder then(String column, boolean isDescending) {
+        Validator.requireNonNull(column, "column");
+        List<String> columns = new ArrayList<>(this.columns);
+        List<Boolean> descending = new ArrayList<>(this.descending);
+        columns.add(column);
+        descending.add(isDescending);
+        return new RowOrder(Collections.unmodifiableList(columns), Collections.unmodifiableList(descending));
+    }
+
+    /**
+     * @hidden
+     */
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * @hidden
+     */
+    public boolean isDescending(int index) {
+        return descending.get(index);
+    }
+}
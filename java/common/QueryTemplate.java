@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_QUERY_PARAMETER;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_QUERY_TEMPLATE;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.MISSING_QUERY_PARAMETER;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.UNSUPPORTED_QUERY_PARAMETER;
+
+/**
+ * A TypeQL query with named parameters, written as <code>${name}</code>. The template is parsed once into
+ * literal segments and parameter slots. Each parameter is rendered as an escaped TypeQL literal,
+ * so parameter values cannot change the structure of the query.
+ * <p>Parameters may be <code>Boolean</code>, <code>Byte</code>, <code>Short</code>, <code>Integer</code>,
+ * <code>Long</code>, <code>Float</code>, <code>Double</code>, <code>BigDecimal</code>, <code>String</code>,
+ * <code>LocalDate</code>, <code>LocalDateTime</code>, <code>ZonedDateTime</code>, <code>OffsetDateTime</code>,
+ * <code>java.time.Duration</code> or <code>Duration</code>; durations may not be negative, and strings may not contain
+ * control characters other than tabs and line breaks. Placeholders inside
+ * string literals and comments are left as they are. Templates are immutable and may be shared between threads.</p>
+ */
+public class QueryTemplate {
+    private static final int CACHE_CAPACITY = 1024;
+    private static final int MAX_RETAINED_BUFFER_LENGTH = 64 * 1024;
+    private static final int PARAMETER_LENGTH_ESTIMATE = 16;
+    // the least recently used template is evicted once the cache is full, so that frequent templates stay parsed
+    private static final Map<String, QueryTemplate> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, QueryTemplate>(CACHE_CAPACITY, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, QueryTemplate> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            });
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+    private static final DateTimeFormatter OFFSET = new DateTimeFormatterBuilder().appendOffset("+HHMM", "+0000").toFormatter();
+
+    private final String template;
+    private final String[] literals;
+    private final String[] parameters;
+    private final int literalLength;
+
+    private QueryTemplate(String template, String[] literals, String[] parameters) {
+        this.template = template;
+        this.literals = literals;
+        this.parameters = parameters;
+        int length = 0;
+        for (String literal : literals) length += literal.length();
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the parsed form of a query template. The most recently used templates are cached, so repeated calls
+     * with the same template only parse it once.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QueryTemplate.of("insert $p isa person, has name ${name}, has age ${age};");
+     * </pre>
+     *
+     * @param template The TypeQL query, with <code>${name}</code> placeholders for its parameters
+     */
+    public static QueryTemplate of(String template) {
+        Validator.requireNonNull(template, "template");
+        QueryTemplate parsed = CACHE.get(template);
+        if (parsed == null) {
+            parsed = parse(template);
+            CACHE.putIfAbsent(template, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the names of the parameters of this template, in the order in which they first appear.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * template.parameterNames();
+     * </pre>
+     */
+    public Set<String> parameterNames() {
+        Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, parameters);
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Renders this template into a TypeQL query, substituting each parameter with its value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * template.render(Map.of("name", "Alice", "age", 25));
+     * </pre>
+     *
+     * @param values The value of each parameter, by name
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        String query = renderTo(buffer, values).toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_LENGTH) BUFFER.remove();
+        return query;
+    }
+
+    /**
+     * Renders this template onto the end of the given buffer, substituting each parameter with its value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * template.renderTo(buffer, Map.of("name", "Alice", "age", 25));
+     * </pre>
+     *
+     * @param buffer The buffer to render the query into
+     * @param values The value of each parameter, by name
+     */
+    public StringBuilder renderTo(StringBuilder buffer, Map<String, ?> values) {
+        Validator.requireNonNull(buffer, "buffer");
+        Validator.requireNonNull(values, "values");
+        buffer.ensureCapacity(buffer.length() + literalLength + parameters.length * PARAMETER_LENGTH_ESTIMATE);
+        buffer.append(literals[0]);
+        for (int i = 0; i < parameters.length; i++) {
+            Object value = values.get(parameters[i]);
+            if (value == null) throw new TypeDBDriverException(MISSING_QUERY_PARAMETER, parameters[i]);
+            appendLiteral(buffer, parameters[i], value);
+            buffer.append(literals[i + 1]);
+        }
+        return buffer;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static QueryTemplate parse(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        int length = template.length();
+        int segmentStart = 0;
+        int i = 0;
+        while (i < length) {
+            char c = template.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipString(template, i);
+            } else if (c == '#') {
+                int lineEnd = template.indexOf('\n', i);
+                i = lineEnd < 0 ? length : lineEnd + 1;
+            } else if (c == '$' && i + 1 < length && template.charAt(i + 1) == '{') {
+                int end = template.indexOf('}', i + 2);
+                if (end < 0) throw new TypeDBDriverException(INVALID_QUERY_TEMPLATE, i, "the parameter is not closed with '}'");
+                String name = template.substring(i + 2, end);
+                if (!isValidName(name)) {
+                    throw new TypeDBDriverException(INVALID_QUERY_TEMPLATE, i, "'" + name + "' is not a valid parameter name");
+                }
+                literals.add(template.substring(segmentStart, i));
+                parameters.add(name);
+                i = end + 1;
+                segmentStart = i;
+            } else {
+                i++;
+            }
+        }
+        literals.add(template.substring(segmentStart));
+        return new QueryTemplate(template, literals.toArray(new String[0]), parameters.toArray(new String[0]));
+    }
+
+    private static int skipString(String template, int start) {
+        char quote = template.charAt(start);
+        int i = start + 1;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '\\') i += 2;
+            else if (c == quote) return i + 1;
+            else i++;
+        }
+        return template.length();
+    }
+
+    private static boolean isValidName(String name) {
+        if (name.isEmpty() || !(Character.isLetter(name.charAt(0)) || name.charAt(0) == '_')) return false;
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-')) return false;
+        }
+        return true;
+    }
+
+    private static void appendLiteral(StringBuilder buffer, String name, Object value) {
+        if (value instanceof String) {
+            appendString(buffer, name, (String) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            buffer.append(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            buffer.append((boolean) (Boolean) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (!Double.isFinite(doubleValue)) throw new TypeDBDriverException(INVALID_QUERY_PARAMETER, value, name);
+            appendNumber(buffer, value.toString());
+        } else if (value instanceof BigDecimal) {
+            appendNumber(buffer, ((BigDecimal) value).toPlainString());
+            buffer.append("dec");
+        } else if (value instanceof LocalDate) {
+            DateTimeFormatter.ISO_LOCAL_DATE.formatTo((LocalDate) value, buffer);
+        } else if (value instanceof LocalDateTime) {
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo((LocalDateTime) value, buffer);
+        } else if (value instanceof ZonedDateTime) {
+            ZonedDateTime datetime = (ZonedDateTime) value;
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(datetime, buffer);
+            if (datetime.getZone() instanceof ZoneOffset) OFFSET.formatTo(datetime, buffer);
+            else buffer.append(' ').append(datetime.getZone().getId());
+        } else if (value instanceof OffsetDateTime) {
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo((OffsetDateTime) value, buffer);
+            OFFSET.formatTo((OffsetDateTime) value, buffer);
+        } else if (value instanceof Duration) {
+            appendDuration(buffer, name, value, ((Duration) value).getDatePart(), ((Duration) value).getTimePart());
+        } else if (value instanceof java.time.Duration) {
+            appendDuration(buffer, name, value, Period.ZERO, (java.time.Duration) value);
+        } else {
+            throw new TypeDBDriverException(UNSUPPORTED_QUERY_PARAMETER, name, value.getClass().getName());
+        }
+    }
+
+    private static void appendString(StringBuilder buffer, String name, String value) {
+        buffer.append('"');
+        int runStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String escape;
+            switch (value.charAt(i)) {
+                case '"': escape = "\\\""; break;
+                case '\\': escape = "\\\\"; break;
+                case '\n': escape = "\\n"; break;
+                case '\r': escape = "\\r"; break;
+                case '\t': escape = "\\t"; break;
+                default:
+                    // TypeQL has no escape for other control characters, and a NUL would truncate the query in the native driver
+                    if (value.charAt(i) < ' ') throw new TypeDBDriverException(INVALID_QUERY_PARAMETER, value, name);
+                    continue;
+            }
+            buffer.append(value, runStart, i).append(escape);
+            runStart = i + 1;
+        }
+        buffer.append(value, runStart, value.length()).append('"');
+    }
+
+    private static void appendNumber(StringBuilder buffer, String number) {
+        if (number.indexOf('E') >= 0) number = new BigDecimal(number).toPlainString();
+        buffer.append(number);
+        if (number.indexOf('.') < 0) buffer.append(".0");
+    }
+
+    private static void appendDuration(
+            StringBuilder buffer, String name, Object value, Period datePart, java.time.Duration timePart
+    ) {
+        // TypeQL durations are unsigned, and java.time would write negative parts with a minus sign
+        if (datePart.isNegative() || timePart.isNegative()) {
+            throw new TypeDBDriverException(INVALID_QUERY_PARAMETER, value, name);
+        }
+        if (datePart.isZero()) {
+            buffer.append(timePart);
+        } else {
+            buffer.append(datePart);
+            if (!timePart.isZero()) {
+                String time = timePart.toString();
+                buffer.append(time, 1, time.length());
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common.collection;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * A compact map from instance IIDs to values, with keys stored as raw bytes without any per-key objects.
+ * Suited for building large client-side indexes over instances, for example adjacency lists of a graph.
+ * Not thread-safe.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * IIDMap&lt;Integer&gt; depths = new IIDMap&lt;&gt;();
+ * depths.put(entity.getIID(), 0);
+ * </pre>
+ */
+public class IIDMap<V> extends IIDTable {
+    private Object[] values;
+
+    public IIDMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize The number of IIDs the map is expected to hold without resizing
+     */
+    public IIDMap(int expectedSize) {
+        super(expectedSize);
+        values = new Object[Math.max(expectedSize, 16)];
+    }
+
+    /**
+     * Associates the value with the IID, replacing any previous value.
+     *
+     * @param iid   The IID in its hexadecimal string form, as returned by <code>Concept.getIID()</code>
+     * @param value The value
+     * @return The previous value associated with the IID, or <code>null</code>
+     */
+    public V put(String iid, V value) {
+        return set(insert(iid), value);
+    }
+
+    /**
+     * Associates the value with the IID, replacing any previous value.
+     *
+     * @param iid   The IID bytes
+     * @param value The value
+     * @return The previous value associated with the IID, or <code>null</code>
+     */
+    public V put(byte[] iid, V value) {
+        return set(insert(iid, 0, iid.length), value);
+    }
+
+    /**
+     * Associates the value with the IID only if the IID is absent.
+     *
+     * @return The value already associated with the IID, or <code>null</code> if the value was inserted
+     */
+    public V putIfAbsent(String iid, V value) {
+        int entry = insert(iid);
+        V previous = get(entry);
+        if (previous == null) set(entry, value);
+        return previous;
+    }
+
+    /**
+     * Associates the value with the IID stored in <code>bytes[from .. from + length)</code> only if the IID is absent.
+     *
+     * @return The value already associated with the IID, or <code>null</code> if the value was inserted
+     */
+    public V putIfAbsent(byte[] bytes, int from, int length, V value) {
+        int entry = insert(bytes, from, length);
+        V previous = get(entry);
+        if (previous == null) set(entry, value);
+        return previous;
+    }
+
+    /**
+     * Retrieves the value associated with the IID.
+     *
+     * @param iid The IID in its hexadecimal string form
+     * @return The value, or <code>null</code> if the IID is absent
+     */
+    public V get(String iid) {
+        return get(indexOf(iid));
+    }
+
+    /**
+     * Retrieves the value associated with the IID.
+     *
+     * @param iid The IID bytes
+     * @return The value, or <code>null</code> if the IID is absent
+     */
+    public V get(byte[] iid) {
+        return get(indexOf(iid, 0, iid.length));
+    }
+
+    /**
+     * Checks whether the map contains the IID.
+     *
+     * @param iid The IID in its hexadecimal string form
+     */
+    public boolean containsKey(String iid) {
+        return indexOf(iid) >= 0;
+    }
+
+    /**
+     * Performs the action for each entry in insertion order, with the IID in its hexadecimal string form.
+     *
+     * @param action The action to perform
+     */
+    public void forEach(BiConsumer<String, V> action) {
+        for (int entry = 0; entry < size(); entry++) action.accept(keyString(entry), get(entry));
+    }
+
+    @SuppressWarnings("unchecked")
+    private V get(int entry) {
+        if (entry < 0 || entry >= values.length) return null;
+        return (V) values[entry];
+    }
+
+    private V set(int entry, V value) {
+        if (entry >= values.length) values = Arrays.copyOf(values, Math.max(values.length * 2, entry + 1));
+        V previous = get(entry);
+        values[entry] = value;
+        return previous;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common.collection;
+
+import java.util.function.Consumer;
+
+/**
+ * A compact set of instance IIDs, stored as raw bytes without any per-element objects.
+ * Suited for deduplicating large numbers of visited instances, for example when expanding a graph.
+ * Not thread-safe.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * IIDSet visited = new IIDSet();
+ * answer.asConceptRows().collectIIDs("x", visited);
+ * </pre>
+ */
+public class IIDSet extends IIDTable {
+    public IIDSet() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize The number of IIDs the set is expected to hold without resizing
+     */
+    public IIDSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Adds the IID to the set.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iids.add("0x1e00000000000000000000");
+     * </pre>
+     *
+     * @param iid The IID in its hexadecimal string form, as returned by <code>Concept.getIID()</code>
+     * @return <code>true</code> if the set did not already contain the IID
+     */
+    public boolean add(String iid) {
+        int before = size();
+        insert(iid);
+        return size() != before;
+    }
+
+    /**
+     * Adds the IID to the set.
+     *
+     * @param iid The IID bytes
+     * @return <code>true</code> if the set did not already contain the IID
+     */
+    public boolean add(byte[] iid) {
+        return add(iid, 0, iid.length);
+    }
+
+    /**
+     * Adds the IID stored in <code>bytes[from .. from + length)</code> to the set.
+     *
+     * @return <code>true</code> if the set did not already contain the IID
+     */
+    public boolean add(byte[] bytes, int from, int length) {
+        int before = size();
+        insert(bytes, from, length);
+        return size() != before;
+    }
+
+    /**
+     * Checks whether the set contains the IID.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iids.contains(entity.getIID());
+     * </pre>
+     *
+     * @param iid The IID in its hexadecimal string form
+     */
+    public boolean contains(String iid) {
+        return indexOf(iid) >= 0;
+    }
+
+    /**
+     * Checks whether the set contains the IID.
+     *
+     * @param iid The IID bytes
+     */
+    public boolean contains(byte[] iid) {
+        return indexOf(iid, 0, iid.length) >= 0;
+    }
+
+    /**
+     * Performs the action for each IID in insertion order, in its hexadecimal string form.
+     *
+     * @param action The action to perform
+     */
+    public void forEach(Consumer<String> action) {
+        for (int entry = 0; entry < size(); entry++) action.accept(keyString(entry));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common.collection;
+
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.Arrays;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_IID;
+
+/**
+ * Insert-only open-addressing hash table keyed by binary IIDs.
+ * Keys are stored back to back in a single byte arena and addressed by entry index,
+ * so no per-key objects are kept alive. Not thread-safe.
+ */
+abstract class IIDTable {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int EXPECTED_IID_LENGTH = 12;
+    private static final String HEX_PREFIX = "0x";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private byte[] arena;
+    private int arenaSize;
+    private int[] offsets;
+    private int[] hashes;
+    private int[] slots;
+    private int size;
+    private byte[] scratch;
+
+    IIDTable(int expectedSize) {
+        Validator.requireNonNegative(expectedSize, "expectedSize");
+        int capacity = tableCapacity(expectedSize);
+        slots = new int[capacity];
+        hashes = new int[capacity / 2];
+        offsets = new int[capacity / 2 + 1];
+        long arenaCapacity = (long) Math.max(MIN_CAPACITY, expectedSize) * EXPECTED_IID_LENGTH;
+        arena = new byte[(int) Math.min(MAX_ARRAY_LENGTH, arenaCapacity)];
+        scratch = new byte[16];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the entry index of the key, or <code>-1</code> if the key is absent.
+     */
+    int indexOf(byte[] iid, int from, int length) {
+        int hash = hash(iid, from, length);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == hash && keyEquals(entry, iid, from, length)) return entry;
+        }
+        return -1;
+    }
+
+    int indexOf(String iid) {
+        int length = decode(iid);
+        return indexOf(scratch, 0, length);
+    }
+
+    /**
+     * Returns the entry index of the key, inserting it if it is absent.
+     * Entry indices are assigned in insertion order, starting from <code>0</code>.
+     */
+    int insert(byte[] iid, int from, int length) {
+        int hash = hash(iid, from, length);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == hash && keyEquals(entry, iid, from, length)) return entry;
+        }
+        ensureEntryCapacity(length);
+        int entry = size++;
+        System.arraycopy(iid, from, arena, arenaSize, length);
+        arenaSize += length;
+        hashes[entry] = hash;
+        offsets[entry + 1] = arenaSize;
+        slots[slot] = entry + 1;
+        if (size * 2L > slots.length) rehash();
+        return entry;
+    }
+
+    int insert(String iid) {
+        int length = decode(iid);
+        return insert(scratch, 0, length);
+    }
+
+    String keyString(int entry) {
+        int from = offsets[entry];
+        int to = offsets[entry + 1];
+        char[] chars = new char[HEX_PREFIX.length() + (to - from) * 2];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = from, c = 2; i < to; i++) {
+            chars[c++] = HEX_DIGITS[(arena[i] >> 4) & 0xF];
+            chars[c++] = HEX_DIGITS[arena[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private boolean keyEquals(int entry, byte[] iid, int from, int length) {
+        int start = offsets[entry];
+        if (offsets[entry + 1] - start != length) return false;
+        return Arrays.equals(arena, start, start + length, iid, from, from + length);
+    }
+
+    private void ensureEntryCapacity(int keyLength) {
+        if (size >= hashes.length) {
+            hashes = Arrays.copyOf(hashes, slots.length);
+            offsets = Arrays.copyOf(offsets, hashes.length + 1);
+        }
+        long required = (long) arenaSize + keyLength;
+        if (required > arena.length) {
+            if (required > MAX_ARRAY_LENGTH) throw new OutOfMemoryError("IID arena exceeds the maximum array length");
+            arena = Arrays.copyOf(arena, (int) Math.min(MAX_ARRAY_LENGTH, Math.max(arena.length * 2L, required)));
+        }
+    }
+
+    private void rehash() {
+        if (slots.length >= MAX_TABLE_CAPACITY) throw new OutOfMemoryError("IID table exceeds the maximum capacity");
+        int[] newSlots = new int[slots.length * 2];
+        int mask = newSlots.length - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashes[entry] & mask;
+            while (newSlots[slot] != 0) slot = (slot + 1) & mask;
+            newSlots[slot] = entry + 1;
+        }
+        slots = newSlots;
+    }
+
+    private int decode(String iid) {
+        Validator.requireNonNull(iid, "iid");
+        if (!iid.startsWith(HEX_PREFIX) || iid.length() == HEX_PREFIX.length() || iid.length() % 2 != 0) {
+            throw new TypeDBDriverException(INVALID_IID, iid);
+        }
+        int length = (iid.length() - HEX_PREFIX.length()) / 2;
+        if (scratch.length < length) scratch = new byte[length];
+        for (int i = 0, c = HEX_PREFIX.length(); i < length; i++, c += 2) {
+            int high = hexDigit(iid.charAt(c));
+            int low = hexDigit(iid.charAt(c + 1));
+            if (high < 0 || low < 0) throw new TypeDBDriverException(INVALID_IID, iid);
+            scratch[i] = (byte) ((high << 4) | low);
+        }
+        return length;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static int hash(byte[] bytes, int from, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = from; i < from + length; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableCapacity(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L && capacity < MAX_TABLE_CAPACITY) capacity <<= 1;
+        return capacity;
+    }
+}
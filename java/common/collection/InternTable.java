@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common.collection;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe intern table: the first value interned under a key is shared by every later lookup of the key.
+ * A value created for a key which another thread interned first is discarded, so that only one value per key
+ * is ever referenced.
+ */
+public class InternTable<K, V> {
+    private final ConcurrentHashMap<K, V> values;
+
+    public InternTable() {
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns the value interned under the key, or <code>null</code> if there is none.
+     */
+    @Nullable
+    public V get(K key) {
+        return values.get(key);
+    }
+
+    /**
+     * Interns the created value under the key, unless another value was interned first, in which case
+     * the created value is passed to <code>discard</code> and the interned value is returned instead.
+     */
+    public V intern(K key, V created, Consumer<? super V> discard) {
+        V interned = values.putIfAbsent(key, created);
+        if (interned == null) return created;
+        discard.accept(created);
+        return interned;
+    }
+}
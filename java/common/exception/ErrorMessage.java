@@ -87,6 +87,44 @@ public abstract class ErrorMessage {
                 new Driver(10, "Value of '%s' should not be null.");
         public static final Driver UNIMPLEMENTED =
                 new Driver(11, "This operation is not implemented yet.");
+        public static final Driver INVALID_IID =
+                new Driver(12, "The value '%s' is not a valid IID.");
+        public static final Driver ANSWER_TOO_LARGE =
+                new Driver(13, "The answer exceeds the maximum in-memory buffer size of '%d' bytes. Consider spilling it to disk instead.");
+        public static final Driver ROW_INDEX_OUT_OF_BOUNDS =
+                new Driver(14, "Row index '%d' is out of bounds for an answer of '%d' rows.");
+        public static final Driver ANSWER_SPILL_FAILED =
+                new Driver(15, "Failed to spill the answer to disk: '%s'.");
+        public static final Driver ANSWER_BUFFER_CLOSED =
+                new Driver(16, "The answer buffer has been closed and its rows can no longer be read.");
+        public static final Driver ANSWER_WAIT_INTERRUPTED =
+                new Driver(17, "The thread was interrupted while waiting for the answer.");
+        public static final Driver INVALID_HISTOGRAM_BOUNDS =
+                new Driver(18, "The histogram lower bound '%s' must be less than its upper bound '%s'.");
+        public static final Driver INVALID_JSON_PATH =
+                new Driver(19, "'%s' is not a supported JSON path: paths must start at '$', followed by '.key', '['key']', '.*', '[index]' or '[*]' segments.");
+        public static final Driver ANSWER_EXPORT_FAILED =
+                new Driver(20, "Failed to export the answer: '%s'.");
+        public static final Driver ANSWER_ENCODING_FAILED =
+                new Driver(21, "Failed to read or write the encoded answer stream: '%s'.");
+        public static final Driver ANSWER_ENCODING_INVALID =
+                new Driver(22, "The stream is not a valid encoded answer stream: %s.");
+        public static final Driver ANSWER_ENCODING_VERSION_UNSUPPORTED =
+                new Driver(23, "The answer stream was encoded with version '%d', but this driver only reads version '%d'.");
+        public static final Driver ANSWER_ENCODING_UNEXPECTED_RECORD =
+                new Driver(24, "Expected a '%s' in the encoded answer stream, but found a '%s'.");
+        public static final Driver ANSWER_EXPORT_FORMAT_UNSUPPORTED =
+                new Driver(25, "Answers of this kind cannot be exported as '%s'.");
+        public static final Driver INVALID_QUERY_TEMPLATE =
+                new Driver(26, "The query template is invalid at position '%d': %s.");
+        public static final Driver MISSING_QUERY_PARAMETER =
+                new Driver(27, "No value was given for the query parameter '%s'.");
+        public static final Driver UNSUPPORTED_QUERY_PARAMETER =
+                new Driver(28, "The query parameter '%s' has the unsupported type '%s'.");
+        public static final Driver INVALID_QUERY_PARAMETER =
+                new Driver(29, "The value '%s' of the query parameter '%s' cannot be written as a TypeQL literal.");
+        public static final Driver INVALID_CSV_DELIMITER =
+                new Driver(30, "'%s' cannot be used as a CSV delimiter: it must not be a quote, a line break, or a character of the null value '%s'.");
 
         private static final String codePrefix = "JDR";
         private static final String messagePrefix = "Driver Error";
@@ -103,6 +141,26 @@ public abstract class ErrorMessage {
                 new Concept(2, "Invalid query answer conversion from '%s' to '%s'.");
         public static final Concept INVALID_VALUE_RETRIEVAL =
                 new Concept(3, "Could not retrieve a '%s' value.");
+        public static final Concept MAPPING_UNSUPPORTED_CLASS =
+                new Concept(4, "Cannot map answers onto '%s': it must be a record, or a class with a no-argument constructor.");
+        public static final Concept ROW_MAPPING_UNSUPPORTED_FIELD =
+                new Concept(5, "Cannot map rows onto field '%s' of unsupported type '%s'.");
+        public static final Concept ROW_MAPPING_MISSING_COLUMN =
+                new Concept(6, "Field '%s' has no matching column in the answer (available columns: %s).");
+        public static final Concept ROW_MAPPING_VALUE_MISMATCH =
+                new Concept(7, "The concept in column '%s' cannot be assigned to field '%s' of type '%s'.");
+        public static final Concept ROW_AGGREGATE_NOT_NUMERIC =
+                new Concept(8, "Cannot aggregate the concept in column '%s': it does not hold a numeric value.");
+        public static final Concept ROW_AGGREGATE_MISSING_COLUMN =
+                new Concept(9, "Column '%s' is not in the answer (available columns: %s).");
+        public static final Concept DOCUMENT_MAPPING_UNSUPPORTED_FIELD =
+                new Concept(10, "Cannot map documents onto field '%s' of unsupported type '%s'.");
+        public static final Concept DOCUMENT_MAPPING_VALUE_MISMATCH =
+                new Concept(11, "The document value of key '%s' cannot be assigned to a field of type '%s'.");
+        public static final Concept ROW_AGGREGATE_NOT_GROUPABLE =
+                new Concept(12, "Cannot group by the concept in column '%s': struct values cannot be used as group keys.");
+        public static final Concept ROW_AGGREGATE_OVERFLOW =
+                new Concept(13, "The sum of the integer values in column '%s' overflows a 64-bit integer.");
 
         private static final String codePrefix = "JCO";
         private static final String messagePrefix = "Concept Error";
@@ -33,6 +33,8 @@ import com.typedb.driver.concept.type.AttributeTypeImpl;
 import com.typedb.driver.concept.type.EntityTypeImpl;
 import com.typedb.driver.concept.type.RelationTypeImpl;
 import com.typedb.driver.concept.type.RoleTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
+import com.typedb.driver.concept.type.TypeImpl;
 import com.typedb.driver.concept.value.ValueImpl;
 
 import java.math.BigDecimal;
@@ -46,6 +48,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.typedb.driver.common.collection.Collections.pair;
@@ -92,17 +95,27 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
     }
 
     public static ConceptImpl of(com.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity_type(concept)) return new EntityTypeImpl(concept);
-        else if (concept_is_relation_type(concept)) return new RelationTypeImpl(concept);
-        else if (concept_is_attribute_type(concept)) return new AttributeTypeImpl(concept);
-        else if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
+        return of(concept, TypeCache.disabled());
+    }
+
+    public static ConceptImpl of(com.typedb.driver.jni.Concept concept, TypeCache types) {
+        if (concept_is_entity_type(concept)) return internType(concept, types, EntityTypeImpl::new);
+        else if (concept_is_relation_type(concept)) return internType(concept, types, RelationTypeImpl::new);
+        else if (concept_is_attribute_type(concept)) return internType(concept, types, AttributeTypeImpl::new);
+        else if (concept_is_entity(concept)) return new EntityImpl(concept, types);
+        else if (concept_is_relation(concept)) return new RelationImpl(concept, types);
+        else if (concept_is_attribute(concept)) return new AttributeImpl(concept, types);
         else if (concept_is_value(concept)) return new ValueImpl(concept);
-        else if (concept_is_role_type(concept)) return new RoleTypeImpl(concept);
+        else if (concept_is_role_type(concept)) return internType(concept, types, RoleTypeImpl::new);
         throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
     }
 
+    private static TypeImpl internType(
+            com.typedb.driver.jni.Concept concept, TypeCache types, Function<com.typedb.driver.jni.Concept, TypeImpl> wrap
+    ) {
+        return types.intern(concept, () -> concept_get_label(concept), wrap);
+    }
+
     @Override
     public String getLabel() {
         return concept_get_label(nativeObject);
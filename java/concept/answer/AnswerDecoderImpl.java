@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.AnswerDecoder;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.ConceptImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_ENCODING_FAILED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_ENCODING_INVALID;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_ENCODING_UNEXPECTED_RECORD;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_ENCODING_VERSION_UNSUPPORTED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_TOO_LARGE;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.BUFFER_SIZE;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.CONCEPT;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.DOCUMENT;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.HEADER;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.MAGIC;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.MAX_CAPACITY;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.RECORD_PREFIX;
+import static com.typedb.driver.concept.answer.AnswerEncoderImpl.ROW;
+import static com.typedb.driver.jni.typedb_driver.concept_decode;
+import static com.typedb.driver.jni.typedb_driver.concept_row_decode;
+import static com.typedb.driver.jni.typedb_driver.concept_row_decode_header;
+import static com.typedb.driver.jni.typedb_driver.encoding_version;
+
+public class AnswerDecoderImpl implements AnswerDecoder {
+    private final ReadableByteChannel channel;
+    private final EncodedDocumentReader documentReader;
+    private ByteBuffer buffer;
+    private com.typedb.driver.jni.ConceptRow headerRow;
+    private Kind nextKind;
+    private int nextLength;
+
+    public AnswerDecoderImpl(ReadableByteChannel channel) throws TypeDBDriverException {
+        Validator.requireNonNull(channel, "channel");
+        this.channel = channel;
+        documentReader = new EncodedDocumentReader();
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.limit(0);
+        headerRow = null;
+        nextKind = null;
+        readStreamHeader();
+    }
+
+    public AnswerDecoderImpl(InputStream input) throws TypeDBDriverException {
+        this(channelOf(input));
+    }
+
+    @Override
+    public boolean hasNext() throws TypeDBDriverException {
+        while (nextKind == null) {
+            if (!fill(RECORD_PREFIX)) return false;
+            byte kind = buffer.get();
+            int length = buffer.getInt();
+            if (length < 0 || !fill(length)) throw new TypeDBDriverException(ANSWER_ENCODING_INVALID, "the stream ends within a record");
+            switch (kind) {
+                case HEADER:
+                    readRowHeader(length);
+                    break;
+                case ROW:
+                    nextKind = Kind.ROW;
+                    break;
+                case CONCEPT:
+                    nextKind = Kind.CONCEPT;
+                    break;
+                case DOCUMENT:
+                    nextKind = Kind.DOCUMENT;
+                    break;
+                default:
+                    throw new TypeDBDriverException(ANSWER_ENCODING_INVALID, "unknown record kind " + kind);
+            }
+            nextLength = length;
+        }
+        return true;
+    }
+
+    @Override
+    public Kind peek() throws TypeDBDriverException {
+        if (!hasNext()) throw new NoSuchElementException();
+        return nextKind;
+    }
+
+    @Override
+    public ConceptRow nextRow() throws TypeDBDriverException {
+        int offset = consume(Kind.ROW);
+        if (headerRow == null) throw new TypeDBDriverException(ANSWER_ENCODING_INVALID, "a row precedes its header");
+        try {
+            return new ConceptRowImpl(concept_row_decode(headerRow, buffer, offset, nextLength));
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public Concept nextConcept() throws TypeDBDriverException {
+        int offset = consume(Kind.CONCEPT);
+        try {
+            return ConceptImpl.of(concept_decode(buffer, offset, nextLength));
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public JSON nextDocument() throws TypeDBDriverException {
+        int offset = consume(Kind.DOCUMENT);
+        ByteBuffer document = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        document.position(offset).limit(offset + nextLength);
+        return documentReader.decode(document);
+    }
+
+    @Override
+    public Stream<ConceptRow> rows() {
+        return stream(this::nextRow);
+    }
+
+    @Override
+    public Stream<JSON> documents() {
+        return stream(this::nextDocument);
+    }
+
+    @Override
+    public void close() throws TypeDBDriverException {
+        if (headerRow != null) {
+            headerRow.delete();
+            headerRow = null;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_ENCODING_FAILED, e.getMessage());
+        }
+    }
+
+    private static ReadableByteChannel channelOf(InputStream input) {
+        Validator.requireNonNull(input, "input");
+        return Channels.newChannel(input);
+    }
+
+    private void readStreamHeader() {
+        if (!fill(MAGIC.length + 1)) throw new TypeDBDriverException(ANSWER_ENCODING_INVALID, "the stream has no header");
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) throw new TypeDBDriverException(ANSWER_ENCODING_INVALID, "the stream header is missing");
+        int version = buffer.get() & 0xFF;
+        if (version != encoding_version()) {
+            throw new TypeDBDriverException(ANSWER_ENCODING_VERSION_UNSUPPORTED, version, encoding_version());
+        }
+    }
+
+    private void readRowHeader(int length) {
+        try {
+            com.typedb.driver.jni.ConceptRow header = concept_row_decode_header(buffer, buffer.position(), length);
+            if (headerRow != null) headerRow.delete();
+            headerRow = header;
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Consumes the next record, checking its kind, and returns the offset of its payload in the buffer.
+     */
+    private int consume(Kind kind) {
+        if (!hasNext()) throw new NoSuchElementException();
+        if (nextKind != kind) throw new TypeDBDriverException(ANSWER_ENCODING_UNEXPECTED_RECORD, kind, nextKind);
+        nextKind = null;
+        int offset = buffer.position();
+        buffer.position(offset + nextLength);
+        return offset;
+    }
+
+    /**
+     * Reads from the channel until at least <code>length</code> bytes are buffered, returning false if the stream
+     * ends first. Returns false only at a record boundary: a stream ending within a record is invalid.
+     */
+    private boolean fill(int length) {
+        if (buffer.remaining() >= length) return true;
+        if (length > MAX_CAPACITY) throw new TypeDBDriverException(ANSWER_TOO_LARGE, MAX_CAPACITY);
+        if (buffer.capacity() < length) {
+            long capacity = buffer.capacity();
+            while (capacity < length) capacity *= 2;
+            ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.min(capacity, MAX_CAPACITY)).order(ByteOrder.LITTLE_ENDIAN);
+            grown.put(buffer).flip();
+            buffer = grown;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < length) {
+                if (channel.read(buffer) < 0) break;
+            }
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_ENCODING_FAILED, e.getMessage());
+        } finally {
+            buffer.flip();
+        }
+        if (buffer.remaining() >= length) return true;
+        else if (buffer.hasRemaining()) throw new TypeDBDriverException(ANSWER_ENCODING_INVALID, "the stream ends within a record");
+        else return false;
+    }
+
+    private <T> Stream<T> stream(Supplier<T> next) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return AnswerDecoderImpl.this.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return next.get();
+            }
+        }, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.AnswerEncoder;
+import com.typedb.driver.api.answer.ConceptDocumentIterator;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.ConceptImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_ENCODING_FAILED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_TOO_LARGE;
+import static com.typedb.driver.jni.typedb_driver.concept_document_encode;
+import static com.typedb.driver.jni.typedb_driver.concept_encode;
+import static com.typedb.driver.jni.typedb_driver.concept_row_encode;
+import static com.typedb.driver.jni.typedb_driver.concept_row_encode_header;
+import static com.typedb.driver.jni.typedb_driver.concept_row_header_equals;
+import static com.typedb.driver.jni.typedb_driver.encoding_version;
+
+public class AnswerEncoderImpl implements AnswerEncoder {
+    static final byte[] MAGIC = {'T', 'D', 'B', 'A'};
+    static final byte HEADER = 0;
+    static final byte ROW = 1;
+    static final byte CONCEPT = 2;
+    static final byte DOCUMENT = 3;
+    static final int RECORD_PREFIX = 5;
+    static final int BUFFER_SIZE = 1 << 16;
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final WritableByteChannel channel;
+    private ByteBuffer buffer;
+    private ConceptRowImpl lastRow;
+
+    public AnswerEncoderImpl(WritableByteChannel channel) {
+        Validator.requireNonNull(channel, "channel");
+        this.channel = channel;
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC).put((byte) encoding_version());
+        lastRow = null;
+    }
+
+    public AnswerEncoderImpl(OutputStream output) {
+        this(channelOf(output));
+    }
+
+    private static WritableByteChannel channelOf(OutputStream output) {
+        Validator.requireNonNull(output, "output");
+        return Channels.newChannel(output);
+    }
+
+    @Override
+    public void write(ConceptRow row) throws TypeDBDriverException {
+        Validator.requireNonNull(row, "row");
+        ConceptRowImpl conceptRow = (ConceptRowImpl) row;
+        if (lastRow == null || !concept_row_header_equals(lastRow.nativeObject, conceptRow.nativeObject)) {
+            writeRecord(HEADER, (buf, offset, capacity) -> concept_row_encode_header(conceptRow.nativeObject, buf, offset, capacity));
+        }
+        writeRecord(ROW, (buf, offset, capacity) -> concept_row_encode(conceptRow.nativeObject, buf, offset, capacity));
+        lastRow = conceptRow;
+    }
+
+    @Override
+    public void write(Concept concept) throws TypeDBDriverException {
+        Validator.requireNonNull(concept, "concept");
+        com.typedb.driver.jni.Concept nativeConcept = ((ConceptImpl) concept).nativeObject;
+        writeRecord(CONCEPT, (buf, offset, capacity) -> concept_encode(nativeConcept, buf, offset, capacity));
+    }
+
+    @Override
+    public void write(JSON document) throws TypeDBDriverException {
+        Validator.requireNonNull(document, "document");
+        ensure(RECORD_PREFIX);
+        int start = buffer.position();
+        buffer.position(start + RECORD_PREFIX);
+        writeJSON(document);
+        buffer.put(start, DOCUMENT).putInt(start + 1, buffer.position() - start - RECORD_PREFIX);
+    }
+
+    @Override
+    public long writeAll(ConceptRowIterator rows) throws TypeDBDriverException {
+        Validator.requireNonNull(rows, "rows");
+        long count = 0;
+        while (rows.hasNext()) {
+            write(rows.next());
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public long writeAll(ConceptDocumentIterator documents) throws TypeDBDriverException {
+        Validator.requireNonNull(documents, "documents");
+        long count = 0;
+        if (documents instanceof ConceptDocumentIteratorImpl) {
+            ConceptDocumentIteratorImpl iterator = (ConceptDocumentIteratorImpl) documents;
+            while (iterator.nativeIterator.hasNext()) {
+                com.typedb.driver.jni.ConceptDocument document = iterator.nativeIterator.next();
+                try {
+                    writeRecord(DOCUMENT, (buf, offset, capacity) -> concept_document_encode(document, buf, offset, capacity));
+                } finally {
+                    document.delete();
+                }
+                count++;
+            }
+        } else {
+            while (documents.hasNext()) {
+                write(documents.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void flush() throws TypeDBDriverException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_ENCODING_FAILED, e.getMessage());
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() throws TypeDBDriverException {
+        try {
+            flush();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new TypeDBDriverException(ANSWER_ENCODING_FAILED, e.getMessage());
+            }
+        }
+    }
+
+    private void writeRecord(byte kind, NativeEncoding encoding) {
+        ensure(RECORD_PREFIX);
+        int start = buffer.position();
+        long length = encoding.encode(buffer, start + RECORD_PREFIX, buffer.capacity() - start - RECORD_PREFIX);
+        if (length > buffer.capacity() - start - RECORD_PREFIX) {
+            ensure(RECORD_PREFIX + length);
+            start = buffer.position();
+            encoding.encode(buffer, start + RECORD_PREFIX, buffer.capacity() - start - RECORD_PREFIX);
+        }
+        buffer.put(kind).putInt((int) length).position(start + RECORD_PREFIX + (int) length);
+    }
+
+    /**
+     * Makes room for <code>length</code> bytes at the buffer position, flushing the buffered records first.
+     */
+    private void ensure(long length) {
+        if (buffer.remaining() >= length) return;
+        flush();
+        if (buffer.capacity() < length) grow(length);
+    }
+
+    /**
+     * Makes room for <code>length</code> more bytes without flushing, keeping a partially written record contiguous.
+     */
+    private void reserve(int length) {
+        if (buffer.remaining() < length) grow((long) buffer.position() + length);
+    }
+
+    private void grow(long required) {
+        if (required > MAX_CAPACITY) throw new TypeDBDriverException(ANSWER_TOO_LARGE, MAX_CAPACITY);
+        long capacity = buffer.capacity();
+        while (capacity < required) capacity *= 2;
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.min(capacity, MAX_CAPACITY)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    private void writeJSON(JSON json) {
+        reserve(9);
+        if (json.isObject()) {
+            Map<String, JSON> object = json.asObject();
+            int start = beginContainer(EncodedDocumentReader.OBJECT, object.size());
+            for (Map.Entry<String, JSON> member : object.entrySet()) {
+                writeString(member.getKey());
+                writeJSON(member.getValue());
+            }
+            endContainer(start);
+        } else if (json.isArray()) {
+            List<JSON> array = json.asArray();
+            int start = beginContainer(EncodedDocumentReader.ARRAY, array.size());
+            for (JSON element : array) writeJSON(element);
+            endContainer(start);
+        } else if (json.isString()) {
+            buffer.put(EncodedDocumentReader.STRING);
+            writeString(json.asString());
+        } else if (json.isNumber()) {
+            buffer.put(EncodedDocumentReader.NUMBER).putDouble(json.asNumber());
+        } else if (json.isBoolean()) {
+            buffer.put(json.asBoolean() ? EncodedDocumentReader.TRUE : EncodedDocumentReader.FALSE);
+        } else {
+            buffer.put(EncodedDocumentReader.NULL);
+        }
+    }
+
+    /**
+     * Writes the tag of a container and leaves room for its body length, returning the position of the body.
+     */
+    private int beginContainer(byte tag, int size) {
+        buffer.put(tag).putInt(0);
+        int start = buffer.position();
+        writeVarint(size);
+        return start;
+    }
+
+    private void endContainer(int start) {
+        buffer.putInt(start - 4, buffer.position() - start);
+    }
+
+    private void writeString(String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        reserve(bytes.length + 5);
+        writeVarint(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void writeVarint(int value) {
+        reserve(5);
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private interface NativeEncoding {
+        long encode(ByteBuffer buffer, long offset, long capacity);
+    }
+}
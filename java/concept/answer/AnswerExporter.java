@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.CSVFormat;
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_EXPORT_FAILED;
+import static com.typedb.driver.jni.typedb_driver.concept_document_to_json;
+
+/**
+ * Streams answers to a channel as NDJSON or CSV, through a single direct buffer that is written to the channel
+ * whenever it fills up. Documents are written into the buffer by the native driver, and rows are formatted from
+ * their compact encoding, so that no <code>Concept</code>s or <code>JSON</code> trees are created.
+ */
+public class AnswerExporter {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final byte NEWLINE = '\n';
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char QUOTE = '"';
+
+    private final WritableByteChannel channel;
+    private ByteBuffer out;
+
+    private AnswerExporter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Writes every document as one line of JSON, returning the number of documents written.
+     */
+    static long exportNDJSON(Iterator<com.typedb.driver.jni.ConceptDocument> documents, WritableByteChannel channel) {
+        AnswerExporter exporter = new AnswerExporter(channel);
+        long count = 0;
+        while (documents.hasNext()) {
+            com.typedb.driver.jni.ConceptDocument document = documents.next();
+            try {
+                exporter.writeDocument(document);
+            } finally {
+                document.delete();
+            }
+            count++;
+        }
+        exporter.flush();
+        return count;
+    }
+
+    /**
+     * Writes a header line, if the format has one, and every row as a line of CSV, returning the number of rows
+     * written. The columns are resolved against <code>columnNames</code> if the header of the rows is known in
+     * advance, so that the header line is written even if there are no rows, and otherwise against the first row.
+     */
+    public static <T> long exportCSV(Iterator<T> rows, RowCodec<T> codec, @Nullable List<String> columnNames,
+                                     WritableByteChannel channel, CSVFormat format) {
+        CSVWriter writer = new CSVWriter(channel, format);
+        if (columnNames != null) writer.start(columnNames);
+        EncodedRowReader reader = new EncodedRowReader();
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            try {
+                if (!writer.isStarted()) writer.start(codec.columnNames(row));
+                reader.read(row, codec);
+            } finally {
+                codec.delete(row);
+            }
+            writer.writeRow(reader);
+            count++;
+        }
+        writer.finish();
+        return count;
+    }
+
+    private void writeDocument(com.typedb.driver.jni.ConceptDocument document) {
+        long length = concept_document_to_json(document, out, out.position(), out.remaining() - 1);
+        if (length > out.remaining() - 1) {
+            flush();
+            if (length > out.capacity() - 1) out = ByteBuffer.allocateDirect((int) Math.min(Integer.MAX_VALUE - 8, length + 1));
+            concept_document_to_json(document, out, out.position(), out.remaining() - 1);
+        }
+        out.position(out.position() + (int) length);
+        out.put(NEWLINE);
+    }
+
+    private void flush() {
+        out.flip();
+        try {
+            while (out.hasRemaining()) channel.write(out);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_EXPORT_FAILED, e.getMessage());
+        }
+        out.clear();
+    }
+
+    /**
+     * Formats rows as CSV. Strings, including column names, are written as they are; other values are written with
+     * their column's format if it has one, and otherwise as the native CSV export writes them, so that a file does
+     * not depend on which of the two wrote it. Fields are quoted if they contain the delimiter, a quote or a line
+     * break.
+     */
+    static class CSVWriter {
+        private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS");
+        private static final DateTimeFormatter OFFSET = DateTimeFormatter.ofPattern("xxx");
+        private static final int MONTHS_PER_YEAR = 12;
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+        private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+        private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+
+        private final AnswerExporter exporter;
+        private final CSVFormat format;
+        private final CharsetEncoder encoder;
+        private final StringBuilder line;
+        private int[] columns;
+        private List<String> selected;
+        private Function<Object, String>[] formats;
+
+        CSVWriter(WritableByteChannel channel, CSVFormat format) {
+            this.exporter = new AnswerExporter(channel);
+            this.format = format;
+            this.encoder = StandardCharsets.UTF_8.newEncoder();
+            this.line = new StringBuilder();
+        }
+
+        boolean isStarted() {
+            return columns != null;
+        }
+
+        /**
+         * Resolves the columns to write against the column names of the rows, and writes the header line.
+         */
+        @SuppressWarnings("unchecked")
+        void start(List<String> columnNames) {
+            selected = format.columns() != null ? format.columns() : columnNames;
+            columns = new int[selected.size()];
+            formats = new Function[selected.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = columnNames.indexOf(selected.get(i));
+                if (columns[i] < 0) throw new TypeDBDriverException(ROW_AGGREGATE_MISSING_COLUMN, selected.get(i), columnNames);
+                formats[i] = format.columnFormat(selected.get(i));
+            }
+            if (format.hasHeader()) {
+                for (int i = 0; i < columns.length; i++) {
+                    if (i > 0) line.append(format.delimiter());
+                    appendField(selected.get(i));
+                }
+                writeLine();
+            }
+        }
+
+        void writeRow(EncodedRowReader row) {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) line.append(format.delimiter());
+                if (row.seekValue(columns[i]) == EncodedRowReader.STRUCT) {
+                    throw new TypeDBDriverException(ANSWER_EXPORT_FAILED,
+                            "the struct value in column '" + selected.get(i) + "' cannot be written as a CSV field");
+                }
+                Object value = row.readKey(columns[i]);
+                if (value == null) appendField(format.nullValue());
+                else if (formats[i] != null) appendField(formats[i].apply(value));
+                else appendField(formatValue(value));
+            }
+            writeLine();
+        }
+
+        /**
+         * Formats a value as the native CSV export does: decimals and doubles in plain notation without trailing
+         * zeros, datetimes with nine fractional digits, followed by the offset or the time zone name, and durations
+         * in ISO 8601 with years and months, days, and the time each omitted if zero.
+         */
+        static String formatValue(Object value) {
+            if (value instanceof String) return (String) value;
+            else if (value instanceof BigDecimal) return ((BigDecimal) value).stripTrailingZeros().toPlainString();
+            else if (value instanceof Double) return formatDouble((Double) value);
+            else if (value instanceof LocalDateTime) return DATETIME.format((LocalDateTime) value);
+            else if (value instanceof ZonedDateTime) return formatDatetimeTZ((ZonedDateTime) value);
+            else if (value instanceof Duration) return formatDuration((Duration) value);
+            else return value.toString();
+        }
+
+        private static String formatDouble(double value) {
+            if (Double.isNaN(value)) return "NaN";
+            else if (Double.isInfinite(value)) return value > 0 ? "inf" : "-inf";
+            else if (value == 0) return 1 / value < 0 ? "-0" : "0";
+            else return new BigDecimal(Double.toString(value)).stripTrailingZeros().toPlainString();
+        }
+
+        private static String formatDatetimeTZ(ZonedDateTime value) {
+            String datetime = DATETIME.format(value.toLocalDateTime());
+            if (value.getZone() instanceof ZoneOffset) return datetime + OFFSET.format(value);
+            else return datetime + " " + value.getZone().getId();
+        }
+
+        private static String formatDuration(Duration value) {
+            long months = Integer.toUnsignedLong(value.getDatePart().getMonths());
+            long days = Integer.toUnsignedLong(value.getDatePart().getDays());
+            long nanos = value.getTimePart().toNanos();
+            if (months == 0 && days == 0 && nanos == 0) return "PT0S";
+            StringBuilder duration = new StringBuilder("P");
+            if (months / MONTHS_PER_YEAR > 0) duration.append(months / MONTHS_PER_YEAR).append('Y');
+            if (months % MONTHS_PER_YEAR > 0) duration.append(months % MONTHS_PER_YEAR).append('M');
+            if (days > 0) duration.append(days).append('D');
+            if (nanos > 0) {
+                duration.append('T');
+                if (nanos / NANOS_PER_HOUR > 0) duration.append(nanos / NANOS_PER_HOUR).append('H');
+                if (nanos % NANOS_PER_HOUR / NANOS_PER_MINUTE > 0) {
+                    duration.append(nanos % NANOS_PER_HOUR / NANOS_PER_MINUTE).append('M');
+                }
+                long seconds = nanos % NANOS_PER_MINUTE / NANOS_PER_SECOND;
+                long fraction = nanos % NANOS_PER_SECOND;
+                if (fraction > 0) duration.append(seconds).append('.').append(String.format("%09d", fraction)).append('S');
+                else if (seconds > 0) duration.append(seconds).append('S');
+            }
+            return duration.toString();
+        }
+
+        private void appendField(String field) {
+            boolean isQuoted = false;
+            for (int i = 0; i < field.length() && !isQuoted; i++) {
+                char c = field.charAt(i);
+                isQuoted = c == format.delimiter() || c == QUOTE || c == '\n' || c == '\r';
+            }
+            if (!isQuoted) {
+                line.append(field);
+                return;
+            }
+            line.append(QUOTE);
+            for (int i = 0; i < field.length(); i++) {
+                char c = field.charAt(i);
+                if (c == QUOTE) line.append(QUOTE);
+                line.append(c);
+            }
+            line.append(QUOTE);
+        }
+
+        private void writeLine() {
+            line.append(LINE_SEPARATOR);
+            CharBuffer chars = CharBuffer.wrap(line);
+            encoder.reset();
+            while (true) {
+                CoderResult result = encoder.encode(chars, exporter.out, true);
+                if (result.isError()) {
+                    line.setLength(0);
+                    String message = "the line cannot be encoded as UTF-8: " + result;
+                    throw new TypeDBDriverException(ANSWER_EXPORT_FAILED, message);
+                }
+                if (!result.isOverflow()) break;
+                exporter.flush();
+            }
+            line.setLength(0);
+        }
+
+        /**
+         * Writes the header line if no row has started the output, as long as the columns are known from the format,
+         * and writes any buffered lines to the channel.
+         */
+        void finish() {
+            if (!isStarted() && format.columns() != null) start(format.columns());
+            exporter.flush();
+        }
+    }
+}
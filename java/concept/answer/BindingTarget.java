@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MAPPING_UNSUPPORTED_CLASS;
+
+/**
+ * A class that answers can be mapped onto: either a record, created through its canonical constructor,
+ * or a class with a no-argument constructor, whose fields are set one by one. The reflective description
+ * of every class is cached.
+ */
+abstract class BindingTarget {
+    private static final ClassValue<BindingTarget> TARGETS = new ClassValue<>() {
+        @Override
+        protected BindingTarget computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final List<String> names;
+    private final List<Type> types;
+
+    BindingTarget(List<String> names, List<Type> types) {
+        this.names = names;
+        this.types = types;
+    }
+
+    static BindingTarget of(Class<?> type) {
+        return TARGETS.get(type);
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    String name(int index) {
+        return names.get(index);
+    }
+
+    Type type(int index) {
+        return types.get(index);
+    }
+
+    /**
+     * Creates an instance from the values of its properties, in order.
+     */
+    abstract Object create(Object[] values);
+
+    private static BindingTarget create(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isPrimitive() || type.isArray()) {
+            throw new TypeDBDriverException(MAPPING_UNSUPPORTED_CLASS, type.getName());
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            Object[] components = recordComponents(type);
+            if (components != null) return RecordTarget.of(type, components, lookup);
+            else return FieldTarget.of(type, lookup);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (e instanceof TypeDBDriverException) throw (TypeDBDriverException) e;
+            throw new TypeDBDriverException(MAPPING_UNSUPPORTED_CLASS, type.getName());
+        }
+    }
+
+    /**
+     * Records are only available from Java 16, so they are detected reflectively.
+     */
+    private static Object[] recordComponents(Class<?> type) throws ReflectiveOperationException {
+        Method getRecordComponents;
+        try {
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return (Object[]) getRecordComponents.invoke(type);
+    }
+
+    private static class RecordTarget extends BindingTarget {
+        private final MethodHandle constructor;
+
+        private RecordTarget(List<String> names, List<Type> types, MethodHandle constructor) {
+            super(names, types);
+            this.constructor = constructor;
+        }
+
+        static RecordTarget of(Class<?> type, Object[] components, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+            List<String> names = new ArrayList<>();
+            List<Type> types = new ArrayList<>();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                Class<?> componentClass = components[i].getClass();
+                names.add((String) componentClass.getMethod("getName").invoke(components[i]));
+                parameterTypes[i] = (Class<?>) componentClass.getMethod("getType").invoke(components[i]);
+                types.add((Type) componentClass.getMethod("getGenericType").invoke(components[i]));
+            }
+            Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            MethodHandle handle = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new RecordTarget(names, types, handle);
+        }
+
+        @Override
+        Object create(Object[] values) {
+            try {
+                return (Object) constructor.invokeExact(values);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new TypeDBDriverException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static class FieldTarget extends BindingTarget {
+        private final MethodHandle constructor;
+        private final MethodHandle[] setters;
+
+        private FieldTarget(List<String> names, List<Type> types, MethodHandle constructor, MethodHandle[] setters) {
+            super(names, types);
+            this.constructor = constructor;
+            this.setters = setters;
+        }
+
+        static FieldTarget of(Class<?> type, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            List<String> names = new ArrayList<>();
+            List<Type> types = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            for (Class<?> declaring = type; declaring != Object.class; declaring = declaring.getSuperclass()) {
+                for (Field field : declaring.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+                    field.setAccessible(true);
+                    names.add(field.getName());
+                    types.add(field.getGenericType());
+                    setters.add(lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                }
+            }
+            MethodHandle handle = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            return new FieldTarget(names, types, handle, setters.toArray(new MethodHandle[0]));
+        }
+
+        @Override
+        Object create(Object[] values) {
+            try {
+                Object instance = (Object) constructor.invokeExact();
+                for (int i = 0; i < setters.length; i++) setters[i].invokeExact(instance, values[i]);
+                return instance;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new TypeDBDriverException(e.getMessage(), e);
+            }
+        }
+    }
+}
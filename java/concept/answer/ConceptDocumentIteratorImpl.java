@@ -20,17 +20,47 @@
 package com.typedb.driver.concept.answer;
 
 import com.typedb.driver.api.answer.ConceptDocumentIterator;
+import com.typedb.driver.api.answer.ExportFormat;
 import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.answer.JSONVisitor;
 import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_EXPORT_FORMAT_UNSUPPORTED;
+import static com.typedb.driver.jni.typedb_driver.concept_document_iterator_export;
+
 public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements ConceptDocumentIterator {
-    NativeIterator<String> nativeIterator;
+    NativeIterator<com.typedb.driver.jni.ConceptDocument> nativeIterator;
+    private final com.typedb.driver.jni.ConceptDocumentIterator nativeDocuments;
+    private final EncodedDocumentReader reader;
+    private boolean isLazy = false;
+    private JSONProjection projection = null;
 
     public ConceptDocumentIteratorImpl(com.typedb.driver.jni.QueryAnswer answer) {
         super(answer);
-        nativeIterator = new NativeIterator<>(answer.intoDocuments());
+        nativeDocuments = answer.intoConceptDocuments();
+        nativeIterator = new NativeIterator<>(nativeDocuments);
+        reader = new EncodedDocumentReader();
+    }
+
+    @Override
+    public ConceptDocumentIterator lazily() {
+        isLazy = true;
+        return this;
+    }
+
+    @Override
+    public ConceptDocumentIterator project(String... paths) throws TypeDBDriverException {
+        Validator.requireNonNull(paths, "paths");
+        projection = JSONProjection.of(paths);
+        return this;
     }
 
     @Override
@@ -40,11 +70,79 @@ public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements Conc
 
     @Override
     public JSON next() {
-        return JSON.parse(nativeIterator.next());
+        return decode(nativeIterator.next());
+    }
+
+    @Override
+    public ByteBuffer nextRaw() throws TypeDBDriverException {
+        if (!hasNext()) throw new NoSuchElementException();
+        com.typedb.driver.jni.ConceptDocument document = nativeIterator.next();
+        try {
+            return reader.readRaw(document);
+        } finally {
+            document.delete();
+        }
     }
 
     @Override
     public Stream<JSON> stream() {
-        return nativeIterator.stream().map(JSON::parse);
+        return nativeIterator.stream().map(this::decode);
+    }
+
+    @Override
+    public <R> Stream<R> as(Class<R> type) throws TypeDBDriverException {
+        Validator.requireNonNull(type, "type");
+        DocumentMapper<R> mapper = new DocumentMapper<>(type);
+        return nativeIterator.stream().map(document -> {
+            try {
+                return mapper.map(document);
+            } finally {
+                document.delete();
+            }
+        });
+    }
+
+    @Override
+    public long exportNDJSON(WritableByteChannel channel) throws TypeDBDriverException {
+        Validator.requireNonNull(channel, "channel");
+        return AnswerExporter.exportNDJSON(nativeIterator, channel);
+    }
+
+    @Override
+    public long exportTo(Path path, ExportFormat format) throws TypeDBDriverException {
+        Validator.requireNonNull(path, "path");
+        Validator.requireNonNull(format, "format");
+        if (format == ExportFormat.CSV) throw new TypeDBDriverException(ANSWER_EXPORT_FORMAT_UNSUPPORTED, format);
+        com.typedb.driver.jni.ConceptDocument fetched = nativeDocuments.takeFetched();
+        try {
+            return concept_document_iterator_export(nativeDocuments, fetched, path.toString(), format.nativeObject);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } finally {
+            if (fetched != null) fetched.delete();
+        }
+    }
+
+    @Override
+    public void visit(JSONVisitor visitor) throws TypeDBDriverException {
+        Validator.requireNonNull(visitor, "visitor");
+        while (nativeIterator.hasNext()) {
+            com.typedb.driver.jni.ConceptDocument document = nativeIterator.next();
+            try {
+                reader.visit(document, visitor);
+            } finally {
+                document.delete();
+            }
+        }
+    }
+
+    private JSON decode(com.typedb.driver.jni.ConceptDocument document) {
+        try {
+            if (projection != null) return reader.decodeProjected(document, projection);
+            else if (isLazy) return reader.decodeLazily(document);
+            else return reader.decode(document);
+        } finally {
+            document.delete();
+        }
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.QueryType;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowBuffer;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_BUFFER_CLOSED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ROW_INDEX_OUT_OF_BOUNDS;
+import static com.typedb.driver.jni.typedb_driver.concept_row_decode;
+
+/**
+ * Rows are held in their compact encoding. The first row of the answer is kept natively to supply the header
+ * of decoded rows.
+ * <p>
+ * Each row is encoded as one variable-length record rather than as fixed-width column slots with a separate string
+ * heap. A column may hold concepts of any kind and value type from row to row, so a fixed-width slot would need
+ * a tag and an out-of-line payload for almost every cell, and the record encoding is also the one shared with the
+ * spill buffer and the answer encoder. Random access by row index is kept through the table of row offsets.
+ */
+public class ConceptRowBufferImpl implements ConceptRowBuffer {
+    private final QueryType queryType;
+    private final TypeCache types;
+    private com.typedb.driver.jni.ConceptRow headerRow;
+    private EncodedRows rows;
+    private final int size;
+    private int decoding;
+    private boolean isClosed;
+
+    private ConceptRowBufferImpl(QueryType queryType, TypeCache types, com.typedb.driver.jni.ConceptRow headerRow, EncodedRows rows) {
+        this.queryType = queryType;
+        this.types = types;
+        this.headerRow = headerRow;
+        this.rows = rows;
+        this.size = rows.size();
+        decoding = 0;
+        isClosed = false;
+    }
+
+    static ConceptRowBufferImpl of(QueryType queryType, Iterator<com.typedb.driver.jni.ConceptRow> rows, TypeCache types) {
+        com.typedb.driver.jni.ConceptRow headerRow = null;
+        EncodedRows encoded = new EncodedRows();
+        try {
+            while (rows.hasNext()) {
+                com.typedb.driver.jni.ConceptRow row = rows.next();
+                if (headerRow == null) headerRow = row;
+                try {
+                    encoded.add(row);
+                } finally {
+                    if (row != headerRow) row.delete();
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            if (headerRow != null) headerRow.delete();
+            throw e;
+        }
+        return new ConceptRowBufferImpl(queryType, types, headerRow, encoded);
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return queryType;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public ConceptRow get(long index) throws TypeDBDriverException {
+        if (index < 0 || index >= size) throw new TypeDBDriverException(ROW_INDEX_OUT_OF_BOUNDS, index, size);
+        return new ConceptRowImpl(decode((int) index), types, null);
+    }
+
+    @Override
+    public ConceptRowIterator iterator() {
+        return new ConceptRowIteratorImpl(queryType, new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public com.typedb.driver.jni.ConceptRow next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return decode(index++);
+            }
+        }, types);
+    }
+
+    @Override
+    public Stream<ConceptRow> stream() {
+        return iterator().stream();
+    }
+
+    /**
+     * Frees the encoded rows. Rows can no longer be read once the buffer is closed.
+     * Waits for rows being decoded by other threads, as they share the native header row.
+     */
+    @Override
+    public void close() {
+        com.typedb.driver.jni.ConceptRow header;
+        synchronized (this) {
+            if (isClosed) return;
+            isClosed = true;
+            boolean isInterrupted = false;
+            while (decoding > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) Thread.currentThread().interrupt();
+            header = headerRow;
+            headerRow = null;
+            rows = null;
+        }
+        if (header != null) header.delete();
+    }
+
+    private com.typedb.driver.jni.ConceptRow decode(int index) {
+        com.typedb.driver.jni.ConceptRow header;
+        EncodedRows encoded;
+        synchronized (this) {
+            if (isClosed) throw new TypeDBDriverException(ANSWER_BUFFER_CLOSED);
+            header = headerRow;
+            encoded = rows;
+            decoding++;
+        }
+        try {
+            return concept_row_decode(header, encoded.data(), encoded.offset(index), encoded.length(index));
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } finally {
+            synchronized (this) {
+                if (--decoding == 0) notifyAll();
+            }
+        }
+    }
+}
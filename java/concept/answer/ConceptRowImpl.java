@@ -27,7 +27,9 @@ import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.ConceptImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
+import javax.annotation.Nullable;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -38,13 +40,23 @@ import static com.typedb.driver.jni.typedb_driver.concept_row_get_column_names;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_concepts;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_index;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_query_type;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_string;
 import static com.typedb.driver.jni.typedb_driver.concept_row_to_string;
 
 public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRow> implements ConceptRow {
+    private final TypeCache types;
+    @Nullable
+    private final StringDictionary dictionary;
     private int hash = 0;
 
     public ConceptRowImpl(com.typedb.driver.jni.ConceptRow conceptRow) {
+        this(conceptRow, TypeCache.disabled(), null);
+    }
+
+    ConceptRowImpl(com.typedb.driver.jni.ConceptRow conceptRow, TypeCache types, @Nullable StringDictionary dictionary) {
         super(conceptRow);
+        this.types = types;
+        this.dictionary = dictionary;
     }
 
     @Override
@@ -63,7 +75,7 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
         try {
             com.typedb.driver.jni.Concept concept = concept_row_get(nativeObject, columnName);
             if (concept != null) {
-                return Optional.of(ConceptImpl.of(concept));
+                return Optional.of(ConceptImpl.of(concept, types));
             }
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
@@ -77,7 +89,7 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
         try {
             com.typedb.driver.jni.Concept concept = concept_row_get_index(nativeObject, columnIndex);
             if (concept != null) {
-                return Optional.of(ConceptImpl.of(concept));
+                return Optional.of(ConceptImpl.of(concept, types));
             }
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
@@ -85,9 +97,20 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
         return Optional.empty();
     }
 
+    @Override
+    public Optional<String> getString(String columnName) throws TypeDBDriverException {
+        Validator.requireNonNull(columnName, "columnName");
+        try {
+            if (dictionary != null) return dictionary.getString(nativeObject, columnName);
+            else return Optional.ofNullable(concept_row_get_string(nativeObject, columnName));
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
     @Override
     public Stream<Concept> concepts() {
-        return new NativeIterator<>(concept_row_get_concepts(nativeObject)).stream().map(ConceptImpl::of);
+        return new NativeIterator<>(concept_row_get_concepts(nativeObject)).stream().map(concept -> ConceptImpl.of(concept, types));
     }
 
     @Override
@@ -19,19 +19,68 @@
 
 package com.typedb.driver.concept.answer;
 
+import com.typedb.driver.api.QueryType;
+import com.typedb.driver.api.answer.AnswerEncoder;
+import com.typedb.driver.api.answer.CSVFormat;
 import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowBuffer;
 import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.ExportFormat;
+import com.typedb.driver.api.answer.RowAggregate;
+import com.typedb.driver.api.answer.RowOrder;
 import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.collection.IIDMap;
+import com.typedb.driver.common.collection.IIDSet;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
 
 import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_EXPORT_FAILED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_EXPORT_FORMAT_UNSUPPORTED;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_iid_bytes;
+import static com.typedb.driver.jni.typedb_driver.concept_row_iterator_export;
+import static com.typedb.driver.jni.typedb_driver.concept_row_iterator_get_column_names;
+import static com.typedb.driver.jni.typedb_driver.arrow_column_types_new;
+import static com.typedb.driver.jni.typedb_driver.concept_rows_export_arrow;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRowIterator {
+    private static final int IID_BUFFER_CAPACITY = 32;
+
     NativeIterator<com.typedb.driver.jni.ConceptRow> nativeIterator;
+    private final com.typedb.driver.jni.ConceptRowIterator nativeRows;
+    private final TypeCache types;
+    private StringDictionary dictionary = null;
+    private com.typedb.driver.jni.ArrowColumnTypes arrowColumnTypes = null;
 
-    protected ConceptRowIteratorImpl(com.typedb.driver.jni.QueryAnswer answer) {
+    protected ConceptRowIteratorImpl(com.typedb.driver.jni.QueryAnswer answer, TypeCache types) {
         super(answer);
-        nativeIterator = new NativeIterator<>(answer.intoRows());
+        nativeRows = answer.intoRows();
+        nativeIterator = new NativeIterator<>(nativeRows);
+        this.types = types;
+    }
+
+    ConceptRowIteratorImpl(QueryType queryType, Iterator<com.typedb.driver.jni.ConceptRow> rows, TypeCache types) {
+        super(queryType);
+        nativeIterator = new NativeIterator<>(rows);
+        nativeRows = null;
+        this.types = types;
     }
 
     @Override
@@ -40,6 +89,12 @@ public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRo
         return this;
     }
 
+    @Override
+    public ConceptRowIterator withStringDictionary() {
+        if (dictionary == null) dictionary = new StringDictionary();
+        return this;
+    }
+
     @Override
     public boolean hasNext() {
         return nativeIterator.hasNext();
@@ -47,11 +102,164 @@ public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRo
 
     @Override
     public ConceptRow next() {
-        return new ConceptRowImpl(nativeIterator.next());
+        return new ConceptRowImpl(nativeIterator.next(), types, dictionary);
     }
 
     @Override
     public Stream<ConceptRow> stream() {
-        return nativeIterator.stream().map(ConceptRowImpl::new);
+        return nativeIterator.stream().map(row -> new ConceptRowImpl(row, types, dictionary));
+    }
+
+    @Override
+    public <R> Stream<R> as(Class<R> recordType) throws TypeDBDriverException {
+        Validator.requireNonNull(recordType, "recordType");
+        RowMapper<com.typedb.driver.jni.ConceptRow, R> mapper = new RowMapper<>(recordType, RowCodec.NATIVE, types);
+        return nativeIterator.stream().map(row -> {
+            try {
+                return mapper.map(row);
+            } finally {
+                row.delete();
+            }
+        });
+    }
+
+    @Override
+    public <R> R aggregate(RowAggregate<R> aggregate) throws TypeDBDriverException {
+        Validator.requireNonNull(aggregate, "aggregate");
+        return RowAggregator.aggregate(nativeIterator, RowCodec.NATIVE, headerColumnNames(), aggregate);
+    }
+
+    @Override
+    public ConceptRowIterator sort(RowOrder order, long memoryLimit, Path spillDirectory) throws TypeDBDriverException {
+        Validator.requireNonNull(order, "order");
+        Validator.requirePositive(memoryLimit, "memoryLimit");
+        Validator.requireNonNull(spillDirectory, "spillDirectory");
+        Iterator<com.typedb.driver.jni.ConceptRow> sorted = RowSorter.sort(
+                nativeIterator, RowCodec.NATIVE, headerColumnNames(), order, memoryLimit, spillDirectory
+        );
+        return new ConceptRowIteratorImpl(queryType, sorted, types);
+    }
+
+    @Override
+    public ConceptRowBuffer materialize() throws TypeDBDriverException {
+        return ConceptRowBufferImpl.of(queryType, nativeIterator, types);
+    }
+
+    @Override
+    public ConceptRowBuffer spillToDisk(Path directory) throws TypeDBDriverException {
+        Validator.requireNonNull(directory, "directory");
+        return MappedConceptRowBufferImpl.of(queryType, nativeIterator, types, directory);
+    }
+
+    @Override
+    public long exportCSV(WritableByteChannel channel, CSVFormat format) throws TypeDBDriverException {
+        Validator.requireNonNull(channel, "channel");
+        Validator.requireNonNull(format, "format");
+        return AnswerExporter.exportCSV(nativeIterator, RowCodec.NATIVE, headerColumnNames(), channel, format);
+    }
+
+    /**
+     * Returns the column names of the rows if the native iterator knows the header before the first row,
+     * or <code>null</code> otherwise.
+     */
+    @Nullable
+    private List<String> headerColumnNames() {
+        if (nativeRows == null) return null;
+        return new NativeIterator<>(concept_row_iterator_get_column_names(nativeRows)).stream()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long exportTo(Path path, ExportFormat format) throws TypeDBDriverException {
+        Validator.requireNonNull(path, "path");
+        Validator.requireNonNull(format, "format");
+        if (format == ExportFormat.NDJSON) throw new TypeDBDriverException(ANSWER_EXPORT_FORMAT_UNSUPPORTED, format);
+        if (nativeRows == null) return exportSorted(path, format);
+        com.typedb.driver.jni.ConceptRow fetched = nativeRows.takeFetched();
+        try {
+            return concept_row_iterator_export(nativeRows, fetched, path.toString(), format.nativeObject);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } finally {
+            if (fetched != null) fetched.delete();
+        }
+    }
+
+    /**
+     * Rows that have been sorted are no longer held by a native iterator, so they are exported through the Java
+     * CSV exporter and <code>AnswerEncoder</code> instead.
+     */
+    private long exportSorted(Path path, ExportFormat format) {
+        try (FileChannel file = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            if (format == ExportFormat.CSV) return exportCSV(file, CSVFormat.defaults());
+            AnswerEncoder encoder = new AnswerEncoderImpl(file);
+            long count = encoder.writeAll(this);
+            encoder.flush();
+            return count;
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_EXPORT_FAILED, e.getMessage());
+        }
+    }
+
+    @Override
+    public int exportArrowBatch(int maxRows, long schemaAddress, long arrayAddress) throws TypeDBDriverException {
+        Validator.requirePositive(maxRows, "maxRows");
+        Validator.requirePositive(schemaAddress, "schemaAddress");
+        Validator.requirePositive(arrayAddress, "arrayAddress");
+        List<com.typedb.driver.jni.ConceptRow> rows = new ArrayList<>();
+        try {
+            while (rows.size() < maxRows && nativeIterator.hasNext()) rows.add(nativeIterator.next());
+            if (!rows.isEmpty()) {
+                if (arrowColumnTypes == null) arrowColumnTypes = arrow_column_types_new();
+                concept_rows_export_arrow(
+                        rows.toArray(new com.typedb.driver.jni.ConceptRow[0]), arrowColumnTypes, schemaAddress, arrayAddress
+                );
+            }
+            return rows.size();
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } finally {
+            rows.forEach(com.typedb.driver.jni.ConceptRow::delete);
+        }
+    }
+
+    @Override
+    public void collectIIDs(String columnName, IIDSet iids) throws TypeDBDriverException {
+        Validator.requireNonNull(iids, "iids");
+        forEachIID(columnName, (iid, length) -> iids.add(iid, 0, length));
+    }
+
+    @Override
+    public <V> void collectIIDs(String columnName, IIDMap<V> iids, V value) throws TypeDBDriverException {
+        Validator.requireNonNull(iids, "iids");
+        Validator.requireNonNull(value, "value");
+        forEachIID(columnName, (iid, length) -> iids.putIfAbsent(iid, 0, length, value));
+    }
+
+    private void forEachIID(String columnName, ObjIntConsumer<byte[]> action) {
+        Validator.requireNonNull(columnName, "columnName");
+        // IIDs are copied out of the native rows through one reused buffer, so no per-row objects are created
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IID_BUFFER_CAPACITY);
+        byte[] iid = new byte[IID_BUFFER_CAPACITY];
+        while (nativeIterator.hasNext()) {
+            com.typedb.driver.jni.ConceptRow row = nativeIterator.next();
+            try {
+                int length = (int) concept_row_get_iid_bytes(row, columnName, buffer, 0, buffer.capacity());
+                if (length > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect(length);
+                    iid = new byte[length];
+                    concept_row_get_iid_bytes(row, columnName, buffer, 0, buffer.capacity());
+                }
+                if (length >= 0) {
+                    buffer.clear();
+                    buffer.get(iid, 0, length);
+                    action.accept(iid, length);
+                }
+            } catch (com.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            } finally {
+                row.delete();
+            }
+        }
     }
 }
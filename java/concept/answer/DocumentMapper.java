@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.DOCUMENT_MAPPING_UNSUPPORTED_FIELD;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.DOCUMENT_MAPPING_VALUE_MISMATCH;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.ARRAY;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.FALSE;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.NULL;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.NUMBER;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.OBJECT;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.STRING;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.TRUE;
+
+/**
+ * Binds <code>ConceptDocument</code>s onto instances of a class by key. A binder is built once per class, and
+ * cached, from the class's fields or record components; documents are then bound straight from their compact
+ * encoding, in one pass, without building a <code>JSON</code> tree. Keys without a matching field are skipped,
+ * and fields without a matching key are left empty. Not thread-safe.
+ * Public so that binding can be tested over documents that are already encoded.
+ *
+ * @param <R> the type onto which documents are bound
+ */
+public class DocumentMapper<R> {
+    private static final ClassValue<ObjectBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected ObjectBinder computeValue(Class<?> type) {
+            return new ObjectBinder(BindingTarget.of(type));
+        }
+    };
+    private static final Object MISMATCH = new Object();
+    private static final String ROOT = "$";
+
+    private final Class<R> type;
+    private final ObjectBinder binder;
+    private final EncodedDocumentReader reader;
+
+    public DocumentMapper(Class<R> type) {
+        this.type = type;
+        this.binder = BINDERS.get(type);
+        this.reader = new EncodedDocumentReader();
+    }
+
+    R map(com.typedb.driver.jni.ConceptDocument document) {
+        reader.read(document);
+        return bind();
+    }
+
+    /**
+     * Binds the document encoded at the position of <code>encoded</code>, advancing its position past the document.
+     */
+    public R map(ByteBuffer encoded) {
+        return reader.readFrom(encoded, this::bind);
+    }
+
+    private R bind() {
+        Object value = binder.read(reader, reader.readTag());
+        if (value == MISMATCH || value == null) {
+            throw new TypeDBDriverException(DOCUMENT_MAPPING_VALUE_MISMATCH, ROOT, type.getTypeName());
+        }
+        return type.cast(value);
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        /**
+         * Reads the value whose tag has just been read, returning <code>MISMATCH</code>, once the value has been
+         * skipped, if it cannot be bound to the binder's type.
+         */
+        Object read(EncodedDocumentReader reader, byte tag);
+
+        /**
+         * The value of a field whose key is absent from the document.
+         */
+        default Object absent() {
+            return null;
+        }
+
+        static Binder of(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                Type raw = parameterized.getRawType();
+                Type[] arguments = parameterized.getActualTypeArguments();
+                if (raw == Optional.class) {
+                    Binder value = of(arguments[0]);
+                    return value == null ? null : optional(value);
+                } else if (raw == List.class || raw == Collection.class || raw == Iterable.class) {
+                    Binder element = of(arguments[0]);
+                    return element == null ? null : list(element);
+                } else if (raw == Map.class && arguments[0] == String.class) {
+                    Binder value = of(arguments[1]);
+                    return value == null ? null : map(value);
+                } else {
+                    return null;
+                }
+            }
+            if (!(type instanceof Class)) return null;
+            Class<?> valueClass = (Class<?>) type;
+            if (valueClass == String.class) return (reader, tag) -> tag == STRING ? reader.readString() : skipUnlessNull(reader, tag);
+            else if (valueClass == double.class) return primitive(number(Double::valueOf), 0.0);
+            else if (valueClass == Double.class) return number(Double::valueOf);
+            else if (valueClass == long.class) return primitive(number(DocumentMapper::toLong), 0L);
+            else if (valueClass == Long.class) return number(DocumentMapper::toLong);
+            else if (valueClass == int.class) return primitive(number(DocumentMapper::toInt), 0);
+            else if (valueClass == Integer.class) return number(DocumentMapper::toInt);
+            else if (valueClass == boolean.class) return primitive(DocumentMapper::readBoolean, false);
+            else if (valueClass == Boolean.class) return DocumentMapper::readBoolean;
+            else if (valueClass == JSON.class) return (reader, tag) -> reader.readJSON(tag);
+            else if (isBindable(valueClass)) return nested(valueClass);
+            else return null;
+        }
+
+        private static Binder number(NumberConverter converter) {
+            return (reader, tag) -> tag == NUMBER ? converter.convert(reader.readNumber()) : skipUnlessNull(reader, tag);
+        }
+
+        private static Binder primitive(Binder boxed, Object defaultValue) {
+            return new Binder() {
+                @Override
+                public Object read(EncodedDocumentReader reader, byte tag) {
+                    Object value = boxed.read(reader, tag);
+                    return value == null ? MISMATCH : value;
+                }
+
+                @Override
+                public Object absent() {
+                    return defaultValue;
+                }
+            };
+        }
+
+        private static Binder optional(Binder value) {
+            return new Binder() {
+                @Override
+                public Object read(EncodedDocumentReader reader, byte tag) {
+                    Object read = value.read(reader, tag);
+                    return read == MISMATCH ? MISMATCH : Optional.ofNullable(read);
+                }
+
+                @Override
+                public Object absent() {
+                    return Optional.empty();
+                }
+            };
+        }
+
+        private static Binder list(Binder element) {
+            return (reader, tag) -> {
+                if (tag != ARRAY) return skipUnlessNull(reader, tag);
+                int size = reader.readSize();
+                List<Object> list = new ArrayList<>(size);
+                boolean isMismatch = false;
+                for (int i = 0; i < size; i++) {
+                    Object value = element.read(reader, reader.readTag());
+                    if (value == MISMATCH) isMismatch = true;
+                    list.add(value);
+                }
+                return isMismatch ? MISMATCH : list;
+            };
+        }
+
+        private static Binder map(Binder value) {
+            return (reader, tag) -> {
+                if (tag != OBJECT) return skipUnlessNull(reader, tag);
+                int size = reader.readSize();
+                Map<String, Object> map = new HashMap<>(size * 4 / 3 + 1);
+                boolean isMismatch = false;
+                for (int i = 0; i < size; i++) {
+                    String key = reader.readString();
+                    Object read = value.read(reader, reader.readTag());
+                    if (read == MISMATCH) isMismatch = true;
+                    map.put(key, read);
+                }
+                return isMismatch ? MISMATCH : map;
+            };
+        }
+
+        /**
+         * Nested classes are resolved on first use, so that classes can refer to themselves.
+         */
+        private static Binder nested(Class<?> type) {
+            return (reader, tag) -> BINDERS.get(type).read(reader, tag);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NumberConverter {
+        Object convert(double value);
+    }
+
+    private static class ObjectBinder implements Binder {
+        private final BindingTarget target;
+        private final Map<String, Integer> index;
+        private final Binder[] binders;
+
+        private ObjectBinder(BindingTarget target) {
+            this.target = target;
+            this.index = new HashMap<>();
+            this.binders = new Binder[target.size()];
+            for (int i = 0; i < target.size(); i++) {
+                binders[i] = Binder.of(target.type(i));
+                if (binders[i] == null) {
+                    throw new TypeDBDriverException(DOCUMENT_MAPPING_UNSUPPORTED_FIELD, target.name(i), target.type(i).getTypeName());
+                }
+                index.put(target.name(i), i);
+            }
+        }
+
+        @Override
+        public Object read(EncodedDocumentReader reader, byte tag) {
+            if (tag != OBJECT) return skipUnlessNull(reader, tag);
+            Object[] values = new Object[binders.length];
+            boolean[] isPresent = new boolean[binders.length];
+            for (int members = reader.readSize(); members > 0; members--) {
+                String key = reader.readString();
+                byte valueTag = reader.readTag();
+                Integer i = index.get(key);
+                if (i == null) {
+                    reader.skip(valueTag);
+                    continue;
+                }
+                Object value = binders[i].read(reader, valueTag);
+                if (value == MISMATCH) {
+                    throw new TypeDBDriverException(DOCUMENT_MAPPING_VALUE_MISMATCH, key, target.type(i).getTypeName());
+                }
+                values[i] = value;
+                isPresent[i] = true;
+            }
+            for (int i = 0; i < binders.length; i++) {
+                if (!isPresent[i]) values[i] = binders[i].absent();
+            }
+            return target.create(values);
+        }
+    }
+
+    private static boolean isBindable(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isInterface() && !type.isEnum()
+                && !Modifier.isAbstract(type.getModifiers()) && !type.getName().startsWith("java.");
+    }
+
+    /**
+     * Skips a value of the wrong type, returning <code>null</code> for a JSON <code>null</code>,
+     * and <code>MISMATCH</code> otherwise.
+     */
+    private static Object skipUnlessNull(EncodedDocumentReader reader, byte tag) {
+        if (tag == NULL) return null;
+        reader.skip(tag);
+        return MISMATCH;
+    }
+
+    private static Object readBoolean(EncodedDocumentReader reader, byte tag) {
+        if (tag == TRUE) return true;
+        else if (tag == FALSE) return false;
+        else return skipUnlessNull(reader, tag);
+    }
+
+    private static Object toLong(double value) {
+        long longValue = (long) value;
+        return longValue == value ? (Object) longValue : MISMATCH;
+    }
+
+    private static Object toInt(double value) {
+        int intValue = (int) value;
+        return intValue == value ? (Object) intValue : MISMATCH;
+    }
+}
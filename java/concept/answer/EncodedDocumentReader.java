@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.answer.JSONVisitor;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+import static com.typedb.driver.jni.typedb_driver.concept_document_encode;
+import static com.typedb.driver.jni.typedb_driver.concept_document_to_json;
+
+/**
+ * Reads <code>ConceptDocument</code>s from the compact encoding of their JSON form (see <code>answer::codec</code>
+ * in the Rust driver), so that a document is fetched with a single native call and built in one pass, without
+ * serializing it to a JSON string and parsing it back. Not thread-safe: the reader owns a reusable encoding buffer.
+ * Public so that documents that are already encoded can be decoded, in tests, without native documents.
+ */
+public class EncodedDocumentReader {
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte NUMBER = 3;
+    static final byte STRING = 4;
+    static final byte ARRAY = 5;
+    static final byte OBJECT = 6;
+
+    private ByteBuffer buffer;
+    private ByteBuffer raw;
+    private byte[] scratch;
+
+    public EncodedDocumentReader() {
+        buffer = ByteBuffer.allocateDirect(4096).order(ByteOrder.LITTLE_ENDIAN);
+        raw = null;
+        scratch = new byte[256];
+    }
+
+    /**
+     * Encodes the native document into the reader's own buffer, positioning the buffer at its root.
+     */
+    void read(com.typedb.driver.jni.ConceptDocument document) {
+        long length = concept_document_encode(document, buffer, 0, buffer.capacity());
+        if (length > buffer.capacity()) {
+            buffer = ByteBuffer.allocateDirect((int) Math.max(length, buffer.capacity() * 2L)).order(ByteOrder.LITTLE_ENDIAN);
+            concept_document_encode(document, buffer, 0, buffer.capacity());
+        }
+        buffer.clear().limit((int) length);
+    }
+
+    /**
+     * Writes the JSON form of the native document, as UTF-8, into a reusable buffer, which is returned
+     * with its position and limit around the JSON.
+     */
+    ByteBuffer readRaw(com.typedb.driver.jni.ConceptDocument document) {
+        if (raw == null) raw = ByteBuffer.allocateDirect(4096);
+        long length = concept_document_to_json(document, raw, 0, raw.capacity());
+        if (length > raw.capacity()) {
+            raw = ByteBuffer.allocateDirect((int) Math.max(length, raw.capacity() * 2L));
+            concept_document_to_json(document, raw, 0, raw.capacity());
+        }
+        raw.clear().limit((int) length);
+        return raw;
+    }
+
+    /**
+     * Encodes and decodes the native document into a <code>JSON</code> tree.
+     */
+    JSON decode(com.typedb.driver.jni.ConceptDocument document) {
+        read(document);
+        return readJSON();
+    }
+
+    /**
+     * Decodes a <code>JSON</code> tree from the little-endian encoding at the position of <code>encoded</code>,
+     * advancing its position past the document.
+     */
+    public JSON decode(ByteBuffer encoded) {
+        return readFrom(encoded, this::readJSON);
+    }
+
+    /**
+     * Reads from <code>encoded</code>, rather than from the reader's own buffer, for the duration of the read.
+     */
+    <V> V readFrom(ByteBuffer encoded, Supplier<V> read) {
+        ByteBuffer own = buffer;
+        buffer = encoded;
+        try {
+            return read.get();
+        } finally {
+            buffer = own;
+        }
+    }
+
+    /**
+     * Encodes the native document, and returns a lazy view over a copy of its encoding.
+     */
+    JSON decodeLazily(com.typedb.driver.jni.ConceptDocument document) {
+        read(document);
+        ByteBuffer copy = ByteBuffer.allocate(buffer.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+        copy.put(buffer).flip();
+        return LazyJSON.of(copy, 0);
+    }
+
+    /**
+     * Reads the JSON value at the buffer position.
+     */
+    JSON readJSON() {
+        return readJSON(buffer.get());
+    }
+
+    /**
+     * Reads the JSON value whose tag has just been read.
+     */
+    JSON readJSON(byte tag) {
+        switch (tag) {
+            case NULL:
+                return JSON.nullValue();
+            case FALSE:
+                return JSON.bool(false);
+            case TRUE:
+                return JSON.bool(true);
+            case NUMBER:
+                return JSON.number(buffer.getDouble());
+            case STRING:
+                return JSON.string(readString());
+            case ARRAY: {
+                buffer.getInt();
+                int size = (int) readVarint();
+                List<JSON> array = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) array.add(readJSON());
+                return JSON.array(array);
+            }
+            case OBJECT: {
+                buffer.getInt();
+                int size = (int) readVarint();
+                Map<String, JSON> object = new HashMap<>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    String key = readString();
+                    object.put(key, readJSON());
+                }
+                return JSON.object(object);
+            }
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    /**
+     * Encodes the native document, and decodes only the subtrees selected by the projection. Objects and arrays
+     * with no selected members or elements are omitted, and everything else is skipped without being decoded.
+     */
+    JSON decodeProjected(com.typedb.driver.jni.ConceptDocument document, JSONProjection projection) {
+        read(document);
+        JSON projected = readProjected(buffer.get(), projection);
+        return projected != null ? projected : JSON.object(new HashMap<>());
+    }
+
+    @Nullable
+    private JSON readProjected(byte tag, JSONProjection projection) {
+        if (projection.isTerminal()) return readJSON(tag);
+        if (tag == OBJECT) {
+            int size = readSize();
+            Map<String, JSON> object = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                byte valueTag = buffer.get();
+                JSONProjection member = projection.member(key);
+                JSON value = member == null ? null : readProjected(valueTag, member);
+                if (value != null) object.put(key, value);
+                else if (member == null) skip(valueTag);
+            }
+            return object.isEmpty() ? null : JSON.object(object);
+        } else if (tag == ARRAY) {
+            int size = readSize();
+            List<JSON> array = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                byte elementTag = buffer.get();
+                JSONProjection element = projection.element(i);
+                JSON value = element == null ? null : readProjected(elementTag, element);
+                if (value != null) array.add(value);
+                else if (element == null) skip(elementTag);
+            }
+            return array.isEmpty() ? null : JSON.array(array);
+        } else {
+            skip(tag);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes the native document, passing its contents to the visitor as events.
+     */
+    void visit(com.typedb.driver.jni.ConceptDocument document, JSONVisitor visitor) {
+        read(document);
+        visitJSON(visitor);
+        visitor.endDocument();
+    }
+
+    /**
+     * Passes the contents of the document encoded at the position of <code>encoded</code> to the visitor as events,
+     * advancing its position past the document.
+     */
+    public void visit(ByteBuffer encoded, JSONVisitor visitor) {
+        readFrom(encoded, () -> {
+            visitJSON(visitor);
+            visitor.endDocument();
+            return null;
+        });
+    }
+
+    private void visitJSON(JSONVisitor visitor) {
+        switch (buffer.get()) {
+            case NULL:
+                visitor.nullValue();
+                break;
+            case FALSE:
+                visitor.value(false);
+                break;
+            case TRUE:
+                visitor.value(true);
+                break;
+            case NUMBER:
+                visitor.value(buffer.getDouble());
+                break;
+            case STRING:
+                visitor.value(readString());
+                break;
+            case ARRAY: {
+                buffer.getInt();
+                int size = (int) readVarint();
+                visitor.beginArray(size);
+                for (int i = 0; i < size; i++) visitJSON(visitor);
+                visitor.endArray();
+                break;
+            }
+            case OBJECT: {
+                buffer.getInt();
+                int size = (int) readVarint();
+                visitor.beginObject(size);
+                for (int i = 0; i < size; i++) {
+                    visitor.key(readString());
+                    visitJSON(visitor);
+                }
+                visitor.endObject();
+                break;
+            }
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    byte readTag() {
+        return buffer.get();
+    }
+
+    double readNumber() {
+        return buffer.getDouble();
+    }
+
+    /**
+     * Reads the header of an array or object whose tag has just been read, returning its number of elements.
+     */
+    int readSize() {
+        buffer.getInt();
+        return (int) readVarint();
+    }
+
+    /**
+     * Skips the JSON value whose tag has just been read.
+     */
+    void skip(byte tag) {
+        switch (tag) {
+            case NULL:
+            case FALSE:
+            case TRUE:
+                break;
+            case NUMBER:
+                buffer.position(buffer.position() + Double.BYTES);
+                break;
+            case STRING: {
+                int length = (int) readVarint();
+                buffer.position(buffer.position() + length);
+                break;
+            }
+            case ARRAY:
+            case OBJECT:
+                buffer.position(buffer.position() + Integer.BYTES + buffer.getInt(buffer.position()));
+                break;
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    String readString() {
+        int length = (int) readVarint();
+        if (scratch.length < length) scratch = new byte[Math.max(length, scratch.length * 2)];
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+    }
+}
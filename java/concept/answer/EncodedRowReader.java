@@ -0,0 +1,462 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+
+/**
+ * Reads the values of a <code>ConceptRow</code> from its compact encoding (see <code>answer::codec</code> in the
+ * Rust driver), so that a row can be read with a single native call and without creating <code>Concept</code>s.
+ * Not thread-safe: the reader owns a reusable encoding buffer.
+ */
+class EncodedRowReader {
+    static final byte EMPTY = 0;
+    static final byte ENTITY_TYPE = 1;
+    static final byte RELATION_TYPE = 2;
+    static final byte ROLE_TYPE = 3;
+    static final byte ATTRIBUTE_TYPE = 4;
+    static final byte ENTITY = 5;
+    static final byte RELATION = 6;
+    static final byte ATTRIBUTE = 7;
+    static final byte VALUE = 8;
+
+    static final byte BOOLEAN = 0;
+    static final byte INTEGER = 1;
+    static final byte DOUBLE = 2;
+    static final byte DECIMAL = 3;
+    static final byte STRING = 4;
+    static final byte DATE = 5;
+    static final byte DATETIME = 6;
+    static final byte DATETIME_TZ = 7;
+    static final byte DURATION = 8;
+    static final byte STRUCT = 9;
+
+    private static final byte TIME_ZONE_IANA = 0;
+    private static final int DECIMAL_SCALE = 19;
+    private static final long DAYS_FROM_CE_TO_EPOCH = 719163;
+
+    private ByteBuffer encoded;
+    private ByteBuffer source;
+    private ByteBuffer view;
+    private ByteBuffer buffer;
+    private int[] cells;
+    private int columns;
+
+    EncodedRowReader() {
+        encoded = ByteBuffer.allocateDirect(1024).order(ByteOrder.LITTLE_ENDIAN);
+        buffer = encoded;
+        cells = new int[8];
+        columns = 0;
+    }
+
+    /**
+     * Encodes the row into the reader's own buffer, and locates the start of every column.
+     */
+    <T> void read(T row, RowCodec<T> codec) {
+        long length = codec.encode(row, encoded.clear(), 0, encoded.capacity());
+        if (length > encoded.capacity()) {
+            encoded = ByteBuffer.allocateDirect((int) Math.max(length, encoded.capacity() * 2L)).order(ByteOrder.LITTLE_ENDIAN);
+            codec.encode(row, encoded, 0, encoded.capacity());
+        }
+        encoded.clear().limit((int) length);
+        buffer = encoded;
+        index();
+    }
+
+    /**
+     * Locates the start of every column of the row encoded in <code>data</code> at <code>offset</code>.
+     */
+    void read(ByteBuffer data, int offset, int length) {
+        if (source != data) {
+            source = data;
+            view = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        buffer = view;
+        buffer.limit(offset + length).position(offset);
+        index();
+    }
+
+    private void index() {
+        columns = (int) readVarint();
+        if (cells.length < columns) cells = Arrays.copyOf(cells, columns);
+        for (int column = 0; column < columns; column++) {
+            cells[column] = buffer.position();
+            skipConcept();
+        }
+    }
+
+    int columns() {
+        return columns;
+    }
+
+    boolean isEmpty(int column) {
+        return buffer.get(cells[column]) == EMPTY;
+    }
+
+    /**
+     * Returns the tag of the value held by the concept in the column, positioning the buffer at the value,
+     * or <code>-1</code> if the column does not hold a value.
+     */
+    byte seekValue(int column) {
+        buffer.position(cells[column]);
+        byte kind = buffer.get();
+        if (kind == ATTRIBUTE) skipBytes();
+        else if (kind != VALUE) return -1;
+        return buffer.get();
+    }
+
+    /**
+     * Reads the concept in the column as a grouping key: its value for attributes and values, its IID for
+     * entities and relations, and its label for types. Returns <code>null</code> for an empty column.
+     */
+    Object readKey(int column) {
+        buffer.position(cells[column]);
+        switch (buffer.get()) {
+            case EMPTY:
+                return null;
+            case ENTITY_TYPE:
+            case RELATION_TYPE:
+            case ROLE_TYPE:
+            case ATTRIBUTE_TYPE:
+                return readString();
+            case ENTITY:
+            case RELATION:
+                return readIID();
+            default:
+                return readValue(seekValue(column));
+        }
+    }
+
+    /**
+     * Reads the value at the buffer position, given its tag.
+     */
+    Object readValue(byte valueType) {
+        switch (valueType) {
+            case BOOLEAN:
+                return readBoolean();
+            case INTEGER:
+                return readInteger();
+            case DOUBLE:
+                return readDouble();
+            case DECIMAL:
+                return readDecimal();
+            case STRING:
+                return readString();
+            case DATE:
+                return readDate();
+            case DATETIME:
+                return readDatetime();
+            case DATETIME_TZ:
+                return readDatetimeTZ();
+            case DURATION:
+                return readDuration();
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    /**
+     * Reads the value in the column as a <code>double</code>, returning <code>NaN</code> if the column is empty.
+     * Throws if the column holds a non-numeric concept.
+     */
+    double readNumber(int column, Supplier<TypeDBDriverException> notNumeric) {
+        if (isEmpty(column)) return Double.NaN;
+        switch (seekValue(column)) {
+            case INTEGER:
+                return readInteger();
+            case DOUBLE:
+                return readDouble();
+            case DECIMAL:
+                return readDecimal().doubleValue();
+            default:
+                throw notNumeric.get();
+        }
+    }
+
+    /**
+     * Appends an order-preserving key for the concept in the column: keys compare, as unsigned bytes, in the
+     * order of the concepts. Numeric values of different types compare by value; other kinds and value types
+     * are ordered by kind first. Structs are not ordered among themselves.
+     */
+    void appendSortKey(int column, RowSorter.KeyBuilder key) {
+        buffer.position(cells[column]);
+        switch (buffer.get()) {
+            case EMPTY:
+                key.put(0);
+                break;
+            case ENTITY_TYPE:
+            case RELATION_TYPE:
+            case ROLE_TYPE:
+            case ATTRIBUTE_TYPE:
+                key.put(11);
+                appendEscapedBytes(key);
+                break;
+            case ENTITY:
+            case RELATION:
+                key.put(10);
+                appendEscapedBytes(key);
+                break;
+            default:
+                appendValueSortKey(seekValue(column), key);
+        }
+    }
+
+    private void appendValueSortKey(byte valueType, RowSorter.KeyBuilder key) {
+        switch (valueType) {
+            case BOOLEAN:
+                key.put(1);
+                key.put(buffer.get());
+                break;
+            case INTEGER: {
+                long value = buffer.getLong();
+                key.put(2);
+                key.putDouble(value);
+                key.putLong(value);
+                key.putUnsignedLong(0);
+                break;
+            }
+            case DOUBLE: {
+                double value = buffer.getDouble();
+                key.put(2);
+                key.putDouble(value);
+                key.putLong((long) Math.floor(value));
+                key.putUnsignedLong(0);
+                break;
+            }
+            case DECIMAL: {
+                long integer = buffer.getLong();
+                long fractional = buffer.getLong();
+                key.put(2);
+                key.putDouble(integer + unsignedToDouble(fractional) / 1e19);
+                key.putLong(integer);
+                key.putUnsignedLong(fractional);
+                break;
+            }
+            case STRING:
+                key.put(3);
+                appendEscapedBytes(key);
+                break;
+            case DATE:
+                key.put(4);
+                key.putInt(buffer.getInt());
+                break;
+            case DATETIME:
+                key.put(5);
+                key.putLong(buffer.getLong());
+                key.putInt(buffer.getInt());
+                break;
+            case DATETIME_TZ:
+                key.put(6);
+                key.putLong(buffer.getLong());
+                key.putInt(buffer.getInt());
+                break;
+            case DURATION:
+                key.put(7);
+                key.putUnsignedInt(buffer.getInt());
+                key.putUnsignedInt(buffer.getInt());
+                key.putUnsignedLong(buffer.getLong());
+                break;
+            default:
+                key.put(8);
+        }
+    }
+
+    private void appendEscapedBytes(RowSorter.KeyBuilder key) {
+        for (int length = (int) readVarint(); length > 0; length--) {
+            byte b = buffer.get();
+            key.put(b);
+            if (b == 0) key.put(0xFF);
+        }
+        key.put(0);
+        key.put(0);
+    }
+
+    private static double unsignedToDouble(long value) {
+        double result = (double) (value >>> 1) * 2.0;
+        return result + (value & 1);
+    }
+
+    boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    long readInteger() {
+        return buffer.getLong();
+    }
+
+    double readDouble() {
+        return buffer.getDouble();
+    }
+
+    BigDecimal readDecimal() {
+        BigDecimal integer = BigDecimal.valueOf(buffer.getLong());
+        BigDecimal fractional = new BigDecimal(new BigInteger(Long.toUnsignedString(buffer.getLong())), DECIMAL_SCALE);
+        return integer.add(fractional);
+    }
+
+    String readString() {
+        int length = (int) readVarint();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    LocalDate readDate() {
+        return LocalDate.ofEpochDay(buffer.getInt() - DAYS_FROM_CE_TO_EPOCH);
+    }
+
+    LocalDateTime readDatetime() {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    ZonedDateTime readDatetimeTZ() {
+        Instant instant = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        if (buffer.get() == TIME_ZONE_IANA) return instant.atZone(ZoneId.of(readString()));
+        else return instant.atZone(ZoneOffset.ofTotalSeconds(buffer.getInt()));
+    }
+
+    Duration readDuration() {
+        int months = buffer.getInt();
+        int days = buffer.getInt();
+        return new Duration(Period.of(0, months, days), java.time.Duration.ofNanos(buffer.getLong()));
+    }
+
+    private String readIID() {
+        int length = (int) readVarint();
+        char[] chars = new char[2 + length * 2];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get();
+            chars[2 + i * 2] = Character.forDigit((b >> 4) & 0xF, 16);
+            chars[3 + i * 2] = Character.forDigit(b & 0xF, 16);
+        }
+        return new String(chars);
+    }
+
+    private void skipConcept() {
+        switch (buffer.get()) {
+            case EMPTY:
+                break;
+            case ENTITY_TYPE:
+            case RELATION_TYPE:
+            case ROLE_TYPE:
+                skipBytes();
+                break;
+            case ATTRIBUTE_TYPE:
+                skipAttributeType();
+                break;
+            case ENTITY:
+            case RELATION:
+                skipBytes();
+                if (buffer.get() != 0) skipBytes();
+                break;
+            case ATTRIBUTE:
+                skipBytes();
+                skipValue();
+                if (buffer.get() != 0) skipAttributeType();
+                break;
+            case VALUE:
+                skipValue();
+                break;
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    private void skipAttributeType() {
+        skipBytes();
+        if (buffer.get() != 0 && buffer.get() == STRUCT) skipBytes();
+    }
+
+    private void skipValue() {
+        switch (buffer.get()) {
+            case BOOLEAN:
+                skip(1);
+                break;
+            case DATE:
+                skip(4);
+                break;
+            case INTEGER:
+            case DOUBLE:
+                skip(8);
+                break;
+            case DATETIME:
+                skip(12);
+                break;
+            case DECIMAL:
+            case DURATION:
+                skip(16);
+                break;
+            case STRING:
+                skipBytes();
+                break;
+            case DATETIME_TZ:
+                skip(12);
+                if (buffer.get() == TIME_ZONE_IANA) skipBytes();
+                else skip(4);
+                break;
+            case STRUCT:
+                skipBytes();
+                for (long fields = readVarint(); fields > 0; fields--) {
+                    skipBytes();
+                    if (buffer.get() != 0) skipValue();
+                }
+                break;
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    private void skipBytes() {
+        skip((int) readVarint());
+    }
+
+    private void skip(int length) {
+        buffer.position(buffer.position() + length);
+    }
+
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+    }
+}
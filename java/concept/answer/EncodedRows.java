@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_TOO_LARGE;
+
+/**
+ * A growable list of <code>ConceptRow</code>s in their compact encoding, stored back to back in a single direct
+ * <code>ByteBuffer</code>, with the end offset of every row in <code>ends</code>. Not thread-safe.
+ * Public so that the layout can be tested without native rows.
+ */
+public class EncodedRows {
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private ByteBuffer data;
+    private int[] ends;
+    private int size;
+
+    public EncodedRows() {
+        data = ByteBuffer.allocateDirect(0);
+        ends = new int[16];
+        size = 0;
+    }
+
+    /**
+     * Appends the encoding of the native row, returning its index.
+     */
+    int add(com.typedb.driver.jni.ConceptRow row) {
+        return add(row, RowCodec.NATIVE);
+    }
+
+    /**
+     * Appends the encoding of the row, returning its index.
+     */
+    public <T> int add(T row, RowCodec<T> codec) {
+        int position = byteSize();
+        long length = codec.encode(row, data, position, data.capacity() - position);
+        if (length > data.capacity() - position) {
+            grow(position + length);
+            codec.encode(row, data, position, data.capacity() - position);
+        }
+        if (size + 1 == ends.length) ends = Arrays.copyOf(ends, ends.length * 2);
+        ends[++size] = position + (int) length;
+        return size - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int byteSize() {
+        return ends[size];
+    }
+
+    public ByteBuffer data() {
+        return data;
+    }
+
+    public int offset(int index) {
+        return ends[index];
+    }
+
+    public int length(int index) {
+        return ends[index + 1] - ends[index];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow(long required) {
+        if (required > MAX_CAPACITY) throw new TypeDBDriverException(ANSWER_TOO_LARGE, MAX_CAPACITY);
+        long capacity = Math.max(INITIAL_CAPACITY, data.capacity());
+        while (capacity < required) capacity *= 2;
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.min(capacity, MAX_CAPACITY));
+        data.clear().limit(byteSize());
+        grown.put(data).clear();
+        data = grown;
+    }
+}
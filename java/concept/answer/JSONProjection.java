@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_JSON_PATH;
+
+/**
+ * A set of JSON paths, merged into a tree of path segments. Supported paths start at the root, <code>$</code>,
+ * followed by member segments (<code>.key</code>, <code>['key']</code> or <code>.*</code>) and element segments
+ * (<code>[2]</code> or <code>[*]</code>). A node is terminal when a path ends at it, and its whole subtree is
+ * then selected. Once all paths are added, the subtree of a wildcard is merged into every sibling selected by
+ * key or index, so that a single child node selects the union of the paths that reach it.
+ * Public so that the paths can be tested on their own; use <code>ConceptDocumentIterator.project</code>.
+ */
+public class JSONProjection {
+    private static final char ROOT = '$';
+    private static final String WILDCARD = "*";
+
+    private final Map<String, JSONProjection> members;
+    private final Map<Integer, JSONProjection> elements;
+    private JSONProjection anyMember;
+    private JSONProjection anyElement;
+    private boolean isTerminal;
+
+    private JSONProjection() {
+        members = new HashMap<>();
+        elements = new HashMap<>();
+        anyMember = null;
+        anyElement = null;
+        isTerminal = false;
+    }
+
+    public static JSONProjection of(String... paths) {
+        JSONProjection root = new JSONProjection();
+        for (String path : paths) root.add(path);
+        root.mergeWildcards();
+        return root;
+    }
+
+    public boolean isTerminal() {
+        return isTerminal;
+    }
+
+    /**
+     * Returns the projection of the object member with the given key, or <code>null</code> if it is not selected.
+     */
+    @Nullable
+    public JSONProjection member(String key) {
+        JSONProjection member = members.get(key);
+        return member != null ? member : anyMember;
+    }
+
+    /**
+     * Returns the projection of the array element at the given index, or <code>null</code> if it is not selected.
+     */
+    @Nullable
+    public JSONProjection element(int index) {
+        JSONProjection element = elements.get(index);
+        return element != null ? element : anyElement;
+    }
+
+    private void add(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != ROOT) {
+            throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+        }
+        JSONProjection node = this;
+        int position = 1;
+        while (position < path.length()) {
+            char c = path.charAt(position);
+            if (c == '.') {
+                int end = position + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') end++;
+                String key = path.substring(position + 1, end);
+                if (key.isEmpty()) throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+                node = key.equals(WILDCARD) ? node.anyMember() : node.addMember(key);
+                position = end;
+            } else if (c == '[' && position + 1 < path.length() && isQuote(path.charAt(position + 1))) {
+                StringBuilder key = new StringBuilder();
+                position = readQuotedKey(path, position + 1, key);
+                node = node.addMember(key.toString());
+            } else if (c == '[') {
+                int end = path.indexOf(']', position);
+                if (end < 0) throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+                node = node.element(path.substring(position + 1, end), path);
+                position = end + 1;
+            } else {
+                throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+            }
+        }
+        node.isTerminal = true;
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '\'' || c == '"';
+    }
+
+    /**
+     * Reads the quoted key starting at <code>start</code> into <code>key</code>, up to the matching quote, which
+     * must be followed by the closing bracket. A backslash escapes the next character. Returns the position after
+     * the closing bracket.
+     */
+    private static int readQuotedKey(String path, int start, StringBuilder key) {
+        char quote = path.charAt(start);
+        int position = start + 1;
+        while (position < path.length() && path.charAt(position) != quote) {
+            if (path.charAt(position) == '\\' && position + 1 < path.length()) position++;
+            key.append(path.charAt(position++));
+        }
+        if (position + 1 >= path.length() || path.charAt(position + 1) != ']') {
+            throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+        }
+        return position + 2;
+    }
+
+    private JSONProjection element(String segment, String path) {
+        if (segment.equals(WILDCARD)) return anyElement();
+        try {
+            int index = Integer.parseInt(segment);
+            if (index < 0) throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+            return addElement(index);
+        } catch (NumberFormatException e) {
+            throw new TypeDBDriverException(INVALID_JSON_PATH, path);
+        }
+    }
+
+    private JSONProjection addMember(String key) {
+        return members.computeIfAbsent(key, k -> new JSONProjection());
+    }
+
+    private JSONProjection addElement(int index) {
+        return elements.computeIfAbsent(index, i -> new JSONProjection());
+    }
+
+    private JSONProjection anyMember() {
+        if (anyMember == null) anyMember = new JSONProjection();
+        return anyMember;
+    }
+
+    private JSONProjection anyElement() {
+        if (anyElement == null) anyElement = new JSONProjection();
+        return anyElement;
+    }
+
+    /**
+     * Merges the wildcard subtrees into their siblings selected by key or index, throughout the tree.
+     */
+    private void mergeWildcards() {
+        if (anyMember != null) {
+            for (JSONProjection member : members.values()) member.mergeFrom(anyMember);
+            anyMember.mergeWildcards();
+        }
+        if (anyElement != null) {
+            for (JSONProjection element : elements.values()) element.mergeFrom(anyElement);
+            anyElement.mergeWildcards();
+        }
+        for (JSONProjection member : members.values()) member.mergeWildcards();
+        for (JSONProjection element : elements.values()) element.mergeWildcards();
+    }
+
+    /**
+     * Adds a copy of the paths of <code>other</code> to this node.
+     */
+    private void mergeFrom(JSONProjection other) {
+        isTerminal |= other.isTerminal;
+        other.members.forEach((key, member) -> addMember(key).mergeFrom(member));
+        other.elements.forEach((index, element) -> addElement(index).mergeFrom(element));
+        if (other.anyMember != null) anyMember().mergeFrom(other.anyMember);
+        if (other.anyElement != null) anyElement().mergeFrom(other.anyElement);
+    }
+}
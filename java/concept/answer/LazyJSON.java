@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.ARRAY;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.FALSE;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.NULL;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.NUMBER;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.OBJECT;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.STRING;
+import static com.typedb.driver.concept.answer.EncodedDocumentReader.TRUE;
+
+/**
+ * Lazily decoded views over an encoded document (see <code>EncodedDocumentReader</code>). Objects and arrays are
+ * returned as <code>JSON</code> objects and arrays backed by the encoding: the keys of an object, or the element
+ * offsets of an array, are indexed when it is first accessed, and its values are decoded, and cached, only when
+ * they are read. Nested objects and arrays are skipped over without being decoded. Not thread-safe.
+ * Public so that lazy views can be tested over documents that are already encoded.
+ */
+public final class LazyJSON {
+    private static final int INDEXED_OBJECT_SIZE = 8;
+
+    private LazyJSON() {
+    }
+
+    /**
+     * Returns a lazy view of the document encoded in <code>document</code> at <code>offset</code>.
+     */
+    public static JSON of(ByteBuffer document, int offset) {
+        switch (document.get(offset)) {
+            case NULL:
+                return JSON.nullValue();
+            case FALSE:
+                return JSON.bool(false);
+            case TRUE:
+                return JSON.bool(true);
+            case NUMBER:
+                return JSON.number(document.getDouble(offset + 1));
+            case STRING: {
+                Cursor cursor = new Cursor(document, offset + 1);
+                return JSON.string(cursor.readString());
+            }
+            case ARRAY:
+                return JSON.array(new LazyArray(document, offset + 1));
+            case OBJECT:
+                return JSON.object(new LazyObject(document, offset + 1));
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    /**
+     * Reads the encoding from a position, without moving the position of the underlying buffer.
+     */
+    private static class Cursor {
+        private final ByteBuffer document;
+        private int position;
+
+        private Cursor(ByteBuffer document, int position) {
+            this.document = document;
+            this.position = position;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = document.get(position++);
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) return value;
+            }
+        }
+
+        private String readString() {
+            int length = (int) readVarint();
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) bytes[i] = document.get(position + i);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void skipValue() {
+            switch (document.get(position++)) {
+                case NULL:
+                case FALSE:
+                case TRUE:
+                    break;
+                case NUMBER:
+                    position += Double.BYTES;
+                    break;
+                case STRING: {
+                    int length = (int) readVarint();
+                    position += length;
+                    break;
+                }
+                case ARRAY:
+                case OBJECT:
+                    position += Integer.BYTES + document.getInt(position);
+                    break;
+                default:
+                    throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+            }
+        }
+    }
+
+    /**
+     * The body of an encoded array or object: its byte length, followed by its size and its elements.
+     */
+    private static class Container {
+        final ByteBuffer document;
+        final int size;
+        final int elementsOffset;
+        private JSON[] values;
+
+        private Container(ByteBuffer document, int offset) {
+            this.document = document;
+            Cursor cursor = new Cursor(document, offset + Integer.BYTES);
+            size = (int) cursor.readVarint();
+            elementsOffset = cursor.position;
+        }
+
+        JSON value(int index, int offset) {
+            if (values == null) values = new JSON[size];
+            JSON value = values[index];
+            if (value == null) values[index] = value = LazyJSON.of(document, offset);
+            return value;
+        }
+    }
+
+    private static class LazyArray extends AbstractList<JSON> implements RandomAccess {
+        private final Container body;
+        private int[] offsets;
+
+        private LazyArray(ByteBuffer document, int offset) {
+            body = new Container(document, offset);
+        }
+
+        @Override
+        public JSON get(int index) {
+            if (index < 0 || index >= body.size) throw new IndexOutOfBoundsException(index);
+            if (offsets == null) offsets = index();
+            return body.value(index, offsets[index]);
+        }
+
+        @Override
+        public int size() {
+            return body.size;
+        }
+
+        private int[] index() {
+            int[] offsets = new int[body.size];
+            Cursor cursor = new Cursor(body.document, body.elementsOffset);
+            for (int i = 0; i < body.size; i++) {
+                offsets[i] = cursor.position;
+                cursor.skipValue();
+            }
+            return offsets;
+        }
+    }
+
+    private static class LazyObject extends AbstractMap<String, JSON> {
+        private final Container body;
+        private String[] keys;
+        private int[] offsets;
+        private Map<String, Integer> index;
+
+        private LazyObject(ByteBuffer document, int offset) {
+            body = new Container(document, offset);
+        }
+
+        @Override
+        public int size() {
+            return body.size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public JSON get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : value(i);
+        }
+
+        @Override
+        public Set<Entry<String, JSON>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, JSON>> iterator() {
+                    indexKeys();
+                    return new Iterator<>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < body.size;
+                        }
+
+                        @Override
+                        public Entry<String, JSON> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(keys[i], value(i));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return body.size;
+                }
+            };
+        }
+
+        private JSON value(int i) {
+            return body.value(i, offsets[i]);
+        }
+
+        private int indexOf(Object key) {
+            indexKeys();
+            if (index != null) {
+                Integer i = index.get(key);
+                return i == null ? -1 : i;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) return i;
+            }
+            return -1;
+        }
+
+        private void indexKeys() {
+            if (keys != null) return;
+            String[] keys = new String[body.size];
+            int[] offsets = new int[body.size];
+            Cursor cursor = new Cursor(body.document, body.elementsOffset);
+            for (int i = 0; i < body.size; i++) {
+                keys[i] = cursor.readString();
+                offsets[i] = cursor.position;
+                cursor.skipValue();
+            }
+            if (body.size > INDEXED_OBJECT_SIZE) {
+                Map<String, Integer> index = new HashMap<>(body.size * 4 / 3 + 1);
+                for (int i = 0; i < body.size; i++) index.put(keys[i], i);
+                this.index = index;
+            }
+            this.offsets = offsets;
+            this.keys = keys;
+        }
+    }
+}
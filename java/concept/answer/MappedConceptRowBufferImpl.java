@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.QueryType;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowBuffer;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ROW_INDEX_OUT_OF_BOUNDS;
+
+/**
+ * Rows are spilled to a temporary file mapped into memory, as <code>SpilledRows</code>, while they are drained from
+ * the answer stream in the background. Readers wait for rows that have not been drained yet.
+ */
+public class MappedConceptRowBufferImpl implements ConceptRowBuffer {
+    private static final int SEGMENT_SIZE = 1 << 26;
+
+    private final QueryType queryType;
+    private final TypeCache types;
+    private final SpilledRows<com.typedb.driver.jni.ConceptRow> rows;
+
+    private MappedConceptRowBufferImpl(QueryType queryType, TypeCache types, SpilledRows<com.typedb.driver.jni.ConceptRow> rows) {
+        this.queryType = queryType;
+        this.types = types;
+        this.rows = rows;
+    }
+
+    static MappedConceptRowBufferImpl of(QueryType queryType, Iterator<com.typedb.driver.jni.ConceptRow> rows,
+                                         TypeCache types, Path directory) {
+        return new MappedConceptRowBufferImpl(queryType, types, SpilledRows.of(rows, RowCodec.NATIVE, directory, SEGMENT_SIZE));
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return queryType;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Waits until the answer has been fully drained from the server.
+     */
+    @Override
+    public long size() {
+        return rows.size();
+    }
+
+    @Override
+    public ConceptRow get(long index) throws TypeDBDriverException {
+        if (index < 0 || !rows.await(index)) throw new TypeDBDriverException(ROW_INDEX_OUT_OF_BOUNDS, index, rows.drainedSize());
+        return new ConceptRowImpl(rows.get((int) index), types, null);
+    }
+
+    @Override
+    public ConceptRowIterator iterator() {
+        return new ConceptRowIteratorImpl(queryType, new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return rows.await(index);
+            }
+
+            @Override
+            public com.typedb.driver.jni.ConceptRow next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return rows.get(index++);
+            }
+        }, types);
+    }
+
+    @Override
+    public Stream<ConceptRow> stream() {
+        return iterator().stream();
+    }
+
+    /**
+     * Stops draining the answer and deletes the temporary file. Rows can no longer be read once the buffer is closed.
+     */
+    @Override
+    public void close() {
+        rows.close();
+    }
+}
@@ -22,6 +22,7 @@ package com.typedb.driver.concept.answer;
 import com.typedb.driver.api.QueryType;
 import com.typedb.driver.api.answer.QueryAnswer;
 import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.typedb.driver.jni.typedb_driver.query_answer_get_query_type;
@@ -33,12 +34,20 @@ public abstract class QueryAnswerImpl implements QueryAnswer {
     public final QueryType queryType;
 
     protected QueryAnswerImpl(com.typedb.driver.jni.QueryAnswer answer) {
-        queryType = QueryType.of(query_answer_get_query_type(answer));
+        this(QueryType.of(query_answer_get_query_type(answer)));
+    }
+
+    protected QueryAnswerImpl(QueryType queryType) {
+        this.queryType = queryType;
     }
 
     public static QueryAnswerImpl of(com.typedb.driver.jni.QueryAnswer concept) throws TypeDBDriverException  {
+        return of(concept, TypeCache.disabled());
+    }
+
+    public static QueryAnswerImpl of(com.typedb.driver.jni.QueryAnswer concept, TypeCache types) throws TypeDBDriverException  {
         if (query_answer_is_ok(concept)) return new OkQueryAnswerImpl(concept);
-        else if (query_answer_is_concept_row_stream(concept)) return new ConceptRowIteratorImpl(concept);
+        else if (query_answer_is_concept_row_stream(concept)) return new ConceptRowIteratorImpl(concept, types);
         else if (query_answer_is_concept_document_stream(concept)) return new ConceptDocumentIteratorImpl(concept);
         throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
     }
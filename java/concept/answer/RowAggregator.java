@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.RowAggregate;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_NOT_GROUPABLE;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_NOT_NUMERIC;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_OVERFLOW;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_WAIT_INTERRUPTED;
+
+/**
+ * Computes a <code>RowAggregate</code> in parallel. Rows are pulled from the answer and encoded in batches on the
+ * calling thread, and batches are aggregated on a pool of driver threads, so that the calling thread can wait for
+ * capacity without starving a shared pool. Every worker aggregates into an accumulator that no other worker is using,
+ * and the accumulators are combined once all batches are done.
+ */
+public class RowAggregator {
+    private static final int BATCH_SIZE = 4096;
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadPoolExecutor POOL = new ThreadPoolExecutor(
+            PARALLELISM, PARALLELISM, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+        Thread thread = new Thread(task, "typedb-aggregate-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        POOL.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Aggregates the rows. The columns of the aggregation are resolved against <code>columnNames</code> if the
+     * header of the rows is known in advance, so that a missing column is reported even if there are no rows,
+     * and otherwise against the first row.
+     */
+    public static <T, R> R aggregate(Iterator<T> rows, RowCodec<T> codec, @Nullable List<String> columnNames,
+                                     RowAggregate<R> aggregate) {
+        Semaphore batchesInFlight = new Semaphore(PARALLELISM * 2);
+        ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+        List<Worker> workers = new ArrayList<>();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        AtomicBoolean isFailed = new AtomicBoolean(false);
+        Accumulator.Factory factory = columnNames != null ? Accumulator.factory(aggregate, columnNames) : null;
+        try {
+            // stop pulling rows as soon as a batch fails: the aggregation fails anyway
+            while (rows.hasNext() && !isFailed.get()) {
+                EncodedRows batch = new EncodedRows();
+                while (batch.size() < BATCH_SIZE && rows.hasNext()) {
+                    T row = rows.next();
+                    try {
+                        if (factory == null) {
+                            columnNames = codec.columnNames(row);
+                            factory = Accumulator.factory(aggregate, columnNames);
+                        }
+                        batch.add(row, codec);
+                    } finally {
+                        codec.delete(row);
+                    }
+                }
+                Accumulator.Factory batchFactory = factory;
+                batchesInFlight.acquire();
+                batches.add(CompletableFuture.runAsync(() -> {
+                    Worker worker = idleWorkers.poll();
+                    if (worker == null) {
+                        worker = new Worker(batchFactory.create());
+                        synchronized (workers) {
+                            workers.add(worker);
+                        }
+                    }
+                    try {
+                        worker.aggregate(batch);
+                    } catch (RuntimeException e) {
+                        isFailed.set(true);
+                        throw e;
+                    } finally {
+                        idleWorkers.add(worker);
+                        batchesInFlight.release();
+                    }
+                }, POOL));
+            }
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TypeDBDriverException(ANSWER_WAIT_INTERRUPTED);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+        Accumulator result = Accumulator.factory(aggregate, columnNames).create();
+        for (Worker worker : workers) result.combine(worker.accumulator);
+        @SuppressWarnings("unchecked") R value = (R) result.result();
+        return value;
+    }
+
+    private static class Worker {
+        private final Accumulator accumulator;
+        private final EncodedRowReader reader;
+
+        private Worker(Accumulator accumulator) {
+            this.accumulator = accumulator;
+            this.reader = new EncodedRowReader();
+        }
+
+        private void aggregate(EncodedRows batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                reader.read(batch.data(), batch.offset(i), batch.length(i));
+                accumulator.add(reader);
+            }
+        }
+    }
+
+    private static abstract class Accumulator {
+        abstract void add(EncodedRowReader row);
+
+        abstract void combine(Accumulator other);
+
+        abstract Object result();
+
+        @FunctionalInterface
+        interface Factory {
+            Accumulator create();
+        }
+
+        /**
+         * Resolves the columns of the aggregation against the answer header, which is <code>null</code> if it is not
+         * known in advance and the answer has no rows.
+         */
+        static Factory factory(RowAggregate<?> aggregate, @Nullable List<String> columnNames) {
+            int column = -1;
+            if (aggregate.column() != null && columnNames != null) {
+                column = columnNames.indexOf(aggregate.column());
+                if (column < 0) throw new TypeDBDriverException(ROW_AGGREGATE_MISSING_COLUMN, aggregate.column(), columnNames);
+            }
+            int index = column;
+            String name = aggregate.column();
+            switch (aggregate.operation()) {
+                case COUNT:
+                    return Count::new;
+                case COUNT_COLUMN:
+                    return () -> new CountColumn(index);
+                case SUM:
+                    return () -> new Sum(index, name);
+                case MIN:
+                    return () -> new Extreme(index, name, false);
+                case MAX:
+                    return () -> new Extreme(index, name, true);
+                case HISTOGRAM:
+                    return () -> new Histogram(index, name, aggregate.lowerBound(), aggregate.upperBound(), aggregate.buckets());
+                case GROUP_BY:
+                    Factory downstream = factory(aggregate.downstream(), columnNames);
+                    return () -> new GroupBy(index, name, downstream);
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+
+        static double readNumber(EncodedRowReader row, int column, String name) {
+            return row.readNumber(column, () -> new TypeDBDriverException(ROW_AGGREGATE_NOT_NUMERIC, name));
+        }
+    }
+
+    private static class Count extends Accumulator {
+        private long count = 0;
+
+        @Override
+        void add(EncodedRowReader row) {
+            count++;
+        }
+
+        @Override
+        void combine(Accumulator other) {
+            count += ((Count) other).count;
+        }
+
+        @Override
+        Object result() {
+            return count;
+        }
+    }
+
+    private static class CountColumn extends Accumulator {
+        private final int column;
+        private long count = 0;
+
+        private CountColumn(int column) {
+            this.column = column;
+        }
+
+        @Override
+        void add(EncodedRowReader row) {
+            if (!row.isEmpty(column)) count++;
+        }
+
+        @Override
+        void combine(Accumulator other) {
+            count += ((CountColumn) other).count;
+        }
+
+        @Override
+        Object result() {
+            return count;
+        }
+    }
+
+    private static class Sum extends Accumulator {
+        private final int column;
+        private final String name;
+        private long integerSum = 0;
+        private double doubleSum = 0;
+        private boolean hasDouble = false;
+
+        private Sum(int column, String name) {
+            this.column = column;
+            this.name = name;
+        }
+
+        @Override
+        void add(EncodedRowReader row) {
+            if (row.isEmpty(column)) return;
+            if (row.seekValue(column) == EncodedRowReader.INTEGER) addInteger(row.readInteger());
+            else {
+                doubleSum += readNumber(row, column, name);
+                hasDouble = true;
+            }
+        }
+
+        private void addInteger(long value) {
+            try {
+                integerSum = Math.addExact(integerSum, value);
+            } catch (ArithmeticException e) {
+                throw new TypeDBDriverException(ROW_AGGREGATE_OVERFLOW, name);
+            }
+        }
+
+        @Override
+        void combine(Accumulator other) {
+            Sum sum = (Sum) other;
+            addInteger(sum.integerSum);
+            doubleSum += sum.doubleSum;
+            hasDouble |= sum.hasDouble;
+        }
+
+        @Override
+        Object result() {
+            if (hasDouble) return integerSum + doubleSum;
+            return integerSum;
+        }
+    }
+
+    /**
+     * Tracks the extreme of each numeric value type in its own type, so that integers and decimals are compared
+     * exactly, and compares the three exactly for the result.
+     */
+    private static class Extreme extends Accumulator {
+        private final int column;
+        private final String name;
+        private final boolean isMax;
+        private Long integerExtreme = null;
+        private BigDecimal decimalExtreme = null;
+        private Double doubleExtreme = null;
+
+        private Extreme(int column, String name, boolean isMax) {
+            this.column = column;
+            this.name = name;
+            this.isMax = isMax;
+        }
+
+        @Override
+        void add(EncodedRowReader row) {
+            if (row.isEmpty(column)) return;
+            switch (row.seekValue(column)) {
+                case EncodedRowReader.INTEGER:
+                    offerInteger(row.readInteger());
+                    break;
+                case EncodedRowReader.DOUBLE:
+                    offerDouble(row.readDouble());
+                    break;
+                case EncodedRowReader.DECIMAL:
+                    offerDecimal(row.readDecimal());
+                    break;
+                default:
+                    throw new TypeDBDriverException(ROW_AGGREGATE_NOT_NUMERIC, name);
+            }
+        }
+
+        private void offerInteger(long value) {
+            if (integerExtreme == null || isBetter(Long.compare(value, integerExtreme))) integerExtreme = value;
+        }
+
+        private void offerDouble(double value) {
+            if (Double.isNaN(value)) return;
+            if (doubleExtreme == null || isBetter(Double.compare(value, doubleExtreme))) doubleExtreme = value;
+        }
+
+        private void offerDecimal(BigDecimal value) {
+            if (decimalExtreme == null || isBetter(value.compareTo(decimalExtreme))) decimalExtreme = value;
+        }
+
+        private boolean isBetter(int comparison) {
+            return isMax ? comparison > 0 : comparison < 0;
+        }
+
+        @Override
+        void combine(Accumulator other) {
+            Extreme extreme = (Extreme) other;
+            if (extreme.integerExtreme != null) offerInteger(extreme.integerExtreme);
+            if (extreme.doubleExtreme != null) offerDouble(extreme.doubleExtreme);
+            if (extreme.decimalExtreme != null) offerDecimal(extreme.decimalExtreme);
+        }
+
+        @Override
+        Object result() {
+            Number result = null;
+            for (Number candidate : new Number[]{integerExtreme, decimalExtreme, doubleExtreme}) {
+                if (candidate != null && (result == null || isBetter(compare(candidate, result)))) result = candidate;
+            }
+            return Optional.ofNullable(result);
+        }
+
+        private static int compare(Number first, Number second) {
+            if (isInfinite(first) || isInfinite(second)) return Double.compare(first.doubleValue(), second.doubleValue());
+            return toDecimal(first).compareTo(toDecimal(second));
+        }
+
+        private static boolean isInfinite(Number number) {
+            return number instanceof Double && ((Double) number).isInfinite();
+        }
+
+        private static BigDecimal toDecimal(Number number) {
+            if (number instanceof Long) return BigDecimal.valueOf((Long) number);
+            if (number instanceof Double) return new BigDecimal((Double) number);
+            return (BigDecimal) number;
+        }
+    }
+
+    private static class Histogram extends Accumulator {
+        private final int column;
+        private final String name;
+        private final double lowerBound;
+        private final double width;
+        private final long[] counts;
+
+        private Histogram(int column, String name, double lowerBound, double upperBound, int buckets) {
+            this.column = column;
+            this.name = name;
+            this.lowerBound = lowerBound;
+            this.width = (upperBound - lowerBound) / buckets;
+            this.counts = new long[buckets];
+        }
+
+        @Override
+        void add(EncodedRowReader row) {
+            double value = readNumber(row, column, name);
+            if (Double.isNaN(value)) return;
+            int bucket = (int) Math.floor((value - lowerBound) / width);
+            counts[Math.max(0, Math.min(counts.length - 1, bucket))]++;
+        }
+
+        @Override
+        void combine(Accumulator other) {
+            long[] otherCounts = ((Histogram) other).counts;
+            for (int i = 0; i < counts.length; i++) counts[i] += otherCounts[i];
+        }
+
+        @Override
+        Object result() {
+            return counts.clone();
+        }
+    }
+
+    private static class GroupBy extends Accumulator {
+        private final int column;
+        private final String name;
+        private final Factory downstream;
+        private final Map<Object, Accumulator> groups = new HashMap<>();
+
+        private GroupBy(int column, String name, Factory downstream) {
+            this.column = column;
+            this.name = name;
+            this.downstream = downstream;
+        }
+
+        @Override
+        void add(EncodedRowReader row) {
+            if (row.seekValue(column) == EncodedRowReader.STRUCT) {
+                throw new TypeDBDriverException(ROW_AGGREGATE_NOT_GROUPABLE, name);
+            }
+            groups.computeIfAbsent(row.readKey(column), key -> downstream.create()).add(row);
+        }
+
+        @Override
+        void combine(Accumulator other) {
+            ((GroupBy) other).groups.forEach((key, accumulator) ->
+                    groups.computeIfAbsent(key, k -> downstream.create()).combine(accumulator));
+        }
+
+        @Override
+        Object result() {
+            Map<Object, Object> result = new HashMap<>();
+            groups.forEach((key, accumulator) -> result.put(key, accumulator.result()));
+            return result;
+        }
+    }
+}
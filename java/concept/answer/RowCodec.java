@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.ConceptImpl;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.typedb.driver.jni.typedb_driver.concept_row_decode;
+import static com.typedb.driver.jni.typedb_driver.concept_row_encode;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_column_names;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_index;
+
+/**
+ * The operations on rows that the driver's client-side row algorithms, such as aggregation, sorting, spilling and
+ * CSV export, perform natively: encoding a row into the compact encoding read by <code>EncodedRowReader</code>,
+ * decoding it back, reading the column names of its header or the concept in a column, and freeing it. The algorithms
+ * take a <code>RowCodec</code> rather than calling the native driver directly, which is the seam through which the
+ * driver's unit tests run them over rows that are already encoded. Use <code>RowCodec.NATIVE</code> for native rows.
+ *
+ * @param <T> the type of the rows
+ */
+public interface RowCodec<T> {
+    RowCodec<com.typedb.driver.jni.ConceptRow> NATIVE = new RowCodec<>() {
+        @Override
+        public long encode(com.typedb.driver.jni.ConceptRow row, ByteBuffer buffer, int offset, int capacity) {
+            return concept_row_encode(row, buffer, offset, capacity);
+        }
+
+        @Override
+        public com.typedb.driver.jni.ConceptRow decode(com.typedb.driver.jni.ConceptRow header, ByteBuffer buffer,
+                                                       int offset, int length) {
+            try {
+                return concept_row_decode(header, buffer, offset, length);
+            } catch (com.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            }
+        }
+
+        @Override
+        public List<String> columnNames(com.typedb.driver.jni.ConceptRow row) {
+            return new NativeIterator<>(concept_row_get_column_names(row)).stream().collect(Collectors.toList());
+        }
+
+        @Override
+        public Concept concept(com.typedb.driver.jni.ConceptRow row, int column, TypeCache types) {
+            try {
+                return ConceptImpl.of(concept_row_get_index(row, column), types);
+            } catch (com.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            }
+        }
+
+        @Override
+        public void delete(com.typedb.driver.jni.ConceptRow row) {
+            row.delete();
+        }
+    };
+
+    /**
+     * Encodes the row into <code>buffer[offset .. offset + capacity)</code> if it fits, and returns the length of
+     * its encoding either way.
+     */
+    long encode(T row, ByteBuffer buffer, int offset, int capacity);
+
+    /**
+     * Decodes the row encoded in <code>buffer[offset .. offset + length)</code>, with the header of
+     * <code>header</code>.
+     */
+    T decode(T header, ByteBuffer buffer, int offset, int length);
+
+    List<String> columnNames(T row);
+
+    /**
+     * Returns the concept in the non-empty column of the row, interning its type in <code>types</code>.
+     */
+    Concept concept(T row, int column, TypeCache types);
+
+    void delete(T row);
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPING_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPING_UNSUPPORTED_FIELD;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPING_VALUE_MISMATCH;
+
+/**
+ * Maps <code>ConceptRow</code>s onto instances of a class by column name. The reflective description of the class
+ * is cached per class, and the column index of every field is resolved once, from the header of the first row.
+ * Values are read from the compact encoding of each row, and only fields typed as <code>Concept</code>s create
+ * <code>Concept</code>s. Not thread-safe.
+ *
+ * @param <T> the type of the rows
+ * @param <R> the type onto which rows are mapped
+ */
+public class RowMapper<T, R> {
+    private static final ClassValue<List<Property>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<Property> computeValue(Class<?> type) {
+            BindingTarget target = BindingTarget.of(type);
+            List<Property> properties = new ArrayList<>();
+            for (int i = 0; i < target.size(); i++) properties.add(Property.of(target.name(i), target.type(i)));
+            return properties;
+        }
+    };
+    private static final Object MISMATCH = new Object();
+
+    private final Class<R> type;
+    private final RowCodec<T> codec;
+    private final BindingTarget target;
+    private final List<Property> properties;
+    private final TypeCache types;
+    private final EncodedRowReader cells;
+    private int[] columns;
+
+    public RowMapper(Class<R> type, RowCodec<T> codec, TypeCache types) {
+        this.type = type;
+        this.codec = codec;
+        this.target = BindingTarget.of(type);
+        this.properties = PROPERTIES.get(type);
+        this.types = types;
+        this.cells = new EncodedRowReader();
+        this.columns = null;
+    }
+
+    /**
+     * Maps the row onto a new instance. The row is not freed.
+     */
+    public R map(T row) {
+        if (columns == null) columns = plan(row);
+        cells.read(row, codec);
+        IntFunction<Concept> concepts = column -> codec.concept(row, column, types);
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Property property = properties.get(i);
+            Object value = property.read(cells, concepts, columns[i]);
+            if (value == MISMATCH) {
+                throw new TypeDBDriverException(ROW_MAPPING_VALUE_MISMATCH, codec.columnNames(row).get(columns[i]), property.name, property.type.getTypeName());
+            }
+            values[i] = value;
+        }
+        return type.cast(target.create(values));
+    }
+
+    private int[] plan(T row) {
+        List<String> columnNames = codec.columnNames(row);
+        int[] columns = new int[properties.size()];
+        for (int i = 0; i < columns.length; i++) {
+            String name = properties.get(i).name;
+            columns[i] = columnNames.indexOf(name);
+            if (columns[i] < 0) throw new TypeDBDriverException(ROW_MAPPING_MISSING_COLUMN, name, columnNames);
+        }
+        return columns;
+    }
+
+    /**
+     * A field or record component, with the reader for its type.
+     */
+    private static class Property {
+        private final String name;
+        private final Type type;
+        private final boolean isPrimitive;
+        private final boolean isOptional;
+        private final CellReader reader;
+
+        private Property(String name, Type type, boolean isPrimitive, boolean isOptional, CellReader reader) {
+            this.name = name;
+            this.type = type;
+            this.isPrimitive = isPrimitive;
+            this.isOptional = isOptional;
+            this.reader = reader;
+        }
+
+        static Property of(String name, Type type) {
+            Type valueType = type;
+            boolean isOptional = false;
+            if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == Optional.class) {
+                valueType = ((ParameterizedType) type).getActualTypeArguments()[0];
+                isOptional = true;
+            }
+            if (!(valueType instanceof Class)) throw new TypeDBDriverException(ROW_MAPPING_UNSUPPORTED_FIELD, name, type.getTypeName());
+            Class<?> valueClass = (Class<?>) valueType;
+            CellReader reader = CellReader.of(valueClass);
+            if (reader == null) throw new TypeDBDriverException(ROW_MAPPING_UNSUPPORTED_FIELD, name, type.getTypeName());
+            return new Property(name, type, valueClass.isPrimitive(), isOptional, reader);
+        }
+
+        Object read(EncodedRowReader cells, IntFunction<Concept> concepts, int column) {
+            if (cells.isEmpty(column)) {
+                if (isOptional) return Optional.empty();
+                else return isPrimitive ? MISMATCH : null;
+            }
+            Object value = reader.read(cells, concepts, column);
+            return isOptional && value != MISMATCH ? Optional.of(value) : value;
+        }
+    }
+
+    @FunctionalInterface
+    private interface CellReader {
+        /**
+         * Reads the non-empty column, returning <code>MISMATCH</code> if it cannot be read as the reader's type.
+         * The concepts of the row are created by <code>concepts</code>, by column.
+         */
+        Object read(EncodedRowReader cells, IntFunction<Concept> concepts, int column);
+
+        static CellReader of(Class<?> type) {
+            if (type == String.class) return value(EncodedRowReader.STRING, EncodedRowReader::readString);
+            else if (type == long.class || type == Long.class) return value(EncodedRowReader.INTEGER, EncodedRowReader::readInteger);
+            else if (type == int.class || type == Integer.class) return value(EncodedRowReader.INTEGER, RowMapper::readInt);
+            else if (type == double.class || type == Double.class) return value(EncodedRowReader.DOUBLE, EncodedRowReader::readDouble);
+            else if (type == boolean.class || type == Boolean.class) return value(EncodedRowReader.BOOLEAN, EncodedRowReader::readBoolean);
+            else if (type == BigDecimal.class) return value(EncodedRowReader.DECIMAL, EncodedRowReader::readDecimal);
+            else if (type == LocalDate.class) return value(EncodedRowReader.DATE, EncodedRowReader::readDate);
+            else if (type == LocalDateTime.class) return value(EncodedRowReader.DATETIME, EncodedRowReader::readDatetime);
+            else if (type == ZonedDateTime.class) return value(EncodedRowReader.DATETIME_TZ, EncodedRowReader::readDatetimeTZ);
+            else if (type == Duration.class) return value(EncodedRowReader.DURATION, EncodedRowReader::readDuration);
+            else if (Concept.class.isAssignableFrom(type)) return concept(type);
+            else return null;
+        }
+
+        private static CellReader value(byte valueType, Function<EncodedRowReader, Object> read) {
+            return (cells, concepts, column) -> cells.seekValue(column) == valueType ? read.apply(cells) : MISMATCH;
+        }
+
+        private static CellReader concept(Class<?> type) {
+            return (cells, concepts, column) -> {
+                Concept concept = concepts.apply(column);
+                return type.isInstance(concept) ? concept : MISMATCH;
+            };
+        }
+    }
+
+    private static Object readInt(EncodedRowReader cells) {
+        long value = cells.readInteger();
+        return value == (int) value ? (Object) (int) value : MISMATCH;
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.RowOrder;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_SPILL_FAILED;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * External merge sort of an answer stream. Every row is encoded as it arrives, alongside a binary sort key that
+ * compares as unsigned bytes in the order of the rows, so runs are sorted without creating <code>Concept</code>s.
+ * Whenever the encoded rows and keys exceed the memory limit, the run is sorted and written to a temporary file;
+ * the runs are then merged lazily as the sorted rows are consumed. The sort is stable. The temporary files and the
+ * native header row are released once the sorted rows are exhausted, or once the sorted iterator is unreachable.
+ *
+ * @param <T> the type of the rows
+ */
+public class RowSorter<T> {
+    private static final int ROW_OVERHEAD = 64;
+    private static final int IO_BUFFER_SIZE = 1 << 20;
+    private static final int MIN_READ_BUFFER_SIZE = 1 << 16;
+    private static final String FILE_PREFIX = "typedb-sort-";
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final RowCodec<T> codec;
+    private final RowOrder order;
+    private final long memoryLimit;
+    private final Path directory;
+    private final EncodedRowReader reader;
+    private final KeyBuilder key;
+    private final EncodedRows rows;
+    private final List<Entry> entries;
+    private final List<FileChannel> runs;
+    private long keyBytes;
+    private int[] columns;
+    private T headerRow;
+    private Cleaner.Cleanable cleanable;
+
+    private RowSorter(RowCodec<T> codec, RowOrder order, long memoryLimit, Path directory) {
+        this.codec = codec;
+        this.order = order;
+        this.memoryLimit = memoryLimit;
+        this.directory = directory;
+        reader = new EncodedRowReader();
+        key = new KeyBuilder();
+        rows = new EncodedRows();
+        entries = new ArrayList<>();
+        runs = new ArrayList<>();
+        keyBytes = 0;
+        columns = null;
+        headerRow = null;
+        cleanable = null;
+    }
+
+    /**
+     * Consumes all the rows, and returns an iterator over them in sorted order. The columns of the order are resolved
+     * against <code>columnNames</code> if the header of the rows is known in advance, so that a missing column is
+     * reported even if there are no rows, and otherwise against the first row.
+     */
+    public static <T> Iterator<T> sort(Iterator<T> rows, RowCodec<T> codec, @Nullable List<String> columnNames,
+                                       RowOrder order, long memoryLimit, Path directory) {
+        RowSorter<T> sorter = new RowSorter<>(codec, order, memoryLimit, directory);
+        try {
+            if (columnNames != null) sorter.columns = sorter.resolveColumns(columnNames);
+            while (rows.hasNext()) sorter.add(rows.next());
+            Iterator<T> sorted;
+            if (sorter.runs.isEmpty()) sorted = sorter.inMemory();
+            else {
+                if (!sorter.entries.isEmpty()) sorter.spill();
+                sorted = sorter.merge();
+            }
+            // the cleaning action must not reach the iterator, or it would never become unreachable
+            sorter.cleanable = CLEANER.register(sorted, sorter::close);
+            return sorted;
+        } catch (RuntimeException e) {
+            sorter.close();
+            throw e;
+        }
+    }
+
+    private void add(T row) {
+        int index;
+        try {
+            if (columns == null) columns = resolveColumns(codec.columnNames(row));
+            index = rows.add(row, codec);
+        } catch (RuntimeException e) {
+            codec.delete(row);
+            throw e;
+        }
+        if (headerRow == null) headerRow = row;
+        else codec.delete(row);
+        reader.read(rows.data(), rows.offset(index), rows.length(index));
+        key.clear();
+        for (int i = 0; i < columns.length; i++) {
+            int start = key.size();
+            reader.appendSortKey(columns[i], key);
+            if (order.isDescending(i)) key.invert(start);
+        }
+        byte[] bytes = key.toByteArray();
+        entries.add(new Entry(bytes, index));
+        keyBytes += bytes.length;
+        if (rows.byteSize() + keyBytes + (long) entries.size() * ROW_OVERHEAD > memoryLimit) spill();
+    }
+
+    private int[] resolveColumns(List<String> columnNames) {
+        int[] resolved = new int[order.columns().size()];
+        for (int i = 0; i < resolved.length; i++) {
+            String column = order.columns().get(i);
+            resolved[i] = columnNames.indexOf(column);
+            if (resolved[i] < 0) throw new TypeDBDriverException(ROW_AGGREGATE_MISSING_COLUMN, column, columnNames);
+        }
+        return resolved;
+    }
+
+    private void spill() {
+        entries.sort(Entry::compareTo);
+        try {
+            Path path = Files.createTempFile(directory, FILE_PREFIX, null);
+            FileChannel file;
+            try {
+                file = FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE);
+            } catch (IOException e) {
+                Files.deleteIfExists(path);
+                throw e;
+            }
+            runs.add(file);
+            ByteBuffer out = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+            ByteBuffer data = rows.data().duplicate();
+            for (Entry entry : entries) {
+                int length = rows.length(entry.row);
+                if (out.remaining() < Integer.BYTES * 2 + entry.key.length + length) {
+                    flush(out, file);
+                    if (out.capacity() < Integer.BYTES * 2 + entry.key.length + length) {
+                        out = ByteBuffer.allocateDirect(Integer.BYTES * 2 + entry.key.length + length);
+                    }
+                }
+                int offset = rows.offset(entry.row);
+                data.limit(offset + length).position(offset);
+                out.putInt(entry.key.length).put(entry.key).putInt(length).put(data);
+            }
+            flush(out, file);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_SPILL_FAILED, e.getMessage());
+        }
+        rows.clear();
+        entries.clear();
+        keyBytes = 0;
+    }
+
+    private static void flush(ByteBuffer out, FileChannel file) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) file.write(out);
+        out.clear();
+    }
+
+    private Iterator<T> inMemory() {
+        entries.sort(Entry::compareTo);
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (next < entries.size()) return true;
+                cleanable.clean();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                int row = entries.get(next++).row;
+                return decode(rows.data(), rows.offset(row), rows.length(row));
+            }
+        };
+    }
+
+    private Iterator<T> merge() {
+        int bufferSize = (int) Math.max(MIN_READ_BUFFER_SIZE, Math.min(IO_BUFFER_SIZE, memoryLimit / runs.size()));
+        PriorityQueue<Run> queue = new PriorityQueue<>();
+        for (int i = 0; i < runs.size(); i++) {
+            Run run = new Run(runs.get(i), i, bufferSize);
+            if (run.advance()) queue.add(run);
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (!queue.isEmpty()) return true;
+                cleanable.clean();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Run run = queue.poll();
+                T row = decode(run.buffer, run.rowOffset, run.rowLength);
+                if (run.advance()) queue.add(run);
+                return row;
+            }
+        };
+    }
+
+    private T decode(ByteBuffer buffer, int offset, int length) {
+        return codec.decode(headerRow, buffer, offset, length);
+    }
+
+    /**
+     * Deletes the temporary files and the native header row. Runs at most once per sort through
+     * <code>cleanable</code>, possibly on the cleaner's thread. Cleaning is idempotent, so the sorted iterator
+     * cleans again every time it reports that it is exhausted.
+     */
+    private synchronized void close() {
+        for (FileChannel run : runs) {
+            try {
+                run.close();
+            } catch (IOException ignored) {
+            }
+        }
+        runs.clear();
+        if (headerRow != null) codec.delete(headerRow);
+        headerRow = null;
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        private final byte[] key;
+        private final int row;
+
+        private Entry(byte[] key, int row) {
+            this.key = key;
+            this.row = row;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Arrays.compareUnsigned(key, other.key);
+        }
+    }
+
+    /**
+     * A sorted run being read back from its file. The current record is held in <code>buffer</code>.
+     */
+    private static class Run implements Comparable<Run> {
+        private final FileChannel file;
+        private final int index;
+        private ByteBuffer buffer;
+        private long filePosition;
+        private byte[] key;
+        private int rowOffset;
+        private int rowLength;
+
+        private Run(FileChannel file, int index, int bufferSize) {
+            this.file = file;
+            this.index = index;
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+            buffer.limit(0);
+            filePosition = 0;
+        }
+
+        private boolean advance() {
+            try {
+                if (!fill(Integer.BYTES)) return false;
+                key = new byte[buffer.getInt()];
+                if (!fill(key.length + Integer.BYTES)) throw new TypeDBDriverException(ANSWER_SPILL_FAILED, "truncated run");
+                buffer.get(key);
+                rowLength = buffer.getInt();
+                if (!fill(rowLength)) throw new TypeDBDriverException(ANSWER_SPILL_FAILED, "truncated run");
+                rowOffset = buffer.position();
+                buffer.position(rowOffset + rowLength);
+                return true;
+            } catch (IOException e) {
+                throw new TypeDBDriverException(ANSWER_SPILL_FAILED, e.getMessage());
+            }
+        }
+
+        /**
+         * Ensures that at least <code>length</code> bytes are buffered, returning <code>false</code> at the end of
+         * the file.
+         */
+        private boolean fill(int length) throws IOException {
+            if (buffer.remaining() >= length) return true;
+            if (buffer.capacity() < length) {
+                ByteBuffer grown = ByteBuffer.allocateDirect(length);
+                grown.put(buffer);
+                buffer = grown;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < length) {
+                int read = file.read(buffer, filePosition);
+                if (read < 0) break;
+                filePosition += read;
+            }
+            buffer.flip();
+            return buffer.remaining() >= length;
+        }
+
+        @Override
+        public int compareTo(Run other) {
+            int order = Arrays.compareUnsigned(key, other.key);
+            return order != 0 ? order : Integer.compare(index, other.index);
+        }
+    }
+
+    /**
+     * A growable byte array into which <code>EncodedRowReader</code> writes sort keys. Signed integers are
+     * written with their sign bit flipped and doubles in their ordered bit pattern, both big-endian, so that
+     * keys compare correctly as unsigned bytes.
+     */
+    static class KeyBuilder {
+        private byte[] bytes;
+        private int size;
+
+        private KeyBuilder() {
+            bytes = new byte[64];
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void put(int b) {
+            if (size == bytes.length) bytes = Arrays.copyOf(bytes, size * 2);
+            bytes[size++] = (byte) b;
+        }
+
+        void putInt(int value) {
+            putUnsignedInt(value ^ Integer.MIN_VALUE);
+        }
+
+        void putUnsignedInt(int value) {
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) put(value >>> shift);
+        }
+
+        void putLong(long value) {
+            putUnsignedLong(value ^ Long.MIN_VALUE);
+        }
+
+        void putUnsignedLong(long value) {
+            for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) put((int) (value >>> shift));
+        }
+
+        void putDouble(double value) {
+            long bits = Double.doubleToLongBits(value == 0.0 ? 0.0 : value);
+            putUnsignedLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+        }
+
+        /**
+         * Inverts the bytes written since <code>start</code>, reversing their order.
+         */
+        void invert(int start) {
+            for (int i = start; i < size; i++) bytes[i] = (byte) ~bytes[i];
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
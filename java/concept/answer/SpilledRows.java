@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_BUFFER_CLOSED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_SPILL_FAILED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_WAIT_INTERRUPTED;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Rows are drained from the answer stream by a background thread and encoded into a temporary file, which is mapped
+ * into memory in segments. A row never spans two segments. Readers wait for rows that have not been drained yet.
+ * The file is deleted when the rows are closed. Answers are drained on a shared pool of daemon threads, which grows
+ * with the number of answers being drained at once, as draining blocks on the server.
+ *
+ * @param <T> the type of the rows
+ */
+public class SpilledRows<T> {
+    private static final String FILE_PREFIX = "typedb-answer-";
+    private static final AtomicInteger DRAINER_COUNT = new AtomicInteger();
+    private static final ExecutorService DRAINERS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "typedb-answer-spill-" + DRAINER_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final RowCodec<T> codec;
+    private final int segmentSize;
+    private final FileChannel file;
+    private final List<MappedByteBuffer> segments;
+    private long fileSize;
+    private T headerRow;
+    private int[] rowSegments;
+    private int[] rowOffsets;
+    private int[] rowLengths;
+    private int size;
+    private int decoding;
+    private boolean isDrained;
+    private boolean isClosed;
+    private TypeDBDriverException error;
+
+    private SpilledRows(RowCodec<T> codec, int segmentSize, FileChannel file) {
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.file = file;
+        segments = new ArrayList<>();
+        fileSize = 0;
+        headerRow = null;
+        rowSegments = new int[16];
+        rowOffsets = new int[16];
+        rowLengths = new int[16];
+        size = 0;
+        decoding = 0;
+        isDrained = false;
+        isClosed = false;
+        error = null;
+    }
+
+    /**
+     * Starts draining the rows into a temporary file in <code>directory</code>, mapped in segments of
+     * <code>segmentSize</code> bytes, or larger for rows which do not fit into one.
+     */
+    public static <T> SpilledRows<T> of(Iterator<T> rows, RowCodec<T> codec, Path directory, int segmentSize) {
+        FileChannel file;
+        try {
+            Path path = Files.createTempFile(directory, FILE_PREFIX, null);
+            file = FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_SPILL_FAILED, e.getMessage());
+        }
+        SpilledRows<T> spilled = new SpilledRows<>(codec, segmentSize, file);
+        DRAINERS.execute(() -> spilled.drain(rows));
+        return spilled;
+    }
+
+    private void drain(Iterator<T> rows) {
+        try {
+            MappedByteBuffer segment = null;
+            int position = 0;
+            while (rows.hasNext() && !isClosed()) {
+                T row = rows.next();
+                boolean isRetained = false;
+                try {
+                    if (segment == null) segment = mapSegment(segmentSize);
+                    long length = codec.encode(row, segment, position, segment.capacity() - position);
+                    if (length > segment.capacity() - position) {
+                        segment = mapSegment(Math.max(segmentSize, length));
+                        position = 0;
+                        codec.encode(row, segment, position, segment.capacity());
+                    }
+                    isRetained = append(row, segments.size() - 1, position, (int) length);
+                    position += (int) length;
+                } finally {
+                    if (!isRetained) codec.delete(row);
+                }
+            }
+            finishDrain(null);
+        } catch (TypeDBDriverException e) {
+            finishDrain(e);
+        } catch (IOException e) {
+            finishDrain(new TypeDBDriverException(ANSWER_SPILL_FAILED, e.getMessage()));
+        } catch (Throwable e) {
+            // readers must never be left waiting for a drain that has died
+            finishDrain(new TypeDBDriverException(ANSWER_SPILL_FAILED, e.toString()));
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer mapSegment(long capacity) throws IOException {
+        MappedByteBuffer segment = file.map(FileChannel.MapMode.READ_WRITE, fileSize, capacity);
+        fileSize += capacity;
+        synchronized (this) {
+            if (!isClosed) segments.add(segment);
+        }
+        return segment;
+    }
+
+    /**
+     * Records the row at the offset, retaining the first row as the header of every decoded row.
+     * Returns whether the row was retained, as otherwise it is no longer needed once encoded.
+     */
+    private synchronized boolean append(T row, int segment, int offset, int length) {
+        if (isClosed) return false;
+        boolean isRetained = headerRow == null;
+        if (isRetained) headerRow = row;
+        if (size == rowOffsets.length) {
+            rowSegments = Arrays.copyOf(rowSegments, size * 2);
+            rowOffsets = Arrays.copyOf(rowOffsets, size * 2);
+            rowLengths = Arrays.copyOf(rowLengths, size * 2);
+        }
+        rowSegments[size] = segment;
+        rowOffsets[size] = offset;
+        rowLengths[size] = length;
+        size++;
+        notifyAll();
+        return isRetained;
+    }
+
+    private synchronized void finishDrain(TypeDBDriverException error) {
+        this.error = error;
+        isDrained = true;
+        notifyAll();
+    }
+
+    private synchronized boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Waits until the row at <code>index</code> has been drained, or the answer has been fully drained.
+     * Returns whether the row exists. Throws the error that stopped the drain, if any, once the drained rows
+     * are exhausted.
+     */
+    public synchronized boolean await(long index) {
+        while (index >= size && !isDrained && !isClosed) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TypeDBDriverException(ANSWER_WAIT_INTERRUPTED);
+            }
+        }
+        if (isClosed) throw new TypeDBDriverException(ANSWER_BUFFER_CLOSED);
+        if (index < size) return true;
+        if (error != null) throw error;
+        return false;
+    }
+
+    /**
+     * Waits until the answer has been fully drained, and returns the number of rows.
+     */
+    public long size() {
+        await(Integer.MAX_VALUE);
+        return drainedSize();
+    }
+
+    /**
+     * Returns the number of rows drained so far, without waiting.
+     */
+    public synchronized long drainedSize() {
+        return size;
+    }
+
+    /**
+     * Decodes the row at <code>index</code>, which must have been drained. The decoded row is owned by the caller.
+     */
+    public T get(int index) {
+        T header;
+        MappedByteBuffer segment;
+        int offset;
+        int length;
+        synchronized (this) {
+            if (isClosed) throw new TypeDBDriverException(ANSWER_BUFFER_CLOSED);
+            header = headerRow;
+            segment = segments.get(rowSegments[index]);
+            offset = rowOffsets[index];
+            length = rowLengths[index];
+            decoding++;
+        }
+        try {
+            return codec.decode(header, segment, offset, length);
+        } finally {
+            synchronized (this) {
+                if (--decoding == 0) notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stops draining the answer and deletes the temporary file. Rows can no longer be read once closed.
+     * Waits for rows being decoded by other threads, as they share the header row.
+     */
+    public void close() {
+        T header;
+        synchronized (this) {
+            if (isClosed) return;
+            isClosed = true;
+            notifyAll();
+            boolean isInterrupted = false;
+            while (decoding > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) Thread.currentThread().interrupt();
+            header = headerRow;
+            headerRow = null;
+            // drop the mappings so that their address space and the file's blocks can be released
+            segments.clear();
+            rowSegments = new int[0];
+            rowOffsets = new int[0];
+            rowLengths = new int[0];
+        }
+        if (header != null) codec.delete(header);
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ANSWER_SPILL_FAILED, e.getMessage());
+        }
+    }
+}
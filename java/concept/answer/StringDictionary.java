@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.NativeObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_string;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_string_index;
+import static com.typedb.driver.jni.typedb_driver.string_dictionary_get;
+import static com.typedb.driver.jni.typedb_driver.string_dictionary_new;
+
+/**
+ * Per-answer dictionary of string values. Values are interned on the native side, and each distinct value
+ * is copied into a Java <code>String</code> only once; repeated values share that <code>String</code>.
+ * The native dictionary stops interning new values once it is full, and those values are read directly.
+ */
+class StringDictionary extends NativeObject<com.typedb.driver.jni.StringDictionary> {
+    private static final long NOT_INTERNED = -2;
+
+    private final List<String> values;
+
+    StringDictionary() {
+        super(string_dictionary_new());
+        values = new ArrayList<>();
+    }
+
+    synchronized Optional<String> getString(com.typedb.driver.jni.ConceptRow row, String columnName) throws com.typedb.driver.jni.Error {
+        long index = concept_row_get_string_index(row, columnName, nativeObject);
+        if (index == NOT_INTERNED) return Optional.ofNullable(concept_row_get_string(row, columnName));
+        if (index < 0) return Optional.empty();
+        while (values.size() <= index) values.add(string_dictionary_get(nativeObject, values.size()));
+        return Optional.of(values.get((int) index));
+    }
+}
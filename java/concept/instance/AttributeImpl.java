@@ -23,6 +23,7 @@ import com.typedb.driver.api.concept.instance.Attribute;
 import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.type.AttributeTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,15 +35,20 @@ import java.util.Optional;
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_CONCEPT_PROPERTY;
 import static com.typedb.driver.common.util.Objects.className;
 import static com.typedb.driver.jni.typedb_driver.attribute_get_type;
+import static com.typedb.driver.jni.typedb_driver.concept_try_get_label;
 
 public class AttributeImpl extends InstanceImpl implements Attribute {
     public AttributeImpl(com.typedb.driver.jni.Concept concept) {
-        super(concept);
+        this(concept, TypeCache.disabled());
+    }
+
+    public AttributeImpl(com.typedb.driver.jni.Concept concept, TypeCache types) {
+        super(concept, types);
     }
 
     @Override
     public AttributeTypeImpl getType() {
-        return new AttributeTypeImpl(attribute_get_type(nativeObject));
+        return types.intern(() -> concept_try_get_label(nativeObject), () -> new AttributeTypeImpl(attribute_get_type(nativeObject)));
     }
 
     @Override
@@ -22,19 +22,25 @@ package com.typedb.driver.concept.instance;
 import com.typedb.driver.api.concept.instance.Entity;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.type.EntityTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_CONCEPT_PROPERTY;
 import static com.typedb.driver.common.util.Objects.className;
 import static com.typedb.driver.jni.typedb_driver.entity_get_type;
+import static com.typedb.driver.jni.typedb_driver.concept_try_get_label;
 
 public class EntityImpl extends InstanceImpl implements Entity {
     public EntityImpl(com.typedb.driver.jni.Concept concept) {
-        super(concept);
+        this(concept, TypeCache.disabled());
+    }
+
+    public EntityImpl(com.typedb.driver.jni.Concept concept, TypeCache types) {
+        super(concept, types);
     }
 
     @Override
     public EntityTypeImpl getType() {
-        return new EntityTypeImpl(entity_get_type(nativeObject));
+        return types.intern(() -> concept_try_get_label(nativeObject), () -> new EntityTypeImpl(entity_get_type(nativeObject)));
     }
 
     @Override
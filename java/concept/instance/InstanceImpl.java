@@ -22,6 +22,7 @@ package com.typedb.driver.concept.instance;
 import com.typedb.driver.api.concept.instance.Instance;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.ConceptImpl;
+import com.typedb.driver.concept.type.TypeCache;
 import com.typedb.driver.concept.type.TypeImpl;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
@@ -30,16 +31,22 @@ import static com.typedb.driver.jni.typedb_driver.concept_is_entity;
 import static com.typedb.driver.jni.typedb_driver.concept_is_relation;
 
 public abstract class InstanceImpl extends ConceptImpl implements Instance {
+    protected final TypeCache types;
     protected int hash = 0;
 
-    InstanceImpl(com.typedb.driver.jni.Concept concept) {
+    InstanceImpl(com.typedb.driver.jni.Concept concept, TypeCache types) {
         super(concept);
+        this.types = types;
     }
 
     public static InstanceImpl of(com.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
+        return of(concept, TypeCache.disabled());
+    }
+
+    public static InstanceImpl of(com.typedb.driver.jni.Concept concept, TypeCache types) {
+        if (concept_is_entity(concept)) return new EntityImpl(concept, types);
+        else if (concept_is_relation(concept)) return new RelationImpl(concept, types);
+        else if (concept_is_attribute(concept)) return new AttributeImpl(concept, types);
         throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
     }
 
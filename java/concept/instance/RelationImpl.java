@@ -22,20 +22,26 @@ package com.typedb.driver.concept.instance;
 import com.typedb.driver.api.concept.instance.Relation;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.type.RelationTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_CONCEPT_PROPERTY;
 import static com.typedb.driver.common.util.Objects.className;
 import static com.typedb.driver.jni.typedb_driver.relation_get_type;
+import static com.typedb.driver.jni.typedb_driver.concept_try_get_label;
 
 public class RelationImpl extends InstanceImpl implements Relation {
 
     public RelationImpl(com.typedb.driver.jni.Concept concept) {
-        super(concept);
+        this(concept, TypeCache.disabled());
+    }
+
+    public RelationImpl(com.typedb.driver.jni.Concept concept, TypeCache types) {
+        super(concept, types);
     }
 
     @Override
     public RelationTypeImpl getType() {
-        return new RelationTypeImpl(relation_get_type(nativeObject));
+        return types.intern(() -> concept_try_get_label(nativeObject), () -> new RelationTypeImpl(relation_get_type(nativeObject)));
     }
 
     @Override
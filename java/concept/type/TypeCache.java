@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.type;
+
+import com.typedb.driver.common.collection.InternTable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-transaction intern table of type concepts, keyed by label.
+ * Schemas contain few types, but answers reference them many times over: interning makes every reference
+ * to a type share a single <code>TypeImpl</code>, with its label and hash code fetched over JNI only once.
+ */
+public class TypeCache {
+    private static final TypeCache DISABLED = new TypeCache(false);
+
+    private final InternTable<String, TypeImpl> types;
+
+    private TypeCache(boolean enabled) {
+        this.types = enabled ? new InternTable<>() : null;
+    }
+
+    public static TypeCache create() {
+        return new TypeCache(true);
+    }
+
+    /**
+     * A cache which never interns, used where types may change under the same label (schema transactions)
+     * and where no transaction is known.
+     */
+    public static TypeCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the interned type with the label, creating it with <code>newType</code> if absent.
+     * The label is only fetched if interning is enabled. If it is <code>null</code> (the type is unknown),
+     * nothing is interned.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TypeImpl> T intern(Supplier<String> labelSupplier, Supplier<T> newType) {
+        if (types == null) return newType.get();
+        String label = labelSupplier.get();
+        if (label == null) return newType.get();
+        TypeImpl type = types.get(label);
+        if (type != null) return (T) type;
+        return putIfAbsent(label, newType.get());
+    }
+
+    /**
+     * Returns the interned type with the label of <code>concept</code>, wrapping <code>concept</code> with
+     * <code>wrap</code> if absent. Takes ownership of <code>concept</code>: it is freed here if an interned type
+     * is returned instead.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TypeImpl> T intern(
+            com.typedb.driver.jni.Concept concept,
+            Supplier<String> labelSupplier,
+            Function<com.typedb.driver.jni.Concept, T> wrap
+    ) {
+        if (types == null) return wrap.apply(concept);
+        String label = labelSupplier.get();
+        if (label == null) return wrap.apply(concept);
+        TypeImpl type = types.get(label);
+        if (type != null) {
+            concept.delete();
+            return (T) type;
+        }
+        return putIfAbsent(label, wrap.apply(concept));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends TypeImpl> T putIfAbsent(String label, T created) {
+        created.label = label;
+        // if another thread interned the label first, the duplicate is not referenced anywhere else
+        return (T) types.intern(label, created, duplicate -> duplicate.nativeObject.delete());
+    }
+}
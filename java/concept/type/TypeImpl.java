@@ -22,13 +22,27 @@ package com.typedb.driver.concept.type;
 import com.typedb.driver.api.concept.type.Type;
 import com.typedb.driver.concept.ConceptImpl;
 
+import java.util.Optional;
+
 public abstract class TypeImpl extends ConceptImpl implements Type {
+    String label = null;
     private int hash = 0;
 
     TypeImpl(com.typedb.driver.jni.Concept concept) {
         super(concept);
     }
 
+    @Override
+    public String getLabel() {
+        if (label == null) label = super.getLabel();
+        return label;
+    }
+
+    @Override
+    public Optional<String> tryGetLabel() {
+        return Optional.of(getLabel());
+    }
+
     @Override
     public int hashCode() {
         if (hash == 0) hash = getLabel().hashCode();
@@ -22,6 +22,7 @@ package com.typedb.driver.connection;
 import com.typedb.driver.api.DriverOptions;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.Options;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.database.DatabaseManager;
 import com.typedb.driver.api.user.UserManager;
@@ -121,9 +122,28 @@ public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver>
 
     @Override
     public Transaction transaction(String database, Transaction.Type type) throws TypeDBDriverException {
+        return transaction(database, type, new Options());
+    }
+
+    @Override
+    public Transaction transaction(String database, Transaction.Type type, Options options) throws TypeDBDriverException {
+        Validator.requireNonNull(database, "database");
+        Validator.requireNonNull(type, "type");
+        Validator.requireNonNull(options, "options");
+        return new TransactionImpl(this, database, type, options);
+    }
+
+    @Override
+    public Transaction transactionPipelined(String database, Transaction.Type type) throws TypeDBDriverException {
+        return transactionPipelined(database, type, new Options());
+    }
+
+    @Override
+    public Transaction transactionPipelined(String database, Transaction.Type type, Options options) throws TypeDBDriverException {
         Validator.requireNonNull(database, "database");
         Validator.requireNonNull(type, "type");
-        return new TransactionImpl(this, database, type/*, options*/);
+        Validator.requireNonNull(options, "options");
+        return new TransactionImpl(this, database, type, options, true);
     }
 
     @Override
@@ -20,44 +20,75 @@
 package com.typedb.driver.connection;
 
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.Options;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.answer.QueryAnswer;
 import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Promise;
+import com.typedb.driver.common.QueryTemplate;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.answer.QueryAnswerImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.typedb.driver.jni.typedb_driver.transaction_commit;
+import static com.typedb.driver.jni.typedb_driver.transaction_commit_async;
 import static com.typedb.driver.jni.typedb_driver.transaction_force_close;
 import static com.typedb.driver.jni.typedb_driver.transaction_is_open;
 import static com.typedb.driver.jni.typedb_driver.transaction_new;
+import static com.typedb.driver.jni.typedb_driver.transaction_new_pipelined;
 import static com.typedb.driver.jni.typedb_driver.transaction_on_close;
 import static com.typedb.driver.jni.typedb_driver.transaction_query;
+import static com.typedb.driver.jni.typedb_driver.transaction_query_async;
+import static com.typedb.driver.jni.typedb_driver.transaction_query_batch;
 import static com.typedb.driver.jni.typedb_driver.transaction_rollback;
+import static com.typedb.driver.jni.typedb_driver.transaction_rollback_async;
 
 public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transaction> implements Transaction {
+    // asynchronous callbacks are held until they are called, so that their native directors are not freed while a request
+    // is in flight, even if the transaction itself is no longer referenced
+    private static final Set<Object> PENDING_CALLBACKS = ConcurrentHashMap.newKeySet();
+
     private final Transaction.Type type;
-//    private final Options options;
+    private final Options options;
 
     private final List<TransactionOnClose> callbacks;
+    private final TypeCache types;
+    // queries and other requests share the native transaction, while committing releases it
+    private final ReadWriteLock lock;
+
+    TransactionImpl(Driver driver, String database, Type type, Options options) throws TypeDBDriverException {
+        this(driver, database, type, options, false);
+    }
 
-    TransactionImpl(Driver driver, String database, Type type/*, Options options*/) throws TypeDBDriverException {
-        super(newNative(driver, database, type/*, options*/));
+    TransactionImpl(Driver driver, String database, Type type, Options options, boolean pipelined) throws TypeDBDriverException {
+        super(newNative(driver, database, type, options, pipelined));
         this.type = type;
-//        this.options = options;
+        this.options = options;
 
-        callbacks = new ArrayList<>();
+        callbacks = new CopyOnWriteArrayList<>();
+        lock = new ReentrantReadWriteLock();
+        // types may be redefined under the same label in a schema transaction, so they are only interned elsewhere
+        types = type.isSchema() ? TypeCache.disabled() : TypeCache.create();
     }
 
-    private static com.typedb.driver.jni.Transaction newNative(Driver driver, String database, Type type/*, Options options*/) {
+    private static com.typedb.driver.jni.Transaction newNative(Driver driver, String database, Type type, Options options, boolean pipelined) {
         try {
-            return transaction_new(((DriverImpl) driver).nativeObject, database, type.nativeObject/*, options.nativeObject*/);
+            com.typedb.driver.jni.TypeDBDriver nativeDriver = ((DriverImpl) driver).nativeObject;
+            if (pipelined) return transaction_new_pipelined(nativeDriver, database, type.nativeObject, options.nativeObject);
+            return transaction_new(nativeDriver, database, type.nativeObject, options.nativeObject);
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -68,73 +99,237 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
         return type;
     }
 
-//    @Override
-//    public Options options() {
-//        return options;
-//    }
+    @Override
+    public Options options() {
+        return options;
+    }
 
     @Override
     public boolean isOpen() {
-        if (!nativeObject.isOwned()) return false;
-        else return transaction_is_open(nativeObject);
+        lock.readLock().lock();
+        try {
+            if (!nativeObject.isOwned()) return false;
+            else return transaction_is_open(nativeObject);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Promise<? extends QueryAnswer> query(String query) throws TypeDBDriverException {
+        return query(query, new Options());
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(String query, Options options) throws TypeDBDriverException {
         Validator.requireNonNull(query, "query");
+        Validator.requireNonNull(options, "options");
+        lock.readLock().lock();
         try {
-            return Promise.map(transaction_query(nativeObject, query/*, options.nativeObject*/), QueryAnswerImpl::of);
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+            return Promise.map(transaction_query(nativeObject, query, options.nativeObject), answer -> QueryAnswerImpl.of(answer, types));
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
+    @Override
+    public Promise<? extends QueryAnswer> query(String template, Map<String, ?> parameters) throws TypeDBDriverException {
+        return query(QueryTemplate.of(template).render(parameters));
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(String template, Map<String, ?> parameters, Options options) throws TypeDBDriverException {
+        Validator.requireNonNull(options, "options");
+        return query(QueryTemplate.of(template).render(parameters), options);
+    }
+
+    @Override
+    public List<Promise<? extends QueryAnswer>> queryBatch(List<String> queries) throws TypeDBDriverException {
+        return queryBatch(queries, new Options());
+    }
+
+    @Override
+    public List<Promise<? extends QueryAnswer>> queryBatch(List<String> queries, Options options) throws TypeDBDriverException {
+        Validator.requireNonNull(queries, "queries");
+        Validator.requireNonNull(options, "options");
+        String[] batch = queries.toArray(new String[0]);
+        for (String query : batch) Validator.requireNonNull(query, "query");
+        lock.readLock().lock();
+        try {
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+            List<Promise<? extends QueryAnswer>> answers = new ArrayList<>(batch.length);
+            com.typedb.driver.jni.QueryAnswerPromiseIterator promises = transaction_query_batch(nativeObject, batch, options.nativeObject);
+            while (promises.hasNext()) {
+                answers.add(Promise.map(promises.next(), answer -> QueryAnswerImpl.of(answer, types)));
+            }
+            return answers;
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } catch (com.typedb.driver.jni.Error.Unchecked e) {
+            throw new TypeDBDriverException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<QueryAnswer> queryAsync(String query) throws TypeDBDriverException {
+        return queryAsync(query, new Options());
+    }
+
+    @Override
+    public CompletableFuture<QueryAnswer> queryAsync(String query, Options options) throws TypeDBDriverException {
+        Validator.requireNonNull(query, "query");
+        Validator.requireNonNull(options, "options");
+        QueryAnswerCallback callback = new QueryAnswerCallback(types);
+        lock.readLock().lock();
+        try {
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+            PENDING_CALLBACKS.add(callback);
+            transaction_query_async(nativeObject, query, options.nativeObject, callback);
+        } catch (com.typedb.driver.jni.Error e) {
+            PENDING_CALLBACKS.remove(callback);
+            throw new TypeDBDriverException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return callback.future;
+    }
+
     @Override
     public void onClose(Consumer<Throwable> function) throws TypeDBDriverException {
-        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        lock.readLock().lock();
         try {
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
             TransactionOnClose callback = new TransactionOnClose(function);
             callbacks.add(callback);
             transaction_on_close(nativeObject, callback.released());
         } catch (com.typedb.driver.jni.Error error) {
             throw new TypeDBDriverException(error);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public void commit() throws TypeDBDriverException {
-        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        com.typedb.driver.jni.VoidPromise promise;
+        lock.writeLock().lock();
         try {
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
             // NOTE: .released() relinquishes ownership of the native object to the Rust side
-            transaction_commit(nativeObject.released()).get();
+            promise = transaction_commit(nativeObject.released());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            promise.get();
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> commitAsync() throws TypeDBDriverException {
+        VoidCallback callback = new VoidCallback();
+        lock.writeLock().lock();
+        try {
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+            PENDING_CALLBACKS.add(callback);
+            // NOTE: .released() relinquishes ownership of the native object to the Rust side
+            transaction_commit_async(nativeObject.released(), callback);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return callback.future;
+    }
+
     @Override
     public void rollback() throws TypeDBDriverException {
-        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        com.typedb.driver.jni.VoidPromise promise;
+        lock.readLock().lock();
         try {
-            transaction_rollback(nativeObject).get();
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+            promise = transaction_rollback(nativeObject);
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            promise.get();
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> rollbackAsync() throws TypeDBDriverException {
+        VoidCallback callback = new VoidCallback();
+        lock.readLock().lock();
+        try {
+            if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+            PENDING_CALLBACKS.add(callback);
+            transaction_rollback_async(nativeObject, callback);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return callback.future;
+    }
+
     @Override
     public void close() throws TypeDBDriverException {
-        if (nativeObject.isOwned()) {
+        lock.readLock().lock();
+        try {
+            if (nativeObject.isOwned()) transaction_force_close(nativeObject);
+        } catch (com.typedb.driver.jni.Error error) {
+            throw new TypeDBDriverException(error);
+        } finally {
+            callbacks.clear();
+            lock.readLock().unlock();
+        }
+    }
+
+    static class QueryAnswerCallback extends com.typedb.driver.jni.QueryAnswerCallbackDirector {
+        private final TypeCache types;
+        private final CompletableFuture<QueryAnswer> future;
+
+        QueryAnswerCallback(TypeCache types) {
+            this.types = types;
+            this.future = new CompletableFuture<>();
+        }
+
+        @Override
+        public void callback(com.typedb.driver.jni.QueryAnswer answer, com.typedb.driver.jni.Error error) {
+            PENDING_CALLBACKS.remove(this);
+            if (error != null) {
+                future.completeExceptionally(new TypeDBDriverException(error));
+                return;
+            }
             try {
-                transaction_force_close(nativeObject);
-            } catch (com.typedb.driver.jni.Error error) {
-                throw new TypeDBDriverException(error);
-            } finally {
-                callbacks.clear();
+                future.complete(QueryAnswerImpl.of(answer, types));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
             }
         }
     }
 
+    static class VoidCallback extends com.typedb.driver.jni.VoidCallbackDirector {
+        private final CompletableFuture<Void> future;
+
+        VoidCallback() {
+            this.future = new CompletableFuture<>();
+        }
+
+        @Override
+        public void callback(com.typedb.driver.jni.Error error) {
+            PENDING_CALLBACKS.remove(this);
+            if (error != null) future.completeExceptionally(new TypeDBDriverException(error));
+            else future.complete(null);
+        }
+    }
+
     static class TransactionOnClose extends com.typedb.driver.jni.TransactionCallbackDirector {
         private final Consumer<Throwable> function;
 
@@ -17,9 +17,18 @@
 
 dir_mapping = {
     "ConceptRow.adoc": "answer",
+    "ConceptRowBuffer.adoc": "answer",
     "ConceptRowIterator.adoc": "answer",
+    "RowAggregate_R_.adoc": "answer",
+    "RowOrder.adoc": "answer",
+    "CSVFormat.adoc": "answer",
+    "ExportFormat.adoc": "answer",
+    "AnswerEncoder.adoc": "answer",
+    "AnswerDecoder.adoc": "answer",
+    "AnswerDecoder.Kind.adoc": "answer",
     "ConceptDocumentIterator.adoc": "answer",
     "JSON.adoc": "answer",
+    "JSONVisitor.adoc": "answer",
     "OkQueryAnswer.adoc": "answer",
     "QueryAnswer.adoc": "answer",
     "QueryType.adoc": "answer",
@@ -22,6 +22,7 @@ package com.typedb.driver.test.behaviour.connection;
 import com.typedb.driver.api.DriverOptions;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.Options;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.test.behaviour.config.Parameters;
 
@@ -33,6 +34,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
@@ -50,10 +52,11 @@ public abstract class ConnectionStepsBase {
     public static List<Transaction> transactions = new ArrayList<>();
     public static List<CompletableFuture<Transaction>> transactionsParallel = new ArrayList<>();
 
-    //    public static final Map<String, BiConsumer<Options, String>> optionSetters = map(
-//            pair("transaction-timeout-millis", (option, val) -> option.transactionTimeoutMillis(Integer.parseInt(val)))
-//    );
-//    public static Options transactionOptions;
+    public static final Map<String, BiConsumer<Options, String>> optionSetters = Map.of(
+            "transaction-timeout-millis", (option, val) -> option.transactionTimeoutMillis(Integer.parseInt(val)),
+            "schema-lock-acquire-timeout-millis", (option, val) -> option.schemaLockAcquireTimeoutMillis(Integer.parseInt(val))
+    );
+    public static Options transactionOptions;
     static boolean isBeforeAllRan = false;
 
     public static Transaction tx() {
@@ -81,6 +84,7 @@ public abstract class ConnectionStepsBase {
         }
 
         backgroundDriver = createDefaultTypeDBDriver();
+        transactionOptions = createOptions();
     }
 
     void after() {
@@ -111,7 +115,7 @@ public abstract class ConnectionStepsBase {
 
     abstract Driver createDefaultTypeDBDriver();
 
-//    abstract Options createOptions();
+    abstract Options createOptions();
 
     abstract void connection_opens_with_default_authentication();
 
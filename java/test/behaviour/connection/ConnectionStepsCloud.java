@@ -22,6 +22,7 @@ import com.typedb.driver.TypeDB;
 import com.typedb.driver.api.DriverOptions;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.Options;
 import com.typedb.driver.test.behaviour.config.Parameters;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
@@ -55,10 +56,10 @@ public class ConnectionStepsCloud extends ConnectionStepsBase {
         return createTypeDBDriver(TypeDB.DEFAULT_ADDRESS, DEFAULT_CREDENTIALS, DEFAULT_CONNECTION_SETTINGS);
     }
 
-//    @Override
-//    Options createOptions() {
-//        return new Options();
-//    }
+    @Override
+    Options createOptions() {
+        return new Options();
+    }
 
     @When("typedb starts")
     public void typedb_starts() {
@@ -21,6 +21,7 @@ package com.typedb.driver.test.behaviour.connection.transaction;
 
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.test.behaviour.config.Parameters;
+import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 
@@ -32,7 +33,9 @@ import java.util.concurrent.CompletableFuture;
 
 import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.THREAD_POOL_SIZE;
 import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.driver;
+import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.optionSetters;
 import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.threadPool;
+import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.transactionOptions;
 import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.transactions;
 import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.transactionsParallel;
 import static com.typedb.driver.test.behaviour.connection.ConnectionStepsBase.tx;
@@ -57,7 +60,7 @@ public class TransactionSteps {
     public void connection_open_transaction_for_database(Transaction.Type type, String databaseName, Parameters.MayError mayError) {
         transactions.clear();
         mayError.check(() -> {
-            Transaction transaction = driver.transaction(databaseName, type);
+            Transaction transaction = driver.transaction(databaseName, type, transactionOptions);
             transactions.add(transaction);
         });
     }
@@ -65,7 +68,7 @@ public class TransactionSteps {
     @When("connection open transaction(s) for database: {non_semicolon}, of type:")
     public void connection_open_transactions_for_database_of_type(String databaseName, List<Transaction.Type> types) {
         for (Transaction.Type type : types) {
-            Transaction transaction = driver.transaction(databaseName, type);
+            Transaction transaction = driver.transaction(databaseName, type, transactionOptions);
             transactions.add(transaction);
         }
     }
@@ -116,7 +119,7 @@ public class TransactionSteps {
     public void open_transactions_in_parallel_of_type(String name, List<Transaction.Type> types) {
         assertTrue(THREAD_POOL_SIZE >= types.size());
         for (Transaction.Type type : types) {
-            transactionsParallel.add(CompletableFuture.supplyAsync(() -> driver.transaction(name, type), threadPool));
+            transactionsParallel.add(CompletableFuture.supplyAsync(() -> driver.transaction(name, type, transactionOptions), threadPool));
         }
     }
 
@@ -151,11 +154,11 @@ public class TransactionSteps {
         assertFalse("types list is longer than saved transactions", typeIterator.hasNext());
     }
 
-//    @Given("set transaction option {word} to: {word}")
-//    public void set_transaction_option_to(String option, String value) {
-//        if (!optionSetters.containsKey(option)) {
-//            throw new RuntimeException("Unrecognised option: " + option);
-//        }
-//        optionSetters.get(option).accept(transactionOptions, value);
-//    }
+    @Given("set transaction option {word} to: {word}")
+    public void set_transaction_option_to(String option, String value) {
+        if (!optionSetters.containsKey(option)) {
+            throw new RuntimeException("Unrecognised option: " + option);
+        }
+        optionSetters.get(option).accept(transactionOptions, value);
+    }
 }
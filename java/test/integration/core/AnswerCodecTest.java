@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.AnswerDecoder;
+import com.typedb.driver.api.answer.AnswerEncoder;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_ENCODING_INVALID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings("Duplicates")
+public class AnswerCodecTest {
+    private static final String DB_NAME = "typedb";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    private static final int PEOPLE = 20;
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+
+        localhostTypeDBTX(tx -> {
+            tx.query("define entity person, owns name, owns age, owns balance, owns born;" +
+                    "attribute name, value string; attribute age, value integer;" +
+                    "attribute balance, value decimal; attribute born, value datetime-tz;").resolve();
+            tx.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < PEOPLE; i++) {
+                tx.query("insert $p isa person, has name \"person-" + i + "\", has age " + i + ", " +
+                        "has balance -" + i + ".05dec, has born 2024-02-29T13:45:10.123456789+01:00;").resolve();
+            }
+            tx.commit();
+        }, Transaction.Type.WRITE);
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Test
+    public void rowsRoundTrip() {
+        localhostTypeDBTX(tx -> {
+            List<ConceptRow> rows = tx.query("match $p isa $t, has name $n, has age $a, has balance $b, has born $d; " +
+                    "let $v = $a + 1;").resolve().asConceptRows().stream().collect(Collectors.toList());
+            List<ConceptRow> names = tx.query("match $p isa person, has name $n;").resolve()
+                    .asConceptRows().stream().collect(Collectors.toList());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (AnswerEncoder encoder = TypeDB.answerEncoder(output)) {
+                rows.forEach(encoder::write);
+                names.forEach(encoder::write);
+            }
+
+            List<ConceptRow> decoded;
+            try (AnswerDecoder decoder = TypeDB.answerDecoder(new ByteArrayInputStream(output.toByteArray()))) {
+                decoded = decoder.rows().collect(Collectors.toList());
+            }
+            List<ConceptRow> expected = new ArrayList<>(rows);
+            expected.addAll(names);
+            assertEquals(expected.size(), decoded.size());
+            for (int i = 0; i < expected.size(); i++) {
+                ConceptRow row = expected.get(i);
+                ConceptRow decodedRow = decoded.get(i);
+                assertEquals(row, decodedRow);
+                assertEquals(row.getQueryType(), decodedRow.getQueryType());
+                assertEquals(row.columnNames().collect(Collectors.toList()), decodedRow.columnNames().collect(Collectors.toList()));
+                row.columnNames().forEach(column -> assertEquals(row.get(column), decodedRow.get(column)));
+            }
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void conceptsAndDocumentsRoundTrip() {
+        localhostTypeDBTX(tx -> {
+            List<Concept> concepts = tx.query("match $p isa person, has balance $b;").resolve().asConceptRows().stream()
+                    .flatMap(row -> row.concepts().map(concept -> (Concept) concept)).collect(Collectors.toList());
+            List<JSON> documents = tx.query("match $p isa person; fetch { \"person\": { $p.* } };").resolve()
+                    .asConceptDocuments().stream().collect(Collectors.toList());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (AnswerEncoder encoder = TypeDB.answerEncoder(output)) {
+                concepts.forEach(encoder::write);
+                documents.forEach(encoder::write);
+            }
+
+            try (AnswerDecoder decoder = TypeDB.answerDecoder(new ByteArrayInputStream(output.toByteArray()))) {
+                for (Concept concept : concepts) {
+                    assertEquals(AnswerDecoder.Kind.CONCEPT, decoder.peek());
+                    assertEquals(concept, decoder.nextConcept());
+                }
+                assertEquals(documents, decoder.documents().collect(Collectors.toList()));
+                assertFalse(decoder.hasNext());
+            }
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void corruptStreamsAreRejected() {
+        assertInvalid(new byte[]{'T', 'D', 'B', 'X', 1});
+
+        byte[] encoded = localhostTypeDBTX(tx -> {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (AnswerEncoder encoder = TypeDB.answerEncoder(output)) {
+                encoder.writeAll(tx.query("match $p isa person, has name $n;").resolve().asConceptRows());
+            }
+            return output.toByteArray();
+        });
+        assertInvalid(Arrays.copyOf(encoded, encoded.length - 1));
+    }
+
+    private static void assertInvalid(byte[] encoded) {
+        try (AnswerDecoder decoder = TypeDB.answerDecoder(new ByteArrayInputStream(encoded))) {
+            decoder.rows().forEach(row -> { });
+            fail("TypeDBDriverException is expected");
+        } catch (TypeDBDriverException e) {
+            assertEquals(ANSWER_ENCODING_INVALID, e.getErrorMessage());
+        }
+    }
+
+    private static <T> T localhostTypeDBTX(Function<Transaction, T> fn) {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            return fn.apply(transaction);
+        }
+    }
+
+    private static void localhostTypeDBTX(Consumer<Transaction> fn, Transaction.Type type) {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, type)) {
+            fn.accept(transaction);
+        }
+    }
+}
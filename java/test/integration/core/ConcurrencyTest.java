@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("Duplicates")
+public class ConcurrencyTest {
+    private static final String DB_NAME = "typedb";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    private static final int THREADS = 16;
+    private static final int QUERIES_PER_THREAD = 200;
+    private static final int PEOPLE = 50;
+    // the codes of the native errors for operations on a closed transaction
+    private static final String NATIVE_TRANSACTION_CLOSED = "[CXN06]";
+    private static final String NATIVE_TRANSACTION_CLOSED_WITH_ERRORS = "[CXN07]";
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+
+        localhostTypeDBTX(tx -> {
+            tx.query("define entity person, owns name; attribute name, value string;").resolve();
+            tx.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < PEOPLE; i++) tx.query("insert $p isa person, has name \"person-" + i + "\";").resolve();
+            tx.commit();
+        }, Transaction.Type.WRITE);
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Test
+    public void concurrentReadQueries() throws Exception {
+        localhostTypeDBTX(tx -> runConcurrently(thread -> {
+            for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+                QueryAnswer answer = tx.query("match $p isa person, has name $n;").resolve();
+                assertEquals(PEOPLE, answer.asConceptRows().stream().count());
+            }
+        }), Transaction.Type.READ);
+    }
+
+    @Test
+    public void concurrentBlockingAndAsyncQueries() throws Exception {
+        localhostTypeDBTX(tx -> runConcurrently(thread -> {
+            List<CompletableFuture<QueryAnswer>> futures = new ArrayList<>();
+            for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+                if (i % 2 == 0) futures.add(tx.queryAsync("match $p isa person;"));
+                else assertEquals(PEOPLE, tx.query("match $p isa person;").resolve().asConceptRows().stream().count());
+            }
+            for (CompletableFuture<QueryAnswer> future : futures) {
+                assertEquals(PEOPLE, future.join().asConceptRows().stream().count());
+            }
+        }), Transaction.Type.READ);
+    }
+
+    @Test
+    public void concurrentQueriesAndCallbackRegistration() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        localhostTypeDBTX(tx -> runConcurrently(thread -> {
+            for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+                if (i % 10 == 0) tx.onClose(error -> closed.incrementAndGet());
+                assertTrue(tx.query("match $p isa person;").resolve().isConceptRows());
+            }
+        }), Transaction.Type.READ);
+        waitFor(() -> closed.get() == THREADS * QUERIES_PER_THREAD / 10);
+    }
+
+    @Test
+    public void commitWhileQuerying() throws Exception {
+        AtomicInteger inserted = new AtomicInteger();
+        Transaction tx = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        CountDownLatch started = new CountDownLatch(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                workers.add(executor.submit((Callable<Void>) () -> {
+                    started.countDown();
+                    for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+                        try {
+                            tx.query("insert $p isa person, has name \"worker-" + thread + "-" + i + "\";").resolve();
+                            inserted.incrementAndGet();
+                        } catch (TypeDBDriverException e) {
+                            // queries submitted or answered after the commit fail as the transaction is closed
+                            assertTransactionClosed(e);
+                            return null;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            started.await();
+            tx.commit();
+            for (Future<?> worker : workers) worker.get(1, TimeUnit.MINUTES);
+            assertFalse(tx.isOpen());
+        } finally {
+            executor.shutdownNow();
+            tx.close();
+        }
+
+        localhostTypeDBTX(read -> {
+            long people = read.query("match $p isa person;").resolve().asConceptRows().stream().count();
+            assertTrue(people >= PEOPLE && people <= PEOPLE + inserted.get());
+        }, Transaction.Type.READ);
+        localhostTypeDBTX(write -> {
+            write.query("match $p isa person, has name $n; $n like \"worker-.*\"; delete $p;").resolve();
+            write.commit();
+        }, Transaction.Type.WRITE);
+    }
+
+    private static void assertTransactionClosed(TypeDBDriverException e) {
+        boolean closed = TRANSACTION_CLOSED.equals(e.getErrorMessage())
+                || e.getMessage().contains(NATIVE_TRANSACTION_CLOSED)
+                || e.getMessage().contains(NATIVE_TRANSACTION_CLOSED_WITH_ERRORS);
+        if (!closed) throw new AssertionError("Expected a transaction closed error, but got: " + e.getMessage(), e);
+    }
+
+    private static void runConcurrently(Consumer<Integer> work) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                workers.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    work.accept(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) worker.get(5, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static void localhostTypeDBTX(Consumer<Transaction> fn, Transaction.Type type) {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, type)) {
+            fn.accept(transaction);
+        }
+    }
+}
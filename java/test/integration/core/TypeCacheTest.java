@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.api.concept.type.Type;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings("Duplicates")
+public class TypeCacheTest {
+    private static final String DB_NAME = "typedb";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    private static final int THREADS = 16;
+    private static final int PEOPLE = 50;
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+
+        localhostTypeDBTX(tx -> {
+            tx.query("define entity person, owns name; attribute name, value string;").resolve();
+            tx.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < PEOPLE; i++) tx.query("insert $p isa person, has name \"person-" + i + "\";").resolve();
+            tx.commit();
+        }, Transaction.Type.WRITE);
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Test
+    public void typesAreSharedAcrossRows() {
+        localhostTypeDBTX(tx -> {
+            List<ConceptRow> rows = tx.query("match $p isa $t, has name $n; $t label person;").resolve()
+                    .asConceptRows().stream().collect(Collectors.toList());
+            Type type = rows.get(0).get("t").get().asType();
+            assertEquals("person", type.getLabel());
+            for (ConceptRow row : rows) {
+                assertSame(type, row.get("t").get());
+                assertSame(type, row.get("p").get().asEntity().getType());
+                Type nameType = row.get("n").get().asAttribute().getType();
+                assertSame(rows.get(0).get("n").get().asAttribute().getType(), nameType);
+            }
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void typesAreSharedAcrossConcurrentQueries() throws Exception {
+        localhostTypeDBTX(tx -> {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<List<Type>>> workers = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    workers.add(executor.submit((Callable<List<Type>>) () -> {
+                        start.await();
+                        return tx.query("match $p isa person;").resolve().asConceptRows().stream()
+                                .map(row -> row.get("p").get().asEntity().getType()).collect(Collectors.toList());
+                    }));
+                }
+                start.countDown();
+                Type type = null;
+                for (Future<List<Type>> worker : workers) {
+                    List<Type> types = worker.get(1, TimeUnit.MINUTES);
+                    assertEquals(PEOPLE, types.size());
+                    if (type == null) type = types.get(0);
+                    for (Type other : types) assertSame(type, other);
+                }
+                assertEquals("person", type.getLabel());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void typesAreNotSharedInSchemaTransactions() {
+        localhostTypeDBTX(tx -> {
+            List<Concept> types = tx.query("match $p isa person; $p isa $t;").resolve().asConceptRows().stream()
+                    .map(row -> row.get("t").get()).collect(Collectors.toList());
+            assertEquals(PEOPLE, types.size());
+            assertNotSame(types.get(0), types.get(1));
+            assertEquals(types.get(0), types.get(1));
+        }, Transaction.Type.SCHEMA);
+    }
+
+    @Test
+    public void typesAreNotSharedAcrossTransactions() {
+        Type[] types = new Type[2];
+        for (int i = 0; i < types.length; i++) {
+            int index = i;
+            localhostTypeDBTX(tx -> types[index] = tx.query("match $t label person;").resolve().asConceptRows()
+                    .stream().findFirst().get().get("t").get().asType(), Transaction.Type.READ);
+        }
+        assertNotSame(types[0], types[1]);
+        assertEquals(types[0], types[1]);
+    }
+
+    private static void localhostTypeDBTX(Consumer<Transaction> fn, Transaction.Type type) {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, type)) {
+            fn.accept(transaction);
+        }
+    }
+}
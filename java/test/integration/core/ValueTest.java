@@ -335,6 +335,36 @@ public class ValueTest {
         }, Transaction.Type.WRITE);
     }
 
+    @Test
+    public void parameterisedQuery() {
+        localhostTypeDBTX(tx -> {
+            tx.query("define entity parameterised-person, owns parameterised-name, owns parameterised-balance, owns parameterised-time;" +
+                    "attribute parameterised-name, value string; attribute parameterised-balance, value decimal;" +
+                    "attribute parameterised-time, value datetime-tz;").resolve();
+            tx.commit();
+        }, Transaction.Type.SCHEMA);
+
+        String name = "John \"Johnny\" O'Neil \\ $x; match";
+        BigDecimal balance = new BigDecimal("1234567890.0001234567890");
+        ZonedDateTime time = ZonedDateTime.of(2024, 9, 20, 16, 40, 5, 28129323, ZoneId.of("Europe/London"));
+        Map<String, Object> parameters = Map.of("name", name, "balance", balance, "time", time);
+
+        localhostTypeDBTX(tx -> {
+            tx.query("insert $p isa parameterised-person, has parameterised-name ${name}, " +
+                    "has parameterised-balance ${balance}, has parameterised-time ${time};", parameters).resolve();
+            tx.commit();
+        }, Transaction.Type.WRITE);
+
+        localhostTypeDBTX(tx -> {
+            QueryAnswer answer = tx.query("match $p isa parameterised-person, has parameterised-name ${name}, " +
+                    "has parameterised-balance $b, has parameterised-time $t;", parameters).resolve();
+            List<ConceptRow> rows = answer.asConceptRows().stream().collect(Collectors.toList());
+            assertEquals(1, rows.size());
+            assertEquals(0, balance.compareTo(rows.get(0).get("b").get().asAttribute().getDecimal()));
+            assertEquals(time, rows.get(0).get("t").get().asAttribute().getDatetimeTZ());
+        }, Transaction.Type.READ);
+    }
+
     private void localhostTypeDBTX(Consumer<Transaction> fn, Transaction.Type type/*, Options options*/) {
         try (Transaction transaction = typedbDriver.transaction(DB_NAME, type/*, options*/)) {
             fn.accept(transaction);
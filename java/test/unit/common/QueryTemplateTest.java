@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.common;
+
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.QueryTemplate;
+import com.typedb.driver.common.exception.ErrorMessage;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_QUERY_PARAMETER;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_QUERY_TEMPLATE;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.MISSING_QUERY_PARAMETER;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.UNSUPPORTED_QUERY_PARAMETER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class QueryTemplateTest {
+
+    @Test
+    public void parametersAreSubstituted() {
+        QueryTemplate template = QueryTemplate.of("insert $p isa person, has name ${name}, has age ${age}; # ${name}");
+        assertEquals(List.of("name", "age"), List.copyOf(template.parameterNames()));
+        assertEquals("insert $p isa person, has name \"Alice\", has age 25; # ${name}",
+                template.render(Map.of("name", "Alice", "age", 25)));
+    }
+
+    @Test
+    public void repeatedParametersAreSubstitutedEverywhere() {
+        QueryTemplate template = QueryTemplate.of("${x}${x}-${y_1}-${x}");
+        assertEquals(List.of("x", "y_1"), List.copyOf(template.parameterNames()));
+        assertEquals("1111-true-11", template.render(Map.of("x", 11, "y_1", true)));
+    }
+
+    @Test
+    public void renderToAppends() {
+        StringBuilder buffer = new StringBuilder("match ");
+        QueryTemplate.of("$x has age ${age};").renderTo(buffer, Map.of("age", 3L));
+        assertEquals("match $x has age 3;", buffer.toString());
+    }
+
+    @Test
+    public void placeholdersInStringsAreLiteral() {
+        QueryTemplate template = QueryTemplate.of("\"${a}\" '${b}' \"\\\"${c}\" ${d} \"unterminated ${e}");
+        assertEquals(List.of("d"), List.copyOf(template.parameterNames()));
+        assertEquals("\"${a}\" '${b}' \"\\\"${c}\" \"x\" \"unterminated ${e}", template.render(Map.of("d", "x")));
+    }
+
+    @Test
+    public void placeholdersInCommentsAreLiteral() {
+        QueryTemplate template = QueryTemplate.of("# ${a} \"\n${b} # ${c}\n${d}");
+        assertEquals(List.of("b", "d"), List.copyOf(template.parameterNames()));
+        assertEquals("# ${a} \"\n1 # ${c}\n2", template.render(Map.of("b", 1, "d", 2)));
+    }
+
+    @Test
+    public void dollarsWithoutBracesAreLiteral() {
+        QueryTemplate template = QueryTemplate.of("match $x isa person; $");
+        assertEquals(List.of(), List.copyOf(template.parameterNames()));
+        assertEquals("match $x isa person; $", template.render(Map.of()));
+    }
+
+    @Test
+    public void invalidTemplatesFail() {
+        for (String template : Arrays.asList("${name", "${}", "${1a}", "${a b}", "${a.b}")) {
+            assertFails(INVALID_QUERY_TEMPLATE, () -> QueryTemplate.of(template));
+        }
+    }
+
+    @Test
+    public void missingAndUnsupportedParametersFail() {
+        QueryTemplate template = QueryTemplate.of("match $x has name ${name};");
+        assertFails(MISSING_QUERY_PARAMETER, () -> template.render(Map.of()));
+        assertFails(UNSUPPORTED_QUERY_PARAMETER, () -> template.render(Map.of("name", new Object())));
+    }
+
+    @Test
+    public void stringsAreEscaped() {
+        assertEquals("\"a\\\"b\\\\c\\nd\\re\\tf\"", render("a\"b\\c\nd\re\tf"));
+        assertEquals("\"\\\"; delete $x;\"", render("\"; delete $x;"));
+    }
+
+    @Test
+    public void controlCharactersInStringsFail() {
+        assertFails(INVALID_QUERY_PARAMETER, () -> render("a\u0000b"));
+        assertFails(INVALID_QUERY_PARAMETER, () -> render("\u001f"));
+        assertFails(INVALID_QUERY_PARAMETER, () -> render("\b"));
+        assertEquals("\" ~\u007f\"", render(" ~\u007f"));
+    }
+
+    @Test
+    public void recentlyUsedTemplatesStayCached() {
+        QueryTemplate frequent = QueryTemplate.of("match $x has name ${name};");
+        for (int i = 0; i < 4096; i++) {
+            QueryTemplate.of("match $x has age " + i + ";");
+            assertSame(frequent, QueryTemplate.of("match $x has name ${name};"));
+        }
+    }
+
+    @Test
+    public void numbersAreWrittenAsLiterals() {
+        assertEquals("-7", render((byte) -7));
+        assertEquals("1.5", render(1.5));
+        assertEquals("2.0", render(2.0f));
+        assertEquals("100000000000000000000.0", render(1e20));
+        assertEquals("0.00000125", render(1.25e-6));
+        assertEquals("1.50dec", render(new BigDecimal("1.50")));
+        assertEquals("1000.0dec", render(new BigDecimal("1E+3")));
+        assertFails(INVALID_QUERY_PARAMETER, () -> render(Double.NaN));
+        assertFails(INVALID_QUERY_PARAMETER, () -> render(Float.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void datesAndDatetimesAreWrittenAsLiterals() {
+        LocalDateTime datetime = LocalDateTime.of(2024, 2, 29, 13, 45, 10, 123_000_000);
+        assertEquals("2024-02-29", render(LocalDate.of(2024, 2, 29)));
+        assertEquals("2024-02-29T13:45:10.123", render(datetime));
+        assertEquals("2024-02-29T13:45:10.123+0100", render(ZonedDateTime.of(datetime, ZoneOffset.ofHours(1))));
+        assertEquals("2024-02-29T13:45:10.123 Europe/London",
+                render(ZonedDateTime.of(datetime, ZoneId.of("Europe/London"))));
+        assertEquals("2024-02-29T13:45:10.123-0230", render(datetime.atOffset(ZoneOffset.ofHoursMinutes(-2, -30))));
+    }
+
+    @Test
+    public void durationsAreWrittenAsLiterals() {
+        assertEquals("PT1M30S", render(java.time.Duration.ofSeconds(90)));
+        assertEquals("PT0S", render(java.time.Duration.ZERO));
+        assertEquals("P14M3D", render(new Duration(Period.of(1, 2, 3), java.time.Duration.ZERO)));
+        assertEquals("P1MT1H", render(new Duration(Period.ofMonths(1), java.time.Duration.ofHours(1))));
+        assertEquals("PT0.5S", render(new Duration(Period.ZERO, java.time.Duration.ofMillis(500))));
+    }
+
+    @Test
+    public void negativeDurationsFail() {
+        assertFails(INVALID_QUERY_PARAMETER, () -> render(java.time.Duration.ofSeconds(-1)));
+        assertFails(INVALID_QUERY_PARAMETER, () -> render(new Duration(Period.ofMonths(-1), java.time.Duration.ZERO)));
+        assertFails(INVALID_QUERY_PARAMETER, () -> render(new Duration(Period.of(0, 1, -1), java.time.Duration.ZERO)));
+        assertFails(INVALID_QUERY_PARAMETER,
+                () -> render(new Duration(Period.ofDays(1), java.time.Duration.ofNanos(-1))));
+    }
+
+    private static String render(Object value) {
+        return QueryTemplate.of("${value}").render(Map.of("value", value));
+    }
+
+    private static void assertFails(ErrorMessage expected, Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            assertEquals(expected, e.getErrorMessage());
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
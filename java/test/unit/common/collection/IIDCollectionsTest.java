@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.common.collection;
+
+import com.typedb.driver.common.collection.IIDMap;
+import com.typedb.driver.common.collection.IIDSet;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IIDCollectionsTest {
+    private static String iid(int i) {
+        return String.format("0x1e%020x", i);
+    }
+
+    private static byte[] bytes(int i) {
+        byte[] bytes = new byte[11];
+        bytes[0] = 0x1e;
+        for (int b = 10, v = i; b > 0; b--, v >>>= 8) bytes[b] = (byte) v;
+        return bytes;
+    }
+
+    @Test
+    public void setDeduplicatesStringAndByteKeys() {
+        IIDSet set = new IIDSet();
+        assertTrue(set.add(iid(1)));
+        assertFalse(set.add(iid(1)));
+        assertFalse(set.add(bytes(1)));
+        assertTrue(set.add(bytes(2)));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(iid(2)));
+        assertTrue(set.contains(bytes(1)));
+        assertFalse(set.contains(iid(3)));
+    }
+
+    @Test
+    public void setAddsFromSlice() {
+        IIDSet set = new IIDSet();
+        byte[] buffer = new byte[32];
+        System.arraycopy(bytes(7), 0, buffer, 5, 11);
+        assertTrue(set.add(buffer, 5, 11));
+        assertTrue(set.contains(iid(7)));
+        assertFalse(set.add(bytes(7)));
+    }
+
+    @Test
+    public void setGrowsBeyondExpectedSize() {
+        IIDSet set = new IIDSet(4);
+        for (int i = 0; i < 100_000; i++) assertTrue(set.add(bytes(i)));
+        for (int i = 0; i < 100_000; i++) assertFalse(set.add(iid(i)));
+        assertEquals(100_000, set.size());
+        assertFalse(set.contains(bytes(100_000)));
+    }
+
+    @Test
+    public void setIteratesInInsertionOrder() {
+        IIDSet set = new IIDSet();
+        for (int i = 10; i > 0; i--) set.add(bytes(i));
+        List<String> iids = new ArrayList<>();
+        set.forEach(iids::add);
+        assertEquals(10, iids.size());
+        for (int i = 0; i < 10; i++) assertEquals(iid(10 - i), iids.get(i));
+    }
+
+    @Test
+    public void invalidIIDsAreRejected() {
+        IIDSet set = new IIDSet();
+        assertFails(() -> set.add("1e00"));
+        assertFails(() -> set.add("0x1e0"));
+        assertFails(() -> set.add("0x1g"));
+        assertFails(() -> set.add("0x"));
+        assertFails(() -> set.add("0x\uff11\uff12"));
+        assertFails(() -> set.contains("0x"));
+        assertFails(() -> new IIDSet(-1));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    public void keysOfDifferentLengthsAreDistinct() {
+        IIDSet set = new IIDSet();
+        assertTrue(set.add("0x1e"));
+        assertTrue(set.add("0x1e00"));
+        assertTrue(set.add("0x1e0000"));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void mapPutsAndReplacesValues() {
+        IIDMap<String> map = new IIDMap<>();
+        assertNull(map.put(iid(1), "a"));
+        assertEquals("a", map.put(bytes(1), "b"));
+        assertEquals("b", map.get(iid(1)));
+        assertNull(map.get(iid(2)));
+        assertFalse(map.containsKey(iid(2)));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void mapPutIfAbsentKeepsExistingValues() {
+        IIDMap<Integer> map = new IIDMap<>(1);
+        assertNull(map.putIfAbsent(iid(1), 0));
+        assertEquals(Integer.valueOf(0), map.putIfAbsent(iid(1), 1));
+        byte[] buffer = new byte[16];
+        System.arraycopy(bytes(1), 0, buffer, 2, 11);
+        assertEquals(Integer.valueOf(0), map.putIfAbsent(buffer, 2, 11, 2));
+        System.arraycopy(bytes(2), 0, buffer, 2, 11);
+        assertNull(map.putIfAbsent(buffer, 2, 11, 2));
+        assertEquals(Integer.valueOf(2), map.get(bytes(2)));
+    }
+
+    @Test
+    public void mapGrowsBeyondExpectedSize() {
+        IIDMap<Integer> map = new IIDMap<>();
+        for (int i = 0; i < 50_000; i++) map.put(bytes(i), i);
+        for (int i = 0; i < 50_000; i++) assertEquals(Integer.valueOf(i), map.get(iid(i)));
+        List<Integer> values = new ArrayList<>();
+        map.forEach((iid, value) -> values.add(value));
+        for (int i = 0; i < 50_000; i++) assertEquals(Integer.valueOf(i), values.get(i));
+    }
+
+    private static void assertFails(Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.common.collection;
+
+import com.typedb.driver.common.collection.InternTable;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class InternTableTest {
+    private static final int THREADS = 16;
+
+    @Test
+    public void firstValueIsInterned() {
+        InternTable<String, Object> table = new InternTable<>();
+        List<Object> discarded = new ArrayList<>();
+        assertNull(table.get("person"));
+        Object first = new Object();
+        assertSame(first, table.intern("person", first, discarded::add));
+        assertSame(first, table.get("person"));
+        assertEquals(0, discarded.size());
+
+        Object duplicate = new Object();
+        assertSame(first, table.intern("person", duplicate, discarded::add));
+        assertEquals(List.of(duplicate), discarded);
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void keysAreInternedSeparately() {
+        InternTable<String, Object> table = new InternTable<>();
+        Object person = table.intern("person", new Object(), value -> {});
+        Object company = table.intern("company", new Object(), value -> {});
+        assertSame(person, table.get("person"));
+        assertSame(company, table.get("company"));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void concurrentInternsShareOneValue() throws Exception {
+        InternTable<String, Object> table = new InternTable<>();
+        AtomicInteger discarded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<Object> intern = () -> {
+                    start.await();
+                    return table.intern("person", new Object(), value -> discarded.incrementAndGet());
+                };
+                results.add(executor.submit(intern));
+            }
+            start.countDown();
+            Object interned = results.get(0).get();
+            for (Future<Object> result : results) assertSame(interned, result.get());
+            assertSame(interned, table.get("person"));
+            assertEquals(THREADS - 1, discarded.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.CSVFormat;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.AnswerExporter;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_EXPORT_FAILED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_CSV_DELIMITER;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.attribute;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.date;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.datetime;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.datetimeTZ;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.decimal;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.doubleValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.duration;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.empty;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.integer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.row;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.string;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.struct;
+import static org.junit.Assert.assertEquals;
+
+public class AnswerExporterTest {
+    private static final List<String> COLUMNS = List.of("name", "age", "balance");
+
+    @Test
+    public void headerAndValues() {
+        byte[] row = row(string("alice"), integer(30), decimal(1, 5_000_000_000_000_000_000L));
+        assertEquals("name,age,balance\r\nalice,30,1.5\r\n", export(CSVFormat.defaults(), row));
+    }
+
+    @Test
+    public void fieldsAreQuoted() {
+        String csv = export(CSVFormat.defaults(),
+                row(string("a,b"), integer(1), empty()),
+                row(string("say \"hi\""), integer(2), empty()),
+                row(string("two\r\nlines"), integer(3), empty()));
+        assertEquals("name,age,balance\r\n\"a,b\",1,\r\n\"say \"\"hi\"\"\",2,\r\n\"two\r\nlines\",3,\r\n", csv);
+        assertEquals("name;age;balance\r\na,b;1;\r\n\"a;b\";2;\r\n",
+                export(CSVFormat.defaults().withDelimiter(';'), row(string("a,b"), integer(1), empty()),
+                        row(string("a;b"), integer(2), empty())));
+    }
+
+    @Test
+    public void emptyAnswersAreWrittenAsNullValue() {
+        assertEquals("name,age,balance\r\n,,\r\n", export(CSVFormat.defaults(), row(empty(), empty(), empty())));
+        assertEquals("name,age,balance\r\nNULL,7,NULL\r\n",
+                export(CSVFormat.defaults().withNullValue("NULL"), row(empty(), integer(7), empty())));
+    }
+
+    @Test
+    public void attributesAreWrittenByValue() {
+        assertEquals("name,age,balance\r\nbob,41,\r\n",
+                export(CSVFormat.defaults(), row(attribute(string("bob")), attribute(integer(41)), empty())));
+    }
+
+    @Test
+    public void selectedColumnsAreWrittenInOrder() {
+        CSVFormat format = CSVFormat.defaults().withColumns("balance", "name");
+        assertEquals("balance,name\r\n2,carol\r\n",
+                export(format, row(string("carol"), integer(5), decimal(2, 0))));
+        CSVFormat nameOnly = format.withColumns("name").withoutHeader();
+        assertEquals("carol\r\n", export(nameOnly, row(string("carol"), integer(5), empty())));
+    }
+
+    @Test
+    public void selectingAMissingColumnFails() {
+        TypeDBDriverException error = assertFails(
+                () -> export(CSVFormat.defaults().withColumns("email"), row(empty(), empty(), empty())));
+        assertEquals(ROW_AGGREGATE_MISSING_COLUMN, error.getErrorMessage());
+    }
+
+    @Test
+    public void columnFormatsApplyToValues() {
+        CSVFormat format = CSVFormat.defaults().withColumnFormat("age", value -> "age " + value);
+        assertEquals("name,age,balance\r\nx,age 3,\r\n,,\r\n",
+                export(format, row(string("x"), integer(3), empty()), row(empty(), empty(), empty())));
+    }
+
+    @Test
+    public void decimalsAreWrittenWithoutTrailingZeros() {
+        assertEquals("name,age,balance\r\n,,10\r\n,,-1.5\r\n,,0.0000000000000000001\r\n",
+                export(CSVFormat.defaults(),
+                        row(empty(), empty(), decimal(10, 0)),
+                        row(empty(), empty(), decimal(-2, 5_000_000_000_000_000_000L)),
+                        row(empty(), empty(), decimal(0, 1))));
+    }
+
+    // The same cases as test_values_are_formatted_as_by_the_java_export in the native export, c/src/export.rs.
+    @Test
+    public void valuesAreFormattedAsByTheNativeExport() {
+        assertEquals("1.5", field(doubleValue(1.5)));
+        assertEquals("10000000000", field(doubleValue(1e10)));
+        assertEquals("1", field(doubleValue(1.0)));
+        assertEquals("-0", field(doubleValue(-0.0)));
+        assertEquals("0.0001", field(doubleValue(0.0001)));
+        assertEquals("inf", field(doubleValue(Double.POSITIVE_INFINITY)));
+        assertEquals("NaN", field(doubleValue(Double.NaN)));
+        assertEquals("-1.5", field(decimal(-2, 5_000_000_000_000_000_000L)));
+
+        long seconds = 1709214310;
+        assertEquals("2024-02-29", field(date(19782)));
+        assertEquals("2024-02-29T13:45:10.123000000", field(datetime(seconds, 123_000_000)));
+        assertEquals("2024-02-29T15:15:10.123000000+01:30", field(datetimeTZ(seconds, 123_000_000, 5400)));
+        assertEquals("2024-02-29T13:45:10.123000000+00:00", field(datetimeTZ(seconds, 123_000_000, 0)));
+        assertEquals("2024-07-29T14:45:10.123000000 Europe/London",
+                field(datetimeTZ(1722260710, 123_000_000, "Europe/London")));
+
+        assertEquals("PT0S", field(duration(0, 0, 0)));
+        assertEquals("P1Y2M3D", field(duration(14, 3, 0)));
+        assertEquals("PT1H2M3S", field(duration(0, 0, 3_723_000_000_000L)));
+        assertEquals("P1MT0.500000000S", field(duration(1, 0, 500_000_000)));
+    }
+
+    @Test
+    public void structValuesFail() {
+        TypeDBDriverException error = assertFails(
+                () -> export(CSVFormat.defaults(), row(empty(), empty(), struct("point"))));
+        assertEquals(ANSWER_EXPORT_FAILED, error.getErrorMessage());
+    }
+
+    @Test
+    public void unencodableStringsFail() {
+        CSVFormat format = CSVFormat.defaults().withColumnFormat("age", value -> "\uD800");
+        TypeDBDriverException error = assertFails(() -> export(format, row(empty(), integer(1), empty())));
+        assertEquals(ANSWER_EXPORT_FAILED, error.getErrorMessage());
+    }
+
+    @Test
+    public void headerIsWrittenWithoutRows() {
+        assertEquals("name,age,balance\r\n", export(CSVFormat.defaults()));
+        assertEquals("", export(CSVFormat.defaults().withoutHeader()));
+        assertEquals("age\r\n", export(null, CSVFormat.defaults().withColumns("age")));
+        assertEquals("", export(null, CSVFormat.defaults()));
+    }
+
+    @Test
+    public void headerIsResolvedFromTheFirstRowIfUnknown() {
+        assertEquals("name,age,balance\r\nx,1,\r\n",
+                export(null, CSVFormat.defaults(), row(string("x"), integer(1), empty())));
+    }
+
+    @Test
+    public void ambiguousDelimitersAreRejected() {
+        assertEquals(INVALID_CSV_DELIMITER, assertFails(() -> CSVFormat.defaults().withDelimiter('"')).getErrorMessage());
+        assertEquals(INVALID_CSV_DELIMITER, assertFails(() -> CSVFormat.defaults().withDelimiter('\n')).getErrorMessage());
+        assertEquals(INVALID_CSV_DELIMITER, assertFails(() -> CSVFormat.defaults().withDelimiter('\r')).getErrorMessage());
+        CSVFormat nulls = CSVFormat.defaults().withNullValue("-");
+        assertEquals(INVALID_CSV_DELIMITER, assertFails(() -> nulls.withDelimiter('-')).getErrorMessage());
+        assertEquals(INVALID_CSV_DELIMITER,
+                assertFails(() -> CSVFormat.defaults().withNullValue("a,b")).getErrorMessage());
+        assertEquals('\t', CSVFormat.defaults().withDelimiter('\t').delimiter());
+    }
+
+    @Test
+    public void everyRowIsDeleted() {
+        Encoding.Codec codec = new Encoding.Codec(COLUMNS.toArray(new String[0]));
+        List<byte[]> rows = List.of(row(empty(), empty(), empty()), row(empty(), integer(1), empty()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, AnswerExporter.exportCSV(rows.iterator(), codec, COLUMNS, Channels.newChannel(out),
+                CSVFormat.defaults()));
+        assertEquals(2, codec.deleted());
+    }
+
+    private static String field(byte[] value) {
+        String csv = export(CSVFormat.defaults().withoutHeader().withColumns("balance"), row(empty(), empty(), value));
+        return csv.substring(0, csv.length() - 2);
+    }
+
+    private static String export(CSVFormat format, byte[]... rows) {
+        return export(COLUMNS, format, rows);
+    }
+
+    private static String export(@Nullable List<String> columnNames, CSVFormat format, byte[]... rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Encoding.Codec codec = new Encoding.Codec(COLUMNS.toArray(new String[0]));
+        List<byte[]> list = rows.length == 0 ? Collections.emptyList() : List.of(rows);
+        AnswerExporter.exportCSV(list.iterator(), codec, columnNames, Channels.newChannel(out), format);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TypeDBDriverException assertFails(Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            return e;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
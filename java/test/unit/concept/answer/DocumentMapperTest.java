@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.common.exception.ErrorMessage;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.DocumentMapper;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.DOCUMENT_MAPPING_UNSUPPORTED_FIELD;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.DOCUMENT_MAPPING_VALUE_MISMATCH;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.array;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.bool;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.buffer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.member;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.nullValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.number;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.object;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.string;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class DocumentMapperTest {
+    public static class Person {
+        String name;
+        int age;
+        double score;
+        boolean active;
+        Long id;
+        Optional<String> nickname;
+        List<String> tags;
+        Map<String, Long> counts;
+        Address address;
+        Person friend;
+        JSON extra;
+    }
+
+    public static class Address {
+        String city;
+        long zip;
+    }
+
+    public static class Unsupported {
+        Set<String> tags;
+    }
+
+    @Test
+    public void membersAreBoundByKey() {
+        DocumentMapper<Person> mapper = new DocumentMapper<>(Person.class);
+        Person person = mapper.map(buffer(object(
+                member("unknown", string("skipped")),
+                member("name", string("alice")),
+                member("other", array(string("a"), object(member("b", string("c"))))),
+                member("age", number(42)),
+                member("score", number(0.5)),
+                member("active", bool(true)),
+                member("id", number(7)),
+                member("nickname", string("al")),
+                member("tags", array(string("x"), string("y"))),
+                member("counts", object(member("a", number(1)), member("b", number(2)))),
+                member("address", object(member("zip", number(12345)), member("city", string("London")))),
+                member("friend", object(member("name", string("bob")))),
+                member("extra", array(nullValue(), bool(false)))
+        )));
+        assertEquals("alice", person.name);
+        assertEquals(42, person.age);
+        assertEquals(0.5, person.score, 0);
+        assertEquals(true, person.active);
+        assertEquals(Long.valueOf(7), person.id);
+        assertEquals(Optional.of("al"), person.nickname);
+        assertEquals(List.of("x", "y"), person.tags);
+        assertEquals(Map.of("a", 1L, "b", 2L), person.counts);
+        assertEquals("London", person.address.city);
+        assertEquals(12345, person.address.zip);
+        assertEquals("bob", person.friend.name);
+        assertNull(person.friend.friend);
+        assertEquals(JSON.array(List.of(JSON.nullValue(), JSON.bool(false))), person.extra);
+    }
+
+    @Test
+    public void absentAndNullMembersAreEmpty() {
+        DocumentMapper<Person> mapper = new DocumentMapper<>(Person.class);
+        Person absent = mapper.map(buffer(object()));
+        assertNull(absent.name);
+        assertEquals(0, absent.age);
+        assertEquals(0.0, absent.score, 0);
+        assertFalse(absent.active);
+        assertNull(absent.id);
+        assertEquals(Optional.empty(), absent.nickname);
+        assertNull(absent.tags);
+        assertNull(absent.address);
+
+        Person nulls = mapper.map(buffer(object(
+                member("name", nullValue()), member("id", nullValue()), member("nickname", nullValue()),
+                member("tags", nullValue()), member("address", nullValue())
+        )));
+        assertNull(nulls.name);
+        assertNull(nulls.id);
+        assertEquals(Optional.empty(), nulls.nickname);
+        assertNull(nulls.tags);
+        assertNull(nulls.address);
+    }
+
+    @Test
+    public void consecutiveDocumentsAreBound() {
+        byte[] first = object(member("city", string("London")), member("zip", number(1)));
+        byte[] second = object(member("city", string("Paris")), member("zip", number(2)));
+        ByteBuffer encoded = buffer(new byte[first.length + second.length]);
+        encoded.put(first).put(second).flip();
+        DocumentMapper<Address> mapper = new DocumentMapper<>(Address.class);
+        assertEquals("London", mapper.map(encoded).city);
+        assertEquals("Paris", mapper.map(encoded).city);
+        assertFalse(encoded.hasRemaining());
+    }
+
+    @Test
+    public void mismatchedValuesFail() {
+        DocumentMapper<Person> mapper = new DocumentMapper<>(Person.class);
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(object(member("name", number(1))))));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(object(member("age", number(1.5))))));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(object(member("age", number(1L << 40))))));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(object(member("age", nullValue())))));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(object(member("tags", array(string("a"), number(1)))))));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(object(member("address", object(member("zip", string("1"))))))));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(array())));
+        assertFails(DOCUMENT_MAPPING_VALUE_MISMATCH, () -> mapper.map(buffer(nullValue())));
+    }
+
+    @Test
+    public void unsupportedFieldsFail() {
+        assertFails(DOCUMENT_MAPPING_UNSUPPORTED_FIELD, () -> new DocumentMapper<>(Unsupported.class));
+    }
+
+    private static void assertFails(ErrorMessage expected, Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            assertEquals(expected.code(), e.getErrorMessage().code());
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.EncodedDocumentReader;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.array;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.bool;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.buffer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.member;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.nullValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.number;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.object;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.string;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class EncodedDocumentReaderTest {
+    @Test
+    public void everyValueIsDecoded() {
+        byte[] document = object(
+                member("name", string("Zoë")),
+                member("age", number(42)),
+                member("ratio", number(-0.25)),
+                member("active", bool(true)),
+                member("deleted", bool(false)),
+                member("parent", nullValue()),
+                member("tags", array(string("a"), array(), object())),
+                member("address", object(member("city", string("London"))))
+        );
+        JSON expected = JSON.object(Map.of(
+                "name", JSON.string("Zoë"),
+                "age", JSON.number(42),
+                "ratio", JSON.number(-0.25),
+                "active", JSON.bool(true),
+                "deleted", JSON.bool(false),
+                "parent", JSON.nullValue(),
+                "tags", JSON.array(List.of(JSON.string("a"), JSON.array(List.of()), JSON.object(Map.of()))),
+                "address", JSON.object(Map.of("city", JSON.string("London")))
+        ));
+        assertEquals(expected, new EncodedDocumentReader().decode(buffer(document)));
+    }
+
+    @Test
+    public void decodingAdvancesPastTheDocument() {
+        byte[] first = array(number(1), string("one"));
+        byte[] second = object(member("two", number(2)));
+        byte[] third = bool(true);
+        ByteBuffer encoded = buffer(new byte[first.length + second.length + third.length]);
+        encoded.put(first).put(second).put(third).flip();
+        EncodedDocumentReader reader = new EncodedDocumentReader();
+        assertEquals(JSON.array(List.of(JSON.number(1), JSON.string("one"))), reader.decode(encoded));
+        assertEquals(JSON.object(Map.of("two", JSON.number(2))), reader.decode(encoded));
+        assertEquals(JSON.bool(true), reader.decode(encoded));
+        assertFalse(encoded.hasRemaining());
+    }
+
+    @Test
+    public void longStringsAndLargeContainersAreDecoded() {
+        String text = "x".repeat(100_000);
+        byte[][] elements = new byte[1000][];
+        for (int i = 0; i < elements.length; i++) elements[i] = number(i);
+        JSON decoded = new EncodedDocumentReader().decode(buffer(array(string(text), array(elements))));
+        assertEquals(text, decoded.asArray().get(0).asString());
+        List<JSON> numbers = decoded.asArray().get(1).asArray();
+        assertEquals(1000, numbers.size());
+        for (int i = 0; i < numbers.size(); i++) assertEquals(i, numbers.get(i).asNumber(), 0);
+    }
+
+    @Test
+    public void unknownTagsFail() {
+        try {
+            new EncodedDocumentReader().decode(buffer(new byte[]{9}));
+        } catch (TypeDBDriverException e) {
+            assertEquals(UNEXPECTED_NATIVE_VALUE.code(), e.getErrorMessage().code());
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.concept.answer.EncodedRows;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.typedb.driver.test.unit.concept.answer.Encoding.empty;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.integer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.row;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.string;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class EncodedRowsTest {
+    private static final Encoding.Codec CODEC = new Encoding.Codec("name", "age");
+
+    @Test
+    public void rowsAreStoredBackToBack() {
+        EncodedRows rows = new EncodedRows();
+        List<byte[]> added = List.of(
+                row(string("alice"), integer(30)),
+                row(empty(), empty()),
+                row(string("bob"), integer(41))
+        );
+        for (int i = 0; i < added.size(); i++) assertEquals(i, rows.add(added.get(i), CODEC));
+
+        assertEquals(added.size(), rows.size());
+        int offset = 0;
+        for (int i = 0; i < added.size(); i++) {
+            assertEquals(offset, rows.offset(i));
+            assertEquals(added.get(i).length, rows.length(i));
+            assertArrayEquals(added.get(i), read(rows, i));
+            offset += added.get(i).length;
+        }
+        assertEquals(offset, rows.byteSize());
+    }
+
+    @Test
+    public void rowsAreKeptWhenTheBufferGrows() {
+        EncodedRows rows = new EncodedRows();
+        List<byte[]> added = new ArrayList<>();
+        char[] name = new char[100_000];
+        Arrays.fill(name, 'x');
+        added.add(row(string("alice"), integer(30)));
+        added.add(row(string(new String(name)), integer(1)));
+        for (int i = 0; i < 10_000; i++) added.add(row(string("person " + i), integer(i)));
+        for (byte[] row : added) rows.add(row, CODEC);
+
+        assertEquals(added.size(), rows.size());
+        for (int i = 0; i < added.size(); i++) assertArrayEquals(added.get(i), read(rows, i));
+    }
+
+    @Test
+    public void clearedRowsAreOverwritten() {
+        EncodedRows rows = new EncodedRows();
+        rows.add(row(string("alice"), integer(30)), CODEC);
+        rows.clear();
+        assertEquals(0, rows.size());
+        assertEquals(0, rows.byteSize());
+
+        byte[] row = row(empty(), integer(7));
+        assertEquals(0, rows.add(row, CODEC));
+        assertEquals(row.length, rows.byteSize());
+        assertArrayEquals(row, read(rows, 0));
+    }
+
+    private static byte[] read(EncodedRows rows, int index) {
+        byte[] row = new byte[rows.length(index)];
+        ByteBuffer data = rows.data().duplicate();
+        data.clear().position(rows.offset(index));
+        data.get(row);
+        return row;
+    }
+}
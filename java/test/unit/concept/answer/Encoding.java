@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.concept.answer.RowCodec;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Builds rows in the compact encoding produced by <code>answer::codec</code> in the Rust driver: the number of
+ * columns, followed by each concept as a kind tag and its fields, with little-endian numbers and varint lengths.
+ * Documents are built with <code>Documents</code>.
+ */
+public class Encoding {
+    private static final byte EMPTY = 0;
+    private static final byte ENTITY = 5;
+    private static final byte ATTRIBUTE = 7;
+    private static final byte VALUE = 8;
+
+    private static final byte BOOLEAN = 0;
+    private static final byte INTEGER = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte DECIMAL = 3;
+    private static final byte STRING = 4;
+    private static final byte DATE = 5;
+    private static final byte DATETIME = 6;
+    private static final byte DATETIME_TZ = 7;
+    private static final byte DURATION = 8;
+    private static final byte STRUCT = 9;
+    private static final byte TIME_ZONE_IANA = 0;
+    private static final byte TIME_ZONE_FIXED = 1;
+    private static final int DAYS_FROM_CE_TO_EPOCH = 719163;
+
+    public static byte[] row(byte[]... concepts) {
+        Encoder encoder = new Encoder().varint(concepts.length);
+        for (byte[] concept : concepts) encoder.bytes(concept, false);
+        return encoder.toByteArray();
+    }
+
+    public static byte[] empty() {
+        return new byte[]{EMPTY};
+    }
+
+    public static byte[] entity(byte[] iid, String type) {
+        return new Encoder().put(ENTITY).bytes(iid, true).put(1).bytes(utf8(type), true).toByteArray();
+    }
+
+    /**
+     * An attribute holding the value, which must have been built by one of the value methods.
+     */
+    public static byte[] attribute(byte[] value) {
+        byte[] iid = {0x1e, 0x00, 0x01};
+        return new Encoder().put(ATTRIBUTE).bytes(iid, true).bytes(value, 1, value.length).put(0).toByteArray();
+    }
+
+    public static byte[] bool(boolean value) {
+        return new Encoder().put(VALUE).put(BOOLEAN).put(value ? 1 : 0).toByteArray();
+    }
+
+    public static byte[] integer(long value) {
+        return new Encoder().put(VALUE).put(INTEGER).putLong(value).toByteArray();
+    }
+
+    public static byte[] doubleValue(double value) {
+        return new Encoder().put(VALUE).put(DOUBLE).putLong(Double.doubleToRawLongBits(value)).toByteArray();
+    }
+
+    /**
+     * A <code>decimal</code> value of <code>integer + fractional * 10^-19</code>.
+     */
+    public static byte[] decimal(long integer, long fractional) {
+        return new Encoder().put(VALUE).put(DECIMAL).putLong(integer).putLong(fractional).toByteArray();
+    }
+
+    public static byte[] string(String value) {
+        return new Encoder().put(VALUE).put(STRING).bytes(utf8(value), true).toByteArray();
+    }
+
+    public static byte[] date(long epochDay) {
+        return new Encoder().put(VALUE).put(DATE).putInt((int) (epochDay + DAYS_FROM_CE_TO_EPOCH)).toByteArray();
+    }
+
+    public static byte[] datetime(long seconds, int nanos) {
+        return new Encoder().put(VALUE).put(DATETIME).putLong(seconds).putInt(nanos).toByteArray();
+    }
+
+    public static byte[] datetimeTZ(long seconds, int nanos, String zone) {
+        return new Encoder().put(VALUE).put(DATETIME_TZ).putLong(seconds).putInt(nanos).put(TIME_ZONE_IANA)
+                .bytes(utf8(zone), true).toByteArray();
+    }
+
+    public static byte[] datetimeTZ(long seconds, int nanos, int offsetSeconds) {
+        return new Encoder().put(VALUE).put(DATETIME_TZ).putLong(seconds).putInt(nanos).put(TIME_ZONE_FIXED)
+                .putInt(offsetSeconds).toByteArray();
+    }
+
+    public static byte[] duration(int months, int days, long nanos) {
+        return new Encoder().put(VALUE).put(DURATION).putInt(months).putInt(days).putLong(nanos).toByteArray();
+    }
+
+    public static byte[] struct(String name) {
+        return new Encoder().put(VALUE).put(STRUCT).bytes(utf8(name), true).varint(0).toByteArray();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A <code>RowCodec</code> over rows that are already encoded, all with the given column names.
+     * Counts the rows that are deleted.
+     */
+    public static class Codec implements RowCodec<byte[]> {
+        private final List<String> columnNames;
+        private int deleted;
+
+        public Codec(String... columnNames) {
+            this.columnNames = List.of(columnNames);
+            this.deleted = 0;
+        }
+
+        @Override
+        public long encode(byte[] row, ByteBuffer buffer, int offset, int capacity) {
+            if (row.length <= capacity) buffer.duplicate().position(offset).put(row);
+            return row.length;
+        }
+
+        @Override
+        public byte[] decode(byte[] header, ByteBuffer buffer, int offset, int length) {
+            byte[] row = new byte[length];
+            buffer.duplicate().position(offset).get(row);
+            return row;
+        }
+
+        @Override
+        public List<String> columnNames(byte[] row) {
+            return columnNames;
+        }
+
+        /**
+         * Concepts are only created from native rows.
+         */
+        @Override
+        public Concept concept(byte[] row, int column, TypeCache types) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void delete(byte[] row) {
+            deleted++;
+        }
+
+        public synchronized int deleted() {
+            return deleted;
+        }
+    }
+
+    /**
+     * Builds documents in the compact encoding of their JSON form: a tag, followed by a little-endian double for
+     * numbers, a varint length and UTF-8 for strings, and, for arrays and objects, the byte length of the rest,
+     * the number of elements, and the elements or key-value members.
+     */
+    public static class Documents {
+        private static final byte NULL = 0;
+        private static final byte FALSE = 1;
+        private static final byte TRUE = 2;
+        private static final byte NUMBER = 3;
+        private static final byte STRING = 4;
+        private static final byte ARRAY = 5;
+        private static final byte OBJECT = 6;
+
+        public static byte[] nullValue() {
+            return new byte[]{NULL};
+        }
+
+        public static byte[] bool(boolean value) {
+            return new byte[]{value ? TRUE : FALSE};
+        }
+
+        public static byte[] number(double value) {
+            return new Encoder().put(NUMBER).putLong(Double.doubleToRawLongBits(value)).toByteArray();
+        }
+
+        public static byte[] string(String value) {
+            return new Encoder().put(STRING).bytes(utf8(value), true).toByteArray();
+        }
+
+        public static byte[] array(byte[]... elements) {
+            return container(ARRAY, elements);
+        }
+
+        /**
+         * An object of the given members, each built with <code>member</code>.
+         */
+        public static byte[] object(byte[]... members) {
+            return container(OBJECT, members);
+        }
+
+        public static byte[] member(String key, byte[] value) {
+            return new Encoder().bytes(utf8(key), true).bytes(value, false).toByteArray();
+        }
+
+        /**
+         * The document as a little-endian buffer, positioned at its start.
+         */
+        public static ByteBuffer buffer(byte[] document) {
+            return ByteBuffer.wrap(document).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private static byte[] container(byte tag, byte[][] parts) {
+            Encoder body = new Encoder().varint(parts.length);
+            for (byte[] part : parts) body.bytes(part, false);
+            byte[] bodyBytes = body.toByteArray();
+            return new Encoder().put(tag).putInt(bodyBytes.length).bytes(bodyBytes, false).toByteArray();
+        }
+    }
+
+    private static class Encoder {
+        private ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Encoder put(int b) {
+            reserve(1).put((byte) b);
+            return this;
+        }
+
+        private Encoder putInt(int value) {
+            reserve(Integer.BYTES).putInt(value);
+            return this;
+        }
+
+        private Encoder putLong(long value) {
+            reserve(Long.BYTES).putLong(value);
+            return this;
+        }
+
+        private Encoder varint(long value) {
+            while ((value & ~0x7fL) != 0) {
+                put((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            return put((int) value);
+        }
+
+        private Encoder bytes(byte[] bytes, boolean withLength) {
+            if (withLength) varint(bytes.length);
+            return bytes(bytes, 0, bytes.length);
+        }
+
+        private Encoder bytes(byte[] bytes, int from, int to) {
+            reserve(to - from).put(bytes, from, to - from);
+            return this;
+        }
+
+        private ByteBuffer reserve(int length) {
+            if (buffer.remaining() < length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                buffer.flip();
+                buffer = grown.put(buffer);
+            }
+            return buffer;
+        }
+
+        private byte[] toByteArray() {
+            byte[] bytes = new byte[buffer.position()];
+            buffer.flip().get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.JSONProjection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class JSONProjectionTest {
+    @Test
+    public void memberPaths() {
+        JSONProjection projection = JSONProjection.of("$.a.b", "$.c");
+        assertFalse(projection.isTerminal());
+        assertFalse(projection.member("a").isTerminal());
+        assertTrue(projection.member("a").member("b").isTerminal());
+        assertNull(projection.member("a").member("c"));
+        assertTrue(projection.member("c").isTerminal());
+        assertNull(projection.member("b"));
+        assertNull(projection.element(0));
+    }
+
+    @Test
+    public void rootPathSelectsEverything() {
+        assertTrue(JSONProjection.of("$").isTerminal());
+    }
+
+    @Test
+    public void elementPaths() {
+        JSONProjection projection = JSONProjection.of("$.a[1]", "$.b[*].c");
+        assertNull(projection.member("a").element(0));
+        assertTrue(projection.member("a").element(1).isTerminal());
+        assertTrue(projection.member("b").element(0).member("c").isTerminal());
+        assertTrue(projection.member("b").element(7).member("c").isTerminal());
+        assertNull(projection.member("b").member("c"));
+    }
+
+    @Test
+    public void wildcardMembers() {
+        JSONProjection projection = JSONProjection.of("$.*.x");
+        assertTrue(projection.member("a").member("x").isTerminal());
+        assertTrue(projection.member("anything").member("x").isTerminal());
+        assertNull(projection.member("a").member("y"));
+    }
+
+    @Test
+    public void exactMembersIncludeWildcardPaths() {
+        JSONProjection projection = JSONProjection.of("$.a.x", "$.*.y");
+        assertTrue(projection.member("a").member("x").isTerminal());
+        assertTrue(projection.member("a").member("y").isTerminal());
+        assertNull(projection.member("b").member("x"));
+        assertTrue(projection.member("b").member("y").isTerminal());
+    }
+
+    @Test
+    public void exactElementsIncludeWildcardPaths() {
+        JSONProjection projection = JSONProjection.of("$[0].x", "$[*].y", "$[*][*].z");
+        assertTrue(projection.element(0).member("x").isTerminal());
+        assertTrue(projection.element(0).member("y").isTerminal());
+        assertTrue(projection.element(3).member("y").isTerminal());
+        assertNull(projection.element(3).member("x"));
+        assertTrue(projection.element(0).element(5).member("z").isTerminal());
+    }
+
+    @Test
+    public void wildcardPathsMergeAtEveryDepth() {
+        JSONProjection projection = JSONProjection.of("$.a.b.x", "$.*.b.y", "$.a.*.z");
+        JSONProjection b = projection.member("a").member("b");
+        assertTrue(b.member("x").isTerminal());
+        assertTrue(b.member("y").isTerminal());
+        assertTrue(b.member("z").isTerminal());
+        assertNull(projection.member("other").member("b").member("x"));
+        assertTrue(projection.member("other").member("b").member("y").isTerminal());
+        assertTrue(projection.member("a").member("c").member("z").isTerminal());
+        assertNull(projection.member("a").member("c").member("y"));
+    }
+
+    @Test
+    public void terminalWildcardSelectsExactMembers() {
+        JSONProjection projection = JSONProjection.of("$.a.x", "$.*");
+        assertTrue(projection.member("a").isTerminal());
+        assertTrue(projection.member("b").isTerminal());
+    }
+
+    @Test
+    public void quotedKeys() {
+        JSONProjection projection = JSONProjection.of("$['a.b']", "$[\"c[0]\"].d", "$['x]y']['*']", "$['it\\'s']");
+        assertTrue(projection.member("a.b").isTerminal());
+        assertNull(projection.member("a"));
+        assertTrue(projection.member("c[0]").member("d").isTerminal());
+        assertTrue(projection.member("x]y").member("*").isTerminal());
+        assertNull(projection.member("x]y").member("other"));
+        assertTrue(projection.member("it's").isTerminal());
+    }
+
+    @Test
+    public void invalidPaths() {
+        for (String path : new String[]{"", "a.b", "$.", "$..a", "$a", "$[", "$[a]", "$[-1]", "$['a'", "$['a'x]"}) {
+            assertFails(path, () -> JSONProjection.of(path));
+        }
+        assertFails(null, () -> JSONProjection.of((String) null));
+    }
+
+    private static void assertFails(String path, Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected for path: " + path);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.JSONVisitor;
+import com.typedb.driver.concept.answer.EncodedDocumentReader;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.array;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.bool;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.buffer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.member;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.nullValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.number;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.object;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.string;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class JSONVisitorTest {
+    @Test
+    public void eventsFollowTheDocument() {
+        byte[] document = object(
+                member("name", string("alice")),
+                member("scores", array(number(1.5), nullValue(), bool(true))),
+                member("address", object(member("city", string("London")), member("empty", array())))
+        );
+        Recorder recorder = new Recorder();
+        new EncodedDocumentReader().visit(buffer(document), recorder);
+        assertEquals(List.of(
+                "beginObject 3",
+                "key name", "value alice",
+                "key scores", "beginArray 3", "value 1.5", "null", "value true", "endArray",
+                "key address", "beginObject 2",
+                "key city", "value London",
+                "key empty", "beginArray 0", "endArray",
+                "endObject",
+                "endObject",
+                "endDocument"
+        ), recorder.events);
+    }
+
+    @Test
+    public void everyDocumentEnds() {
+        byte[] first = string("one");
+        byte[] second = bool(false);
+        ByteBuffer encoded = buffer(new byte[first.length + second.length]);
+        encoded.put(first).put(second).flip();
+        EncodedDocumentReader reader = new EncodedDocumentReader();
+        Recorder recorder = new Recorder();
+        reader.visit(encoded, recorder);
+        reader.visit(encoded, recorder);
+        assertEquals(List.of("value one", "endDocument", "value false", "endDocument"), recorder.events);
+        assertFalse(encoded.hasRemaining());
+    }
+
+    @Test
+    public void unhandledEventsAreIgnored() {
+        List<String> keys = new ArrayList<>();
+        JSONVisitor visitor = new JSONVisitor() {
+            @Override
+            public void key(String key) {
+                keys.add(key);
+            }
+        };
+        new EncodedDocumentReader().visit(buffer(object(
+                member("a", array(number(1), string("x"))),
+                member("b", object(member("c", nullValue())))
+        )), visitor);
+        assertEquals(List.of("a", "b", "c"), keys);
+    }
+
+    private static class Recorder implements JSONVisitor {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void beginObject(int size) {
+            events.add("beginObject " + size);
+        }
+
+        @Override
+        public void key(String key) {
+            events.add("key " + key);
+        }
+
+        @Override
+        public void endObject() {
+            events.add("endObject");
+        }
+
+        @Override
+        public void beginArray(int size) {
+            events.add("beginArray " + size);
+        }
+
+        @Override
+        public void endArray() {
+            events.add("endArray");
+        }
+
+        @Override
+        public void value(String value) {
+            events.add("value " + value);
+        }
+
+        @Override
+        public void value(double value) {
+            events.add("value " + value);
+        }
+
+        @Override
+        public void value(boolean value) {
+            events.add("value " + value);
+        }
+
+        @Override
+        public void nullValue() {
+            events.add("null");
+        }
+
+        @Override
+        public void endDocument() {
+            events.add("endDocument");
+        }
+    }
+}
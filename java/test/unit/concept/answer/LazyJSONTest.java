@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.EncodedDocumentReader;
+import com.typedb.driver.concept.answer.LazyJSON;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.array;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.bool;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.buffer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.member;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.nullValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.number;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.object;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.Documents.string;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LazyJSONTest {
+    private static final byte[] UNKNOWN_TAG = {9};
+
+    @Test
+    public void lazyViewsEqualTheDecodedDocument() {
+        byte[] document = object(
+                member("name", string("alice")),
+                member("age", number(42)),
+                member("active", bool(true)),
+                member("parent", nullValue()),
+                member("tags", array(string("a"), array(number(1)), object(member("b", bool(false)))))
+        );
+        JSON decoded = new EncodedDocumentReader().decode(buffer(document));
+        assertEquals(decoded, LazyJSON.of(buffer(document), 0));
+        assertEquals(LazyJSON.of(buffer(document), 0), decoded);
+        assertEquals(decoded.toString(), LazyJSON.of(buffer(document), 0).toString());
+    }
+
+    @Test
+    public void documentsAreReadAtTheirOffset() {
+        byte[] document = array(string("x"), number(2));
+        ByteBuffer encoded = buffer(new byte[3 + document.length]);
+        encoded.position(3);
+        encoded.put(document);
+        JSON view = LazyJSON.of(encoded, 3);
+        assertEquals(JSON.array(List.of(JSON.string("x"), JSON.number(2))), view);
+        assertEquals(encoded.capacity(), encoded.position());
+    }
+
+    @Test
+    public void membersAreLookedUpByKey() {
+        for (int size : new int[]{0, 1, 8, 9, 100}) {
+            byte[][] members = new byte[size][];
+            for (int i = 0; i < size; i++) members[i] = member("key" + i, number(i));
+            Map<String, JSON> object = LazyJSON.of(buffer(object(members)), 0).asObject();
+            assertEquals(size, object.size());
+            for (int i = 0; i < size; i++) {
+                assertTrue(object.containsKey("key" + i));
+                assertEquals(i, object.get("key" + i).asNumber(), 0);
+            }
+            assertFalse(object.containsKey("key" + size));
+            assertNull(object.get("key" + size));
+            List<String> keys = new ArrayList<>();
+            object.forEach((key, value) -> keys.add(key));
+            for (int i = 0; i < size; i++) assertEquals("key" + i, keys.get(i));
+        }
+    }
+
+    @Test
+    public void elementsAreReadByIndex() {
+        List<JSON> array = LazyJSON.of(buffer(array(string("a"), object(), number(3))), 0).asArray();
+        assertEquals(3, array.size());
+        assertEquals(JSON.string("a"), array.get(0));
+        assertEquals(JSON.object(Map.of()), array.get(1));
+        assertEquals(JSON.number(3), array.get(2));
+        try {
+            array.get(3);
+        } catch (IndexOutOfBoundsException e) {
+            return;
+        }
+        throw new AssertionError("IndexOutOfBoundsException is expected");
+    }
+
+    @Test
+    public void valuesAreDecodedOnceWhenRead() {
+        JSON view = LazyJSON.of(buffer(object(
+                member("nested", object(member("deep", array(number(1))))),
+                member("broken", array(UNKNOWN_TAG))
+        )), 0);
+        JSON nested = view.asObject().get("nested");
+        assertSame(nested, view.asObject().get("nested"));
+        assertSame(nested.asObject().get("deep"), view.asObject().get("nested").asObject().get("deep"));
+        List<JSON> broken = view.asObject().get("broken").asArray();
+        assertEquals(1, broken.size());
+        try {
+            broken.get(0);
+        } catch (TypeDBDriverException e) {
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.RowAggregate;
+import com.typedb.driver.common.exception.ErrorMessage;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.RowAggregator;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_NOT_GROUPABLE;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_NOT_NUMERIC;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_OVERFLOW;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.attribute;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.decimal;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.doubleValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.empty;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.integer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.row;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.string;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.struct;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RowAggregatorTest {
+
+    @Test
+    public void countsRowsAndAnswers() {
+        List<byte[]> rows = List.of(row(string("a"), integer(1)), row(empty(), integer(2)), row(string("c"), empty()));
+        assertEquals(Long.valueOf(3), aggregate(rows, RowAggregate.count()));
+        assertEquals(Long.valueOf(2), aggregate(rows, RowAggregate.count("city")));
+        assertEquals(Long.valueOf(2), aggregate(rows, RowAggregate.count("amount")));
+    }
+
+    @Test
+    public void integersAreSummedExactly() {
+        List<byte[]> rows = List.of(row(empty(), integer(Long.MAX_VALUE - 1)), row(empty(), attribute(integer(1))),
+                row(empty(), empty()));
+        assertEquals(Long.MAX_VALUE, aggregate(rows, RowAggregate.sum("amount")));
+    }
+
+    @Test
+    public void mixedValuesAreSummedAsDouble() {
+        List<byte[]> rows = List.of(row(empty(), integer(1)), row(empty(), doubleValue(0.5)),
+                row(empty(), decimal(1, 2_500_000_000_000_000_000L)));
+        assertEquals(2.75, aggregate(rows, RowAggregate.sum("amount")));
+    }
+
+    @Test
+    public void integerOverflowFails() {
+        List<byte[]> rows = List.of(row(empty(), integer(Long.MAX_VALUE)), row(empty(), integer(1)));
+        assertEquals(ROW_AGGREGATE_OVERFLOW, assertFails(() -> aggregate(rows, RowAggregate.sum("amount"))));
+    }
+
+    @Test
+    public void overflowAcrossBatchesFails() {
+        List<byte[]> rows = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) rows.add(row(empty(), integer(Long.MAX_VALUE / 10_000)));
+        assertEquals(ROW_AGGREGATE_OVERFLOW, assertFails(() -> aggregate(rows, RowAggregate.sum("amount"))));
+    }
+
+    @Test
+    public void manyBatchesAreCombined() {
+        List<byte[]> rows = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) rows.add(row(string("city" + i % 3), integer(i)));
+        assertEquals(Long.valueOf(50_000), aggregate(rows, RowAggregate.count()));
+        assertEquals(49_999L * 50_000 / 2, aggregate(rows, RowAggregate.sum("amount")));
+        Map<Object, Long> counts = aggregate(rows, RowAggregate.groupBy("city", RowAggregate.count()));
+        assertEquals(Map.of("city0", 16_667L, "city1", 16_667L, "city2", 16_666L), counts);
+    }
+
+    @Test
+    public void extremesKeepIntegerPrecision() {
+        List<byte[]> rows = List.of(row(empty(), integer(Long.MAX_VALUE)), row(empty(), integer(Long.MAX_VALUE - 1)),
+                row(empty(), doubleValue(1e18)), row(empty(), empty()));
+        assertEquals(Optional.of(Long.MAX_VALUE), aggregate(rows, RowAggregate.max("amount")));
+        assertEquals(Optional.of(1e18), aggregate(rows, RowAggregate.min("amount")));
+    }
+
+    @Test
+    public void extremesKeepDecimalPrecision() {
+        List<byte[]> rows = List.of(row(empty(), decimal(0, 1)), row(empty(), decimal(0, 2)), row(empty(), integer(1)));
+        assertEquals(Optional.of(new BigDecimal("0.0000000000000000001")), aggregate(rows, RowAggregate.min("amount")));
+        assertEquals(Optional.of(1L), aggregate(rows, RowAggregate.max("amount")));
+    }
+
+    @Test
+    public void extremesOfNoValuesAreEmpty() {
+        List<byte[]> rows = List.of(row(string("a"), empty()));
+        assertEquals(Optional.empty(), aggregate(rows, RowAggregate.min("amount")));
+        assertEquals(Optional.empty(), aggregate(List.of(), RowAggregate.max("amount")));
+    }
+
+    @Test
+    public void nonNumericValuesFail() {
+        List<byte[]> rows = List.of(row(string("a"), integer(1)));
+        assertEquals(ROW_AGGREGATE_NOT_NUMERIC, assertFails(() -> aggregate(rows, RowAggregate.sum("city"))));
+        assertEquals(ROW_AGGREGATE_NOT_NUMERIC, assertFails(() -> aggregate(rows, RowAggregate.max("city"))));
+    }
+
+    @Test
+    public void histogramClampsOutOfBoundValues() {
+        List<byte[]> rows = List.of(row(empty(), integer(-5)), row(empty(), integer(0)), row(empty(), doubleValue(4.9)),
+                row(empty(), integer(5)), row(empty(), integer(50)), row(empty(), empty()));
+        long[] counts = aggregate(rows, RowAggregate.histogram("amount", 0, 10, 2));
+        assertArrayEquals(new long[]{3, 2}, counts);
+    }
+
+    @Test
+    public void groupsAreAggregatedDownstream() {
+        List<byte[]> rows = List.of(row(string("paris"), integer(1)), row(attribute(string("paris")), integer(2)),
+                row(string("rome"), integer(3)), row(empty(), integer(4)));
+        Map<Object, Number> sums = aggregate(rows, RowAggregate.groupBy("city", RowAggregate.sum("amount")));
+        Map<Object, Number> expected = new HashMap<>();
+        expected.put("paris", 3L);
+        expected.put("rome", 3L);
+        expected.put(null, 4L);
+        assertEquals(expected, sums);
+    }
+
+    @Test
+    public void nestedGroupsAreAggregated() {
+        List<byte[]> rows = List.of(row(string("a"), integer(1)), row(string("a"), integer(1)), row(string("b"), integer(1)));
+        Map<Object, Map<Object, Long>> counts = aggregate(rows,
+                RowAggregate.groupBy("city", RowAggregate.groupBy("amount", RowAggregate.count())));
+        assertEquals(Map.of("a", Map.of(1L, 2L), "b", Map.of(1L, 1L)), counts);
+    }
+
+    @Test
+    public void structsCannotBeGrouped() {
+        List<byte[]> rows = List.of(row(struct("point"), integer(1)));
+        assertEquals(ROW_AGGREGATE_NOT_GROUPABLE,
+                assertFails(() -> aggregate(rows, RowAggregate.groupBy("city", RowAggregate.count()))));
+    }
+
+    @Test
+    public void missingColumnsFailWithAndWithoutRows() {
+        List<byte[]> rows = List.of(row(string("a"), integer(1)));
+        assertEquals(ROW_AGGREGATE_MISSING_COLUMN, assertFails(() -> aggregate(rows, RowAggregate.sum("typo"))));
+        assertEquals(ROW_AGGREGATE_MISSING_COLUMN, assertFails(() -> aggregate(List.of(), RowAggregate.sum("typo"))));
+        assertEquals(ROW_AGGREGATE_MISSING_COLUMN, assertFails(
+                () -> aggregate(List.of(), RowAggregate.groupBy("city", RowAggregate.max("typo")))));
+    }
+
+    @Test
+    public void emptyAnswersAggregateToIdentities() {
+        assertEquals(Long.valueOf(0), aggregate(List.of(), RowAggregate.count()));
+        assertEquals(0L, aggregate(List.of(), RowAggregate.sum("amount")));
+        assertEquals(Map.of(), aggregate(List.of(), RowAggregate.groupBy("city", RowAggregate.count())));
+        assertArrayEquals(new long[2], aggregate(List.of(), RowAggregate.histogram("amount", 0, 1, 2)));
+    }
+
+    @Test
+    public void unknownHeaderIsResolvedFromTheFirstRow() {
+        Encoding.Codec codec = new Encoding.Codec("city", "amount");
+        List<byte[]> rows = List.of(row(string("a"), integer(4)), row(string("b"), integer(5)));
+        assertEquals(9L, RowAggregator.aggregate(rows.iterator(), codec, null, RowAggregate.sum("amount")));
+        assertEquals(Long.valueOf(0), RowAggregator.aggregate(List.<byte[]>of().iterator(), codec, null, RowAggregate.count()));
+    }
+
+    @Test
+    public void everyRowIsDeleted() {
+        Encoding.Codec codec = new Encoding.Codec("city", "amount");
+        List<byte[]> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) rows.add(row(string("a"), integer(i)));
+        RowAggregator.aggregate(rows.iterator(), codec, List.of("city", "amount"), RowAggregate.count());
+        assertEquals(rows.size(), codec.deleted());
+    }
+
+    private static <R> R aggregate(List<byte[]> rows, RowAggregate<R> aggregate) {
+        Encoding.Codec codec = new Encoding.Codec("city", "amount");
+        return RowAggregator.aggregate(rows.iterator(), codec, List.of("city", "amount"), aggregate);
+    }
+
+    private static ErrorMessage assertFails(Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            return e.getErrorMessage();
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.ErrorMessage;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.RowMapper;
+import com.typedb.driver.concept.type.TypeCache;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MAPPING_UNSUPPORTED_CLASS;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPING_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPING_UNSUPPORTED_FIELD;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPING_VALUE_MISMATCH;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.attribute;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.bool;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.date;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.datetime;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.datetimeTZ;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.decimal;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.doubleValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.duration;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.empty;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.integer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.row;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.string;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RowMapperTest {
+    public static class Person {
+        String name;
+        long age;
+        transient String ignored;
+        static String alsoIgnored;
+    }
+
+    public static class Values {
+        int small;
+        Double score;
+        boolean active;
+        BigDecimal balance;
+        LocalDate born;
+        LocalDateTime seen;
+        ZonedDateTime local;
+        ZonedDateTime fixed;
+        Duration wait;
+    }
+
+    public static class Nullable {
+        Long count;
+        Optional<String> nickname;
+        Optional<String> title;
+    }
+
+    public static class Unsupported {
+        List<String> names;
+    }
+
+    public abstract static class Abstract {
+        String name;
+    }
+
+    @Test
+    public void fieldsAreMappedByColumnName() {
+        RowMapper<byte[], Person> mapper = new RowMapper<>(Person.class, new Encoding.Codec("age", "other", "name"), TypeCache.disabled());
+        Person alice = mapper.map(row(integer(42), string("ignored"), string("alice")));
+        assertEquals("alice", alice.name);
+        assertEquals(42, alice.age);
+        assertNull(alice.ignored);
+        Person bob = mapper.map(row(attribute(integer(7)), empty(), attribute(string("bob"))));
+        assertEquals("bob", bob.name);
+        assertEquals(7, bob.age);
+    }
+
+    @Test
+    public void everyValueTypeIsMapped() {
+        RowMapper<byte[], Values> mapper = new RowMapper<>(Values.class, new Encoding.Codec(
+                "small", "score", "active", "balance", "born", "seen", "local", "fixed", "wait"
+        ), TypeCache.disabled());
+        Values values = mapper.map(row(
+                integer(-5), doubleValue(0.5), bool(true), decimal(12, 5_000_000_000_000_000_000L),
+                date(19_000), datetime(1_700_000_000L, 123), datetimeTZ(1_700_000_000L, 0, "Europe/London"),
+                datetimeTZ(1_700_000_000L, 0, 3600), duration(14, 3, 1_000_000_000L)
+        ));
+        assertEquals(-5, values.small);
+        assertEquals(Double.valueOf(0.5), values.score);
+        assertEquals(true, values.active);
+        assertEquals(new BigDecimal("12.5"), values.balance.stripTrailingZeros());
+        assertEquals(LocalDate.ofEpochDay(19_000), values.born);
+        assertEquals(LocalDateTime.ofEpochSecond(1_700_000_000L, 123, ZoneOffset.UTC), values.seen);
+        assertEquals(ZonedDateTime.of(2023, 11, 14, 22, 13, 20, 0, ZoneId.of("Europe/London")), values.local);
+        assertEquals(ZonedDateTime.of(2023, 11, 14, 23, 13, 20, 0, ZoneOffset.ofHours(1)), values.fixed);
+        assertEquals(new Duration(Period.of(1, 2, 3), java.time.Duration.ofSeconds(1)), values.wait);
+    }
+
+    @Test
+    public void emptyColumnsAreMappedToNullOrEmpty() {
+        RowMapper<byte[], Nullable> mapper = new RowMapper<>(Nullable.class, new Encoding.Codec("count", "nickname", "title"), TypeCache.disabled());
+        Nullable values = mapper.map(row(empty(), empty(), string("dr")));
+        assertNull(values.count);
+        assertEquals(Optional.empty(), values.nickname);
+        assertEquals(Optional.of("dr"), values.title);
+    }
+
+    @Test
+    public void emptyColumnsFailForPrimitiveFields() {
+        RowMapper<byte[], Person> mapper = new RowMapper<>(Person.class, new Encoding.Codec("name", "age"), TypeCache.disabled());
+        assertFails(ROW_MAPPING_VALUE_MISMATCH, () -> mapper.map(row(string("alice"), empty())));
+    }
+
+    @Test
+    public void mismatchedValuesFail() {
+        RowMapper<byte[], Person> mapper = new RowMapper<>(Person.class, new Encoding.Codec("name", "age"), TypeCache.disabled());
+        assertFails(ROW_MAPPING_VALUE_MISMATCH, () -> mapper.map(row(integer(1), integer(42))));
+        assertFails(ROW_MAPPING_VALUE_MISMATCH, () -> mapper.map(row(string("alice"), doubleValue(42))));
+    }
+
+    @Test
+    public void integersOutOfIntRangeFail() {
+        RowMapper<byte[], Values> mapper = new RowMapper<>(Values.class, new Encoding.Codec(
+                "small", "score", "active", "balance", "born", "seen", "local", "fixed", "wait"
+        ), TypeCache.disabled());
+        assertFails(ROW_MAPPING_VALUE_MISMATCH, () -> mapper.map(row(
+                integer(1L << 40), empty(), bool(false), empty(), empty(), empty(), empty(), empty(), empty()
+        )));
+    }
+
+    @Test
+    public void missingColumnsFail() {
+        RowMapper<byte[], Person> mapper = new RowMapper<>(Person.class, new Encoding.Codec("name"), TypeCache.disabled());
+        assertFails(ROW_MAPPING_MISSING_COLUMN, () -> mapper.map(row(string("alice"))));
+    }
+
+    @Test
+    public void unsupportedTypesFail() {
+        assertFails(ROW_MAPPING_UNSUPPORTED_FIELD, () -> new RowMapper<>(Unsupported.class, new Encoding.Codec("names"), TypeCache.disabled()));
+        assertFails(MAPPING_UNSUPPORTED_CLASS, () -> new RowMapper<>(Abstract.class, new Encoding.Codec("name"), TypeCache.disabled()));
+        assertFails(MAPPING_UNSUPPORTED_CLASS, () -> new RowMapper<>(Runnable.class, new Encoding.Codec(), TypeCache.disabled()));
+    }
+
+    private static void assertFails(ErrorMessage expected, Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            assertEquals(expected.code(), e.getErrorMessage().code());
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
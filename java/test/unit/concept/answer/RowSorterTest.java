@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.api.answer.RowOrder;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.RowSorter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_AGGREGATE_MISSING_COLUMN;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.decimal;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.doubleValue;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.empty;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.integer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.row;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.string;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class RowSorterTest {
+    private static final long MEMORY_LIMIT = 1 << 20;
+    private static final long SPILLING_MEMORY_LIMIT = 2000;
+
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("typedb-sort-test");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void rowsAreSortedStably() {
+        byte[] a = row(string("a"), integer(2));
+        byte[] b = row(string("b"), integer(1));
+        byte[] c = row(string("c"), integer(2));
+        byte[] d = row(string("d"), empty());
+        assertRows(List.of(d, b, a, c), sort(List.of(a, b, c, d), RowOrder.ascending("age"), MEMORY_LIMIT));
+        assertRows(List.of(a, c, b, d), sort(List.of(a, b, c, d), RowOrder.descending("age"), MEMORY_LIMIT));
+        assertRows(List.of(d, b, c, a),
+                sort(List.of(a, b, c, d), RowOrder.ascending("age").thenDescending("name"), MEMORY_LIMIT));
+    }
+
+    @Test
+    public void numbersOfDifferentTypesAreSortedByValue() {
+        byte[] two = row(string("x"), integer(2));
+        byte[] oneAndHalf = row(string("x"), doubleValue(1.5));
+        byte[] oneAndThreeQuarters = row(string("x"), decimal(1, 7_500_000_000_000_000_000L));
+        byte[] negative = row(string("x"), integer(-1));
+        assertRows(List.of(negative, oneAndHalf, oneAndThreeQuarters, two),
+                sort(List.of(two, oneAndHalf, oneAndThreeQuarters, negative), RowOrder.ascending("age"), MEMORY_LIMIT));
+    }
+
+    @Test
+    public void stringsAreSortedByBytes() {
+        byte[] empty = row(string(""), empty());
+        byte[] nul = row(string("\0"), empty());
+        byte[] a = row(string("a"), empty());
+        byte[] ab = row(string("ab"), empty());
+        assertRows(List.of(empty, nul, a, ab), sort(List.of(ab, a, nul, empty), RowOrder.ascending("name"), MEMORY_LIMIT));
+    }
+
+    @Test
+    public void spilledRowsAreMerged() throws IOException {
+        List<byte[]> rows = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 5_000; i++) rows.add(row(string("row" + i), integer(random.nextInt(100))));
+        List<byte[]> expected = new ArrayList<>(rows);
+        expected.sort(Comparator.comparingLong(RowSorterTest::age));
+
+        Encoding.Codec codec = new Encoding.Codec("name", "age");
+        Iterator<byte[]> sorted = RowSorter.sort(rows.iterator(), codec, List.of("name", "age"),
+                RowOrder.ascending("age"), SPILLING_MEMORY_LIMIT, directory);
+        List<byte[]> actual = new ArrayList<>();
+        sorted.forEachRemaining(actual::add);
+        assertRows(expected, actual);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+        assertEquals(rows.size(), codec.deleted());
+    }
+
+    @Test
+    public void exhaustedInMemoryIteratorStaysExhausted() {
+        assertStaysExhausted(RowSorter.sort(List.of(row(string("a"), integer(1))).iterator(),
+                new Encoding.Codec("name", "age"), null, RowOrder.ascending("age"), MEMORY_LIMIT, directory), 1);
+    }
+
+    @Test
+    public void exhaustedSpilledIteratorStaysExhausted() {
+        List<byte[]> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) rows.add(row(string("row" + i), integer(i)));
+        Iterator<byte[]> sorted = RowSorter.sort(rows.iterator(), new Encoding.Codec("name", "age"), null,
+                RowOrder.descending("age"), SPILLING_MEMORY_LIMIT, directory);
+        assertStaysExhausted(sorted, rows.size());
+    }
+
+    @Test
+    public void exhaustedEmptyIteratorStaysExhausted() {
+        assertStaysExhausted(RowSorter.sort(Collections.emptyIterator(), new Encoding.Codec("name", "age"), null,
+                RowOrder.ascending("age"), MEMORY_LIMIT, directory), 0);
+    }
+
+    @Test
+    public void missingColumnsFailWithAndWithoutRows() {
+        Encoding.Codec codec = new Encoding.Codec("name", "age");
+        assertMissingColumn(() -> RowSorter.sort(List.of(row(string("a"), integer(1))).iterator(), codec, null,
+                RowOrder.ascending("typo"), MEMORY_LIMIT, directory));
+        assertEquals(1, codec.deleted());
+        assertMissingColumn(() -> RowSorter.sort(Collections.emptyIterator(), codec, List.of("name", "age"),
+                RowOrder.ascending("age").thenAscending("typo"), MEMORY_LIMIT, directory));
+    }
+
+    private List<byte[]> sort(List<byte[]> rows, RowOrder order, long memoryLimit) {
+        Encoding.Codec codec = new Encoding.Codec("name", "age");
+        Iterator<byte[]> sorted = RowSorter.sort(rows.iterator(), codec, List.of("name", "age"), order, memoryLimit,
+                directory);
+        List<byte[]> result = new ArrayList<>();
+        sorted.forEachRemaining(result::add);
+        assertEquals(rows.size(), codec.deleted());
+        return result;
+    }
+
+    private static void assertRows(List<byte[]> expected, List<byte[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) assertArrayEquals(expected.get(i), actual.get(i));
+    }
+
+    private static void assertStaysExhausted(Iterator<byte[]> sorted, int size) {
+        for (int i = 0; i < size; i++) sorted.next();
+        assertFalse(sorted.hasNext());
+        assertFalse(sorted.hasNext());
+        try {
+            sorted.next();
+            fail("NoSuchElementException is expected");
+        } catch (NoSuchElementException ignored) {
+        }
+        assertFalse(sorted.hasNext());
+    }
+
+    private static void assertMissingColumn(Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            assertEquals(ROW_AGGREGATE_MISSING_COLUMN, e.getErrorMessage());
+            return;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+
+    /**
+     * Reads the integer in the second column of a row with a one-byte name length, as built by this test.
+     */
+    private static long age(byte[] row) {
+        int nameLength = row[3];
+        return ByteBuffer.wrap(row, 4 + nameLength + 2, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong();
+    }
+}
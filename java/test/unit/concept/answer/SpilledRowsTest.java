@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.unit.concept.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.answer.SpilledRows;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_BUFFER_CLOSED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_SPILL_FAILED;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.integer;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.row;
+import static com.typedb.driver.test.unit.concept.answer.Encoding.string;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SpilledRowsTest {
+    private static final int SEGMENT_SIZE = 256;
+
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("typedb-spill-test");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void rowsAreReadBackAcrossSegments() {
+        List<byte[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) rows.add(row(string("person " + i), integer(i)));
+        Encoding.Codec codec = new Encoding.Codec("name", "age");
+        SpilledRows<byte[]> spilled = SpilledRows.of(rows.iterator(), codec, directory, SEGMENT_SIZE);
+        assertEquals(rows.size(), spilled.size());
+        for (int i = 0; i < rows.size(); i++) assertArrayEquals(rows.get(i), spilled.get(i));
+        assertFalse(spilled.await(rows.size()));
+        spilled.close();
+        assertEquals(rows.size(), codec.deleted());
+    }
+
+    @Test
+    public void rowsLargerThanASegmentAreMappedOnTheirOwn() {
+        char[] name = new char[4 * SEGMENT_SIZE];
+        Arrays.fill(name, 'x');
+        List<byte[]> rows = List.of(
+                row(string("alice"), integer(30)),
+                row(string(new String(name)), integer(1)),
+                row(string("bob"), integer(41))
+        );
+        SpilledRows<byte[]> spilled = SpilledRows.of(rows.iterator(), new Encoding.Codec("name", "age"), directory, SEGMENT_SIZE);
+        assertEquals(rows.size(), spilled.size());
+        for (int i = 0; i < rows.size(); i++) assertArrayEquals(rows.get(i), spilled.get(i));
+        spilled.close();
+    }
+
+    @Test
+    public void readersWaitForRowsBeingDrained() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        byte[] row = row(string("alice"), integer(30));
+        Iterator<byte[]> rows = new Iterator<>() {
+            private boolean isTaken = false;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return !isTaken;
+            }
+
+            @Override
+            public byte[] next() {
+                isTaken = true;
+                return row;
+            }
+        };
+        SpilledRows<byte[]> spilled = SpilledRows.of(rows, new Encoding.Codec("name", "age"), directory, SEGMENT_SIZE);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> spilled.await(0));
+        Thread.sleep(50);
+        assertFalse(first.isDone());
+        assertEquals(0, spilled.drainedSize());
+        gate.countDown();
+        assertTrue(first.get(10, TimeUnit.SECONDS));
+        assertArrayEquals(row, spilled.get(0));
+        assertEquals(1, spilled.size());
+        spilled.close();
+    }
+
+    @Test
+    public void drainErrorsAreThrownAfterTheDrainedRows() {
+        byte[] row = row(string("alice"), integer(30));
+        Iterator<byte[]> rows = new Iterator<>() {
+            private int taken = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (taken == 2) throw new TypeDBDriverException(ANSWER_SPILL_FAILED, "the stream failed");
+                return true;
+            }
+
+            @Override
+            public byte[] next() {
+                taken++;
+                return row;
+            }
+        };
+        SpilledRows<byte[]> spilled = SpilledRows.of(rows, new Encoding.Codec("name", "age"), directory, SEGMENT_SIZE);
+        assertTrue(spilled.await(0));
+        assertTrue(spilled.await(1));
+        assertEquals(ANSWER_SPILL_FAILED, assertFails(() -> spilled.await(2)).getErrorMessage());
+        assertEquals(ANSWER_SPILL_FAILED, assertFails(spilled::size).getErrorMessage());
+        assertArrayEquals(row, spilled.get(1));
+        spilled.close();
+    }
+
+    @Test
+    public void closedRowsCannotBeRead() {
+        byte[] row = row(string("alice"), integer(30));
+        Iterator<byte[]> endless = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public byte[] next() {
+                return row;
+            }
+        };
+        SpilledRows<byte[]> spilled = SpilledRows.of(endless, new Encoding.Codec("name", "age"), directory, SEGMENT_SIZE);
+        assertTrue(spilled.await(0));
+        spilled.close();
+        spilled.close();
+        assertEquals(ANSWER_BUFFER_CLOSED, assertFails(() -> spilled.await(0)).getErrorMessage());
+        assertEquals(ANSWER_BUFFER_CLOSED, assertFails(() -> spilled.get(0)).getErrorMessage());
+    }
+
+    private static TypeDBDriverException assertFails(Runnable function) {
+        try {
+            function.run();
+        } catch (TypeDBDriverException e) {
+            return e;
+        }
+        throw new AssertionError("TypeDBDriverException is expected");
+    }
+}
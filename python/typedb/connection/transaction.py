@@ -26,7 +26,7 @@ from typedb.common.native_wrapper import NativeWrapper
 from typedb.common.promise import Promise
 from typedb.common.validation import require_non_null
 from typedb.concept.answer.query_answer_factory import wrap_query_answer
-from typedb.native_driver_wrapper import error_code, error_message, transaction_new, transaction_query, \
+from typedb.native_driver_wrapper import error_code, error_message, options_new, transaction_new, transaction_query, \
     transaction_commit, \
     transaction_rollback, transaction_is_open, transaction_on_close, transaction_force_close, \
     query_answer_promise_resolve, \
@@ -47,7 +47,7 @@ class _Transaction(Transaction, NativeWrapper[NativeTransaction]):
         # self._options = options
         try:
             super().__init__(
-                transaction_new(driver.native_object, database_name, transaction_type.value))  # , options.native_object
+                transaction_new(driver.native_object, database_name, transaction_type.value, options_new()))
         except TypeDBDriverExceptionNative as e:
             raise TypeDBDriverException.of(e) from None
 
@@ -65,7 +65,7 @@ class _Transaction(Transaction, NativeWrapper[NativeTransaction]):
 
     def query(self, query: str) -> Promise[QueryAnswer]:
         require_non_null(query, "query")
-        promise = transaction_query(self.native_object, query)
+        promise = transaction_query(self.native_object, query, options_new())
         return Promise.map(wrap_query_answer, lambda: query_answer_promise_resolve(promise))
 
     def is_open(self) -> bool:
@@ -0,0 +1,689 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+//! Compact binary encoding of concept rows and documents, used to buffer answers outside of the driver.
+//!
+//! Every concept is written as a one-byte tag followed by its fields. Integers are little-endian,
+//! lengths are LEB128 varints, and strings are UTF-8. An encoded row does not include its header,
+//! which is encoded separately by `encode_header` and supplied again on decoding.
+//!
+//! Documents are written in their JSON form: every JSON value is a one-byte tag followed by its payload.
+//! Arrays and objects start with the byte length of their body as a `u32`, so that a reader can skip them,
+//! followed by the number of elements or members.
+//!
+//! A stream of encoded answers starts with `STREAM_MAGIC` and the `ENCODING_VERSION` byte, followed by records.
+//! Every record is a one-byte kind and the byte length of its payload as a `u32`, followed by the payload.
+//! A header record precedes the rows it applies to.
+
+use std::{collections::HashMap, str::FromStr, sync::Arc};
+
+use chrono::{DateTime, Datelike, FixedOffset, NaiveDate, TimeZone as ChronoTimeZone};
+use chrono_tz::Tz;
+
+use crate::{
+    answer::{
+        concept_document::{ConceptDocument, Node},
+        concept_row::ConceptRowHeader,
+        ConceptRow, QueryType, JSON,
+    },
+    concept::{
+        value::{Decimal, Duration, Struct, TimeZone},
+        Attribute, AttributeType, Concept, Entity, EntityType, Relation, RelationType, RoleType, Value, ValueType,
+    },
+    error::ConceptError,
+    Error, Result,
+};
+
+/// The version of the encoding produced by this module.
+pub const ENCODING_VERSION: u8 = 1;
+
+/// The magic bytes at the start of a stream of encoded answers.
+pub const STREAM_MAGIC: [u8; 4] = *b"TDBA";
+
+/// The kind of a stream record holding an encoded `ConceptRowHeader`.
+pub const HEADER_RECORD: u8 = 0;
+/// The kind of a stream record holding an encoded `ConceptRow`.
+pub const ROW_RECORD: u8 = 1;
+/// The kind of a stream record holding an encoded `Concept`.
+pub const CONCEPT_RECORD: u8 = 2;
+/// The kind of a stream record holding an encoded `ConceptDocument`.
+pub const DOCUMENT_RECORD: u8 = 3;
+
+const EMPTY: u8 = 0;
+const ENTITY_TYPE: u8 = 1;
+const RELATION_TYPE: u8 = 2;
+const ROLE_TYPE: u8 = 3;
+const ATTRIBUTE_TYPE: u8 = 4;
+const ENTITY: u8 = 5;
+const RELATION: u8 = 6;
+const ATTRIBUTE: u8 = 7;
+const VALUE: u8 = 8;
+
+const BOOLEAN: u8 = 0;
+const INTEGER: u8 = 1;
+const DOUBLE: u8 = 2;
+const DECIMAL: u8 = 3;
+const STRING: u8 = 4;
+const DATE: u8 = 5;
+const DATETIME: u8 = 6;
+const DATETIME_TZ: u8 = 7;
+const DURATION: u8 = 8;
+const STRUCT: u8 = 9;
+
+const READ_QUERY: u8 = 0;
+const WRITE_QUERY: u8 = 1;
+const SCHEMA_QUERY: u8 = 2;
+
+const TIME_ZONE_IANA: u8 = 0;
+const TIME_ZONE_FIXED: u8 = 1;
+
+const JSON_NULL: u8 = 0;
+const JSON_FALSE: u8 = 1;
+const JSON_TRUE: u8 = 2;
+const JSON_NUMBER: u8 = 3;
+const JSON_STRING: u8 = 4;
+const JSON_ARRAY: u8 = 5;
+const JSON_OBJECT: u8 = 6;
+
+/// Appends the encoding of the concepts of a `ConceptRow` to `buffer`.
+///
+/// # Examples
+///
+/// ```rust
+/// encode_row(&concept_row, &mut buffer);
+/// ```
+pub fn encode_row(row: &ConceptRow, buffer: &mut Vec<u8>) {
+    write_varint(buffer, row.row.len() as u64);
+    for concept in &row.row {
+        match concept {
+            None => buffer.push(EMPTY),
+            Some(concept) => encode_concept(concept, buffer),
+        }
+    }
+}
+
+/// Decodes a `ConceptRow` previously encoded by `encode_row`, attaching the given header.
+///
+/// # Examples
+///
+/// ```rust
+/// decode_row(header, &bytes)
+/// ```
+pub fn decode_row(header: Arc<ConceptRowHeader>, mut bytes: &[u8]) -> Result<ConceptRow> {
+    let length = read_length(&mut bytes)?;
+    if length != header.column_names.len() {
+        return Err(ConceptError::InvalidEncoding { reason: "column count does not match the header" }.into());
+    }
+    let mut row = Vec::with_capacity(length);
+    for _ in 0..length {
+        if bytes.first() == Some(&EMPTY) {
+            bytes = &bytes[1..];
+            row.push(None);
+        } else {
+            row.push(Some(decode_concept(&mut bytes)?));
+        }
+    }
+    Ok(ConceptRow::new(header, row))
+}
+
+/// Appends the encoding of a `ConceptRowHeader`, its query type and column names, to `buffer`.
+///
+/// # Examples
+///
+/// ```rust
+/// encode_header(concept_row.get_header(), &mut buffer);
+/// ```
+pub fn encode_header(header: &ConceptRowHeader, buffer: &mut Vec<u8>) {
+    buffer.push(match header.query_type {
+        QueryType::ReadQuery => READ_QUERY,
+        QueryType::WriteQuery => WRITE_QUERY,
+        QueryType::SchemaQuery => SCHEMA_QUERY,
+    });
+    write_varint(buffer, header.column_names.len() as u64);
+    for column_name in &header.column_names {
+        write_str(buffer, column_name);
+    }
+}
+
+/// Decodes a `ConceptRowHeader` previously encoded by `encode_header`.
+///
+/// # Examples
+///
+/// ```rust
+/// decode_header(&bytes)
+/// ```
+pub fn decode_header(mut bytes: &[u8]) -> Result<ConceptRowHeader> {
+    let query_type = match read_u8(&mut bytes)? {
+        READ_QUERY => QueryType::ReadQuery,
+        WRITE_QUERY => QueryType::WriteQuery,
+        SCHEMA_QUERY => QueryType::SchemaQuery,
+        _ => return Err(ConceptError::InvalidEncoding { reason: "unknown query type" }.into()),
+    };
+    let length = read_length(&mut bytes)?;
+    let column_names = (0..length).map(|_| read_string(&mut bytes)).collect::<Result<Vec<_>>>()?;
+    Ok(ConceptRowHeader { column_names, query_type })
+}
+
+/// Appends the encoding of a `Concept` to `buffer`.
+pub fn encode_concept(concept: &Concept, buffer: &mut Vec<u8>) {
+    match concept {
+        Concept::EntityType(entity_type) => {
+            buffer.push(ENTITY_TYPE);
+            write_str(buffer, entity_type.label());
+        }
+        Concept::RelationType(relation_type) => {
+            buffer.push(RELATION_TYPE);
+            write_str(buffer, relation_type.label());
+        }
+        Concept::RoleType(role_type) => {
+            buffer.push(ROLE_TYPE);
+            write_str(buffer, role_type.label());
+        }
+        Concept::AttributeType(attribute_type) => {
+            buffer.push(ATTRIBUTE_TYPE);
+            write_attribute_type(buffer, attribute_type);
+        }
+        Concept::Entity(entity) => {
+            buffer.push(ENTITY);
+            write_bytes(buffer, &Vec::from(entity.iid.clone()));
+            write_optional(buffer, entity.type_(), |buffer, type_| write_str(buffer, type_.label()));
+        }
+        Concept::Relation(relation) => {
+            buffer.push(RELATION);
+            write_bytes(buffer, &Vec::from(relation.iid.clone()));
+            write_optional(buffer, relation.type_(), |buffer, type_| write_str(buffer, type_.label()));
+        }
+        Concept::Attribute(attribute) => {
+            buffer.push(ATTRIBUTE);
+            write_bytes(buffer, &Vec::from(attribute.iid.clone()));
+            write_value(buffer, &attribute.value);
+            write_optional(buffer, attribute.type_(), write_attribute_type);
+        }
+        Concept::Value(value) => {
+            buffer.push(VALUE);
+            write_value(buffer, value);
+        }
+    }
+}
+
+/// Decodes a `Concept` from the front of `bytes`, advancing `bytes` past it.
+pub fn decode_concept(bytes: &mut &[u8]) -> Result<Concept> {
+    let concept = match read_u8(bytes)? {
+        ENTITY_TYPE => Concept::EntityType(EntityType { label: read_string(bytes)? }),
+        RELATION_TYPE => Concept::RelationType(RelationType { label: read_string(bytes)? }),
+        ROLE_TYPE => Concept::RoleType(RoleType { label: read_string(bytes)? }),
+        ATTRIBUTE_TYPE => Concept::AttributeType(read_attribute_type(bytes)?),
+        ENTITY => Concept::Entity(Entity {
+            iid: read_bytes(bytes)?.to_vec().into(),
+            type_: read_optional(bytes, |bytes| Ok(EntityType { label: read_string(bytes)? }))?,
+        }),
+        RELATION => Concept::Relation(Relation {
+            iid: read_bytes(bytes)?.to_vec().into(),
+            type_: read_optional(bytes, |bytes| Ok(RelationType { label: read_string(bytes)? }))?,
+        }),
+        ATTRIBUTE => Concept::Attribute(Attribute {
+            iid: read_bytes(bytes)?.to_vec().into(),
+            value: read_value(bytes)?,
+            type_: read_optional(bytes, read_attribute_type)?,
+        }),
+        VALUE => Concept::Value(read_value(bytes)?),
+        _ => return Err(ConceptError::InvalidEncoding { reason: "unknown concept tag" }.into()),
+    };
+    Ok(concept)
+}
+
+/// Appends the encoding of the JSON form of a `ConceptDocument` to `buffer`, walking the document tree
+/// without building its `JSON` representation.
+///
+/// # Examples
+///
+/// ```rust
+/// encode_document(&concept_document, &mut buffer);
+/// ```
+pub fn encode_document(document: &ConceptDocument, buffer: &mut Vec<u8>) {
+    match &document.root {
+        None => buffer.push(JSON_NULL),
+        Some(node) => encode_node(node, buffer),
+    }
+}
+
+fn encode_node(node: &Node, buffer: &mut Vec<u8>) {
+    match node {
+        Node::Map(map) => write_container(buffer, JSON_OBJECT, map.len(), |buffer| {
+            for (key, node) in map {
+                write_str(buffer, key);
+                encode_node(node, buffer);
+            }
+        }),
+        Node::List(list) => write_container(buffer, JSON_ARRAY, list.len(), |buffer| {
+            for node in list {
+                encode_node(node, buffer);
+            }
+        }),
+        Node::Leaf(None) => buffer.push(JSON_NULL),
+        Node::Leaf(Some(leaf)) => encode_json(&leaf.clone().into_json(), buffer),
+    }
+}
+
+/// Appends the encoding of a `JSON` value to `buffer`.
+///
+/// # Examples
+///
+/// ```rust
+/// encode_json(&json, &mut buffer);
+/// ```
+pub fn encode_json(json: &JSON, buffer: &mut Vec<u8>) {
+    match json {
+        JSON::Object(object) => write_container(buffer, JSON_OBJECT, object.len(), |buffer| {
+            for (key, json) in object {
+                write_str(buffer, key);
+                encode_json(json, buffer);
+            }
+        }),
+        JSON::Array(array) => write_container(buffer, JSON_ARRAY, array.len(), |buffer| {
+            for json in array {
+                encode_json(json, buffer);
+            }
+        }),
+        JSON::String(string) => {
+            buffer.push(JSON_STRING);
+            write_str(buffer, string);
+        }
+        JSON::Number(number) => {
+            buffer.push(JSON_NUMBER);
+            buffer.extend_from_slice(&number.to_le_bytes());
+        }
+        JSON::Boolean(boolean) => buffer.push(if *boolean { JSON_TRUE } else { JSON_FALSE }),
+        JSON::Null => buffer.push(JSON_NULL),
+    }
+}
+
+/// Appends a stream record of the given kind to `buffer`, with the payload written by `write_payload`.
+///
+/// # Examples
+///
+/// ```rust
+/// write_record(&mut buffer, ROW_RECORD, |buffer| encode_row(&concept_row, buffer));
+/// ```
+pub fn write_record(buffer: &mut Vec<u8>, kind: u8, write_payload: impl FnOnce(&mut Vec<u8>)) {
+    buffer.push(kind);
+    let length_at = buffer.len();
+    buffer.extend_from_slice(&[0; 4]);
+    write_payload(buffer);
+    let length = (buffer.len() - length_at - 4) as u32;
+    buffer[length_at..length_at + 4].copy_from_slice(&length.to_le_bytes());
+}
+
+fn write_container(buffer: &mut Vec<u8>, tag: u8, len: usize, write_body: impl FnOnce(&mut Vec<u8>)) {
+    buffer.push(tag);
+    let length_at = buffer.len();
+    buffer.extend_from_slice(&[0; 4]);
+    write_varint(buffer, len as u64);
+    write_body(buffer);
+    let body_length = (buffer.len() - length_at - 4) as u32;
+    buffer[length_at..length_at + 4].copy_from_slice(&body_length.to_le_bytes());
+}
+
+fn write_attribute_type(buffer: &mut Vec<u8>, attribute_type: &AttributeType) {
+    write_str(buffer, attribute_type.label());
+    write_optional(buffer, attribute_type.value_type(), write_value_type);
+}
+
+fn read_attribute_type(bytes: &mut &[u8]) -> Result<AttributeType> {
+    Ok(AttributeType { label: read_string(bytes)?, value_type: read_optional(bytes, read_value_type)? })
+}
+
+fn write_value_type(buffer: &mut Vec<u8>, value_type: &ValueType) {
+    match value_type {
+        ValueType::Boolean => buffer.push(BOOLEAN),
+        ValueType::Integer => buffer.push(INTEGER),
+        ValueType::Double => buffer.push(DOUBLE),
+        ValueType::Decimal => buffer.push(DECIMAL),
+        ValueType::String => buffer.push(STRING),
+        ValueType::Date => buffer.push(DATE),
+        ValueType::Datetime => buffer.push(DATETIME),
+        ValueType::DatetimeTZ => buffer.push(DATETIME_TZ),
+        ValueType::Duration => buffer.push(DURATION),
+        ValueType::Struct(name) => {
+            buffer.push(STRUCT);
+            write_str(buffer, name);
+        }
+    }
+}
+
+fn read_value_type(bytes: &mut &[u8]) -> Result<ValueType> {
+    let value_type = match read_u8(bytes)? {
+        BOOLEAN => ValueType::Boolean,
+        INTEGER => ValueType::Integer,
+        DOUBLE => ValueType::Double,
+        DECIMAL => ValueType::Decimal,
+        STRING => ValueType::String,
+        DATE => ValueType::Date,
+        DATETIME => ValueType::Datetime,
+        DATETIME_TZ => ValueType::DatetimeTZ,
+        DURATION => ValueType::Duration,
+        STRUCT => ValueType::Struct(read_string(bytes)?),
+        _ => return Err(ConceptError::InvalidEncoding { reason: "unknown value type tag" }.into()),
+    };
+    Ok(value_type)
+}
+
+fn write_value(buffer: &mut Vec<u8>, value: &Value) {
+    match value {
+        Value::Boolean(boolean) => {
+            buffer.push(BOOLEAN);
+            buffer.push(*boolean as u8);
+        }
+        Value::Integer(integer) => {
+            buffer.push(INTEGER);
+            buffer.extend_from_slice(&integer.to_le_bytes());
+        }
+        Value::Double(double) => {
+            buffer.push(DOUBLE);
+            buffer.extend_from_slice(&double.to_le_bytes());
+        }
+        Value::Decimal(decimal) => {
+            buffer.push(DECIMAL);
+            buffer.extend_from_slice(&decimal.integer_part().to_le_bytes());
+            buffer.extend_from_slice(&decimal.fractional_part().to_le_bytes());
+        }
+        Value::String(string) => {
+            buffer.push(STRING);
+            write_str(buffer, string);
+        }
+        Value::Date(date) => {
+            buffer.push(DATE);
+            buffer.extend_from_slice(&date.num_days_from_ce().to_le_bytes());
+        }
+        Value::Datetime(datetime) => {
+            buffer.push(DATETIME);
+            let datetime = datetime.and_utc();
+            buffer.extend_from_slice(&datetime.timestamp().to_le_bytes());
+            buffer.extend_from_slice(&datetime.timestamp_subsec_nanos().to_le_bytes());
+        }
+        Value::DatetimeTZ(datetime_tz) => {
+            buffer.push(DATETIME_TZ);
+            buffer.extend_from_slice(&datetime_tz.timestamp().to_le_bytes());
+            buffer.extend_from_slice(&datetime_tz.timestamp_subsec_nanos().to_le_bytes());
+            match datetime_tz.timezone() {
+                TimeZone::IANA(tz) => {
+                    buffer.push(TIME_ZONE_IANA);
+                    write_str(buffer, tz.name());
+                }
+                TimeZone::Fixed(offset) => {
+                    buffer.push(TIME_ZONE_FIXED);
+                    buffer.extend_from_slice(&offset.local_minus_utc().to_le_bytes());
+                }
+            }
+        }
+        Value::Duration(duration) => {
+            buffer.push(DURATION);
+            buffer.extend_from_slice(&duration.months().to_le_bytes());
+            buffer.extend_from_slice(&duration.days().to_le_bytes());
+            buffer.extend_from_slice(&duration.nanos().to_le_bytes());
+        }
+        Value::Struct(struct_, name) => {
+            buffer.push(STRUCT);
+            write_str(buffer, name);
+            write_varint(buffer, struct_.fields().len() as u64);
+            for (field, value) in struct_.fields() {
+                write_str(buffer, field);
+                write_optional(buffer, value.as_ref(), write_value);
+            }
+        }
+    }
+}
+
+fn read_value(bytes: &mut &[u8]) -> Result<Value> {
+    let value = match read_u8(bytes)? {
+        BOOLEAN => Value::Boolean(read_u8(bytes)? != 0),
+        INTEGER => Value::Integer(i64::from_le_bytes(read_array(bytes)?)),
+        DOUBLE => Value::Double(f64::from_le_bytes(read_array(bytes)?)),
+        DECIMAL => {
+            let integer = i64::from_le_bytes(read_array(bytes)?);
+            let fractional = u64::from_le_bytes(read_array(bytes)?);
+            if fractional >= Decimal::FRACTIONAL_PART_DENOMINATOR {
+                return Err(ConceptError::InvalidEncoding { reason: "decimal fractional part out of range" }.into());
+            }
+            Value::Decimal(Decimal::new(integer, fractional))
+        }
+        STRING => Value::String(read_string(bytes)?),
+        DATE => Value::Date(
+            NaiveDate::from_num_days_from_ce_opt(i32::from_le_bytes(read_array(bytes)?))
+                .ok_or(Error::from(ConceptError::InvalidEncoding { reason: "date out of range" }))?,
+        ),
+        DATETIME => Value::Datetime(read_timestamp(bytes)?.naive_utc()),
+        DATETIME_TZ => {
+            let datetime = read_timestamp(bytes)?;
+            let time_zone = match read_u8(bytes)? {
+                TIME_ZONE_IANA => TimeZone::IANA(
+                    Tz::from_str(&read_string(bytes)?)
+                        .map_err(|_| Error::from(ConceptError::InvalidEncoding { reason: "unknown time zone" }))?,
+                ),
+                TIME_ZONE_FIXED => TimeZone::Fixed(
+                    FixedOffset::east_opt(i32::from_le_bytes(read_array(bytes)?))
+                        .ok_or(Error::from(ConceptError::InvalidEncoding { reason: "time zone offset out of range" }))?,
+                ),
+                _ => return Err(ConceptError::InvalidEncoding { reason: "unknown time zone tag" }.into()),
+            };
+            Value::DatetimeTZ(time_zone.from_utc_datetime(&datetime.naive_utc()))
+        }
+        DURATION => Value::Duration(Duration::new(
+            u32::from_le_bytes(read_array(bytes)?),
+            u32::from_le_bytes(read_array(bytes)?),
+            u64::from_le_bytes(read_array(bytes)?),
+        )),
+        STRUCT => {
+            let name = read_string(bytes)?;
+            let length = read_length(bytes)?;
+            let mut fields = HashMap::with_capacity(length);
+            for _ in 0..length {
+                let field = read_string(bytes)?;
+                fields.insert(field, read_optional(bytes, read_value)?);
+            }
+            Value::Struct(Struct { fields }, name)
+        }
+        _ => return Err(ConceptError::InvalidEncoding { reason: "unknown value tag" }.into()),
+    };
+    Ok(value)
+}
+
+fn read_timestamp(bytes: &mut &[u8]) -> Result<DateTime<chrono::Utc>> {
+    let seconds = i64::from_le_bytes(read_array(bytes)?);
+    let nanos = u32::from_le_bytes(read_array(bytes)?);
+    DateTime::from_timestamp(seconds, nanos)
+        .ok_or(ConceptError::InvalidEncoding { reason: "datetime out of range" }.into())
+}
+
+fn write_optional<T>(buffer: &mut Vec<u8>, value: Option<&T>, write: impl FnOnce(&mut Vec<u8>, &T)) {
+    match value {
+        None => buffer.push(0),
+        Some(value) => {
+            buffer.push(1);
+            write(buffer, value);
+        }
+    }
+}
+
+fn read_optional<T>(bytes: &mut &[u8], read: impl FnOnce(&mut &[u8]) -> Result<T>) -> Result<Option<T>> {
+    match read_u8(bytes)? {
+        0 => Ok(None),
+        _ => read(bytes).map(Some),
+    }
+}
+
+fn write_varint(buffer: &mut Vec<u8>, mut value: u64) {
+    while value >= 0x80 {
+        buffer.push(value as u8 | 0x80);
+        value >>= 7;
+    }
+    buffer.push(value as u8);
+}
+
+fn read_varint(bytes: &mut &[u8]) -> Result<u64> {
+    let mut value = 0u64;
+    for shift in (0..64).step_by(7) {
+        let byte = read_u8(bytes)?;
+        value |= ((byte & 0x7f) as u64) << shift;
+        if byte < 0x80 {
+            return Ok(value);
+        }
+    }
+    Err(ConceptError::InvalidEncoding { reason: "varint too long" }.into())
+}
+
+/// Reads the length of what follows: a byte count, or a count of elements of at least one byte each. A length
+/// beyond the remaining input is rejected before anything is allocated for it.
+fn read_length(bytes: &mut &[u8]) -> Result<usize> {
+    let length = read_varint(bytes)?;
+    if length > bytes.len() as u64 {
+        return Err(ConceptError::InvalidEncoding { reason: "length exceeds the remaining input" }.into());
+    }
+    Ok(length as usize)
+}
+
+fn write_bytes(buffer: &mut Vec<u8>, bytes: &[u8]) {
+    write_varint(buffer, bytes.len() as u64);
+    buffer.extend_from_slice(bytes);
+}
+
+fn write_str(buffer: &mut Vec<u8>, string: &str) {
+    write_bytes(buffer, string.as_bytes());
+}
+
+fn read_u8(bytes: &mut &[u8]) -> Result<u8> {
+    let (&byte, rest) =
+        bytes.split_first().ok_or(Error::from(ConceptError::InvalidEncoding { reason: "unexpected end of input" }))?;
+    *bytes = rest;
+    Ok(byte)
+}
+
+fn read_array<const N: usize>(bytes: &mut &[u8]) -> Result<[u8; N]> {
+    let array = read_slice(bytes, N)?;
+    Ok(array.try_into().unwrap())
+}
+
+fn read_bytes<'a>(bytes: &mut &'a [u8]) -> Result<&'a [u8]> {
+    let length = read_length(bytes)?;
+    read_slice(bytes, length)
+}
+
+fn read_slice<'a>(bytes: &mut &'a [u8], length: usize) -> Result<&'a [u8]> {
+    if bytes.len() < length {
+        return Err(ConceptError::InvalidEncoding { reason: "unexpected end of input" }.into());
+    }
+    let (slice, rest) = bytes.split_at(length);
+    *bytes = rest;
+    Ok(slice)
+}
+
+fn read_string(bytes: &mut &[u8]) -> Result<String> {
+    let slice = read_bytes(bytes)?;
+    String::from_utf8(slice.to_vec())
+        .map_err(|_| ConceptError::InvalidEncoding { reason: "string is not valid UTF-8" }.into())
+}
+
+#[cfg(test)]
+mod test {
+    use std::{borrow::Cow, sync::Arc};
+
+    use chrono::{FixedOffset, NaiveDate, TimeZone as ChronoTimeZone};
+
+    use super::{
+        decode_concept, decode_header, decode_row, encode_header, encode_json, encode_row, JSON_ARRAY, JSON_NULL,
+        JSON_STRING, READ_QUERY, STRUCT, VALUE,
+    };
+    use crate::{
+        answer::{concept_row::ConceptRowHeader, ConceptRow, QueryType, JSON},
+        concept::{
+            value::{Decimal, Duration, TimeZone},
+            Attribute, AttributeType, Concept, Entity, EntityType, RoleType, Value, ValueType,
+        },
+        error::ConceptError,
+        Error,
+    };
+
+    const CORRUPT_LENGTH: [u8; 10] = [0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0x01];
+
+    #[test]
+    fn test_row_round_trip() {
+        let datetime = NaiveDate::from_ymd_opt(2024, 2, 29).unwrap().and_hms_nano_opt(13, 45, 10, 123_456_789).unwrap();
+        let values = vec![
+            Value::Boolean(true),
+            Value::Integer(-42),
+            Value::Double(2.5),
+            Value::Decimal(Decimal::new(-3, 1)),
+            Value::String("lorem ипсум".to_owned()),
+            Value::Date(datetime.date()),
+            Value::Datetime(datetime),
+            Value::DatetimeTZ(TimeZone::IANA(chrono_tz::Europe::London).from_utc_datetime(&datetime)),
+            Value::DatetimeTZ(TimeZone::Fixed(FixedOffset::west_opt(3600).unwrap()).from_utc_datetime(&datetime)),
+            Value::Duration(Duration::new(1, 2, 3)),
+        ];
+        let mut concepts: Vec<Option<Concept>> = values.into_iter().map(|value| Some(Concept::Value(value))).collect();
+        concepts.push(None);
+        concepts.push(Some(Concept::RoleType(RoleType { label: "friendship:friend".to_owned() })));
+        concepts.push(Some(Concept::Entity(Entity {
+            iid: vec![0x1e, 0x00, 0x01].into(),
+            type_: Some(EntityType { label: "person".to_owned() }),
+        })));
+        concepts.push(Some(Concept::Attribute(Attribute {
+            iid: vec![0x1f].into(),
+            value: Value::Integer(7),
+            type_: Some(AttributeType { label: "age".to_owned(), value_type: Some(ValueType::Integer) }),
+        })));
+
+        let column_names = (0..concepts.len()).map(|index| format!("x{index}")).collect();
+        let header = Arc::new(ConceptRowHeader { column_names, query_type: QueryType::ReadQuery });
+        let row = ConceptRow::new(header.clone(), concepts);
+        let mut buffer = Vec::new();
+        encode_row(&row, &mut buffer);
+        assert!(decode_row(header.clone(), &buffer).unwrap() == row);
+
+        buffer.clear();
+        encode_header(&header, &mut buffer);
+        assert_eq!(decode_header(&buffer).unwrap(), *header);
+    }
+
+    #[test]
+    fn test_json_container_length() {
+        let json = JSON::Array(vec![JSON::Null, JSON::String(Cow::Borrowed("ab"))]);
+        let mut buffer = Vec::new();
+        encode_json(&json, &mut buffer);
+        assert_eq!(buffer, [JSON_ARRAY, 6, 0, 0, 0, 2, JSON_NULL, JSON_STRING, 2, b'a', b'b']);
+    }
+
+    #[test]
+    fn test_corrupt_lengths_are_rejected() {
+        let is_invalid = |result: Result<_, Error>| {
+            matches!(result, Err(Error::Concept(ConceptError::InvalidEncoding { .. })))
+        };
+
+        let header = [&[READ_QUERY][..], &CORRUPT_LENGTH].concat();
+        assert!(is_invalid(decode_header(&header).map(|_| ())));
+
+        let column_names = vec!["x".to_owned()];
+        let header = Arc::new(ConceptRowHeader { column_names, query_type: QueryType::ReadQuery });
+        let row = [&[1][..], &[VALUE, STRUCT, 1, b's'], &CORRUPT_LENGTH].concat();
+        assert!(is_invalid(decode_row(header, &row).map(|_| ())));
+
+        let concept = [&[VALUE, STRUCT, 1, b's'][..], &[3, 1]].concat();
+        assert!(is_invalid(decode_concept(&mut &concept[..]).map(|_| ())));
+    }
+}
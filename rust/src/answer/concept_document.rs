@@ -17,9 +17,9 @@
  * under the License.
  */
 
-use std::{borrow::Cow, collections::HashMap, sync::Arc};
+use std::{borrow::Cow, collections::HashMap, fmt, sync::Arc};
 
-use super::{QueryType, JSON};
+use super::{json::write_escaped_string, QueryType, JSON};
 use crate::concept::{
     value::Struct, Attribute, AttributeType, Concept, EntityType, Kind, RelationType, RoleType, Value, ValueType,
 };
@@ -61,6 +61,16 @@ impl ConceptDocument {
     }
 }
 
+/// Formats the document as the JSON string of `into_json`, without converting maps and lists into `JSON`.
+impl fmt::Display for ConceptDocument {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        match &self.root {
+            None => write!(f, "{}", JSON::Null),
+            Some(root_node) => write!(f, "{}", root_node),
+        }
+    }
+}
+
 #[derive(Clone, Debug, PartialEq)]
 pub enum Node {
     Map(HashMap<String, Node>),
@@ -81,6 +91,36 @@ impl Node {
     }
 }
 
+impl fmt::Display for Node {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        match self {
+            Node::Map(map) => {
+                f.write_str("{")?;
+                for (i, (var, node)) in map.iter().enumerate() {
+                    if i > 0 {
+                        f.write_str(", ")?;
+                    }
+                    write_escaped_string(var, f)?;
+                    write!(f, ": {}", node)?;
+                }
+                f.write_str("}")
+            }
+            Node::List(list) => {
+                f.write_str("[")?;
+                for (i, node) in list.iter().enumerate() {
+                    if i > 0 {
+                        f.write_str(", ")?;
+                    }
+                    write!(f, "{}", node)?;
+                }
+                f.write_str("]")
+            }
+            Node::Leaf(Some(leaf)) => write!(f, "{}", leaf.clone().into_json()),
+            Node::Leaf(None) => write!(f, "{}", JSON::Null),
+        }
+    }
+}
+
 #[derive(Clone, Debug, PartialEq)]
 pub enum Leaf {
     Empty,
@@ -90,7 +130,7 @@ pub enum Leaf {
 }
 
 impl Leaf {
-    fn into_json(self) -> JSON {
+    pub(crate) fn into_json(self) -> JSON {
         match self {
             Self::Empty => JSON::Null,
             Self::Concept(Concept::EntityType(EntityType { label, .. })) => json_type(Kind::Entity, Cow::Owned(label)),
@@ -194,3 +234,62 @@ fn json_struct(struct_: Struct) -> JSON {
 fn json_kind(kind: Kind) -> JSON {
     JSON::String(Cow::Borrowed(kind.name()))
 }
+
+#[cfg(test)]
+mod test {
+    use std::{collections::HashMap, sync::Arc};
+
+    use super::{ConceptDocument, ConceptDocumentHeader, Leaf, Node};
+    use crate::{
+        answer::QueryType,
+        concept::{value::Struct, Concept, Kind, Value, ValueType},
+    };
+
+    fn document(root: Option<Node>) -> ConceptDocument {
+        ConceptDocument::new(Arc::new(ConceptDocumentHeader { query_type: QueryType::ReadQuery }), root)
+    }
+
+    fn value(value: Value) -> Node {
+        Node::Leaf(Some(Leaf::Concept(Concept::Value(value))))
+    }
+
+    #[test]
+    fn test_display_matches_into_json() {
+        let root = Node::Map(HashMap::from([
+            ("name".to_owned(), value(Value::String("lorem ипсум \"quoted\"".to_owned()))),
+            ("age".to_owned(), value(Value::Integer(42))),
+            ("ratio".to_owned(), value(Value::Double(-0.25))),
+            ("active".to_owned(), value(Value::Boolean(true))),
+            ("kind".to_owned(), Node::Leaf(Some(Leaf::Kind(Kind::Entity)))),
+            ("value_type".to_owned(), Node::Leaf(Some(Leaf::ValueType(ValueType::Integer)))),
+            ("empty".to_owned(), Node::Leaf(Some(Leaf::Empty))),
+            ("absent".to_owned(), Node::Leaf(None)),
+            (
+                "nested".to_owned(),
+                Node::List(vec![Node::List(vec![]), Node::Map(HashMap::new()), value(Value::Integer(-1))]),
+            ),
+        ]));
+        let document = document(Some(root));
+        let displayed: serde_json::Value = serde_json::from_str(&document.to_string()).unwrap();
+        let converted: serde_json::Value = serde_json::from_str(&document.clone().into_json().to_string()).unwrap();
+        assert_eq!(displayed, converted);
+    }
+
+    #[test]
+    fn test_display_of_empty_document_is_null() {
+        assert_eq!(document(None).to_string(), "null");
+        assert_eq!(document(Some(Node::Leaf(None))).to_string(), "null");
+    }
+
+    #[test]
+    fn test_display_escapes_keys() {
+        let key = "quote \" backslash \\ tab \t control \u{1f}";
+        let field = Struct { fields: HashMap::from([(key.to_owned(), Some(Value::Integer(1)))]) };
+        let value = Node::Leaf(Some(Leaf::Concept(Concept::Value(Value::Struct(field, "point".to_owned())))));
+        let root = Node::Map(HashMap::from([(key.to_owned(), Node::List(vec![value]))]));
+        let header = Arc::new(ConceptDocumentHeader { query_type: QueryType::ReadQuery });
+        let document = ConceptDocument::new(header, Some(root));
+        let parsed: serde_json::Value = serde_json::from_str(&document.to_string()).unwrap();
+        assert_eq!(parsed, serde_json::json!({ key: [{ "point": { key: 1 } }] }));
+    }
+}
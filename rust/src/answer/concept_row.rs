@@ -53,6 +53,17 @@ impl ConceptRow {
         Self { header, row }
     }
 
+    /// Retrieve the row header (shared by all elements in this stream).
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// concept_row.get_header()
+    /// ```
+    pub fn get_header(&self) -> &Arc<ConceptRowHeader> {
+        &self.header
+    }
+
     /// Retrieve the row column names (shared by all elements in this stream).
     ///
     /// # Examples
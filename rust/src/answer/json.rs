@@ -42,7 +42,8 @@ impl fmt::Display for JSON {
                     if i > 0 {
                         f.write_str(", ")?;
                     }
-                    write!(f, r#""{}": {}"#, k, v)?;
+                    write_escaped_string(k, f)?;
+                    write!(f, ": {}", v)?;
                 }
                 f.write_char('}')?;
             }
@@ -65,7 +66,7 @@ impl fmt::Display for JSON {
     }
 }
 
-fn write_escaped_string(string: &str, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+pub(crate) fn write_escaped_string(string: &str, f: &mut fmt::Formatter<'_>) -> fmt::Result {
     const HEX: u8 = 0;
     const BSP: u8 = b'b';
     const TAB: u8 = b't';
@@ -126,4 +127,12 @@ mod test {
         let json_string = JSON::String(Cow::Owned(string));
         assert_eq!(serde_json::to_string(&serde_json_value).unwrap(), json_string.to_string());
     }
+
+    #[test]
+    fn test_object_keys_are_escaped() {
+        let key = "quote \" backslash \\ newline \n control \u{1}";
+        let json = JSON::Object([(Cow::Borrowed(key), JSON::Null)].into());
+        let parsed: serde_json::Value = serde_json::from_str(&json.to_string()).unwrap();
+        assert_eq!(parsed, serde_json::json!({ key: null }));
+    }
 }
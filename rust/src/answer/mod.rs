@@ -27,6 +27,7 @@ use crate::{
     BoxStream, Result,
 };
 
+pub mod codec;
 pub mod concept_document;
 pub mod concept_row;
 mod json;
@@ -186,6 +186,8 @@ error_messages! { ConceptError
         1: "Cannot get concept from a concept row by variable '{variable}'.",
     UnavailableRowIndex { index: usize } =
         2: "Cannot get concept from a concept row by index '{index}'.",
+    InvalidEncoding { reason: &'static str } =
+        3: "Cannot decode an encoded concept: {reason}.",
 }
 
 error_messages! { InternalError
@@ -32,6 +32,12 @@ impl ID {
     }
 }
 
+impl AsRef<[u8]> for ID {
+    fn as_ref(&self) -> &[u8] {
+        &self.0
+    }
+}
+
 impl From<ID> for Vec<u8> {
     fn from(id: ID) -> Self {
         id.0
@@ -19,7 +19,7 @@
 
 use std::time::Duration;
 
-use tokio::sync::mpsc::UnboundedSender;
+use tokio::sync::mpsc::{UnboundedReceiver, UnboundedSender};
 use tonic::Streaming;
 use typedb_protocol::transaction;
 use uuid::Uuid;
@@ -54,6 +54,7 @@ pub(super) enum Request {
     DatabaseTypeSchema { database_name: String },
 
     Transaction(TransactionRequest),
+    TransactionPipelined { request_source: UnboundedReceiver<transaction::Client> },
 
     UsersAll,
     UsersGet { name: String },
@@ -104,6 +105,9 @@ pub(super) enum Response {
         response_source: Streaming<transaction::Server>,
         server_duration_millis: u64,
     },
+    TransactionPipelined {
+        response_source: Streaming<transaction::Server>,
+    },
 
     UsersAll {
         users: Vec<UserInfo>,
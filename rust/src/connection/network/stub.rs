@@ -21,7 +21,7 @@ use std::sync::Arc;
 
 use futures::{future::BoxFuture, FutureExt, TryFutureExt};
 use log::{debug, trace, warn};
-use tokio::sync::mpsc::{unbounded_channel as unbounded_async, UnboundedSender};
+use tokio::sync::mpsc::{unbounded_channel as unbounded_async, UnboundedReceiver, UnboundedSender};
 use tokio_stream::wrappers::UnboundedReceiverStream;
 use tonic::{Response, Status, Streaming};
 use typedb_protocol::{
@@ -122,6 +122,15 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
         .await
     }
 
+    /// Opens a transaction stream fed by `request_source`, whose first message must carry the open request.
+    /// Requests queued on the source before the stream is established are sent as soon as it is.
+    pub(super) async fn transaction_pipelined(
+        &mut self,
+        request_source: UnboundedReceiver<transaction::Client>,
+    ) -> Result<Streaming<transaction::Server>> {
+        Ok(self.grpc.transaction(UnboundedReceiverStream::new(request_source)).await?.into_inner())
+    }
+
     pub(super) async fn users_all(&mut self, req: user_manager::all::Req) -> Result<user_manager::all::Res> {
         self.single(|this| Box::pin(this.grpc.users_all(req.clone()))).await
     }
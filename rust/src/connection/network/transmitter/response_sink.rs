@@ -106,7 +106,10 @@ impl<T> ResponseSink<T> {
             Self::AsyncOneShot(sink) => sink.send(Err(error.into())).ok(),
             Self::BlockingOneShot(sink) => sink.send(Err(error.into())).ok(),
             Self::Streamed(sink) => sink.send(StreamResponse::Result(Err(error.into()))).ok(),
-            Self::ImmediateOneShot(_) => None,
+            Self::ImmediateOneShot(handler) => {
+                handler.run(Err(error.into()));
+                None
+            }
         };
     }
 }
@@ -17,6 +17,8 @@
  * under the License.
  */
 
+use std::future::Future;
+
 use futures::StreamExt;
 use tokio::{
     select,
@@ -81,6 +83,20 @@ impl RPCTransmitter {
         response.await?
     }
 
+    /// Sends a request, and returns a future of its response which does not borrow the transmitter.
+    pub(in crate::connection) fn request_detached(
+        &self,
+        request: Request,
+    ) -> impl Future<Output = Result<Response>> + Send + 'static {
+        let (response_sink, response) = oneshot_async();
+        let send_result =
+            self.request_sink.send((request, ResponseSink::AsyncOneShot(response_sink))).map_err(Error::from);
+        async move {
+            send_result?;
+            response.await?
+        }
+    }
+
     pub(in crate::connection) fn request_blocking(&self, request: Request) -> Result<Response> {
         let (response_sink, response) = oneshot_blocking();
         self.request_sink.send((request, ResponseSink::BlockingOneShot(response_sink)))?;
@@ -168,6 +184,11 @@ impl RPCTransmitter {
                 }
             }
 
+            Request::TransactionPipelined { request_source } => rpc
+                .transaction_pipelined(request_source)
+                .await
+                .map(|response_source| Response::TransactionPipelined { response_source }),
+
             Request::UsersAll => rpc.users_all(request.try_into_proto()?).await.map(Response::from_proto),
             Request::UsersContains { .. } => {
                 rpc.users_contains(request.try_into_proto()?).await.map(Response::from_proto)
@@ -50,6 +50,8 @@ use uuid::Uuid;
 
 #[cfg(feature = "sync")]
 use super::oneshot_blocking as oneshot;
+#[cfg(feature = "sync")]
+use crate::common::{box_stream, BoxStream};
 use super::response_sink::{ImmediateHandler, ResponseSink, StreamResponse};
 use crate::{
     common::{
@@ -67,8 +69,14 @@ use crate::{
     Error,
 };
 
+/// Requests are queued one at a time, or as a batch which is dispatched in as few messages as possible.
+enum QueuedRequest {
+    Single(TransactionRequest, Option<ResponseSink<TransactionResponse>>),
+    Batch(Vec<(TransactionRequest, ResponseSink<TransactionResponse>)>),
+}
+
 pub(in crate::connection) struct TransactionTransmitter {
-    request_sink: UnboundedSender<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
+    request_sink: UnboundedSender<QueuedRequest>,
     is_open: Arc<AtomicCell<bool>>,
     error: Arc<RwLock<Option<Error>>>,
     on_close_register_sink: UnboundedSender<Box<dyn FnOnce(Option<Error>) + Send + Sync>>,
@@ -88,6 +96,30 @@ impl TransactionTransmitter {
         background_runtime: Arc<BackgroundRuntime>,
         request_sink: UnboundedSender<transaction::Client>,
         response_source: Streaming<transaction::Server>,
+    ) -> Self {
+        Self::start(background_runtime, request_sink, async move { Ok(response_source) }, None)
+    }
+
+    /// Starts a transmitter for a transaction that has not been opened yet. The open request is dispatched first,
+    /// in the same message as the requests queued right after it, while `response_source` resolves once the server
+    /// accepts the stream. If the transaction fails to open, every request in flight fails with the same error.
+    /// Returns the transmitter along with the ID of the open request, which identifies the transaction.
+    pub(in crate::connection) fn new_pipelined(
+        background_runtime: Arc<BackgroundRuntime>,
+        open_request: TransactionRequest,
+        request_sink: UnboundedSender<transaction::Client>,
+        response_source: impl Future<Output = Result<Streaming<transaction::Server>>> + Send + 'static,
+    ) -> (Self, RequestID) {
+        let open_request = open_request.into_proto();
+        let open_request_id = RequestID::from(open_request.req_id.clone());
+        (Self::start(background_runtime, request_sink, response_source, Some(open_request)), open_request_id)
+    }
+
+    fn start(
+        background_runtime: Arc<BackgroundRuntime>,
+        request_sink: UnboundedSender<transaction::Client>,
+        response_source: impl Future<Output = Result<Streaming<transaction::Server>>> + Send + 'static,
+        open_request: Option<transaction::Req>,
     ) -> Self {
         let callback_handler_sink = background_runtime.callback_handler_sink();
         let (buffer_sink, buffer_source) = unbounded_async();
@@ -100,6 +132,7 @@ impl TransactionTransmitter {
             buffer_source,
             request_sink,
             response_source,
+            open_request,
             is_open.clone(),
             error.clone(),
             on_close_register_source,
@@ -139,7 +172,8 @@ impl TransactionTransmitter {
             return box_promise(async move { Err(error.into()) });
         }
         let (res_sink, recv) = oneshot();
-        let send_result = self.request_sink.send((req, Some(ResponseSink::AsyncOneShot(res_sink))));
+        let send_result =
+            self.request_sink.send(QueuedRequest::Single(req, Some(ResponseSink::AsyncOneShot(res_sink))));
         box_promise(async move {
             send_result.map_err(|_| ConnectionError::TransactionIsClosed)?;
             recv.await?.map(Into::into)
@@ -156,7 +190,8 @@ impl TransactionTransmitter {
             return box_promise(|| Err(error.into()));
         }
         let (res_sink, recv) = oneshot();
-        let send_result = self.request_sink.send((req, Some(ResponseSink::BlockingOneShot(res_sink))));
+        let send_result =
+            self.request_sink.send(QueuedRequest::Single(req, Some(ResponseSink::BlockingOneShot(res_sink))));
         box_promise(move || {
             send_result.map_err(|_| ConnectionError::TransactionIsClosed.into()).and_then(|_| recv.recv()?)
         })
@@ -171,25 +206,121 @@ impl TransactionTransmitter {
         }
         let (res_part_sink, recv) = unbounded_async();
         self.request_sink
-            .send((req, Some(ResponseSink::Streamed(res_part_sink))))
+            .send(QueuedRequest::Single(req, Some(ResponseSink::Streamed(res_part_sink))))
             .map_err(|_| ConnectionError::TransactionIsClosed)?;
+        Ok(self.response_stream(recv))
+    }
+
+    /// Sends streamed requests as one batch, which is dispatched in a single message unless it exceeds the maximum
+    /// message size, and returns the response streams in the order of the requests.
+    pub(in crate::connection) fn stream_batch(
+        &self,
+        reqs: Vec<TransactionRequest>,
+    ) -> Result<Vec<impl Stream<Item = Result<TransactionResponse>>>> {
+        if !self.is_open() {
+            return Err(self.error().into());
+        }
+        let mut batch = Vec::with_capacity(reqs.len());
+        let mut receivers = Vec::with_capacity(reqs.len());
+        for req in reqs {
+            let (res_part_sink, recv) = unbounded_async();
+            batch.push((req, ResponseSink::Streamed(res_part_sink)));
+            receivers.push(recv);
+        }
+        self.request_sink.send(QueuedRequest::Batch(batch)).map_err(|_| ConnectionError::TransactionIsClosed)?;
+        Ok(receivers.into_iter().map(|recv| self.response_stream(recv)).collect())
+    }
+
+    fn response_stream(
+        &self,
+        recv: UnboundedReceiver<StreamResponse<TransactionResponse>>,
+    ) -> impl Stream<Item = Result<TransactionResponse>> {
         let movable_sink = self.request_sink.clone();
-        Ok(NetworkStream::new(recv).filter_map(move |response| {
+        NetworkStream::new(recv).filter_map(move |response| {
             let moveable_sink = movable_sink.clone();
             Self::process_response(response, moveable_sink)
-        }))
+        })
+    }
+
+    #[cfg(feature = "sync")]
+    pub(in crate::connection) fn background_runtime(&self) -> Arc<BackgroundRuntime> {
+        self.background_runtime.clone()
+    }
+
+    /// Sends a single request without waiting for its response, and returns a future of the response which does not
+    /// borrow the transmitter, to be driven by the background runtime rather than by a blocked caller thread.
+    #[cfg(feature = "sync")]
+    pub(in crate::connection) fn single_async(
+        &self,
+        req: TransactionRequest,
+    ) -> impl Future<Output = Result<TransactionResponse>> + Send + 'static {
+        let recv = if !self.is_open() {
+            Err(self.error())
+        } else {
+            let (res_sink, recv) = oneshot_async();
+            self.request_sink
+                .send(QueuedRequest::Single(req, Some(ResponseSink::AsyncOneShot(res_sink))))
+                .map(|_| recv)
+                .map_err(|_| ConnectionError::TransactionIsClosed.into())
+        };
+        async move {
+            match recv?.await {
+                Ok(result) => result,
+                Err(err) => Err(err.into()),
+            }
+        }
+    }
+
+    /// Sends a streamed request without waiting for its response, and returns a future of the first response together
+    /// with the stream of the remaining responses, to be driven by the background runtime.
+    #[cfg(feature = "sync")]
+    pub(in crate::connection) fn stream_async(
+        &self,
+        req: TransactionRequest,
+    ) -> impl Future<Output = (Option<Result<TransactionResponse>>, BoxStream<'static, Result<TransactionResponse>>)>
+           + Send
+           + 'static {
+        let recv = if !self.is_open() {
+            Err(self.error())
+        } else {
+            let (res_part_sink, recv) = unbounded_async();
+            self.request_sink
+                .send(QueuedRequest::Single(req, Some(ResponseSink::Streamed(res_part_sink))))
+                .map(|_| recv)
+                .map_err(|_| ConnectionError::TransactionIsClosed.into())
+        };
+        let request_sink = self.request_sink.clone();
+        async move {
+            let mut recv = match recv {
+                Ok(recv) => recv,
+                Err(err) => return (Some(Err(err)), box_stream(std::iter::empty())),
+            };
+            let first = loop {
+                match recv.recv().await {
+                    None => break None,
+                    Some(response) => {
+                        if let Some(result) = Self::process_response(response, request_sink.clone()) {
+                            break Some(result);
+                        }
+                    }
+                }
+            };
+            let rest = NetworkStream::new(recv)
+                .filter_map(move |response| Self::process_response(response, request_sink.clone()));
+            (first, box_stream(rest))
+        }
     }
 
     #[cfg(not(feature = "sync"))]
     fn process_response(
         response: StreamResponse<TransactionResponse>,
-        sink: UnboundedSender<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
+        sink: UnboundedSender<QueuedRequest>,
     ) -> Pin<Box<impl Future<Output = Option<Result<TransactionResponse>>>>> {
         Box::pin(async move {
             match response {
                 StreamResponse::Result(result) => Some(result),
                 StreamResponse::Continue(request_id) => {
-                    match sink.send((TransactionRequest::Stream { request_id }, None)) {
+                    match sink.send(QueuedRequest::Single(TransactionRequest::Stream { request_id }, None)) {
                         Ok(_) => None,
                         Err(_) => Some(Err(ConnectionError::TransactionIsClosed.into())),
                     }
@@ -199,14 +330,14 @@ impl TransactionTransmitter {
     }
 
     #[cfg(feature = "sync")]
-    pub(in crate::connection) fn process_response(
+    fn process_response(
         response: StreamResponse<TransactionResponse>,
-        sink: UnboundedSender<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
+        sink: UnboundedSender<QueuedRequest>,
     ) -> Option<Result<TransactionResponse>> {
         match response {
             StreamResponse::Result(result) => Some(result),
             StreamResponse::Continue(request_id) => {
-                match sink.send((TransactionRequest::Stream { request_id }, None)) {
+                match sink.send(QueuedRequest::Single(TransactionRequest::Stream { request_id }, None)) {
                     Ok(_) => None,
                     Err(_) => Some(Err(ConnectionError::TransactionIsClosed.into())),
                 }
@@ -225,9 +356,10 @@ impl TransactionTransmitter {
     }
 
     async fn start_workers(
-        queue_source: UnboundedReceiver<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
+        queue_source: UnboundedReceiver<QueuedRequest>,
         request_sink: UnboundedSender<transaction::Client>,
-        response_source: Streaming<transaction::Server>,
+        response_source: impl Future<Output = Result<Streaming<transaction::Server>>> + Send + 'static,
+        open_request: Option<transaction::Req>,
         is_open: Arc<AtomicCell<bool>>,
         error: Arc<RwLock<Option<Error>>>,
         on_close_callback_source: UnboundedReceiver<Box<dyn FnOnce(Option<Error>) + Send + Sync>>,
@@ -242,48 +374,98 @@ impl TransactionTransmitter {
             on_close: Default::default(),
             callback_handler_sink,
         };
+        let open_request = open_request.map(|request| (request, Self::open_response_sink(&collector, &shutdown_sink)));
         tokio::task::spawn_blocking({
             let collector = collector.clone();
             move || {
-                Self::dispatch_loop(queue_source, request_sink, collector, on_close_callback_source, shutdown_signal)
+                Self::dispatch_loop(
+                    queue_source,
+                    request_sink,
+                    collector,
+                    open_request,
+                    on_close_callback_source,
+                    shutdown_signal,
+                )
             }
         });
         tokio::spawn(Self::listen_loop(response_source, collector, shutdown_sink));
     }
 
+    /// Closes the transaction with the error if a pipelined open request fails, since the requests queued behind it
+    /// have already been sent and must not wait for responses which will never arrive.
+    fn open_response_sink(
+        collector: &ResponseCollector,
+        shutdown_sink: &UnboundedSender<()>,
+    ) -> ResponseSink<TransactionResponse> {
+        let collector = collector.clone();
+        let shutdown_sink = shutdown_sink.clone();
+        ResponseSink::ImmediateOneShot(ImmediateHandler {
+            handler: Arc::new(move |response| {
+                let error = match response {
+                    Ok(TransactionResponse::Open { .. }) => return,
+                    Ok(other) => ConnectionError::UnexpectedResponse { response: format!("{other:?}") }.into(),
+                    Err(err) => err,
+                };
+                tokio::spawn(collector.clone().close_with_error(error));
+                shutdown_sink.send(()).ok();
+            }),
+        })
+    }
+
     fn dispatch_loop(
-        mut request_source: UnboundedReceiver<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
+        mut request_source: UnboundedReceiver<QueuedRequest>,
         request_sink: UnboundedSender<transaction::Client>,
         mut collector: ResponseCollector,
+        open_request: Option<(transaction::Req, ResponseSink<TransactionResponse>)>,
         mut on_close_callback_source: UnboundedReceiver<Box<dyn FnOnce(Option<Error>) + Send + Sync>>,
         mut shutdown_signal: UnboundedReceiver<()>,
     ) {
         const MAX_GRPC_MESSAGE_LEN: usize = 1_000_000;
         const DISPATCH_INTERVAL: Duration = Duration::from_micros(50);
 
-        let mut request_buffer = TransactionRequestBuffer::default();
+        let mut request_buffer = TransactionRequestBuffer::new(MAX_GRPC_MESSAGE_LEN);
+        if let Some((request, callback)) = open_request {
+            collector.register(request.req_id.clone().into(), callback);
+            request_buffer.push(request);
+        }
         loop {
+            // callbacks registered before a shutdown are collected first, so that they still run when it closes
+            while let Ok(callback) = on_close_callback_source.try_recv() {
+                collector.on_close.write().unwrap().push(callback)
+            }
             if let Ok(_) = shutdown_signal.try_recv() {
                 if !request_buffer.is_empty() {
                     request_sink.send(request_buffer.take()).unwrap();
                 }
                 break;
             }
-            if let Ok(callback) = on_close_callback_source.try_recv() {
-                collector.on_close.write().unwrap().push(callback)
-            }
             // sleep, then take all messages off the request queue and dispatch them
             sleep(DISPATCH_INTERVAL);
             while let Ok(recv) = request_source.try_recv() {
-                let (request, callback) = recv;
-                let request = request.into_proto();
-                if let Some(callback) = callback {
-                    collector.register(request.req_id.clone().into(), callback);
-                }
-                if request_buffer.len() + request.encoded_len() > MAX_GRPC_MESSAGE_LEN {
-                    request_sink.send(request_buffer.take()).unwrap();
+                match recv {
+                    QueuedRequest::Single(request, callback) => {
+                        let request = request.into_proto();
+                        if let Some(callback) = callback {
+                            collector.register(request.req_id.clone().into(), callback);
+                        }
+                        if let Some(message) = request_buffer.add(request) {
+                            request_sink.send(message).unwrap();
+                        }
+                    }
+                    QueuedRequest::Batch(batch) => {
+                        let requests = batch
+                            .into_iter()
+                            .map(|(request, callback)| {
+                                let request = request.into_proto();
+                                collector.register(request.req_id.clone().into(), callback);
+                                request
+                            })
+                            .collect::<Vec<_>>();
+                        for message in request_buffer.add_batch(requests) {
+                            request_sink.send(message).unwrap();
+                        }
+                    }
                 }
-                request_buffer.push(request);
             }
             if !request_buffer.is_empty() {
                 request_sink.send(request_buffer.take()).unwrap();
@@ -291,10 +473,18 @@ impl TransactionTransmitter {
         }
     }
     async fn listen_loop(
-        mut grpc_source: Streaming<transaction::Server>,
+        response_source: impl Future<Output = Result<Streaming<transaction::Server>>>,
         collector: ResponseCollector,
         shutdown_sink: UnboundedSender<()>,
     ) {
+        let mut grpc_source = match response_source.await {
+            Ok(grpc_source) => grpc_source,
+            Err(err) => {
+                collector.close_with_error(err).await;
+                shutdown_sink.send(()).ok();
+                return;
+            }
+        };
         loop {
             match grpc_source.next().await {
                 Some(Ok(message)) => collector.collect(message).await,
@@ -306,19 +496,20 @@ impl TransactionTransmitter {
     }
 }
 
-#[derive(Default)]
+/// Requests waiting to be dispatched, gathered into messages of at most `max_len` encoded bytes where possible.
 struct TransactionRequestBuffer {
     reqs: Vec<transaction::Req>,
     len: usize,
+    max_len: usize,
 }
 
 impl TransactionRequestBuffer {
-    fn is_empty(&self) -> bool {
-        self.reqs.is_empty()
+    fn new(max_len: usize) -> Self {
+        Self { reqs: Vec::new(), len: 0, max_len }
     }
 
-    fn len(&self) -> usize {
-        self.len
+    fn is_empty(&self) -> bool {
+        self.reqs.is_empty()
     }
 
     fn push(&mut self, request: transaction::Req) {
@@ -326,6 +517,33 @@ impl TransactionRequestBuffer {
         self.reqs.push(request);
     }
 
+    /// Adds the request, first taking the buffered requests as a message if the request does not fit with them.
+    /// A request that does not fit into a message on its own is still buffered, and sent in a message of its own.
+    fn add(&mut self, request: transaction::Req) -> Option<transaction::Client> {
+        let message = self.take_unless_fits(request.encoded_len());
+        self.push(request);
+        message
+    }
+
+    /// Adds the requests of a batch, taking the buffered requests as messages as they fill up. The batch is kept
+    /// together in one message unless it does not fit into a single message on its own.
+    fn add_batch(&mut self, requests: Vec<transaction::Req>) -> Vec<transaction::Client> {
+        let batch_len: usize = requests.iter().map(Message::encoded_len).sum();
+        let mut messages: Vec<_> = self.take_unless_fits(batch_len).into_iter().collect();
+        for request in requests {
+            messages.extend(self.add(request));
+        }
+        messages
+    }
+
+    fn take_unless_fits(&mut self, len: usize) -> Option<transaction::Client> {
+        if !self.is_empty() && self.len + len > self.max_len {
+            Some(self.take())
+        } else {
+            None
+        }
+    }
+
     fn take(&mut self) -> transaction::Client {
         self.len = 0;
         transaction::Client { reqs: std::mem::take(&mut self.reqs) }
@@ -461,3 +679,58 @@ impl ResponseCollector {
         }
     }
 }
+
+#[cfg(test)]
+mod test {
+    use typedb_protocol::transaction;
+
+    use super::TransactionRequestBuffer;
+
+    // each request is encoded in 18 bytes: the tag and length of its ID, and the ID itself
+    const REQUEST_LEN: usize = 18;
+
+    fn request(id: u8) -> transaction::Req {
+        transaction::Req { req_id: vec![id; 16], ..Default::default() }
+    }
+
+    fn ids(message: &transaction::Client) -> Vec<u8> {
+        message.reqs.iter().map(|req| req.req_id[0]).collect()
+    }
+
+    #[test]
+    fn test_requests_are_gathered_up_to_the_maximum_length() {
+        let mut buffer = TransactionRequestBuffer::new(2 * REQUEST_LEN + 1);
+        assert!(buffer.add(request(1)).is_none());
+        assert!(buffer.add(request(2)).is_none());
+        let message = buffer.add(request(3)).unwrap();
+        assert_eq!(ids(&message), vec![1, 2]);
+        assert_eq!(ids(&buffer.take()), vec![3]);
+        assert!(buffer.is_empty());
+    }
+
+    #[test]
+    fn test_oversized_requests_are_sent_alone_without_empty_messages() {
+        let mut buffer = TransactionRequestBuffer::new(REQUEST_LEN - 1);
+        assert!(buffer.add(request(1)).is_none());
+        assert_eq!(ids(&buffer.add(request(2)).unwrap()), vec![1]);
+        assert_eq!(ids(&buffer.take()), vec![2]);
+    }
+
+    #[test]
+    fn test_batches_are_kept_together() {
+        let mut buffer = TransactionRequestBuffer::new(3 * REQUEST_LEN);
+        assert!(buffer.add(request(1)).is_none());
+        assert!(buffer.add(request(2)).is_none());
+        let messages = buffer.add_batch(vec![request(3), request(4)]);
+        assert_eq!(messages.iter().map(ids).collect::<Vec<_>>(), vec![vec![1, 2]]);
+        assert_eq!(ids(&buffer.take()), vec![3, 4]);
+    }
+
+    #[test]
+    fn test_batches_too_long_for_one_message_are_split() {
+        let mut buffer = TransactionRequestBuffer::new(2 * REQUEST_LEN);
+        let messages = buffer.add_batch((1..=5).map(request).collect());
+        assert_eq!(messages.iter().map(ids).collect::<Vec<_>>(), vec![vec![1, 2], vec![3, 4]]);
+        assert_eq!(ids(&buffer.take()), vec![5]);
+    }
+}
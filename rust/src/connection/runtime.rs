@@ -17,7 +17,7 @@
  * under the License.
  */
 
-use std::{future::Future, thread, thread::JoinHandle};
+use std::{future::Future, marker::PhantomData, thread, thread::JoinHandle};
 
 use crossbeam::{
     atomic::AtomicCell,
@@ -28,11 +28,14 @@ use tokio::{
     runtime,
     sync::{
         mpsc::{unbounded_channel as unbounded_async, UnboundedSender},
-        oneshot::Sender as AsyncOneshotSender,
+        oneshot::{channel as oneshot_async, Sender as AsyncOneshotSender},
     },
 };
 
-use crate::common::{Callback, Result};
+use crate::{
+    common::{Callback, Result},
+    error::ConnectionError,
+};
 
 pub(crate) struct BackgroundRuntime {
     async_runtime_handle: runtime::Handle,
@@ -94,6 +97,36 @@ impl BackgroundRuntime {
         self.async_runtime_handle.spawn(future);
     }
 
+    /// Spawns `future`, and once it resolves runs `callback` with its output on the callback handler thread.
+    /// If the output cannot be delivered, because the runtime shuts down first or the callback handler thread is
+    /// gone, `callback` is called with a closed connection error instead: it is always called exactly once.
+    /// `keep_alive` is dropped only after the callback has been handed over, and on a blocking thread,
+    /// since it may hold the last reference to this runtime.
+    pub(super) fn spawn_with_callback<F, T>(
+        &self,
+        future: F,
+        keep_alive: T,
+        callback: impl FnOnce(Result<F::Output>) + Send + 'static,
+    ) where
+        F: Future + Send + 'static,
+        F::Output: Send + 'static,
+        T: Send + 'static,
+    {
+        let callback_handler_sink = self.callback_handler_sink();
+        let pending = PendingCallback::new(callback);
+        self.async_runtime_handle.spawn(async move {
+            let output = future.await;
+            let callback: Callback = Box::new(move || pending.complete(output));
+            let (callback_done_sink, _) = oneshot_async();
+            // an undelivered callback is dropped along with the send error, which completes it with an error
+            if callback_handler_sink.send((callback, callback_done_sink)).is_err() {
+                error!("The callback handler thread is gone: completing the callback with an error.");
+            }
+            drop(callback_handler_sink);
+            tokio::task::spawn_blocking(move || drop(keep_alive));
+        });
+    }
+
     pub(super) fn run_blocking<F>(&self, future: F) -> F::Output
     where
         F: Future + Send + 'static,
@@ -107,6 +140,33 @@ impl BackgroundRuntime {
     }
 }
 
+/// A callback awaiting its output. If it is dropped without being completed, it is called with a closed connection
+/// error, so that whoever waits on it is never left waiting forever.
+struct PendingCallback<T, C: FnOnce(Result<T>)> {
+    callback: Option<C>,
+    _output: PhantomData<fn(T)>,
+}
+
+impl<T, C: FnOnce(Result<T>)> PendingCallback<T, C> {
+    fn new(callback: C) -> Self {
+        Self { callback: Some(callback), _output: PhantomData }
+    }
+
+    fn complete(mut self, output: T) {
+        if let Some(callback) = self.callback.take() {
+            callback(Ok(output));
+        }
+    }
+}
+
+impl<T, C: FnOnce(Result<T>)> Drop for PendingCallback<T, C> {
+    fn drop(&mut self) {
+        if let Some(callback) = self.callback.take() {
+            callback(Err(ConnectionError::ServerConnectionIsClosed.into()));
+        }
+    }
+}
+
 impl Drop for BackgroundRuntime {
     fn drop(&mut self) {
         self.is_open.store(false);
@@ -117,3 +177,73 @@ impl Drop for BackgroundRuntime {
         }
     }
 }
+
+#[cfg(test)]
+mod test {
+    use std::{
+        future,
+        sync::mpsc::{channel, Sender},
+        thread,
+        time::Duration,
+    };
+
+    use super::{BackgroundRuntime, PendingCallback};
+    use crate::common::Result;
+
+    const TIMEOUT: Duration = Duration::from_secs(5);
+
+    fn reply<T: Send + 'static>(sink: Sender<(Result<T>, Option<String>)>) -> impl FnOnce(Result<T>) + Send + 'static {
+        move |result| sink.send((result, thread::current().name().map(str::to_owned))).unwrap()
+    }
+
+    #[test]
+    fn test_callbacks_run_with_the_output_on_the_callback_handler_thread() {
+        let runtime = BackgroundRuntime::new().unwrap();
+        let (sink, source) = channel();
+        runtime.spawn_with_callback(async { 42 }, (), reply(sink));
+        let (result, thread_name) = source.recv_timeout(TIMEOUT).unwrap();
+        assert_eq!(result.unwrap(), 42);
+        assert_eq!(thread_name.as_deref(), Some("Callback handler"));
+    }
+
+    #[test]
+    fn test_callbacks_are_completed_with_an_error_when_the_runtime_closes() {
+        let runtime = BackgroundRuntime::new().unwrap();
+        let (sink, source) = channel();
+        runtime.spawn_with_callback(future::pending::<()>(), (), reply(sink));
+        runtime.force_close().unwrap();
+        let (result, _) = source.recv_timeout(TIMEOUT).unwrap();
+        assert!(result.is_err());
+        assert!(source.recv_timeout(Duration::from_millis(100)).is_err());
+    }
+
+    struct KeepAlive(Sender<Option<String>>);
+
+    impl Drop for KeepAlive {
+        fn drop(&mut self) {
+            self.0.send(thread::current().name().map(str::to_owned)).unwrap();
+        }
+    }
+
+    #[test]
+    fn test_kept_alive_values_are_dropped_off_the_runtime_thread_once_the_callback_is_handed_over() {
+        let runtime = BackgroundRuntime::new().unwrap();
+        let (sink, source) = channel();
+        let (keep_alive_sink, keep_alive_source) = channel();
+        runtime.spawn_with_callback(async {}, KeepAlive(keep_alive_sink), reply(sink));
+        assert!(source.recv_timeout(TIMEOUT).unwrap().0.is_ok());
+        let dropped_on = keep_alive_source.recv_timeout(TIMEOUT).unwrap();
+        assert_ne!(dropped_on.as_deref(), Some("gRPC worker"));
+        assert_ne!(dropped_on.as_deref(), Some("Callback handler"));
+    }
+
+    #[test]
+    fn test_pending_callbacks_are_called_exactly_once() {
+        let (sink, source) = channel();
+        PendingCallback::new(reply(sink.clone())).complete(1);
+        assert_eq!(source.try_recv().unwrap().0.unwrap(), 1);
+        drop(PendingCallback::new(reply::<i32>(sink)));
+        assert!(source.try_recv().unwrap().0.is_err());
+        assert!(source.try_recv().is_err());
+    }
+}
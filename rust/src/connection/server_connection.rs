@@ -27,7 +27,10 @@ use std::{
     time::Duration,
 };
 
-use tokio::{sync::mpsc::UnboundedSender, time::Instant};
+use tokio::{
+    sync::mpsc::{unbounded_channel as unbounded_async, UnboundedSender},
+    time::Instant,
+};
 use uuid::Uuid;
 
 use crate::{
@@ -228,15 +231,61 @@ impl ServerConnection {
 
                 let transmitter =
                     TransactionTransmitter::new(self.background_runtime.clone(), request_sink, response_source);
-                let transmitter_shutdown_sink = transmitter.shutdown_sink().clone();
-                let transaction_stream = TransactionStream::new(transaction_type, options, transmitter);
-                self.transaction_shutdown_senders.lock().unwrap().insert(request_id, transmitter_shutdown_sink);
-                Ok(transaction_stream)
+                self.register_transaction(request_id, &transmitter);
+                Ok(TransactionStream::new(transaction_type, options, transmitter))
             }
             other => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
         }
     }
 
+    /// Opens a transaction without waiting for the server to confirm it. Requests made on the returned stream are
+    /// dispatched right behind the open request, and fail with its error if the transaction cannot be opened.
+    pub(crate) fn open_transaction_pipelined(
+        &self,
+        database_name: &str,
+        transaction_type: TransactionType,
+        options: Options,
+    ) -> TransactionStream {
+        let open_request = TransactionRequest::Open {
+            database: database_name.to_owned(),
+            transaction_type,
+            options,
+            network_latency: self.latency_tracker.current_latency(),
+        };
+        let (request_sink, request_source) = unbounded_async();
+        let response = self.request_transmitter.request_detached(Request::TransactionPipelined { request_source });
+        let response_source = async move {
+            response.await.and_then(|response| match response {
+                Response::TransactionPipelined { response_source } => Ok(response_source),
+                other => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            })
+        };
+
+        let (transmitter, open_request_id) = TransactionTransmitter::new_pipelined(
+            self.background_runtime.clone(),
+            open_request,
+            request_sink,
+            response_source,
+        );
+        self.register_transaction(open_request_id, &transmitter);
+        TransactionStream::new(transaction_type, options, transmitter)
+    }
+
+    /// Keeps the shutdown sink of the transaction, keyed by its open request, so that closing the connection closes
+    /// the transaction, until the transaction itself closes.
+    fn register_transaction(&self, open_request_id: RequestID, transmitter: &TransactionTransmitter) {
+        let shutdown_senders = Arc::downgrade(&self.transaction_shutdown_senders);
+        self.transaction_shutdown_senders
+            .lock()
+            .unwrap()
+            .insert(open_request_id.clone(), transmitter.shutdown_sink().clone());
+        transmitter.on_close(move |_| {
+            if let Some(shutdown_senders) = shutdown_senders.upgrade() {
+                shutdown_senders.lock().unwrap().remove(&open_request_id);
+            }
+        });
+    }
+
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     pub(crate) async fn all_users(&self) -> crate::Result<Vec<UserInfo>> {
         match self.request(Request::UsersAll).await? {
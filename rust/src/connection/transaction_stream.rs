@@ -87,6 +87,27 @@ impl TransactionStream {
         promisify! { resolve!(promise).map(|_| ()) }
     }
 
+    /// Sends a commit, and calls `callback` with its outcome once the server responds, without blocking any thread
+    /// in the meantime. The stream is kept open until the response arrives.
+    #[cfg(feature = "sync")]
+    pub(crate) fn commit_with_callback(self: Pin<Box<Self>>, callback: impl FnOnce(Result) + Send + 'static) {
+        let background_runtime = self.transaction_transmitter.background_runtime();
+        let response = self.transaction_transmitter.single_async(TransactionRequest::Commit);
+        background_runtime.spawn_with_callback(response, self, move |result| {
+            callback(result.and_then(|result| result).map(|_| ()))
+        });
+    }
+
+    /// Sends a rollback, and calls `callback` with its outcome once the server responds, without blocking any thread
+    /// in the meantime.
+    #[cfg(feature = "sync")]
+    pub(crate) fn rollback_with_callback(&self, callback: impl FnOnce(Result) + Send + 'static) {
+        let response = self.transaction_transmitter.single_async(TransactionRequest::Rollback);
+        self.transaction_transmitter.background_runtime().spawn_with_callback(response, (), move |result| {
+            callback(result.and_then(|result| result).map(|_| ()))
+        });
+    }
+
     pub(crate) fn query(&self, query: &str, options: Options) -> impl Promise<'static, Result<QueryAnswer>> {
         let stream = self.query_stream(QueryRequest::Query { query: query.to_owned(), options });
         promisify! {
@@ -97,61 +118,117 @@ impl TransactionStream {
             #[cfg(not(feature = "sync"))]
             let header: Option<Result<QueryResponse>> = stream.next().await;
 
-            let header = match header {
-                None => return Err(ConnectionError::QueryStreamNoResponse.into()),
-                Some(Err(err)) => return Err(err),
-                Some(Ok(header)) => header,
-            };
-
-            match header {
-                QueryResponse::Ok(query_type) => Ok(QueryAnswer::Ok(query_type)),
-                QueryResponse::ConceptDocumentsHeader(documents_header) => {
-                    let header = Arc::new(documents_header);
-                    let stream_header = header.clone();
-                    let answers = box_stream(stream.flat_map(move |result| {
-                        let header = header.clone();
-                        match result {
-                            Ok(QueryResponse::StreamConceptDocuments(documents)) => {
-                                stream_iter(documents.into_iter().map({
-                                        move |document| {
-                                            Ok(ConceptDocument::new(header.clone(), document))
-                                        }
-                                    }))
-                            }
-                            Ok(QueryResponse::Error(error)) => stream_once(Err(error.into())),
-                            Ok(other) => {
-                                stream_once(Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()))
-                            }
-                            Err(err) => stream_once(Err(err)),
-                        }
-                    }));
-                    Ok(QueryAnswer::ConceptDocumentStream(stream_header, answers))
-                },
-                QueryResponse::ConceptRowsHeader(rows_header) => {
-                    let header = Arc::new(rows_header);
-                    let stream_header = header.clone();
-                    let answers = box_stream(stream.flat_map(move |result| {
-                        let header = header.clone();
-                        match result {
-                            Ok(QueryResponse::StreamConceptRows(rows)) => {
-                                stream_iter(rows.into_iter().map({
-                                    move |row| {
-                                        Ok(ConceptRow::new(header.clone(), row))
+            Self::query_answer(header, stream)
+        }
+    }
+
+    /// Sends the queries as one batch, dispatched in a single message where possible, and returns a promise of the
+    /// answer to each query, in order. If the batch cannot be sent, every promise resolves to the same error.
+    pub(crate) fn query_batch(
+        &self,
+        queries: impl IntoIterator<Item = String>,
+        options: Options,
+    ) -> Vec<impl Promise<'static, Result<QueryAnswer>>> {
+        let requests = queries.into_iter().map(|query| QueryRequest::Query { query, options }).collect::<Vec<_>>();
+        let count = requests.len();
+        let streams = match self.query_streams(requests) {
+            Ok(streams) => streams.into_iter().map(Ok).collect::<Vec<_>>(),
+            Err(err) => iter::repeat_with(|| Err(err.clone())).take(count).collect(),
+        };
+        streams
+            .into_iter()
+            .map(|stream| {
+                promisify! {
+                    let mut stream = stream?;
+
+                    #[cfg(feature = "sync")]
+                    let header = stream.next();
+                    #[cfg(not(feature = "sync"))]
+                    let header: Option<Result<QueryResponse>> = stream.next().await;
+
+                    Self::query_answer(header, stream)
+                }
+            })
+            .collect()
+    }
+
+    /// Sends a query, and calls `callback` with its answer once the answer header arrives, without blocking the
+    /// calling thread or any other thread in the meantime. The callback runs on the driver's callback handler thread.
+    #[cfg(feature = "sync")]
+    pub(crate) fn query_with_callback(
+        &self,
+        query: &str,
+        options: Options,
+        callback: impl FnOnce(Result<QueryAnswer>) + Send + 'static,
+    ) {
+        let request = TransactionRequest::Query(QueryRequest::Query { query: query.to_owned(), options });
+        let response = self.transaction_transmitter.stream_async(request);
+        self.transaction_transmitter.background_runtime().spawn_with_callback(response, (), move |result| {
+            callback(result.and_then(|(header, stream)| {
+                let header = header.map(|response| response.and_then(Self::into_query_response));
+                Self::query_answer(header, stream.map(|response| response.and_then(Self::into_query_response)))
+            }))
+        });
+    }
+
+    fn query_answer(
+        header: Option<Result<QueryResponse>>,
+        stream: impl Stream<Item = Result<QueryResponse>> + Send + 'static,
+    ) -> Result<QueryAnswer> {
+        let header = match header {
+            None => return Err(ConnectionError::QueryStreamNoResponse.into()),
+            Some(Err(err)) => return Err(err),
+            Some(Ok(header)) => header,
+        };
+
+        match header {
+            QueryResponse::Ok(query_type) => Ok(QueryAnswer::Ok(query_type)),
+            QueryResponse::ConceptDocumentsHeader(documents_header) => {
+                let header = Arc::new(documents_header);
+                let stream_header = header.clone();
+                let answers = box_stream(stream.flat_map(move |result| {
+                    let header = header.clone();
+                    match result {
+                        Ok(QueryResponse::StreamConceptDocuments(documents)) => {
+                            stream_iter(documents.into_iter().map({
+                                    move |document| {
+                                        Ok(ConceptDocument::new(header.clone(), document))
                                     }
                                 }))
-                            }
-                            Ok(QueryResponse::Error(error)) => stream_once(Err(error.into())),
-                            Ok(other) => {
-                                stream_once(Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()))
-                            }
-                            Err(err) => stream_once(Err(err)),
                         }
-                     }));
-                     Ok(QueryAnswer::ConceptRowStream(stream_header, answers))
-                },
-                QueryResponse::Error(error) => Err(error.into()),
-                other => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into())
-            }
+                        Ok(QueryResponse::Error(error)) => stream_once(Err(error.into())),
+                        Ok(other) => {
+                            stream_once(Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()))
+                        }
+                        Err(err) => stream_once(Err(err)),
+                    }
+                }));
+                Ok(QueryAnswer::ConceptDocumentStream(stream_header, answers))
+            },
+            QueryResponse::ConceptRowsHeader(rows_header) => {
+                let header = Arc::new(rows_header);
+                let stream_header = header.clone();
+                let answers = box_stream(stream.flat_map(move |result| {
+                    let header = header.clone();
+                    match result {
+                        Ok(QueryResponse::StreamConceptRows(rows)) => {
+                            stream_iter(rows.into_iter().map({
+                                move |row| {
+                                    Ok(ConceptRow::new(header.clone(), row))
+                                }
+                            }))
+                        }
+                        Ok(QueryResponse::Error(error)) => stream_once(Err(error.into())),
+                        Ok(other) => {
+                            stream_once(Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()))
+                        }
+                        Err(err) => stream_once(Err(err)),
+                    }
+                 }));
+                 Ok(QueryAnswer::ConceptRowStream(stream_header, answers))
+            },
+            QueryResponse::Error(error) => Err(error.into()),
+            other => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into())
         }
     }
 
@@ -164,11 +241,23 @@ impl TransactionStream {
     }
 
     fn query_stream(&self, req: QueryRequest) -> Result<impl Stream<Item = Result<QueryResponse>>> {
-        Ok(self.stream(TransactionRequest::Query(req))?.map(|response| match response {
-            Ok(TransactionResponse::Query(res)) => Ok(res),
-            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
-            Err(err) => Err(err),
-        }))
+        Ok(self.stream(TransactionRequest::Query(req))?.map(|response| response.and_then(Self::into_query_response)))
+    }
+
+    fn query_streams(&self, reqs: Vec<QueryRequest>) -> Result<Vec<impl Stream<Item = Result<QueryResponse>>>> {
+        let requests = reqs.into_iter().map(TransactionRequest::Query).collect();
+        let streams = self.transaction_transmitter.stream_batch(requests)?;
+        Ok(streams
+            .into_iter()
+            .map(|stream| stream.map(|response| response.and_then(Self::into_query_response)))
+            .collect())
+    }
+
+    fn into_query_response(response: TransactionResponse) -> Result<QueryResponse> {
+        match response {
+            TransactionResponse::Query(res) => Ok(res),
+            other => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+        }
     }
 }
 
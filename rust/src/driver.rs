@@ -371,6 +371,40 @@ impl TypeDBDriver {
         Ok(Transaction::new(transaction_stream))
     }
 
+    /// Opens a transaction without waiting for the server to confirm that it is open. Queries performed in the
+    /// returned transaction are dispatched right behind the open request, in the same network message,
+    /// which saves a round trip for short-lived transactions. If the transaction fails to open,
+    /// the error is reported by the queries performed in it.
+    ///
+    /// # Arguments
+    ///
+    /// * `database_name` — The name of the database to connect to
+    /// * `transaction_type` — The type of transaction to be created (READ, WRITE or SCHEMA)
+    /// * `options` — Transaction options
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "driver.transaction_pipelined(name, TransactionType::Read, options)")]
+    #[cfg_attr(not(feature = "sync"), doc = "driver.transaction_pipelined(name, TransactionType::Read, options).await")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn transaction_pipelined(
+        &self,
+        database_name: impl AsRef<str>,
+        transaction_type: TransactionType,
+        options: Options,
+    ) -> Result<Transaction> {
+        let database_name = database_name.as_ref();
+        let database = self.database_manager.get_cached_or_fetch(database_name).await?;
+        let transaction_stream = database
+            .run_failsafe(|database| async move {
+                Ok(database.connection().open_transaction_pipelined(database.name(), transaction_type, options))
+            })
+            .await?;
+        Ok(Transaction::new(transaction_stream))
+    }
+
     /// Closes this connection if it is open.
     ///
     /// # Examples
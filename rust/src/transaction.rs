@@ -27,6 +27,9 @@ use crate::{
 };
 
 /// A transaction with a TypeDB database.
+///
+/// A transaction may be shared between threads, and queries may be performed in it concurrently.
+/// Each query is answered independently; in a read transaction, all of them read the same snapshot of the database.
 pub struct Transaction {
     /// The transaction’s type (READ or WRITE)
     type_: TransactionType,
@@ -79,6 +82,54 @@ impl Transaction {
         self.transaction_stream.query(query, options)
     }
 
+    /// Performs a batch of TypeQL queries in this transaction. The queries are sent together, in a single message
+    /// unless they exceed the maximum message size, and are executed in order. Returns a promise of the answer
+    /// to each query, in the order of the queries.
+    ///
+    /// # Arguments
+    ///
+    /// * `queries` — The TypeQL queries to be executed
+    /// * `options` — Query options, applied to every query in the batch
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// let answers = transaction.query_batch(queries, Options::new());
+    /// ```
+    pub fn query_batch(
+        &self,
+        queries: impl IntoIterator<Item = impl Into<String>>,
+        options: Options,
+    ) -> Vec<impl Promise<'static, Result<QueryAnswer>>> {
+        self.transaction_stream.query_batch(queries.into_iter().map(Into::into), options)
+    }
+
+    /// Performs a TypeQL query in this transaction without waiting for its answer. `callback` is called with
+    /// the answer, or the error, on the driver's callback handler thread once the answer header arrives.
+    /// No thread is blocked while the query is in flight. If the driver is closed first, `callback` is called
+    /// with a closed connection error.
+    ///
+    /// # Arguments
+    ///
+    /// * `query` — The TypeQL query to be executed
+    /// * `options` — Query options
+    /// * `callback` — The function to be called with the answer
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.query_with_callback(query, Options::new(), |answer| println!("{:?}", answer.is_ok()))
+    /// ```
+    #[cfg(feature = "sync")]
+    pub fn query_with_callback(
+        &self,
+        query: impl AsRef<str>,
+        options: Options,
+        callback: impl FnOnce(Result<QueryAnswer>) + Send + 'static,
+    ) {
+        self.transaction_stream.query_with_callback(query.as_ref(), options, callback)
+    }
+
     /// Retrieves the transaction’s type (READ or WRITE).
     pub fn type_(&self) -> TransactionType {
         self.type_
@@ -123,6 +174,21 @@ impl Transaction {
         stream.commit()
     }
 
+    /// Commits the changes made via this transaction without waiting for the outcome. `callback` is called with
+    /// the outcome on the driver's callback handler thread once the server responds. The transaction is closed
+    /// after the commit, whether or not it succeeds.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.commit_with_callback(|result| println!("{:?}", result.is_ok()))
+    /// ```
+    #[cfg(feature = "sync")]
+    pub fn commit_with_callback(self, callback: impl FnOnce(Result) + Send + 'static) {
+        let stream = self.transaction_stream;
+        stream.commit_with_callback(callback)
+    }
+
     /// Rolls back the uncommitted changes made via this transaction.
     ///
     /// # Examples
@@ -134,6 +200,19 @@ impl Transaction {
     pub fn rollback(&self) -> impl Promise<'_, Result> {
         self.transaction_stream.rollback()
     }
+
+    /// Rolls back the uncommitted changes made via this transaction without waiting for the outcome.
+    /// `callback` is called with the outcome on the driver's callback handler thread once the server responds.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.rollback_with_callback(|result| println!("{:?}", result.is_ok()))
+    /// ```
+    #[cfg(feature = "sync")]
+    pub fn rollback_with_callback(&self, callback: impl FnOnce(Result) + Send + 'static) {
+        self.transaction_stream.rollback_with_callback(callback)
+    }
 }
 
 impl fmt::Debug for Transaction {